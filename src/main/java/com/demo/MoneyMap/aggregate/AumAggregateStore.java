@@ -0,0 +1,522 @@
+package com.demo.MoneyMap.aggregate;
+
+import com.demo.MoneyMap.beans.AumAggregate;
+import com.demo.MoneyMap.beans.enums.AggregateScope;
+import com.demo.MoneyMap.beans.enums.AssetType;
+import com.demo.MoneyMap.event.AssetChangedEvent;
+import com.demo.MoneyMap.event.ClientChangedEvent;
+import com.demo.MoneyMap.index.SymbolHoldingIndex;
+import com.demo.MoneyMap.repository.AumAggregateRepository;
+import com.demo.MoneyMap.valuation.FixedPointValuation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Materialized assets-under-management totals and counts: firm-wide, per asset type
+ * and per client. Values are held as longs with 4 decimal places in LongAdders, so
+ * concurrent writers update striped cells without contention and reads are O(1).
+ *
+ * Kept current from two sources, both applied only after the writing transaction commits:
+ * AssetChangedEvents for JPA writes, and value deltas that the JDBC repricing paths
+ * compute in SQL before they update the assets. A periodic reconciliation recomputes
+ * everything from the assets table and corrects drift; the accumulators that changed
+ * are written to the aum_aggregates table periodically and used to warm up on startup.
+ *
+ * A writing transaction holds the correction lock for reading from its first change
+ * until it has committed and applied its deltas; the reconciliation reads the assets
+ * table under the write lock. Every commit is therefore either in the recomputed totals
+ * and already applied, or made and applied after the correction, never counted twice.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AumAggregateStore {
+
+    public static final String FIRM_KEY = "ALL";
+
+    private static final AssetType[] ASSET_TYPES = AssetType.values();
+
+    /** Upper bound of (key, price) pairs per delta query. */
+    private static final int DELTA_QUERY_CHUNK = 500;
+
+    /** How long a reconciliation waits for the transactions in flight before it gives up. */
+    private static final long CORRECTION_LOCK_TIMEOUT_SECONDS = 30;
+
+    private static final String RECOMPUTE_SQL =
+            "SELECT p.client_id, a.asset_type, COALESCE(SUM(a.current_value), 0) AS total_value, " +
+            "COUNT(*) AS asset_count " +
+            "FROM assets a JOIN portfolios p ON p.id = a.portfolio_id " +
+            "GROUP BY p.client_id, a.asset_type";
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO aum_aggregates (scope, scope_key, total_value, asset_count, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE total_value = VALUES(total_value), asset_count = VALUES(asset_count), " +
+            "updated_at = VALUES(updated_at)";
+
+    private static final String CLIENT_OF_PORTFOLIO_SQL = "SELECT client_id FROM portfolios WHERE id = ?";
+
+    // The repricing delta mirrors the UPDATE statements: ROUND(quantity * price, 4) - current_value.
+    private static final String SYMBOL_DELTA_SQL_PREFIX =
+            "SELECT p.client_id, a.asset_type, " +
+            "SUM(ROUND(a.quantity * CASE a.symbol";
+    private static final String ASSET_DELTA_SQL_PREFIX =
+            "SELECT p.client_id, a.asset_type, " +
+            "SUM(ROUND(a.quantity * CASE a.id";
+    private static final String DELTA_SQL_MIDDLE =
+            " END, 4) - COALESCE(a.current_value, 0)) AS delta " +
+            "FROM assets a JOIN portfolios p ON p.id = a.portfolio_id WHERE ";
+    private static final String DELTA_SQL_SUFFIX = " GROUP BY p.client_id, a.asset_type";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AumAggregateRepository aumAggregateRepository;
+
+    private final Cells cells = new Cells();
+    private final Map<Long, Long> clientByPortfolio = new ConcurrentHashMap<>();
+
+    /**
+     * Read-locked by writing transactions from their first change until they complete,
+     * and by writers outside a transaction while they apply; write-locked by the
+     * reconciliation while it recomputes and corrects.
+     */
+    private final ReadWriteLock correctionLock = new ReentrantReadWriteLock();
+
+    /** Marks, as a transaction resource, a transaction that holds the correction lock. */
+    private final Object transactionHoldKey = new Object();
+
+    private volatile boolean ready;
+    private volatile LocalDateTime lastReconciledAt;
+    private volatile int lastDriftCount;
+
+    // ============== STARTUP, PERSISTENCE AND RECONCILIATION ==============
+
+    /**
+     * Warm up from the last persisted aggregates, then reconcile against the assets table.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        for (AumAggregate row : aumAggregateRepository.findAll()) {
+            Cell cell = switch (row.getScope()) {
+                case FIRM -> cells.firm;
+                case ASSET_TYPE -> cells.byType[AssetType.valueOf(row.getScopeKey()).ordinal()];
+                case CLIENT -> cells.client(Long.valueOf(row.getScopeKey()));
+            };
+            cell.add(scaled(row.getTotalValue()), row.getAssetCount());
+            cell.dirty.set(false);
+        }
+        ready = true;
+        reconcile();
+    }
+
+    /**
+     * Recompute all aggregates from the assets table and correct any drift.
+     * Waits for the transactions that have recorded changes to commit and apply them,
+     * and holds back new ones while the assets are read, so each write is counted once.
+     * If the writers do not quiesce within CORRECTION_LOCK_TIMEOUT_SECONDS, the run is skipped.
+     *
+     * @return the number of aggregates that had drifted
+     */
+    @Scheduled(cron = "${moneymap.aggregates.reconciliation.cron:0 */15 * * * *}")
+    public synchronized int reconcile() {
+        long startNanos = System.nanoTime();
+        try {
+            if (!correctionLock.writeLock().tryLock(CORRECTION_LOCK_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("AUM reconciliation skipped: writers still in flight after {} s",
+                        CORRECTION_LOCK_TIMEOUT_SECONDS);
+                return 0;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+        int drifted;
+        try {
+            // Portfolios deleted since the last run leave their entries behind; start afresh
+            clientByPortfolio.clear();
+            Cells expected = new Cells();
+            jdbcTemplate.query(RECOMPUTE_SQL, rs -> {
+                expected.add(rs.getLong("client_id"), AssetType.valueOf(rs.getString("asset_type")),
+                        scaled(rs.getBigDecimal("total_value")), rs.getLong("asset_count"));
+            });
+
+            drifted = correct(cells.firm, expected.firm);
+            for (AssetType type : ASSET_TYPES) {
+                drifted += correct(cells.byType[type.ordinal()], expected.byType[type.ordinal()]);
+            }
+            Set<Long> clientIds = new HashSet<>(cells.byClient.keySet());
+            clientIds.addAll(expected.byClient.keySet());
+            for (Long clientId : clientIds) {
+                drifted += correct(cells.client(clientId), expected.client(clientId));
+            }
+        } finally {
+            correctionLock.writeLock().unlock();
+        }
+
+        lastDriftCount = drifted;
+        lastReconciledAt = LocalDateTime.now();
+        ready = true;
+        if (drifted > 0) {
+            log.warn("AUM reconciliation corrected {} drifted aggregates in {} ms", drifted,
+                    (System.nanoTime() - startNanos) / 1_000_000);
+        }
+        return drifted;
+    }
+
+    /**
+     * Write the accumulators that changed since the last write to the aum_aggregates table.
+     * A cell is marked clean before its value is read, so a change racing the write marks
+     * it dirty again; if the write fails, every cell it carried is marked dirty again.
+     */
+    @Scheduled(fixedDelayString = "${moneymap.aggregates.persist-interval-ms:10000}")
+    public void persist() {
+        if (!ready) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Cell> written = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        addIfDirty(rows, written, AggregateScope.FIRM, FIRM_KEY, cells.firm, now);
+        for (AssetType type : ASSET_TYPES) {
+            addIfDirty(rows, written, AggregateScope.ASSET_TYPE, type.name(), cells.byType[type.ordinal()], now);
+        }
+        cells.byClient.forEach((clientId, cell) ->
+                addIfDirty(rows, written, AggregateScope.CLIENT, clientId.toString(), cell, now));
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+        } catch (RuntimeException e) {
+            written.forEach(cell -> cell.dirty.set(true));
+            throw e;
+        }
+    }
+
+    // ============== WRITE PATHS ==============
+
+    /**
+     * Apply JPA asset changes once their transaction has committed. Received during the
+     * flush, before the commit, so the transaction holds the correction lock from here on.
+     */
+    @EventListener
+    public void onAssetChanged(AssetChangedEvent event) {
+        afterCommit(() -> applyChange(event));
+    }
+
+    private void applyChange(AssetChangedEvent event) {
+        AssetType type = event.assetType();
+        switch (event.changeType()) {
+            case CREATED -> apply(clientOf(event.portfolioId()), type, scaled(event.currentValue()), 1);
+            case DELETED -> apply(clientOf(event.previousPortfolioId() != null
+                            ? event.previousPortfolioId() : event.portfolioId()),
+                    type, -scaled(event.previousValue()), -1);
+            case UPDATED -> {
+                if (Objects.equals(event.previousPortfolioId(), event.portfolioId())) {
+                    apply(clientOf(event.portfolioId()), type,
+                            scaled(event.currentValue()) - scaled(event.previousValue()), 0);
+                } else {
+                    apply(clientOf(event.previousPortfolioId()), type, -scaled(event.previousValue()), -1);
+                    apply(clientOf(event.portfolioId()), type, scaled(event.currentValue()), 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Forget the cached client of the client's portfolios, whether it was deleted
+     * with them or had a portfolio reassigned.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClientChanged(ClientChangedEvent event) {
+        if (event.changeType() != ClientChangedEvent.ChangeType.CREATED) {
+            clientByPortfolio.values().removeIf(clientId -> clientId.equals(event.clientId()));
+        }
+    }
+
+    /**
+     * Record the value change of repricing holdings by symbol through JDBC.
+     * Must run inside the writing transaction, before the assets are updated; the
+     * deltas are applied after commit. A later price for the same symbol replaces an earlier one.
+     */
+    public void recordSymbolRepricing(Map<String, BigDecimal> pricesBySymbol) {
+        Map<String, BigDecimal> latest = new LinkedHashMap<>();
+        pricesBySymbol.forEach((symbol, price) -> {
+            String key = SymbolHoldingIndex.normalize(symbol);
+            if (key != null && price != null) {
+                latest.put(key, price);
+            }
+        });
+        recordRepricing(SYMBOL_DELTA_SQL_PREFIX, "a.symbol", latest);
+    }
+
+    /**
+     * Record the value change of repricing individual assets through JDBC.
+     * Same contract as recordSymbolRepricing.
+     */
+    public void recordAssetRepricing(Map<Long, BigDecimal> pricesByAssetId) {
+        recordRepricing(ASSET_DELTA_SQL_PREFIX, "a.id", pricesByAssetId);
+    }
+
+    private <K> void recordRepricing(String prefix, String keyColumn, Map<K, BigDecimal> prices) {
+        if (prices.isEmpty()) {
+            return;
+        }
+        // Hold the lock before reading the values the deltas are taken from
+        holdForTransaction();
+        List<Map.Entry<K, BigDecimal>> entries = new ArrayList<>(prices.entrySet());
+        List<Delta> deltas = new ArrayList<>();
+        for (int from = 0; from < entries.size(); from += DELTA_QUERY_CHUNK) {
+            List<Map.Entry<K, BigDecimal>> chunk = entries.subList(from,
+                    Math.min(from + DELTA_QUERY_CHUNK, entries.size()));
+            StringBuilder sql = new StringBuilder(prefix);
+            List<Object> args = new ArrayList<>(chunk.size() * 3);
+            for (Map.Entry<K, BigDecimal> entry : chunk) {
+                sql.append(" WHEN ? THEN ?");
+                args.add(entry.getKey());
+                args.add(entry.getValue());
+            }
+            sql.append(DELTA_SQL_MIDDLE).append(keyColumn).append(" IN (");
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "?" : ", ?");
+                args.add(chunk.get(i).getKey());
+            }
+            sql.append(')').append(DELTA_SQL_SUFFIX);
+            jdbcTemplate.query(sql.toString(), rs -> {
+                deltas.add(new Delta(rs.getLong("client_id"), AssetType.valueOf(rs.getString("asset_type")),
+                        scaled(rs.getBigDecimal("delta"))));
+            }, args.toArray());
+        }
+        afterCommit(() -> deltas.forEach(delta -> apply(delta.clientId(), delta.type(), delta.scaledValue(), 0)));
+    }
+
+    private void apply(Long clientId, AssetType type, long scaledValue, long count) {
+        lockForWriting();
+        try {
+            cells.add(clientId, type, scaledValue, count);
+        } finally {
+            correctionLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writers barge past a reconciliation waiting for the lock and only block while it
+     * holds the lock: a writer may be holding row locks that an earlier writer, which
+     * the reconciliation is waiting for, needs.
+     */
+    private void lockForWriting() {
+        if (!correctionLock.readLock().tryLock()) {
+            correctionLock.readLock().lock();
+        }
+    }
+
+    // ============== READS ==============
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public BigDecimal getFirmTotalValue() {
+        return cells.firm.totalValue();
+    }
+
+    public long getFirmAssetCount() {
+        return cells.firm.count.sum();
+    }
+
+    public BigDecimal getTotalValue(AssetType type) {
+        return cells.byType[type.ordinal()].totalValue();
+    }
+
+    public long getAssetCount(AssetType type) {
+        return cells.byType[type.ordinal()].count.sum();
+    }
+
+    public BigDecimal getClientTotalValue(Long clientId) {
+        Cell cell = cells.byClient.get(clientId);
+        return cell != null ? cell.totalValue() : BigDecimal.valueOf(0, FixedPointValuation.VALUE_SCALE);
+    }
+
+    public long getClientAssetCount(Long clientId) {
+        Cell cell = cells.byClient.get(clientId);
+        return cell != null ? cell.count.sum() : 0;
+    }
+
+    public LocalDateTime getLastReconciledAt() {
+        return lastReconciledAt;
+    }
+
+    public int getLastDriftCount() {
+        return lastDriftCount;
+    }
+
+    // ============== HELPERS ==============
+
+    private Long clientOf(Long portfolioId) {
+        if (portfolioId == null) {
+            return null;
+        }
+        Long clientId = clientByPortfolio.get(portfolioId);
+        if (clientId == null) {
+            List<Long> found = jdbcTemplate.queryForList(CLIENT_OF_PORTFOLIO_SQL, Long.class, portfolioId);
+            if (!found.isEmpty()) {
+                clientId = found.get(0);
+                clientByPortfolio.put(portfolioId, clientId);
+            }
+        }
+        return clientId;
+    }
+
+    private static int correct(Cell current, Cell expected) {
+        long valueDiff = expected.value.sum() - current.value.sum();
+        long countDiff = expected.count.sum() - current.count.sum();
+        current.add(valueDiff, countDiff);
+        return valueDiff != 0 || countDiff != 0 ? 1 : 0;
+    }
+
+    private static void addIfDirty(List<Object[]> rows, List<Cell> written, AggregateScope scope, String key,
+                                   Cell cell, Timestamp now) {
+        if (cell.dirty.getAndSet(false)) {
+            rows.add(new Object[]{scope.name(), key, cell.totalValue(), cell.count.sum(), now});
+            written.add(cell);
+        }
+    }
+
+    private static long scaled(BigDecimal value) {
+        if (value == null) {
+            return 0;
+        }
+        long scaled = FixedPointValuation.toScaled(value, FixedPointValuation.VALUE_SCALE);
+        return scaled != FixedPointValuation.NOT_REPRESENTABLE
+                ? scaled
+                : value.setScale(FixedPointValuation.VALUE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Run an action after the current transaction commits, or now if there is none.
+     */
+    private void afterCommit(Runnable action) {
+        TransactionHold hold = holdForTransaction();
+        if (hold != null) {
+            hold.actions.add(action);
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * The current transaction's hold on the correction lock, taken on first use and kept
+     * until the transaction completes; null outside a transaction.
+     */
+    private TransactionHold holdForTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        TransactionHold hold = (TransactionHold) TransactionSynchronizationManager.getResource(transactionHoldKey);
+        if (hold == null) {
+            lockForWriting();
+            hold = new TransactionHold();
+            TransactionSynchronizationManager.bindResource(transactionHoldKey, hold);
+            TransactionSynchronizationManager.registerSynchronization(hold);
+        }
+        return hold;
+    }
+
+    private record Delta(Long clientId, AssetType type, long scaledValue) {
+    }
+
+    /**
+     * A transaction's hold on the correction lock and the deltas it applies after commit.
+     */
+    private final class TransactionHold implements TransactionSynchronization {
+        private final List<Runnable> actions = new ArrayList<>();
+
+        @Override
+        public void afterCommit() {
+            actions.forEach(Runnable::run);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(transactionHoldKey);
+            correctionLock.readLock().unlock();
+        }
+    }
+
+    private static final class Cell {
+        private final LongAdder value = new LongAdder();
+        private final LongAdder count = new LongAdder();
+        /** Changed since it was last persisted. */
+        private final AtomicBoolean dirty = new AtomicBoolean();
+
+        private void add(long scaledValue, long countDelta) {
+            if (scaledValue != 0) {
+                value.add(scaledValue);
+            }
+            if (countDelta != 0) {
+                count.add(countDelta);
+            }
+            if (scaledValue != 0 || countDelta != 0) {
+                dirty.set(true);
+            }
+        }
+
+        private BigDecimal totalValue() {
+            return BigDecimal.valueOf(value.sum(), FixedPointValuation.VALUE_SCALE);
+        }
+    }
+
+    /**
+     * One cell for the firm, one per asset type (indexed by ordinal) and one per client.
+     */
+    private static final class Cells {
+        private final Cell firm = new Cell();
+        private final Cell[] byType = new Cell[ASSET_TYPES.length];
+        private final Map<Long, Cell> byClient = new ConcurrentHashMap<>();
+
+        private Cells() {
+            for (int i = 0; i < byType.length; i++) {
+                byType[i] = new Cell();
+            }
+        }
+
+        private Cell client(Long clientId) {
+            return byClient.computeIfAbsent(clientId, id -> new Cell());
+        }
+
+        private void add(Long clientId, AssetType type, long scaledValue, long count) {
+            firm.add(scaledValue, count);
+            if (type != null) {
+                byType[type.ordinal()].add(scaledValue, count);
+            }
+            if (clientId != null) {
+                client(clientId).add(scaledValue, count);
+            }
+        }
+    }
+}
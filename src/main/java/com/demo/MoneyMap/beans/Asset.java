@@ -1,10 +1,14 @@
 package com.demo.MoneyMap.beans;
 
-import com.demo.MoneyMap.entity.enums.AssetType;
-import com.demo.MoneyMap.entity.enums.TransactionType;
+import com.demo.MoneyMap.beans.enums.AssetType;
+import com.demo.MoneyMap.beans.enums.TransactionType;
+import com.demo.MoneyMap.beans.enums.CurrencyCode;
+import com.demo.MoneyMap.listener.AssetEntityListener;
+import com.demo.MoneyMap.valuation.FixedPointValuation;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -31,9 +35,21 @@ import java.util.Set;
  * - Template Method pattern (via abstract methods)
  */
 @Entity
-@Table(name = "assets")
+@Table(name = "assets", indexes = {
+        // Subtype columns live in the single assets table, so exposure indexes are declared here.
+        // Each carries current_value so grouped exposure queries are answered from the index alone.
+        @Index(name = "idx_assets_type_sector_exchange", columnList = "asset_type, sector, exchange, current_value"),
+        @Index(name = "idx_assets_portfolio_sector_exchange",
+                columnList = "portfolio_id, asset_type, sector, exchange, current_value"),
+        @Index(name = "idx_assets_type_category_risk", columnList = "asset_type, fund_category, risk_level, current_value"),
+        @Index(name = "idx_assets_portfolio_category_risk",
+                columnList = "portfolio_id, asset_type, fund_category, risk_level, current_value"),
+        // Seek index for name-ordered keyset pagination
+        @Index(name = "idx_assets_name_id", columnList = "name, id")
+})
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "asset_type", discriminatorType = DiscriminatorType.STRING)
+@EntityListeners(AssetEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -41,8 +57,13 @@ import java.util.Set;
 @SuperBuilder
 public abstract class Asset {
 
+    private static final BigDecimal DEFAULT_MINIMUM_QUANTITY_INCREMENT = new BigDecimal("0.00000001");
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "asset_ids")
+    @TableGenerator(name = "asset_ids", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = IdGenerators.ASSET,
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -69,6 +90,15 @@ public abstract class Asset {
     @Column(name = "current_value", precision = 19, scale = 4)
     private BigDecimal currentValue;
 
+    /**
+     * Currency the prices and values of this asset are quoted in.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 3)
+    @ColumnDefault("'USD'")
+    @Builder.Default
+    private CurrencyCode currency = CurrencyCode.USD;
+
     @Column(name = "purchase_date")
     private LocalDate purchaseDate;
 
@@ -91,43 +121,101 @@ public abstract class Asset {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /**
+     * Symbol as last read from / written to the database.
+     * Lets lifecycle listeners see the previous symbol when it changes.
+     */
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private String persistedSymbol;
+
+    /**
+     * Current price as last read from / written to the database.
+     */
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private BigDecimal persistedCurrentPrice;
+
+    /**
+     * Current value as last read from / written to the database.
+     */
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private BigDecimal persistedCurrentValue;
+
+    /**
+     * Owning portfolio ID as last read from / written to the database.
+     */
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private Long persistedPortfolioId;
+
+    /**
+     * Remember the persisted state after every load and flush.
+     * Reading the ID of a lazy portfolio proxy does not initialize it.
+     */
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    protected void capturePersistedState() {
+        this.persistedSymbol = symbol;
+        this.persistedCurrentPrice = currentPrice;
+        this.persistedCurrentValue = currentValue;
+        this.persistedPortfolioId = portfolio != null ? portfolio.getId() : null;
+    }
+
     /**
      * Calculate and return the current value of the asset.
+     * Rounded to the scale of the current_value column so that the portfolio
+     * total deltas match what is persisted.
      */
     @PrePersist
     @PreUpdate
     public void calculateCurrentValue() {
         if (quantity != null && currentPrice != null) {
-            this.currentValue = quantity.multiply(currentPrice);
+            this.currentValue = FixedPointValuation.value(quantity, currentPrice);
         } else if (quantity != null && purchasePrice != null) {
-            this.currentValue = quantity.multiply(purchasePrice);
+            this.currentValue = FixedPointValuation.value(quantity, purchasePrice);
         }
     }
 
+    // ============== CURRENT VALUE ==============
+    // The portfolio total follows flushed current_value changes through
+    // PortfolioTotalListener; these setters only keep currentValue in step.
+
+    public void setQuantity(BigDecimal quantity) {
+        this.quantity = quantity;
+        calculateCurrentValue();
+    }
+
+    public void setPurchasePrice(BigDecimal purchasePrice) {
+        this.purchasePrice = purchasePrice;
+        calculateCurrentValue();
+    }
+
+    public void setCurrentPrice(BigDecimal currentPrice) {
+        this.currentPrice = currentPrice;
+        calculateCurrentValue();
+    }
+
     /**
-     * Calculate the profit/loss for this asset.
+     * Calculate the profit/loss for this asset, rounded to 4 decimal places.
      */
     public BigDecimal getProfitLoss() {
         if (currentValue == null || purchasePrice == null || quantity == null) {
             return BigDecimal.ZERO;
         }
-        BigDecimal costBasis = purchasePrice.multiply(quantity);
-        return currentValue.subtract(costBasis);
+        return FixedPointValuation.profitLoss(currentValue, quantity, purchasePrice);
     }
 
     /**
      * Calculate the profit/loss percentage for this asset.
      */
     public BigDecimal getProfitLossPercentage() {
-        if (purchasePrice == null || purchasePrice.compareTo(BigDecimal.ZERO) == 0 || quantity == null) {
-            return BigDecimal.ZERO;
-        }
-        BigDecimal costBasis = purchasePrice.multiply(quantity);
-        if (costBasis.compareTo(BigDecimal.ZERO) == 0) {
+        if (currentValue == null || purchasePrice == null || purchasePrice.signum() == 0 || quantity == null) {
             return BigDecimal.ZERO;
         }
-        return getProfitLoss().divide(costBasis, 4, java.math.RoundingMode.HALF_UP)
-                .multiply(new BigDecimal("100"));
+        return FixedPointValuation.profitLossPercentage(currentValue, quantity, purchasePrice);
     }
 
     /**
@@ -149,6 +237,7 @@ public abstract class Asset {
     /**
      * Get the set of allowed transaction types for this asset.
      * Each asset type can have different allowed transactions.
+     * Implementations return shared, unmodifiable sets.
      */
     public abstract Set<TransactionType> getAllowedTransactionTypes();
 
@@ -173,7 +262,7 @@ public abstract class Asset {
      * Default is 0.00000001 (8 decimals), subclasses can override.
      */
     public BigDecimal getMinimumQuantityIncrement() {
-        return new BigDecimal("0.00000001");
+        return DEFAULT_MINIMUM_QUANTITY_INCREMENT;
     }
 
     /**
@@ -0,0 +1,62 @@
+package com.demo.MoneyMap.beans;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entity holding the running position of an asset derived from its transaction ledger.
+ * Cost basis and realized P&L are kept for both average-cost and FIFO, so either can be
+ * reported without replaying the ledger. FIFO open lots are in position_lots.
+ */
+@Entity
+@Table(name = "asset_positions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AssetPosition {
+
+    @Id
+    @Column(name = "asset_id")
+    private Long assetId;
+
+    @Column(nullable = false, precision = 19, scale = 8)
+    private BigDecimal quantity;
+
+    @Column(name = "average_cost_basis", nullable = false, precision = 19, scale = 4)
+    private BigDecimal averageCostBasis;
+
+    @Column(name = "average_realized_pnl", nullable = false, precision = 19, scale = 4)
+    private BigDecimal averageRealizedPnl;
+
+    @Column(name = "fifo_cost_basis", nullable = false, precision = 19, scale = 4)
+    private BigDecimal fifoCostBasis;
+
+    @Column(name = "fifo_realized_pnl", nullable = false, precision = 19, scale = 4)
+    private BigDecimal fifoRealizedPnl;
+
+    @Column(name = "dividend_income", nullable = false, precision = 19, scale = 4)
+    private BigDecimal dividendIncome;
+
+    @Column(name = "fees_paid", nullable = false, precision = 19, scale = 4)
+    private BigDecimal feesPaid;
+
+    @Column(name = "transaction_count", nullable = false)
+    private Long transactionCount;
+
+    @Column(name = "last_transaction_id")
+    private Long lastTransactionId;
+
+    @Column(name = "last_transaction_date")
+    private LocalDate lastTransactionDate;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
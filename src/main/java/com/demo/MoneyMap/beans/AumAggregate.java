@@ -0,0 +1,45 @@
+package com.demo.MoneyMap.beans;
+
+import com.demo.MoneyMap.beans.enums.AggregateScope;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Entity holding a materialized assets-under-management total and count.
+ * One row for the firm, one per asset type and one per client. Rows are written
+ * periodically from the in-memory accumulators and used to warm them on startup.
+ */
+@Entity
+@Table(name = "aum_aggregates")
+@IdClass(AumAggregateId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AumAggregate {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private AggregateScope scope;
+
+    /**
+     * ALL for the firm, the asset type name, or the client ID.
+     */
+    @Id
+    @Column(name = "scope_key", length = 50)
+    private String scopeKey;
+
+    @Column(name = "total_value", nullable = false, precision = 19, scale = 4)
+    private BigDecimal totalValue;
+
+    @Column(name = "asset_count", nullable = false)
+    private Long assetCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,21 @@
+package com.demo.MoneyMap.beans;
+
+import com.demo.MoneyMap.beans.enums.AggregateScope;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * Composite primary key of AumAggregate (scope + key within the scope).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class AumAggregateId implements Serializable {
+
+    private AggregateScope scope;
+
+    private String scopeKey;
+}
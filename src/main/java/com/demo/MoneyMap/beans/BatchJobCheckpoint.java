@@ -0,0 +1,74 @@
+package com.demo.MoneyMap.beans;
+
+import com.demo.MoneyMap.beans.enums.JobStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity recording the progress of a chunked batch job run.
+ * A run is identified by job name and run key (e.g. the snapshot date);
+ * lastProcessedId is the keyset position after the last committed chunk,
+ * so an interrupted run resumes where it stopped. Partitioned jobs keep one
+ * checkpoint per partition, bounded above by rangeEnd.
+ */
+@Entity
+@Table(name = "batch_job_checkpoints",
+        uniqueConstraints = @UniqueConstraint(name = "uk_checkpoint_job_run", columnNames = {"job_name", "run_key"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchJobCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 50)
+    private String jobName;
+
+    @Column(name = "run_key", nullable = false, length = 100)
+    private String runKey;
+
+    @Column(name = "last_processed_id", nullable = false)
+    @Builder.Default
+    private Long lastProcessedId = 0L;
+
+    /**
+     * Inclusive upper bound of the partition's keyset range; null for unpartitioned jobs.
+     */
+    @Column(name = "range_end")
+    private Long rangeEnd;
+
+    @Column(name = "items_processed", nullable = false)
+    @Builder.Default
+    private Long itemsProcessed = 0L;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private JobStatus status = JobStatus.RUNNING;
+
+    /**
+     * Number of times the run has been started, including resumes.
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @CreationTimestamp
+    @Column(name = "started_at", updatable = false)
+    private LocalDateTime startedAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
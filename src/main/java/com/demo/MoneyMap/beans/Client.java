@@ -1,7 +1,11 @@
 package com.demo.MoneyMap.beans;
 
+import com.demo.MoneyMap.cache.CacheRegions;
+import com.demo.MoneyMap.listener.ClientEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -14,7 +18,12 @@ import java.util.List;
  * Each client has exactly one portfolio.
  */
 @Entity
-@Table(name = "clients")
+@Table(name = "clients", indexes = {
+        // Seek index for last-name-ordered keyset pagination
+        @Index(name = "idx_clients_last_name_id", columnList = "last_name, id")
+})
+@EntityListeners(ClientEntityListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CLIENT)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,7 +32,10 @@ import java.util.List;
 public class Client {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "client_ids")
+    @TableGenerator(name = "client_ids", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = IdGenerators.CLIENT,
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 100)
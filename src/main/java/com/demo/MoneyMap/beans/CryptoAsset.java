@@ -0,0 +1,85 @@
+package com.demo.MoneyMap.beans;
+
+import com.demo.MoneyMap.beans.enums.AssetType;
+import com.demo.MoneyMap.beans.enums.TransactionType;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Entity representing a Cryptocurrency asset.
+ * Cryptocurrencies are digital assets secured on a blockchain.
+ *
+ * Crypto-specific characteristics:
+ * - No dividends (staking rewards are tracked separately)
+ * - Held on a blockchain network, optionally in a known wallet
+ * - Highly divisible (8 decimal places)
+ */
+@Entity
+@DiscriminatorValue("CRYPTO")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class CryptoAsset extends Asset {
+
+    private static final Set<TransactionType> ALLOWED_TRANSACTION_TYPES = Collections.unmodifiableSet(EnumSet.of(
+            TransactionType.BUY,
+            TransactionType.SELL,
+            TransactionType.TRANSFER_IN,
+            TransactionType.TRANSFER_OUT
+    ));
+
+    /**
+     * Blockchain network the asset lives on.
+     * e.g., Bitcoin, Ethereum, Solana
+     */
+    @Column(name = "blockchain_network", length = 50)
+    private String blockchainNetwork;
+
+    /**
+     * Wallet address holding the asset (if tracked).
+     */
+    @Column(name = "wallet_address", length = 200)
+    private String walletAddress;
+
+    /**
+     * Whether the holding is staked.
+     */
+    @Column(name = "staking_enabled")
+    @Builder.Default
+    private Boolean stakingEnabled = false;
+
+    /**
+     * Annual staking yield percentage (if staked).
+     */
+    @Column(name = "staking_apy", precision = 10, scale = 4)
+    private BigDecimal stakingApy;
+
+    // ============== POLYMORPHIC METHODS ==============
+
+    @Override
+    public AssetType getType() {
+        return AssetType.CRYPTO;
+    }
+
+    /**
+     * Crypto allows: BUY, SELL, TRANSFER_IN, TRANSFER_OUT (no dividends).
+     */
+    @Override
+    public Set<TransactionType> getAllowedTransactionTypes() {
+        return ALLOWED_TRANSACTION_TYPES;
+    }
+
+    @Override
+    public String getTypeDescription() {
+        return "Digital currencies secured on a blockchain. " +
+               "Highly divisible and traded around the clock.";
+    }
+}
@@ -0,0 +1,38 @@
+package com.demo.MoneyMap.beans;
+
+import com.demo.MoneyMap.beans.enums.CurrencyCode;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Entity holding the latest exchange rate of one currency against the pivot currency (USD).
+ * Every cross rate is derived from these rows, so n currencies need n rows rather than n^2 pairs.
+ */
+@Entity
+@Table(name = "fx_rates")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FxRate {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 3)
+    private CurrencyCode currency;
+
+    /**
+     * Value of one unit of the currency in USD.
+     */
+    @Column(name = "usd_rate", nullable = false, precision = 19, scale = 10)
+    private BigDecimal usdRate;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,99 @@
+package com.demo.MoneyMap.beans;
+
+import com.demo.MoneyMap.beans.enums.AssetType;
+import com.demo.MoneyMap.beans.enums.TransactionType;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Entity representing a Gold asset.
+ * Gold can be held physically or through ETFs and digital gold.
+ *
+ * Gold-specific characteristics:
+ * - No dividends
+ * - Quantity measured by weight (grams, ounces)
+ * - Physical gold has a purity and a storage location
+ */
+@Entity
+@DiscriminatorValue("GOLD")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class GoldAsset extends Asset {
+
+    private static final Set<TransactionType> ALLOWED_TRANSACTION_TYPES = Collections.unmodifiableSet(EnumSet.of(
+            TransactionType.BUY,
+            TransactionType.SELL,
+            TransactionType.TRANSFER_IN,
+            TransactionType.TRANSFER_OUT
+    ));
+
+    private static final BigDecimal WEIGHT_INCREMENT = new BigDecimal("0.001");
+
+    /**
+     * Form of gold holding.
+     * e.g., Physical, ETF, Digital Gold
+     */
+    @Column(name = "gold_form", length = 50)
+    private String goldForm;
+
+    /**
+     * Purity of the gold, e.g. 24K, 22K.
+     */
+    @Column(name = "purity", length = 20)
+    private String purity;
+
+    /**
+     * Unit the quantity is measured in, e.g. grams, ounces.
+     */
+    @Column(name = "weight_unit", length = 20)
+    private String weightUnit;
+
+    /**
+     * Where physical gold is stored.
+     */
+    @Column(name = "storage_location", length = 100)
+    private String storageLocation;
+
+    /**
+     * Whether this is physical gold.
+     */
+    @Column(name = "is_physical")
+    @Builder.Default
+    private Boolean isPhysical = true;
+
+    // ============== POLYMORPHIC METHODS ==============
+
+    @Override
+    public AssetType getType() {
+        return AssetType.GOLD;
+    }
+
+    /**
+     * Gold allows: BUY, SELL, TRANSFER_IN, TRANSFER_OUT (no dividends).
+     */
+    @Override
+    public Set<TransactionType> getAllowedTransactionTypes() {
+        return ALLOWED_TRANSACTION_TYPES;
+    }
+
+    @Override
+    public BigDecimal getMinimumQuantityIncrement() {
+        // Weight is tracked to the milligram (or thousandth of an ounce)
+        return WEIGHT_INCREMENT;
+    }
+
+    @Override
+    public String getTypeDescription() {
+        return "Physical gold or gold-backed investments. " +
+               "Measured by weight and does not pay dividends.";
+    }
+}
@@ -0,0 +1,32 @@
+package com.demo.MoneyMap.beans;
+
+/**
+ * Table-backed id generators for the entities written in bulk.
+ *
+ * MySQL has no sequences, and IDENTITY ids are only known after each INSERT, which
+ * makes Hibernate send every insert on its own. These entities instead take ids from
+ * a row of {@link #TABLE} through the pooled optimizer: one row update reserves
+ * {@link #ALLOCATION_SIZE} ids, so inserts can be batched. The allocation size matches
+ * hibernate.jdbc.batch_size; the rows are created and seeded by the V4 migration.
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generators";
+
+    public static final String NAME_COLUMN = "sequence_name";
+
+    public static final String VALUE_COLUMN = "next_val";
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String ASSET = "assets";
+
+    public static final String CLIENT = "clients";
+
+    public static final String PORTFOLIO = "portfolios";
+
+    public static final String TRANSACTION = "transactions";
+
+    private IdGenerators() {
+    }
+}
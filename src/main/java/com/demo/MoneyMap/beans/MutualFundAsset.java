@@ -1,13 +1,14 @@
 package com.demo.MoneyMap.beans;
 
-import com.demo.MoneyMap.entity.enums.AssetType;
-import com.demo.MoneyMap.entity.enums.TransactionType;
+import com.demo.MoneyMap.beans.enums.AssetType;
+import com.demo.MoneyMap.beans.enums.TransactionType;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.Set;
 
@@ -31,6 +32,23 @@ import java.util.Set;
 @SuperBuilder
 public class MutualFundAsset extends Asset {
 
+    private static final Set<TransactionType> DIVIDEND_PLAN_TRANSACTION_TYPES = Collections.unmodifiableSet(EnumSet.of(
+            TransactionType.BUY,
+            TransactionType.SELL,
+            TransactionType.DIVIDEND,
+            TransactionType.TRANSFER_IN,
+            TransactionType.TRANSFER_OUT
+    ));
+
+    private static final Set<TransactionType> GROWTH_PLAN_TRANSACTION_TYPES = Collections.unmodifiableSet(EnumSet.of(
+            TransactionType.BUY,
+            TransactionType.SELL,
+            TransactionType.TRANSFER_IN,
+            TransactionType.TRANSFER_OUT
+    ));
+
+    private static final BigDecimal UNIT_INCREMENT = new BigDecimal("0.0001");
+
     /**
      * Fund category.
      * e.g., Large Cap, Mid Cap, Small Cap, Index Fund, Debt Fund, Hybrid
@@ -91,23 +109,9 @@ public class MutualFundAsset extends Asset {
      */
     @Override
     public Set<TransactionType> getAllowedTransactionTypes() {
-        // If it's a dividend plan, allow DIVIDEND transactions
-        if ("DIVIDEND".equalsIgnoreCase(planType)) {
-            return EnumSet.of(
-                TransactionType.BUY,
-                TransactionType.SELL,
-                TransactionType.DIVIDEND,
-                TransactionType.TRANSFER_IN,
-                TransactionType.TRANSFER_OUT
-            );
-        }
-        // Growth plans don't receive dividends
-        return EnumSet.of(
-            TransactionType.BUY,
-            TransactionType.SELL,
-            TransactionType.TRANSFER_IN,
-            TransactionType.TRANSFER_OUT
-        );
+        // If it's a dividend plan, allow DIVIDEND transactions.
+        // Growth plans don't receive dividends.
+        return isDividendPlan() ? DIVIDEND_PLAN_TRANSACTION_TYPES : GROWTH_PLAN_TRANSACTION_TYPES;
     }
 
     /**
@@ -125,7 +129,7 @@ public class MutualFundAsset extends Asset {
     @Override
     public BigDecimal getMinimumQuantityIncrement() {
         // Mutual funds typically allow 4 decimal places for units
-        return new BigDecimal("0.0001");
+        return UNIT_INCREMENT;
     }
 
     @Override
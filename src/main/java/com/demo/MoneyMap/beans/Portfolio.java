@@ -1,7 +1,12 @@
 package com.demo.MoneyMap.beans;
 
+import com.demo.MoneyMap.beans.enums.CurrencyCode;
+import com.demo.MoneyMap.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -16,7 +21,11 @@ import java.util.List;
  * Each portfolio belongs to exactly one client (one-to-one relationship).
  */
 @Entity
-@Table(name = "portfolios")
+@Table(name = "portfolios", indexes = {
+        // Seek index for name-ordered keyset pagination
+        @Index(name = "idx_portfolios_name_id", columnList = "name, id")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PORTFOLIO)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -25,7 +34,10 @@ import java.util.List;
 public class Portfolio {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "portfolio_ids")
+    @TableGenerator(name = "portfolio_ids", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = IdGenerators.PORTFOLIO,
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -38,14 +50,33 @@ public class Portfolio {
     @JoinColumn(name = "client_id", nullable = false, unique = true)
     private Client client;
 
+    // Not in the second-level cache: asset rows change with every price update
     @OneToMany(mappedBy = "portfolio", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<Asset> assets = new ArrayList<>();
 
-    @Column(name = "total_value", precision = 19, scale = 4)
+    /**
+     * Sum of the assets' current values as stored, without currency conversion.
+     * Only meaningful as an amount when all assets are in the portfolio currency;
+     * converted totals come from CurrencyValuationService.
+     *
+     * Maintained in SQL by PortfolioTotalListener and the price jobs, never by
+     * flushing this entity, so a stale in-memory total cannot overwrite their
+     * increments. May lag those increments until the entity is reloaded.
+     */
+    @Column(name = "total_value", precision = 19, scale = 4, updatable = false)
     @Builder.Default
     private BigDecimal totalValue = BigDecimal.ZERO;
 
+    /**
+     * Base currency of the portfolio, used as its default reporting currency.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 3)
+    @ColumnDefault("'USD'")
+    @Builder.Default
+    private CurrencyCode currency = CurrencyCode.USD;
+
     @Column(nullable = false)
     @Builder.Default
     private Boolean active = true;
@@ -60,29 +91,19 @@ public class Portfolio {
 
     /**
      * Utility method to add an asset to the portfolio.
+     * The asset's value is added to the total when it is flushed.
      */
     public void addAsset(Asset asset) {
         assets.add(asset);
         asset.setPortfolio(this);
-        recalculateTotalValue();
     }
 
     /**
      * Utility method to remove an asset from the portfolio.
+     * The asset is deleted as an orphan, which takes its value out of the total.
      */
     public void removeAsset(Asset asset) {
         assets.remove(asset);
         asset.setPortfolio(null);
-        recalculateTotalValue();
-    }
-
-    /**
-     * Recalculates the total value of the portfolio based on all assets.
-     */
-    public void recalculateTotalValue() {
-        this.totalValue = assets.stream()
-                .map(Asset::getCurrentValue)
-                .filter(value -> value != null)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
     }
 }
@@ -0,0 +1,53 @@
+package com.demo.MoneyMap.beans;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entity holding the latest risk metrics of a portfolio, one row per portfolio.
+ * Written in batches by the risk engine; amounts are in the holdings' own currencies
+ * as stored, like the portfolio total.
+ */
+@Entity
+@Table(name = "portfolio_risk_metrics")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PortfolioRiskMetrics {
+
+    @Id
+    @Column(name = "portfolio_id")
+    private Long portfolioId;
+
+    /** Last day of the return window. */
+    @Column(name = "as_of_date", nullable = false)
+    private LocalDate asOfDate;
+
+    @Column(name = "window_days", nullable = false)
+    private Integer windowDays;
+
+    @Column(name = "portfolio_value", nullable = false, precision = 19, scale = 4)
+    private BigDecimal portfolioValue;
+
+    /** Value of the holdings that have return history and therefore contribute to the metrics. */
+    @Column(name = "covered_value", nullable = false, precision = 19, scale = 4)
+    private BigDecimal coveredValue;
+
+    @Column(name = "daily_volatility", nullable = false, precision = 19, scale = 4)
+    private BigDecimal dailyVolatility;
+
+    @Column(name = "var_95", nullable = false, precision = 19, scale = 4)
+    private BigDecimal var95;
+
+    @Column(name = "var_99", nullable = false, precision = 19, scale = 4)
+    private BigDecimal var99;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+}
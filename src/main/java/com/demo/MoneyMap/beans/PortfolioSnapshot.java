@@ -0,0 +1,59 @@
+package com.demo.MoneyMap.beans;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Entity representing a portfolio's end-of-day valuation.
+ * One compact row per portfolio per day. The primary key (portfolio_id, snapshot_date)
+ * clusters each portfolio's history together, so a history read is a single range scan;
+ * the client index carries the value columns so client rollups never touch the rows.
+ */
+@Entity
+@Table(name = "portfolio_snapshots", indexes = {
+        @Index(name = "idx_snapshots_client_date", columnList =
+                "client_id, snapshot_date, total_value, cost_basis, gold_value, stock_value, mutual_fund_value, crypto_value")
+})
+@IdClass(PortfolioSnapshotId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PortfolioSnapshot {
+
+    @Id
+    @Column(name = "portfolio_id")
+    private Long portfolioId;
+
+    @Id
+    @Column(name = "snapshot_date")
+    private LocalDate snapshotDate;
+
+    @Column(name = "client_id", nullable = false)
+    private Long clientId;
+
+    @Column(name = "total_value", nullable = false, precision = 19, scale = 4)
+    private BigDecimal totalValue;
+
+    @Column(name = "cost_basis", nullable = false, precision = 19, scale = 4)
+    private BigDecimal costBasis;
+
+    @Column(name = "gold_value", nullable = false, precision = 19, scale = 4)
+    private BigDecimal goldValue;
+
+    @Column(name = "stock_value", nullable = false, precision = 19, scale = 4)
+    private BigDecimal stockValue;
+
+    @Column(name = "mutual_fund_value", nullable = false, precision = 19, scale = 4)
+    private BigDecimal mutualFundValue;
+
+    @Column(name = "crypto_value", nullable = false, precision = 19, scale = 4)
+    private BigDecimal cryptoValue;
+
+    @Column(name = "asset_count", nullable = false)
+    private Integer assetCount;
+}
@@ -0,0 +1,21 @@
+package com.demo.MoneyMap.beans;
+
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Composite primary key of PortfolioSnapshot (portfolio + day).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class PortfolioSnapshotId implements Serializable {
+
+    private Long portfolioId;
+
+    private LocalDate snapshotDate;
+}
@@ -0,0 +1,40 @@
+package com.demo.MoneyMap.beans;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Entity representing the open remainder of one purchase lot, consumed oldest-first
+ * by FIFO sells. Each lot is inserted once and deleted once it is used up, so the
+ * FIFO state costs O(1) amortized writes per transaction.
+ */
+@Entity
+@Table(name = "position_lots", indexes = {
+        @Index(name = "idx_position_lots_asset", columnList = "asset_id, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PositionLot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "asset_id", nullable = false)
+    private Long assetId;
+
+    /** The buy or transfer-in that opened the lot. */
+    @Column(name = "transaction_id", nullable = false)
+    private Long transactionId;
+
+    @Column(nullable = false, precision = 19, scale = 8)
+    private BigDecimal quantity;
+
+    @Column(name = "cost_basis", nullable = false, precision = 19, scale = 4)
+    private BigDecimal costBasis;
+}
@@ -0,0 +1,25 @@
+package com.demo.MoneyMap.beans;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Single-row table the replica lag monitor writes on the primary and reads back
+ * from each replica: how far a replica's copy trails the primary's is its lag.
+ */
+@Entity
+@Table(name = "replication_heartbeat")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReplicationHeartbeat {
+
+    @Id
+    private Integer id;
+
+    /** Epoch milliseconds of the last beat written on the primary. */
+    @Column(name = "beat_at_ms", nullable = false)
+    private Long beatAtMs;
+}
@@ -1,12 +1,13 @@
 package com.demo.MoneyMap.beans;
 
 import com.demo.MoneyMap.beans.enums.AssetType;
-import com.demo.MoneyMap.beans.TransactionType;
+import com.demo.MoneyMap.beans.enums.TransactionType;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
 import java.math.BigDecimal;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.Set;
 
@@ -29,6 +30,16 @@ import java.util.Set;
 @SuperBuilder
 public class StockAsset extends Asset {
 
+    private static final Set<TransactionType> ALLOWED_TRANSACTION_TYPES = Collections.unmodifiableSet(EnumSet.of(
+            TransactionType.BUY,
+            TransactionType.SELL,
+            TransactionType.DIVIDEND,
+            TransactionType.TRANSFER_IN,
+            TransactionType.TRANSFER_OUT
+    ));
+
+    private static final BigDecimal FRACTIONAL_SHARE_INCREMENT = new BigDecimal("0.01");
+
     /**
      * Stock exchange where this stock is traded.
      * e.g., NYSE, NASDAQ, LSE, NSE, BSE
@@ -69,13 +80,7 @@ public class StockAsset extends Asset {
      */
     @Override
     public Set<TransactionType> getAllowedTransactionTypes() {
-        return EnumSet.of(
-            TransactionType.BUY,
-            TransactionType.SELL,
-            TransactionType.DIVIDEND,
-            TransactionType.TRANSFER_IN,
-            TransactionType.TRANSFER_OUT
-        );
+        return ALLOWED_TRANSACTION_TYPES;
     }
 
     /**
@@ -96,8 +101,8 @@ public class StockAsset extends Asset {
     @Override
     public BigDecimal getMinimumQuantityIncrement() {
         // Stocks typically allow 2 decimal places for fractional shares
-        return Boolean.TRUE.equals(fractionalAllowed) 
-            ? new BigDecimal("0.01") 
+        return Boolean.TRUE.equals(fractionalAllowed)
+            ? FRACTIONAL_SHARE_INCREMENT
             : BigDecimal.ONE;
     }
 
@@ -0,0 +1,74 @@
+package com.demo.MoneyMap.beans;
+
+import com.demo.MoneyMap.beans.enums.TransactionType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing a ledger entry against an asset: a buy, sell, dividend or transfer.
+ * The ledger is append-only; positions and realized P&L are derived from it in
+ * (transaction date, id) order.
+ */
+@Entity
+@Table(name = "transactions", indexes = {
+        @Index(name = "idx_transactions_asset_date", columnList = "asset_id, transaction_date, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Transaction {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "transaction_ids")
+    @TableGenerator(name = "transaction_ids", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = IdGenerators.TRANSACTION,
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "asset_id", nullable = false)
+    private Asset asset;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type", nullable = false, length = 20)
+    private TransactionType transactionType;
+
+    /**
+     * Units bought, sold or transferred (optional for dividends).
+     */
+    @Column(precision = 19, scale = 8)
+    private BigDecimal quantity;
+
+    /**
+     * Price per unit for buys, sells and transfers.
+     */
+    @Column(name = "price_per_unit", precision = 19, scale = 4)
+    private BigDecimal pricePerUnit;
+
+    /**
+     * Cash amount for dividends (derived as quantity * price when absent).
+     */
+    @Column(precision = 19, scale = 4)
+    private BigDecimal amount;
+
+    @Column(precision = 19, scale = 4)
+    @Builder.Default
+    private BigDecimal fees = BigDecimal.ZERO;
+
+    @Column(name = "transaction_date", nullable = false)
+    private LocalDate transactionDate;
+
+    @Column(length = 500)
+    private String notes;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+}
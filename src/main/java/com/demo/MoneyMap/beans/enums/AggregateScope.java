@@ -0,0 +1,10 @@
+package com.demo.MoneyMap.beans.enums;
+
+/**
+ * Enum representing the level an assets-under-management aggregate is kept at.
+ */
+public enum AggregateScope {
+    FIRM,
+    ASSET_TYPE,
+    CLIENT
+}
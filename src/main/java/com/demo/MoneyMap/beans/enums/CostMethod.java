@@ -0,0 +1,11 @@
+package com.demo.MoneyMap.beans.enums;
+
+/**
+ * Enum representing how the cost of units sold is determined.
+ */
+public enum CostMethod {
+    /** Units sold carry the average cost of the open position. */
+    AVERAGE_COST,
+    /** Units sold are taken from the oldest open purchase lots first. */
+    FIFO
+}
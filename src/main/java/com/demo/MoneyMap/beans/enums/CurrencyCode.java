@@ -0,0 +1,28 @@
+package com.demo.MoneyMap.beans.enums;
+
+/**
+ * Enum representing the currencies assets and portfolios can be valued in.
+ * The ordinal indexes the FX cross-rate matrix, so new currencies are appended.
+ */
+public enum CurrencyCode {
+    USD("US Dollar"),
+    EUR("Euro"),
+    GBP("British Pound"),
+    INR("Indian Rupee"),
+    JPY("Japanese Yen"),
+    CHF("Swiss Franc"),
+    CAD("Canadian Dollar"),
+    AUD("Australian Dollar"),
+    SGD("Singapore Dollar"),
+    AED("UAE Dirham");
+
+    private final String displayName;
+
+    CurrencyCode(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,10 @@
+package com.demo.MoneyMap.beans.enums;
+
+/**
+ * Enum representing the level exposure analytics are computed at.
+ */
+public enum ExposureScope {
+    FIRM,
+    CLIENT,
+    PORTFOLIO
+}
@@ -0,0 +1,10 @@
+package com.demo.MoneyMap.beans.enums;
+
+/**
+ * Enum representing the state of a restartable batch job run.
+ */
+public enum JobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
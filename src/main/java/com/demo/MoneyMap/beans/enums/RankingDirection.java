@@ -0,0 +1,11 @@
+package com.demo.MoneyMap.beans.enums;
+
+/**
+ * Enum representing which end of a ranking to return.
+ */
+public enum RankingDirection {
+    /** Highest values first. */
+    GAINERS,
+    /** Lowest values first. */
+    LOSERS
+}
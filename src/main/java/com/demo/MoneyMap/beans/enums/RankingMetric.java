@@ -0,0 +1,15 @@
+package com.demo.MoneyMap.beans.enums;
+
+/**
+ * Enum representing the measures holdings can be ranked by.
+ */
+public enum RankingMetric {
+    /** Unrealized profit/loss: current value - cost basis. */
+    PROFIT_LOSS,
+    /** Unrealized profit/loss as a percentage of cost basis. */
+    PROFIT_LOSS_PERCENTAGE,
+    /** Change in value since the previous close: quantity * (price - previous close). */
+    DAY_CHANGE,
+    /** Price change since the previous close, in percent. */
+    DAY_CHANGE_PERCENTAGE
+}
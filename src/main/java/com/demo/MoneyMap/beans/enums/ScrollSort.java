@@ -0,0 +1,12 @@
+package com.demo.MoneyMap.beans.enums;
+
+/**
+ * Enum representing the sort keys supported by cursor (keyset) pagination.
+ * Every key is paired with the ID as a tie-breaker, so positions are unique.
+ */
+public enum ScrollSort {
+    /** Ascending ID. */
+    ID,
+    /** Ascending name (last name for clients), then ID. */
+    NAME
+}
@@ -0,0 +1,12 @@
+package com.demo.MoneyMap.beans.enums;
+
+/**
+ * Enum representing the kinds of transactions recorded against an asset.
+ */
+public enum TransactionType {
+    BUY,
+    SELL,
+    DIVIDEND,
+    TRANSFER_IN,
+    TRANSFER_OUT
+}
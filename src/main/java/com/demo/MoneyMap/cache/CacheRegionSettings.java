@@ -0,0 +1,12 @@
+package com.demo.MoneyMap.cache;
+
+/**
+ * Size, time-to-live and on/off switch of one second-level cache region.
+ *
+ * @param region     the region name
+ * @param enabled    false keeps the region empty
+ * @param maxSize    maximum number of entries, 0 for no bound
+ * @param ttlSeconds seconds an entry lives after it is written, 0 for no expiry
+ */
+public record CacheRegionSettings(String region, boolean enabled, long maxSize, long ttlSeconds) {
+}
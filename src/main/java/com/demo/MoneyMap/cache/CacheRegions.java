@@ -0,0 +1,33 @@
+package com.demo.MoneyMap.cache;
+
+import org.hibernate.cache.spi.RegionFactory;
+
+/**
+ * Names of the Hibernate second-level cache regions.
+ *
+ * Each configurable region is sized, timed and switched on or off under
+ * moneymap.cache.&lt;region&gt; (see {@link SecondLevelCacheSettings}).
+ */
+public final class CacheRegions {
+
+    /** Client entities. */
+    public static final String CLIENT = "client";
+
+    /** Portfolio entities. */
+    public static final String PORTFOLIO = "portfolio";
+
+    /** Cached count queries over clients. */
+    public static final String CLIENT_COUNTS = "client-counts";
+
+    /** Cached count queries over portfolios. */
+    public static final String PORTFOLIO_COUNTS = "portfolio-counts";
+
+    /** Hibernate's region for cacheable queries that name no region of their own. */
+    public static final String DEFAULT_QUERY_RESULTS = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+
+    /** Hibernate's last-write time per table, used to invalidate cached query results. */
+    public static final String UPDATE_TIMESTAMPS = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    private CacheRegions() {
+    }
+}
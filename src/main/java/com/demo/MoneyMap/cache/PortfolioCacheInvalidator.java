@@ -0,0 +1,55 @@
+package com.demo.MoneyMap.cache;
+
+import com.demo.MoneyMap.beans.Portfolio;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Evicts cached portfolios after SQL that bypasses Hibernate has updated them.
+ *
+ * Writes made through the repositories and JPQL bulk statements keep the
+ * second-level cache consistent on their own; JdbcTemplate writes to the
+ * portfolios table do not, so their callers report the rows they touched here,
+ * never the whole region, which would cost every other reader a miss. Entries are
+ * evicted at once, so the writing transaction itself reads the new rows, and
+ * again when it completes, dropping anything a concurrent reader cached from
+ * the old rows in between.
+ *
+ * Only portfolio entities are evicted: the cached portfolio queries are counts
+ * over columns (active, client_id) that these statements never change.
+ */
+@Component
+@RequiredArgsConstructor
+public class PortfolioCacheInvalidator {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Evict the given portfolios.
+     */
+    public void portfoliosUpdated(Collection<Long> portfolioIds) {
+        if (portfolioIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(portfolioIds);
+        evictNowAndAfterCompletion(() -> ids.forEach(id -> entityManagerFactory.getCache().evict(Portfolio.class, id)));
+    }
+
+    private void evictNowAndAfterCompletion(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.demo.MoneyMap.cache;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-region second-level cache settings, read from
+ * moneymap.cache.&lt;region&gt;.enabled, .max-size and .ttl-seconds.
+ *
+ * Entity regions default to 10000 entries for 10 minutes, query regions to
+ * 1000 results for 1 minute. Hibernate's own query results and update timestamps
+ * regions are not configurable: the first holds nothing while every cacheable
+ * query names a region, and the second must never lose an entry while query
+ * results that depend on it are cached.
+ */
+@Component
+public class SecondLevelCacheSettings {
+
+    private static final String PREFIX = "moneymap.cache.";
+
+    private final Map<String, CacheRegionSettings> regions = new LinkedHashMap<>();
+
+    public SecondLevelCacheSettings(Environment environment) {
+        add(environment, CacheRegions.CLIENT, 10_000, 600);
+        add(environment, CacheRegions.PORTFOLIO, 10_000, 600);
+        add(environment, CacheRegions.CLIENT_COUNTS, 1_000, 60);
+        add(environment, CacheRegions.PORTFOLIO_COUNTS, 1_000, 60);
+    }
+
+    private void add(Environment environment, String region, long defaultMaxSize, long defaultTtlSeconds) {
+        boolean enabled = environment.getProperty(PREFIX + region + ".enabled", Boolean.class, true);
+        long maxSize = environment.getProperty(PREFIX + region + ".max-size", Long.class, defaultMaxSize);
+        long ttlSeconds = environment.getProperty(PREFIX + region + ".ttl-seconds", Long.class, defaultTtlSeconds);
+        if (maxSize < 0 || ttlSeconds < 0) {
+            throw new IllegalArgumentException("Cache region " + region + " needs a non-negative max-size and ttl-seconds");
+        }
+        regions.put(region, new CacheRegionSettings(region, enabled, maxSize, ttlSeconds));
+    }
+
+    /**
+     * Settings of every configurable region, in declaration order.
+     */
+    public Collection<CacheRegionSettings> getRegions() {
+        return Collections.unmodifiableCollection(regions.values());
+    }
+
+    /**
+     * Settings of a configurable region, or null for Hibernate's own regions.
+     */
+    public CacheRegionSettings getRegion(String region) {
+        return regions.get(region);
+    }
+}
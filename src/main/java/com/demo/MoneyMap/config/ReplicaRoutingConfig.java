@@ -0,0 +1,98 @@
+package com.demo.MoneyMap.config;
+
+import com.demo.MoneyMap.datasource.ReadYourWritesFilter;
+import com.demo.MoneyMap.datasource.ReplicaLagMonitor;
+import com.demo.MoneyMap.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Read-replica routing, enabled with moneymap.datasource.routing.enabled=true.
+ *
+ * The application DataSource becomes a lazy proxy over a {@link ReplicaRoutingDataSource}:
+ * {@code @Transactional(readOnly = true)} work goes to an in-sync replica, everything else to
+ * the primary configured under spring.datasource. Replicas share the primary's credentials
+ * and driver.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "moneymap.datasource.routing", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Value("${moneymap.datasource.replica.urls}")
+    private String[] replicaUrls;
+
+    @Value("${moneymap.datasource.replica.max-lag-ms:5000}")
+    private long maxLagMs;
+
+    @Value("${moneymap.datasource.replica.pool-size:10}")
+    private int replicaPoolSize;
+
+    @Value("${moneymap.datasource.read-your-writes-window-ms:5000}")
+    private long readYourWritesWindowMs;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceProperties properties) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.length; i++) {
+            String url = replicaUrls[i].trim();
+            if (url.isEmpty()) {
+                continue;
+            }
+            HikariDataSource replica = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(url)
+                    .build();
+            replica.setPoolName("replica-" + (i + 1));
+            replica.setReadOnly(true);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replicas.put(replica.getPoolName(), replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new ReplicaLagMonitor(replicaRoutingDataSource, maxLagMs);
+    }
+
+    /**
+     * The probe must not wait behind other jobs, or healthy replicas would expire.
+     */
+    @Bean(SchedulingConfig.REPLICA_PROBE_SCHEDULER)
+    public ThreadPoolTaskScheduler replicaProbeScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.poolSize(1).threadNamePrefix("replica-probe-").build();
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter() {
+        return new ReadYourWritesFilter(readYourWritesWindowMs);
+    }
+}
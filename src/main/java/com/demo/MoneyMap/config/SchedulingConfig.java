@@ -0,0 +1,40 @@
+package com.demo.MoneyMap.config;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Enables Spring's @Scheduled support for background jobs
+ * (reconciliation, flushes, snapshots).
+ *
+ * Jobs share the default taskScheduler, sized by spring.task.scheduling.pool.size,
+ * so a long nightly job does not hold up the others. Jobs that must run on time
+ * whatever else is running name their own single-thread scheduler.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    /**
+     * Scheduler for the price tick flush alone.
+     */
+    public static final String PRICE_TICK_SCHEDULER = "priceTickScheduler";
+
+    /**
+     * Scheduler for the replica lag probe, declared by ReplicaRoutingConfig.
+     */
+    public static final String REPLICA_PROBE_SCHEDULER = "replicaProbeScheduler";
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(PRICE_TICK_SCHEDULER)
+    public ThreadPoolTaskScheduler priceTickScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.poolSize(1).threadNamePrefix("price-tick-").build();
+    }
+}
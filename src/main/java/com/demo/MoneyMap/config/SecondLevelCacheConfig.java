@@ -0,0 +1,70 @@
+package com.demo.MoneyMap.config;
+
+import com.demo.MoneyMap.cache.CacheRegionSettings;
+import com.demo.MoneyMap.cache.CacheRegions;
+import com.demo.MoneyMap.cache.SecondLevelCacheSettings;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate second-level and query cache, held in Caffeine through JCache.
+ *
+ * Every region is created here from {@link SecondLevelCacheSettings} before Hibernate
+ * starts, and Hibernate is told to fail on any other region, so a cached entity or
+ * query cannot silently run on defaults. A disabled region is kept at size 0 and
+ * evicts on the writing thread, so it never serves an entry. Caffeine statistics are
+ * recorded for every region and exposed by CacheStatsService.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(SecondLevelCacheSettings settings) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        for (CacheRegionSettings region : settings.getRegions()) {
+            createIfAbsent(cacheManager, region);
+        }
+        // Nothing uses the default query region; timestamps must outlive every cached query result
+        createIfAbsent(cacheManager, new CacheRegionSettings(CacheRegions.DEFAULT_QUERY_RESULTS, true, 1_000, 60));
+        createIfAbsent(cacheManager, new CacheRegionSettings(CacheRegions.UPDATE_TIMESTAMPS, true, 0, 0));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put("hibernate.cache.use_second_level_cache", true);
+            properties.put("hibernate.cache.use_query_cache", true);
+            properties.put("hibernate.cache.region.factory_class", "jcache");
+            properties.put("hibernate.javax.cache.cache_manager", secondLevelCacheManager);
+            properties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+        };
+    }
+
+    private static void createIfAbsent(CacheManager cacheManager, CacheRegionSettings region) {
+        if (cacheManager.getCache(region.region()) != null) {
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setNativeStatisticsEnabled(true);
+        if (!region.enabled()) {
+            configuration.setMaximumSize(OptionalLong.of(0));
+            configuration.setExecutorFactory(() -> Runnable::run);
+        } else if (region.maxSize() > 0) {
+            configuration.setMaximumSize(OptionalLong.of(region.maxSize()));
+        }
+        if (region.enabled() && region.ttlSeconds() > 0) {
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(region.ttlSeconds())));
+        }
+        cacheManager.createCache(region.region(), configuration);
+    }
+}
@@ -0,0 +1,69 @@
+package com.demo.MoneyMap.controller;
+
+import com.demo.MoneyMap.dto.response.ApiResponseDTO;
+import com.demo.MoneyMap.dto.response.ExposureReportDTO;
+import com.demo.MoneyMap.service.ExposureAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for portfolio analytics.
+ * Provides exposure breakdowns at firm, client and portfolio level.
+ */
+@RestController
+@RequestMapping("/api/v1/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Analytics", description = "APIs for exposure analytics. " +
+        "Stock exposure is broken down by sector and exchange, mutual fund exposure by category and risk level.")
+public class AnalyticsController {
+
+    private final ExposureAnalyticsService exposureAnalyticsService;
+
+    @GetMapping("/exposure")
+    @Operation(
+            summary = "Get firm-wide exposure",
+            description = "Returns stock value by sector, exchange and sector/exchange, and mutual fund value by " +
+                    "category, risk level and category/risk level, across all clients. Cached for a few seconds."
+    )
+    @ApiResponse(responseCode = "200", description = "Exposure retrieved successfully")
+    public ResponseEntity<ApiResponseDTO<ExposureReportDTO>> getFirmExposure() {
+        return ResponseEntity.ok(ApiResponseDTO.success(exposureAnalyticsService.getFirmExposure()));
+    }
+
+    @GetMapping("/exposure/client/{clientId}")
+    @Operation(
+            summary = "Get client exposure",
+            description = "Returns the exposure breakdowns of a client across all of their portfolios. " +
+                    "Cached for a few seconds."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Exposure retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Client not found")
+    })
+    public ResponseEntity<ApiResponseDTO<ExposureReportDTO>> getClientExposure(
+            @Parameter(description = "Client ID", required = true)
+            @PathVariable Long clientId) {
+        return ResponseEntity.ok(ApiResponseDTO.success(exposureAnalyticsService.getClientExposure(clientId)));
+    }
+
+    @GetMapping("/exposure/portfolio/{portfolioId}")
+    @Operation(
+            summary = "Get portfolio exposure",
+            description = "Returns the exposure breakdowns of a single portfolio. Cached for a few seconds."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Exposure retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Portfolio not found")
+    })
+    public ResponseEntity<ApiResponseDTO<ExposureReportDTO>> getPortfolioExposure(
+            @Parameter(description = "Portfolio ID", required = true)
+            @PathVariable Long portfolioId) {
+        return ResponseEntity.ok(ApiResponseDTO.success(exposureAnalyticsService.getPortfolioExposure(portfolioId)));
+    }
+}
@@ -1,11 +1,33 @@
 package com.demo.MoneyMap.controller;
 
+import com.demo.MoneyMap.beans.enums.CostMethod;
+import com.demo.MoneyMap.beans.enums.RankingDirection;
+import com.demo.MoneyMap.beans.enums.RankingMetric;
+import com.demo.MoneyMap.beans.enums.ScrollSort;
 import com.demo.MoneyMap.dto.request.AssetRequestDTO;
+import com.demo.MoneyMap.dto.request.TransactionRequestDTO;
 import com.demo.MoneyMap.dto.response.ApiResponseDTO;
+import com.demo.MoneyMap.dto.response.AssetPnlDTO;
 import com.demo.MoneyMap.dto.response.AssetResponseDTO;
+import com.demo.MoneyMap.dto.response.AumSummaryDTO;
+import com.demo.MoneyMap.dto.response.BulkPriceUpdateResponseDTO;
+import com.demo.MoneyMap.dto.response.ClientAumDTO;
+import com.demo.MoneyMap.dto.response.MoversResponseDTO;
 import com.demo.MoneyMap.dto.response.PagedResponseDTO;
-import com.demo.MoneyMap.entity.enums.AssetType;
+import com.demo.MoneyMap.dto.response.PnlRecomputeResultDTO;
+import com.demo.MoneyMap.dto.response.SliceResponseDTO;
+import com.demo.MoneyMap.dto.response.SymbolPriceUpdateResponseDTO;
+import com.demo.MoneyMap.dto.response.SymbolSuggestionDTO;
+import com.demo.MoneyMap.beans.enums.AssetType;
+import com.demo.MoneyMap.service.AssetQueryService;
 import com.demo.MoneyMap.service.AssetService;
+import com.demo.MoneyMap.service.AumAggregateService;
+import com.demo.MoneyMap.service.MoversService;
+import com.demo.MoneyMap.service.PositionPnlService;
+import com.demo.MoneyMap.service.PriceFanOutService;
+import com.demo.MoneyMap.service.PriceUpdateService;
+import com.demo.MoneyMap.service.SearchService;
+import com.demo.MoneyMap.service.SymbolSuggestService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -22,6 +44,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.util.List;
 
@@ -38,6 +61,14 @@ import java.util.List;
 public class AssetController {
 
     private final AssetService assetService;
+    private final AssetQueryService assetQueryService;
+    private final PriceUpdateService priceUpdateService;
+    private final PriceFanOutService priceFanOutService;
+    private final AumAggregateService aumAggregateService;
+    private final MoversService moversService;
+    private final PositionPnlService positionPnlService;
+    private final SearchService searchService;
+    private final SymbolSuggestService symbolSuggestService;
 
     @PostMapping
     @Operation(
@@ -61,7 +92,8 @@ public class AssetController {
     @GetMapping("/{id}")
     @Operation(
             summary = "Get asset by ID",
-            description = "Retrieves an asset's details by its unique identifier, including profit/loss calculations."
+            description = "Retrieves an asset's details by its unique identifier, including profit/loss calculations " +
+                    "and the realized/unrealized P&L derived from its transaction ledger."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Asset found"),
@@ -71,6 +103,7 @@ public class AssetController {
             @Parameter(description = "Asset ID", required = true)
             @PathVariable Long id) {
         AssetResponseDTO asset = assetService.getAssetById(id);
+        positionPnlService.enrichAssets(List.of(asset));
         return ResponseEntity.ok(ApiResponseDTO.success(asset));
     }
 
@@ -90,6 +123,62 @@ public class AssetController {
         return ResponseEntity.ok(ApiResponseDTO.success(asset));
     }
 
+    @PostMapping("/{id}/transactions")
+    @Operation(
+            summary = "Record a transaction",
+            description = "Records a buy, sell, dividend or transfer against an asset and updates its position " +
+                    "incrementally. Returns the position and P&L in the configured default cost method. " +
+                    "A transaction dated before the asset's latest one replays that asset's ledger."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Transaction recorded successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input data, transaction type not allowed " +
+                    "for the asset, or quantity exceeding the open position"),
+            @ApiResponse(responseCode = "404", description = "Asset not found")
+    })
+    public ResponseEntity<ApiResponseDTO<AssetPnlDTO>> recordTransaction(
+            @Parameter(description = "Asset ID", required = true)
+            @PathVariable Long id,
+            @Valid @RequestBody TransactionRequestDTO requestDTO) {
+        AssetPnlDTO pnl = positionPnlService.recordTransaction(id, requestDTO);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponseDTO.success(pnl, "Transaction recorded successfully"));
+    }
+
+    @GetMapping("/{id}/pnl")
+    @Operation(
+            summary = "Get asset P&L",
+            description = "Returns the ledger position of an asset with its cost basis, realized and unrealized " +
+                    "P&L and dividend income, using average cost or FIFO."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "P&L retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Asset not found")
+    })
+    public ResponseEntity<ApiResponseDTO<AssetPnlDTO>> getAssetPnl(
+            @Parameter(description = "Asset ID", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "Cost method (default: configured method)")
+            @RequestParam(required = false) CostMethod method) {
+        AssetPnlDTO pnl = positionPnlService.getAssetPnl(id, method);
+        return ResponseEntity.ok(ApiResponseDTO.success(pnl));
+    }
+
+    @PostMapping("/positions/recompute")
+    @Operation(
+            summary = "Recompute all positions",
+            description = "Rebuilds every asset position and open FIFO lot from the full transaction ledger, " +
+                    "replacing them a batch of assets at a time, and reports throughput figures."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Positions recomputed"),
+            @ApiResponse(responseCode = "409", description = "A recompute is already in progress")
+    })
+    public ResponseEntity<ApiResponseDTO<PnlRecomputeResultDTO>> recomputePositions() {
+        PnlRecomputeResultDTO result = positionPnlService.recomputeAll();
+        return ResponseEntity.ok(ApiResponseDTO.success(result, "Positions recomputed"));
+    }
+
     @GetMapping
     @Operation(
             summary = "Get all assets",
@@ -113,6 +202,29 @@ public class AssetController {
         return ResponseEntity.ok(ApiResponseDTO.success(assets));
     }
 
+    @GetMapping("/scroll")
+    @Operation(
+            summary = "Scroll all assets",
+            description = "Retrieves a slice of all assets after a cursor, ordered by ID or by name. " +
+                    "Pass the nextCursor of a slice to get the one after it. No total is counted and " +
+                    "deep slices cost the same as the first; prefer this to the paginated listing for large scans."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved asset slice"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor, cursor issued for another sort, " +
+                    "or size out of range")
+    })
+    public ResponseEntity<ApiResponseDTO<SliceResponseDTO<AssetResponseDTO>>> scrollAssets(
+            @Parameter(description = "Cursor from the previous slice; omit for the first slice")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of items per slice")
+            @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "Sort key")
+            @RequestParam(defaultValue = "ID") ScrollSort sortBy) {
+        SliceResponseDTO<AssetResponseDTO> assets = assetQueryService.scrollAssets(cursor, size, sortBy);
+        return ResponseEntity.ok(ApiResponseDTO.success(assets));
+    }
+
     @GetMapping("/portfolio/{portfolioId}")
     @Operation(
             summary = "Get assets by portfolio",
@@ -126,6 +238,7 @@ public class AssetController {
             @Parameter(description = "Portfolio ID", required = true)
             @PathVariable Long portfolioId) {
         List<AssetResponseDTO> assets = assetService.getAssetsByPortfolioId(portfolioId);
+        positionPnlService.enrichAssets(assets);
         return ResponseEntity.ok(ApiResponseDTO.success(assets));
     }
 
@@ -150,6 +263,29 @@ public class AssetController {
         return ResponseEntity.ok(ApiResponseDTO.success(assets));
     }
 
+    @GetMapping("/portfolio/{portfolioId}/scroll")
+    @Operation(
+            summary = "Scroll assets by portfolio",
+            description = "Retrieves a slice of a portfolio's assets after a cursor, ordered by ID, " +
+                    "with the realized/unrealized P&L derived from their transaction ledgers. No total is counted."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved asset slice"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or size out of range")
+    })
+    public ResponseEntity<ApiResponseDTO<SliceResponseDTO<AssetResponseDTO>>> scrollAssetsByPortfolioId(
+            @Parameter(description = "Portfolio ID", required = true)
+            @PathVariable Long portfolioId,
+            @Parameter(description = "Cursor from the previous slice; omit for the first slice")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of items per slice")
+            @RequestParam(defaultValue = "50") int size) {
+        SliceResponseDTO<AssetResponseDTO> assets =
+                assetQueryService.scrollAssetsByPortfolio(portfolioId, cursor, size);
+        positionPnlService.enrichAssets(assets.getContent());
+        return ResponseEntity.ok(ApiResponseDTO.success(assets));
+    }
+
     @GetMapping("/type/{assetType}")
     @Operation(
             summary = "Get assets by type",
@@ -197,7 +333,9 @@ public class AssetController {
     @GetMapping("/search")
     @Operation(
             summary = "Search assets",
-            description = "Searches for assets by name or symbol. Supports pagination."
+            description = "Searches for assets by name or symbol (case-insensitive substring). Supports pagination. " +
+                    "Results are ranked: exact matches first, then prefix and word matches, with symbol " +
+                    "matches ahead of name matches."
     )
     @ApiResponse(responseCode = "200", description = "Search completed successfully")
     public ResponseEntity<ApiResponseDTO<PagedResponseDTO<AssetResponseDTO>>> searchAssets(
@@ -208,10 +346,30 @@ public class AssetController {
             @Parameter(description = "Number of items per page")
             @RequestParam(defaultValue = "10") int size) {
         Pageable pageable = PageRequest.of(page, size);
-        PagedResponseDTO<AssetResponseDTO> assets = assetService.searchAssets(query, pageable);
+        PagedResponseDTO<AssetResponseDTO> assets = searchService.searchAssets(query, pageable);
         return ResponseEntity.ok(ApiResponseDTO.success(assets));
     }
 
+    @GetMapping("/symbols/suggest")
+    @Operation(
+            summary = "Suggest symbols",
+            description = "Autocompletes a typed ticker or asset name: returns the distinct symbols whose ticker, " +
+                    "or a word of whose name, starts with the prefix, most held first. Served from memory; " +
+                    "changes to holdings show up within about a second."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid limit")
+    })
+    public ResponseEntity<ApiResponseDTO<List<SymbolSuggestionDTO>>> suggestSymbols(
+            @Parameter(description = "Typed prefix (case-insensitive)", required = true)
+            @RequestParam String prefix,
+            @Parameter(description = "Number of suggestions to return")
+            @RequestParam(defaultValue = "10") int limit) {
+        List<SymbolSuggestionDTO> suggestions = symbolSuggestService.suggest(prefix, limit);
+        return ResponseEntity.ok(ApiResponseDTO.success(suggestions));
+    }
+
     @PutMapping("/{id}")
     @Operation(
             summary = "Update an asset",
@@ -249,6 +407,39 @@ public class AssetController {
         return ResponseEntity.ok(ApiResponseDTO.success(asset, "Asset price updated successfully"));
     }
 
+    @PatchMapping("/symbol/{symbol}/price")
+    @Operation(
+            summary = "Update price for all holdings of a symbol",
+            description = "Applies one quote to every holding of a symbol across all portfolios " +
+                    "and adjusts the owning portfolios' total values incrementally."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Symbol repriced successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid symbol or price")
+    })
+    public ResponseEntity<ApiResponseDTO<SymbolPriceUpdateResponseDTO>> updateSymbolPrice(
+            @Parameter(description = "Symbol/ticker", required = true)
+            @PathVariable String symbol,
+            @Parameter(description = "New current price", required = true)
+            @RequestParam BigDecimal currentPrice) {
+        SymbolPriceUpdateResponseDTO result = priceFanOutService.applyQuote(symbol, currentPrice);
+        return ResponseEntity.ok(ApiResponseDTO.success(result, "Symbol price updated successfully"));
+    }
+
+    @PostMapping(value = "/prices/bulk", consumes = {"application/x-ndjson", "text/plain"})
+    @Operation(
+            summary = "Bulk update asset prices",
+            description = "Applies a streamed NDJSON feed of price updates, one JSON object per line, e.g. " +
+                    "{\"assetId\": 1, \"price\": 175.50} or {\"symbol\": \"AAPL\", \"price\": 175.50}. " +
+                    "The feed is applied in chunked transactions and affected portfolio totals are recalculated " +
+                    "once per chunk. Returns per-line success/failure counts and throughput."
+    )
+    @ApiResponse(responseCode = "200", description = "Feed processed (see per-line counts for rejected lines)")
+    public ResponseEntity<ApiResponseDTO<BulkPriceUpdateResponseDTO>> bulkUpdatePrices(InputStream feed) {
+        BulkPriceUpdateResponseDTO result = priceUpdateService.bulkUpdatePrices(feed);
+        return ResponseEntity.ok(ApiResponseDTO.success(result, "Bulk price update processed"));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(
             summary = "Delete an asset",
@@ -269,16 +460,117 @@ public class AssetController {
     @GetMapping("/type/{assetType}/total-value")
     @Operation(
             summary = "Get total value by asset type",
-            description = "Calculates and returns the total value of all assets of a specific type across all portfolios."
+            description = "Returns the total value of all assets of a specific type across all portfolios, " +
+                    "from the materialized AUM aggregates."
     )
     @ApiResponse(responseCode = "200", description = "Total value calculated successfully")
     public ResponseEntity<ApiResponseDTO<BigDecimal>> getTotalValueByAssetType(
             @Parameter(description = "Asset type", required = true)
             @PathVariable AssetType assetType) {
-        BigDecimal totalValue = assetService.getTotalValueByAssetType(assetType);
+        BigDecimal totalValue = aumAggregateService.getTotalValueByAssetType(assetType);
         return ResponseEntity.ok(ApiResponseDTO.success(totalValue));
     }
 
+    @GetMapping("/type/{assetType}/count")
+    @Operation(
+            summary = "Get asset count by asset type",
+            description = "Returns the number of assets of a specific type across all portfolios, " +
+                    "from the materialized AUM aggregates."
+    )
+    @ApiResponse(responseCode = "200", description = "Asset count retrieved successfully")
+    public ResponseEntity<ApiResponseDTO<Long>> getAssetCountByAssetType(
+            @Parameter(description = "Asset type", required = true)
+            @PathVariable AssetType assetType) {
+        long count = aumAggregateService.getAssetCountByAssetType(assetType);
+        return ResponseEntity.ok(ApiResponseDTO.success(count));
+    }
+
+    @GetMapping("/aum")
+    @Operation(
+            summary = "Get firm-wide assets under management",
+            description = "Returns firm-wide total value and asset count, overall and per asset type. " +
+                    "Values are summed in each asset's own currency without conversion."
+    )
+    @ApiResponse(responseCode = "200", description = "AUM summary retrieved successfully")
+    public ResponseEntity<ApiResponseDTO<AumSummaryDTO>> getAumSummary() {
+        AumSummaryDTO summary = aumAggregateService.getSummary();
+        return ResponseEntity.ok(ApiResponseDTO.success(summary));
+    }
+
+    @GetMapping("/aum/client/{clientId}")
+    @Operation(
+            summary = "Get a client's assets under management",
+            description = "Returns the total value and asset count of a client across all of their portfolios, " +
+                    "active or not."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Client AUM retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Client not found")
+    })
+    public ResponseEntity<ApiResponseDTO<ClientAumDTO>> getClientAum(
+            @Parameter(description = "Client ID", required = true)
+            @PathVariable Long clientId) {
+        ClientAumDTO clientAum = aumAggregateService.getClientAum(clientId);
+        return ResponseEntity.ok(ApiResponseDTO.success(clientAum));
+    }
+
+    @PostMapping("/aum/reconcile")
+    @Operation(
+            summary = "Reconcile AUM aggregates",
+            description = "Recomputes the AUM aggregates from the assets table and corrects any drift. " +
+                    "Also runs on a schedule."
+    )
+    @ApiResponse(responseCode = "200", description = "Aggregates reconciled")
+    public ResponseEntity<ApiResponseDTO<AumSummaryDTO>> reconcileAum() {
+        AumSummaryDTO summary = aumAggregateService.reconcile();
+        return ResponseEntity.ok(ApiResponseDTO.success(summary, "AUM aggregates reconciled"));
+    }
+
+    @GetMapping("/movers")
+    @Operation(
+            summary = "Get top movers across the firm",
+            description = "Returns the top holdings by unrealized profit/loss (absolute or %) or by change since " +
+                    "the previous close (absolute or %), highest first for GAINERS and lowest first for LOSERS. " +
+                    "Served from memory and updated as prices change; 'pricesAsOf' gives its freshness."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Movers retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid limit")
+    })
+    public ResponseEntity<ApiResponseDTO<MoversResponseDTO>> getFirmMovers(
+            @Parameter(description = "Metric to rank by")
+            @RequestParam(defaultValue = "DAY_CHANGE_PERCENTAGE") RankingMetric metric,
+            @Parameter(description = "GAINERS (highest first) or LOSERS (lowest first)")
+            @RequestParam(defaultValue = "GAINERS") RankingDirection direction,
+            @Parameter(description = "Number of holdings to return")
+            @RequestParam(defaultValue = "20") int limit) {
+        MoversResponseDTO movers = moversService.getFirmMovers(metric, direction, limit);
+        return ResponseEntity.ok(ApiResponseDTO.success(movers));
+    }
+
+    @GetMapping("/movers/client/{clientId}")
+    @Operation(
+            summary = "Get top movers of a client",
+            description = "Same ranking as /movers, limited to the holdings of one client."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Movers retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid limit"),
+            @ApiResponse(responseCode = "404", description = "Client not found")
+    })
+    public ResponseEntity<ApiResponseDTO<MoversResponseDTO>> getClientMovers(
+            @Parameter(description = "Client ID", required = true)
+            @PathVariable Long clientId,
+            @Parameter(description = "Metric to rank by")
+            @RequestParam(defaultValue = "DAY_CHANGE_PERCENTAGE") RankingMetric metric,
+            @Parameter(description = "GAINERS (highest first) or LOSERS (lowest first)")
+            @RequestParam(defaultValue = "GAINERS") RankingDirection direction,
+            @Parameter(description = "Number of holdings to return")
+            @RequestParam(defaultValue = "20") int limit) {
+        MoversResponseDTO movers = moversService.getClientMovers(clientId, metric, direction, limit);
+        return ResponseEntity.ok(ApiResponseDTO.success(movers));
+    }
+
     @GetMapping("/types")
     @Operation(
             summary = "Get all asset types",
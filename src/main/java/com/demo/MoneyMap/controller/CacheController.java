@@ -0,0 +1,54 @@
+package com.demo.MoneyMap.controller;
+
+import com.demo.MoneyMap.dto.response.ApiResponseDTO;
+import com.demo.MoneyMap.dto.response.CacheRegionStatsDTO;
+import com.demo.MoneyMap.service.CacheStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for second-level cache metrics.
+ * Provides per-region hit, miss and eviction counters.
+ */
+@RestController
+@RequestMapping("/api/v1/cache")
+@RequiredArgsConstructor
+@Tag(name = "Cache", description = "APIs for second-level cache metrics. " +
+        "Clients, portfolios and hot count queries are cached per region; each region is sized, " +
+        "timed and switched on or off in configuration.")
+public class CacheController {
+
+    private final CacheStatsService cacheStatsService;
+
+    @GetMapping("/regions")
+    @Operation(
+            summary = "Get cache region stats",
+            description = "Returns the settings, size and hit/miss/eviction counters of every cache region."
+    )
+    @ApiResponse(responseCode = "200", description = "Stats retrieved successfully")
+    public ResponseEntity<ApiResponseDTO<List<CacheRegionStatsDTO>>> getRegionStats() {
+        return ResponseEntity.ok(ApiResponseDTO.success(cacheStatsService.getRegionStats()));
+    }
+
+    @GetMapping("/regions/{region}")
+    @Operation(
+            summary = "Get one cache region's stats",
+            description = "Returns the settings, size and hit/miss/eviction counters of a cache region."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Stats retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Cache region not found")
+    })
+    public ResponseEntity<ApiResponseDTO<CacheRegionStatsDTO>> getRegionStats(
+            @Parameter(description = "Region name", example = "portfolio") @PathVariable String region) {
+        return ResponseEntity.ok(ApiResponseDTO.success(cacheStatsService.getRegionStats(region)));
+    }
+}
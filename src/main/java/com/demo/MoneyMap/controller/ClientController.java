@@ -1,10 +1,17 @@
 package com.demo.MoneyMap.controller;
 
+import com.demo.MoneyMap.beans.enums.ScrollSort;
 import com.demo.MoneyMap.dto.request.ClientRequestDTO;
 import com.demo.MoneyMap.dto.response.ApiResponseDTO;
+import com.demo.MoneyMap.dto.response.ClientDashboardDTO;
 import com.demo.MoneyMap.dto.response.ClientResponseDTO;
 import com.demo.MoneyMap.dto.response.PagedResponseDTO;
+import com.demo.MoneyMap.dto.response.SliceResponseDTO;
+import com.demo.MoneyMap.service.ClientDashboardService;
+import com.demo.MoneyMap.service.ClientQueryService;
 import com.demo.MoneyMap.service.ClientService;
+import com.demo.MoneyMap.service.PositionPnlService;
+import com.demo.MoneyMap.service.SearchService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -35,6 +42,10 @@ import java.util.List;
 public class ClientController {
 
     private final ClientService clientService;
+    private final ClientQueryService clientQueryService;
+    private final ClientDashboardService clientDashboardService;
+    private final PositionPnlService positionPnlService;
+    private final SearchService searchService;
 
     @PostMapping
     @Operation(
@@ -73,7 +84,8 @@ public class ClientController {
     @GetMapping("/{id}/portfolios")
     @Operation(
             summary = "Get client with portfolios",
-            description = "Retrieves a client's details including all their portfolio summaries."
+            description = "Retrieves a client's details including all their portfolio summaries, " +
+                    "with realized/unrealized P&L from the transaction ledger."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Client found with portfolios"),
@@ -82,10 +94,29 @@ public class ClientController {
     public ResponseEntity<ApiResponseDTO<ClientResponseDTO>> getClientWithPortfolios(
             @Parameter(description = "Client ID", required = true)
             @PathVariable Long id) {
-        ClientResponseDTO client = clientService.getClientByIdWithPortfolios(id);
+        ClientResponseDTO client = clientQueryService.getClientWithPortfolios(id);
+        positionPnlService.enrichPortfolioSummaries(client.getPortfolios());
         return ResponseEntity.ok(ApiResponseDTO.success(client));
     }
 
+    @GetMapping("/{id}/dashboard")
+    @Operation(
+            summary = "Get client dashboard",
+            description = "Returns the client's totals, cost basis, profit/loss and allocation by asset type, " +
+                    "overall and per portfolio, computed server-side from a single aggregate query. " +
+                    "Client totals cover active portfolios only."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Dashboard retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Client not found")
+    })
+    public ResponseEntity<ApiResponseDTO<ClientDashboardDTO>> getClientDashboard(
+            @Parameter(description = "Client ID", required = true)
+            @PathVariable Long id) {
+        ClientDashboardDTO dashboard = clientDashboardService.getDashboard(id);
+        return ResponseEntity.ok(ApiResponseDTO.success(dashboard));
+    }
+
     @GetMapping
     @Operation(
             summary = "Get all clients",
@@ -105,7 +136,30 @@ public class ClientController {
                 ? Sort.by(sortBy).descending() 
                 : Sort.by(sortBy).ascending();
         Pageable pageable = PageRequest.of(page, size, sort);
-        PagedResponseDTO<ClientResponseDTO> clients = clientService.getAllClients(pageable);
+        PagedResponseDTO<ClientResponseDTO> clients = clientQueryService.getAllClients(pageable);
+        return ResponseEntity.ok(ApiResponseDTO.success(clients));
+    }
+
+    @GetMapping("/scroll")
+    @Operation(
+            summary = "Scroll all clients",
+            description = "Retrieves a slice of all clients after a cursor, ordered by ID or by last name. " +
+                    "Pass the nextCursor of a slice to get the one after it. No total is counted and " +
+                    "deep slices cost the same as the first."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved client slice"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor, cursor issued for another sort, " +
+                    "or size out of range")
+    })
+    public ResponseEntity<ApiResponseDTO<SliceResponseDTO<ClientResponseDTO>>> scrollClients(
+            @Parameter(description = "Cursor from the previous slice; omit for the first slice")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of items per slice")
+            @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "Sort key (NAME sorts by last name)")
+            @RequestParam(defaultValue = "ID") ScrollSort sortBy) {
+        SliceResponseDTO<ClientResponseDTO> clients = clientQueryService.scrollClients(cursor, size, sortBy);
         return ResponseEntity.ok(ApiResponseDTO.success(clients));
     }
 
@@ -116,14 +170,16 @@ public class ClientController {
     )
     @ApiResponse(responseCode = "200", description = "Successfully retrieved active client list")
     public ResponseEntity<ApiResponseDTO<List<ClientResponseDTO>>> getActiveClients() {
-        List<ClientResponseDTO> clients = clientService.getActiveClients();
+        List<ClientResponseDTO> clients = clientQueryService.getActiveClients();
         return ResponseEntity.ok(ApiResponseDTO.success(clients));
     }
 
     @GetMapping("/search")
     @Operation(
             summary = "Search clients",
-            description = "Searches for clients by first name, last name, or email. Supports pagination."
+            description = "Searches for clients by first name, last name, or email (case-insensitive substring). " +
+                    "Supports pagination. Results are ranked: exact matches first, then prefix and word matches, " +
+                    "with name matches ahead of email matches."
     )
     @ApiResponse(responseCode = "200", description = "Search completed successfully")
     public ResponseEntity<ApiResponseDTO<PagedResponseDTO<ClientResponseDTO>>> searchClients(
@@ -134,7 +190,7 @@ public class ClientController {
             @Parameter(description = "Number of items per page")
             @RequestParam(defaultValue = "10") int size) {
         Pageable pageable = PageRequest.of(page, size);
-        PagedResponseDTO<ClientResponseDTO> clients = clientService.searchClients(query, pageable);
+        PagedResponseDTO<ClientResponseDTO> clients = searchService.searchClients(query, pageable);
         return ResponseEntity.ok(ApiResponseDTO.success(clients));
     }
 
@@ -0,0 +1,58 @@
+package com.demo.MoneyMap.controller;
+
+import com.demo.MoneyMap.dto.request.FxRateRequestDTO;
+import com.demo.MoneyMap.dto.response.ApiResponseDTO;
+import com.demo.MoneyMap.dto.response.FxRatesResponseDTO;
+import com.demo.MoneyMap.service.FxRateService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for exchange rates.
+ * Provides endpoints for maintaining the rates used for reporting-currency valuations.
+ */
+@RestController
+@RequestMapping("/api/v1/fx")
+@RequiredArgsConstructor
+@Tag(name = "Exchange Rates", description = "APIs for maintaining exchange rates. " +
+        "Rates are stored against USD and all cross rates are derived from them.")
+public class FxController {
+
+    private final FxRateService fxRateService;
+
+    @GetMapping("/rates")
+    @Operation(
+            summary = "Get exchange rates",
+            description = "Returns the rates the current cross-rate matrix was built from."
+    )
+    @ApiResponse(responseCode = "200", description = "Rates retrieved successfully")
+    public ResponseEntity<ApiResponseDTO<FxRatesResponseDTO>> getRates() {
+        return ResponseEntity.ok(ApiResponseDTO.success(fxRateService.getRates()));
+    }
+
+    @PutMapping("/rates")
+    @Operation(
+            summary = "Update exchange rates",
+            description = "Stores new rates against USD. The cross-rate matrix used for conversions is rebuilt " +
+                    "in the background, so the new rates apply shortly after the response."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Rates stored, matrix rebuild scheduled"),
+            @ApiResponse(responseCode = "400", description = "Invalid rate data")
+    })
+    public ResponseEntity<ApiResponseDTO<Void>> updateRates(
+            @Valid @RequestBody List<@Valid FxRateRequestDTO> rates) {
+        fxRateService.updateRates(rates);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponseDTO.success("Exchange rates updated"));
+    }
+}
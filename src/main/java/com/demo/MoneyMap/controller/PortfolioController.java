@@ -1,10 +1,29 @@
 package com.demo.MoneyMap.controller;
 
+import com.demo.MoneyMap.beans.enums.CostMethod;
+import com.demo.MoneyMap.beans.enums.CurrencyCode;
+import com.demo.MoneyMap.beans.enums.ScrollSort;
 import com.demo.MoneyMap.dto.request.PortfolioRequestDTO;
 import com.demo.MoneyMap.dto.response.ApiResponseDTO;
+import com.demo.MoneyMap.dto.response.CurrencyValuationDTO;
 import com.demo.MoneyMap.dto.response.PagedResponseDTO;
+import com.demo.MoneyMap.dto.response.PortfolioPnlDTO;
 import com.demo.MoneyMap.dto.response.PortfolioResponseDTO;
+import com.demo.MoneyMap.dto.response.PortfolioRiskDTO;
+import com.demo.MoneyMap.dto.response.ReconciliationReportDTO;
+import com.demo.MoneyMap.dto.response.RevaluationProgressDTO;
+import com.demo.MoneyMap.dto.response.RiskRunResultDTO;
+import com.demo.MoneyMap.dto.response.SliceResponseDTO;
+import com.demo.MoneyMap.dto.response.SnapshotRunResultDTO;
+import com.demo.MoneyMap.dto.response.ValuationHistoryDTO;
+import com.demo.MoneyMap.service.CurrencyValuationService;
+import com.demo.MoneyMap.service.PortfolioReconciliationService;
+import com.demo.MoneyMap.service.PortfolioRiskService;
+import com.demo.MoneyMap.service.PortfolioQueryService;
 import com.demo.MoneyMap.service.PortfolioService;
+import com.demo.MoneyMap.service.PositionPnlService;
+import com.demo.MoneyMap.service.RevaluationJobService;
+import com.demo.MoneyMap.service.ValuationSnapshotService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,11 +36,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -36,6 +57,13 @@ import java.util.List;
 public class PortfolioController {
 
     private final PortfolioService portfolioService;
+    private final PortfolioQueryService portfolioQueryService;
+    private final PortfolioReconciliationService portfolioReconciliationService;
+    private final ValuationSnapshotService valuationSnapshotService;
+    private final CurrencyValuationService currencyValuationService;
+    private final PortfolioRiskService portfolioRiskService;
+    private final PositionPnlService positionPnlService;
+    private final RevaluationJobService revaluationJobService;
 
     @PostMapping
     @Operation(
@@ -107,7 +135,31 @@ public class PortfolioController {
                 ? Sort.by(sortBy).descending() 
                 : Sort.by(sortBy).ascending();
         Pageable pageable = PageRequest.of(page, size, sort);
-        PagedResponseDTO<PortfolioResponseDTO> portfolios = portfolioService.getAllPortfolios(pageable);
+        PagedResponseDTO<PortfolioResponseDTO> portfolios = portfolioQueryService.getAllPortfolios(pageable);
+        return ResponseEntity.ok(ApiResponseDTO.success(portfolios));
+    }
+
+    @GetMapping("/scroll")
+    @Operation(
+            summary = "Scroll all portfolios",
+            description = "Retrieves a slice of all portfolios after a cursor, ordered by ID or by name. " +
+                    "Pass the nextCursor of a slice to get the one after it. No total is counted and " +
+                    "deep slices cost the same as the first."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved portfolio slice"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor, cursor issued for another sort, " +
+                    "or size out of range")
+    })
+    public ResponseEntity<ApiResponseDTO<SliceResponseDTO<PortfolioResponseDTO>>> scrollPortfolios(
+            @Parameter(description = "Cursor from the previous slice; omit for the first slice")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of items per slice")
+            @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "Sort key")
+            @RequestParam(defaultValue = "ID") ScrollSort sortBy) {
+        SliceResponseDTO<PortfolioResponseDTO> portfolios =
+                portfolioQueryService.scrollPortfolios(cursor, size, sortBy);
         return ResponseEntity.ok(ApiResponseDTO.success(portfolios));
     }
 
@@ -123,7 +175,7 @@ public class PortfolioController {
     public ResponseEntity<ApiResponseDTO<List<PortfolioResponseDTO>>> getPortfoliosByClientId(
             @Parameter(description = "Client ID", required = true)
             @PathVariable Long clientId) {
-        List<PortfolioResponseDTO> portfolios = portfolioService.getPortfoliosByClientId(clientId);
+        List<PortfolioResponseDTO> portfolios = portfolioQueryService.getPortfoliosByClientId(clientId);
         return ResponseEntity.ok(ApiResponseDTO.success(portfolios));
     }
 
@@ -139,7 +191,7 @@ public class PortfolioController {
     public ResponseEntity<ApiResponseDTO<List<PortfolioResponseDTO>>> getActivePortfoliosByClientId(
             @Parameter(description = "Client ID", required = true)
             @PathVariable Long clientId) {
-        List<PortfolioResponseDTO> portfolios = portfolioService.getActivePortfoliosByClientId(clientId);
+        List<PortfolioResponseDTO> portfolios = portfolioQueryService.getActivePortfoliosByClientId(clientId);
         return ResponseEntity.ok(ApiResponseDTO.success(portfolios));
     }
 
@@ -157,7 +209,7 @@ public class PortfolioController {
             @Parameter(description = "Number of items per page")
             @RequestParam(defaultValue = "10") int size) {
         Pageable pageable = PageRequest.of(page, size);
-        PagedResponseDTO<PortfolioResponseDTO> portfolios = portfolioService.searchPortfolios(query, pageable);
+        PagedResponseDTO<PortfolioResponseDTO> portfolios = portfolioQueryService.searchPortfolios(query, pageable);
         return ResponseEntity.ok(ApiResponseDTO.success(portfolios));
     }
 
@@ -244,6 +296,44 @@ public class PortfolioController {
         return ResponseEntity.ok(ApiResponseDTO.success(totalValue));
     }
 
+    @GetMapping("/{id}/valuation")
+    @Operation(
+            summary = "Get portfolio value in a reporting currency",
+            description = "Converts the value of every asset from its own currency into the reporting currency " +
+                    "(default: the portfolio's currency) using the latest exchange rates."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Valuation calculated successfully"),
+            @ApiResponse(responseCode = "404", description = "Portfolio not found")
+    })
+    public ResponseEntity<ApiResponseDTO<CurrencyValuationDTO>> getPortfolioValuation(
+            @Parameter(description = "Portfolio ID", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "Reporting currency", example = "EUR")
+            @RequestParam(required = false) CurrencyCode currency) {
+        CurrencyValuationDTO valuation = currencyValuationService.getPortfolioValuation(id, currency);
+        return ResponseEntity.ok(ApiResponseDTO.success(valuation));
+    }
+
+    @GetMapping("/client/{clientId}/valuation")
+    @Operation(
+            summary = "Get client value in a reporting currency",
+            description = "Converts the value of all assets in the client's active portfolios into the reporting " +
+                    "currency (default: moneymap.fx.default-reporting-currency) using the latest exchange rates."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Valuation calculated successfully"),
+            @ApiResponse(responseCode = "404", description = "Client not found")
+    })
+    public ResponseEntity<ApiResponseDTO<CurrencyValuationDTO>> getClientValuation(
+            @Parameter(description = "Client ID", required = true)
+            @PathVariable Long clientId,
+            @Parameter(description = "Reporting currency", example = "INR")
+            @RequestParam(required = false) CurrencyCode currency) {
+        CurrencyValuationDTO valuation = currencyValuationService.getClientValuation(clientId, currency);
+        return ResponseEntity.ok(ApiResponseDTO.success(valuation));
+    }
+
     @PostMapping("/{id}/recalculate")
     @Operation(
             summary = "Recalculate portfolio value",
@@ -259,4 +349,177 @@ public class PortfolioController {
         PortfolioResponseDTO portfolio = portfolioService.recalculateTotalValue(id);
         return ResponseEntity.ok(ApiResponseDTO.success(portfolio, "Portfolio value recalculated successfully"));
     }
+
+    @PostMapping("/revaluation")
+    @Operation(
+            summary = "Start a firm-wide revaluation",
+            description = "Recomputes every asset's current value and every portfolio's total value in the " +
+                    "background, by portfolio ID range with a configurable number of partitions in parallel. " +
+                    "Returns the run ID to poll for progress."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Revaluation started"),
+            @ApiResponse(responseCode = "409", description = "A revaluation run is already in progress")
+    })
+    public ResponseEntity<ApiResponseDTO<RevaluationProgressDTO>> startRevaluation() {
+        RevaluationProgressDTO progress = revaluationJobService.startRun();
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponseDTO.success(progress, "Revaluation started"));
+    }
+
+    @PostMapping("/revaluation/{runId}/resume")
+    @Operation(
+            summary = "Resume a revaluation",
+            description = "Continues the unfinished partitions of an interrupted or failed revaluation run " +
+                    "after their last committed chunk."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Revaluation resumed"),
+            @ApiResponse(responseCode = "404", description = "Run not found"),
+            @ApiResponse(responseCode = "409", description = "A revaluation run is already in progress")
+    })
+    public ResponseEntity<ApiResponseDTO<RevaluationProgressDTO>> resumeRevaluation(
+            @Parameter(description = "Run ID", required = true)
+            @PathVariable String runId) {
+        RevaluationProgressDTO progress = revaluationJobService.resumeRun(runId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponseDTO.success(progress, "Revaluation resumed"));
+    }
+
+    @GetMapping("/revaluation/{runId}")
+    @Operation(
+            summary = "Get revaluation progress",
+            description = "Returns the per-partition progress of a revaluation run with portfolios and rows " +
+                    "processed per second."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Progress retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Run not found")
+    })
+    public ResponseEntity<ApiResponseDTO<RevaluationProgressDTO>> getRevaluationProgress(
+            @Parameter(description = "Run ID", required = true)
+            @PathVariable String runId) {
+        RevaluationProgressDTO progress = revaluationJobService.getProgress(runId);
+        return ResponseEntity.ok(ApiResponseDTO.success(progress));
+    }
+
+    @PostMapping("/reconcile")
+    @Operation(
+            summary = "Reconcile portfolio values",
+            description = "Compares every portfolio's incrementally maintained total value with the sum of its " +
+                    "assets and reports drift. Optionally repairs drifted totals."
+    )
+    @ApiResponse(responseCode = "200", description = "Reconciliation completed successfully")
+    public ResponseEntity<ApiResponseDTO<ReconciliationReportDTO>> reconcilePortfolios(
+            @Parameter(description = "Whether to repair drifted totals")
+            @RequestParam(defaultValue = "false") boolean repair) {
+        ReconciliationReportDTO report = portfolioReconciliationService.reconcile(repair);
+        return ResponseEntity.ok(ApiResponseDTO.success(report, "Portfolio reconciliation completed"));
+    }
+
+    @GetMapping("/{id}/history")
+    @Operation(
+            summary = "Get portfolio valuation history",
+            description = "Returns the daily end-of-day valuation snapshots of a portfolio. " +
+                    "Defaults to the last year when no range is given."
+    )
+    @ApiResponse(responseCode = "200", description = "Valuation history retrieved successfully")
+    public ResponseEntity<ApiResponseDTO<ValuationHistoryDTO>> getPortfolioHistory(
+            @Parameter(description = "Portfolio ID", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "Start date (inclusive)", example = "2024-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "End date (inclusive)", example = "2024-12-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        ValuationHistoryDTO history = valuationSnapshotService.getPortfolioHistory(id, from, to);
+        return ResponseEntity.ok(ApiResponseDTO.success(history));
+    }
+
+    @GetMapping("/client/{clientId}/history")
+    @Operation(
+            summary = "Get client valuation history",
+            description = "Returns the daily end-of-day valuation of a client, summed over all of their portfolios. " +
+                    "Defaults to the last year when no range is given."
+    )
+    @ApiResponse(responseCode = "200", description = "Valuation history retrieved successfully")
+    public ResponseEntity<ApiResponseDTO<ValuationHistoryDTO>> getClientHistory(
+            @Parameter(description = "Client ID", required = true)
+            @PathVariable Long clientId,
+            @Parameter(description = "Start date (inclusive)", example = "2024-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "End date (inclusive)", example = "2024-12-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        ValuationHistoryDTO history = valuationSnapshotService.getClientHistory(clientId, from, to);
+        return ResponseEntity.ok(ApiResponseDTO.success(history));
+    }
+
+    @PostMapping("/snapshots")
+    @Operation(
+            summary = "Run valuation snapshot",
+            description = "Snapshots the value of every portfolio for a date (defaults to yesterday). " +
+                    "An interrupted run for the same date resumes from its last committed chunk."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Snapshot run completed successfully"),
+            @ApiResponse(responseCode = "409", description = "A snapshot run is already in progress")
+    })
+    public ResponseEntity<ApiResponseDTO<SnapshotRunResultDTO>> runSnapshot(
+            @Parameter(description = "Snapshot date", example = "2024-06-30")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        SnapshotRunResultDTO result = valuationSnapshotService.runSnapshot(
+                date != null ? date : LocalDate.now().minusDays(1));
+        return ResponseEntity.ok(ApiResponseDTO.success(result, "Valuation snapshot completed"));
+    }
+
+    @GetMapping("/{id}/risk")
+    @Operation(
+            summary = "Get portfolio risk metrics",
+            description = "Returns the portfolio's daily volatility and 95%/99% one-day historical VaR from the " +
+                    "latest risk run, computed from the daily returns of its holdings over a trailing window. " +
+                    "Computed on demand if the portfolio has not been included in a run yet."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Risk metrics retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Portfolio not found")
+    })
+    public ResponseEntity<ApiResponseDTO<PortfolioRiskDTO>> getPortfolioRisk(
+            @Parameter(description = "Portfolio ID", required = true)
+            @PathVariable Long id) {
+        PortfolioRiskDTO risk = portfolioRiskService.getPortfolioRisk(id);
+        return ResponseEntity.ok(ApiResponseDTO.success(risk));
+    }
+
+    @PostMapping("/risk/run")
+    @Operation(
+            summary = "Run firm-wide risk metrics",
+            description = "Computes and stores the risk metrics of every portfolio in parallel and reports " +
+                    "the throughput of the run. Also runs nightly."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Risk run completed successfully"),
+            @ApiResponse(responseCode = "409", description = "A risk run is already in progress")
+    })
+    public ResponseEntity<ApiResponseDTO<RiskRunResultDTO>> runRiskBatch() {
+        RiskRunResultDTO result = portfolioRiskService.runRiskBatch();
+        return ResponseEntity.ok(ApiResponseDTO.success(result, "Risk run completed"));
+    }
+
+    @GetMapping("/{id}/pnl")
+    @Operation(
+            summary = "Get portfolio P&L",
+            description = "Returns the portfolio's cost basis, realized and unrealized P&L and dividend income, " +
+                    "summed over the ledger positions of its assets, using average cost or FIFO."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "P&L retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Portfolio not found")
+    })
+    public ResponseEntity<ApiResponseDTO<PortfolioPnlDTO>> getPortfolioPnl(
+            @Parameter(description = "Portfolio ID", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "Cost method (default: configured method)")
+            @RequestParam(required = false) CostMethod method) {
+        PortfolioPnlDTO pnl = positionPnlService.getPortfolioPnl(id, method);
+        return ResponseEntity.ok(ApiResponseDTO.success(pnl));
+    }
 }
@@ -0,0 +1,90 @@
+package com.demo.MoneyMap.controller;
+
+import com.demo.MoneyMap.dto.request.PriceTickRequestDTO;
+import com.demo.MoneyMap.dto.response.ApiResponseDTO;
+import com.demo.MoneyMap.dto.response.ConflationStatsDTO;
+import com.demo.MoneyMap.dto.response.PriceHistoryResponseDTO;
+import com.demo.MoneyMap.service.PriceHistoryService;
+import com.demo.MoneyMap.service.PriceTickService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * REST Controller for market price feeds.
+ * Provides endpoints for ingesting price ticks and inspecting the price pipeline.
+ */
+@RestController
+@RequestMapping("/api/v1/prices")
+@RequiredArgsConstructor
+@Tag(name = "Market Prices", description = "APIs for ingesting market price ticks. " +
+        "Ticks are conflated per symbol and written to all holdings in periodic batches.")
+public class PriceController {
+
+    private final PriceTickService priceTickService;
+    private final PriceHistoryService priceHistoryService;
+
+    @PostMapping("/ticks")
+    @Operation(
+            summary = "Submit price ticks",
+            description = "Accepts a batch of price ticks. Only the latest price per symbol is written " +
+                    "to holdings at the next scheduled flush."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Ticks accepted"),
+            @ApiResponse(responseCode = "400", description = "Invalid tick data")
+    })
+    public ResponseEntity<ApiResponseDTO<Void>> submitTicks(
+            @Valid @RequestBody List<@Valid PriceTickRequestDTO> ticks) {
+        priceTickService.submitTicks(ticks);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponseDTO.success("Ticks accepted"));
+    }
+
+    @GetMapping("/ticks/stats")
+    @Operation(
+            summary = "Get tick conflation stats",
+            description = "Returns ticks received vs. written (conflation ratio), flush latency and queue depth."
+    )
+    @ApiResponse(responseCode = "200", description = "Stats retrieved successfully")
+    public ResponseEntity<ApiResponseDTO<ConflationStatsDTO>> getTickStats() {
+        return ResponseEntity.ok(ApiResponseDTO.success(priceTickService.getStats()));
+    }
+
+    @GetMapping("/{symbol}")
+    @Operation(
+            summary = "Get price history",
+            description = "Returns the recorded prices of a symbol between 'from' and 'to' (ISO-8601 instants, " +
+                    "default: the last 24 hours). With 'step' (ISO-8601 duration, e.g. PT1M, PT1H, P1D) the series " +
+                    "is downsampled server-side to the closing price of each bucket."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Price history retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid range or step")
+    })
+    public ResponseEntity<ApiResponseDTO<PriceHistoryResponseDTO>> getPriceHistory(
+            @Parameter(description = "Symbol/ticker", required = true)
+            @PathVariable String symbol,
+            @Parameter(description = "Start of the range (inclusive)", example = "2024-01-15T00:00:00Z")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @Parameter(description = "End of the range (inclusive)", example = "2024-01-16T00:00:00Z")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @Parameter(description = "Downsampling bucket width", example = "PT1H")
+            @RequestParam(required = false) String step) {
+        Duration stepDuration = step != null ? Duration.parse(step) : null;
+        PriceHistoryResponseDTO history = priceHistoryService.getPriceHistory(symbol, from, to, stepDuration);
+        return ResponseEntity.ok(ApiResponseDTO.success(history));
+    }
+}
@@ -0,0 +1,81 @@
+package com.demo.MoneyMap.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read-your-writes for replica routing: a caller that has just written keeps reading from
+ * the primary for a short window, so it does not miss its own change on a lagging replica.
+ *
+ * Writing requests are pinned to the primary throughout; a successful one starts the
+ * caller's window. Callers are told apart by the {@value #CALLER_HEADER} header, or by
+ * remote address when it is absent.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String CALLER_HEADER = "X-Client-Session";
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final int PRUNE_EVERY_WRITES = 1024;
+
+    private final long windowMs;
+    private final Map<String, Long> lastWriteAtByCaller = new ConcurrentHashMap<>();
+    private final AtomicInteger writesSincePrune = new AtomicInteger();
+
+    public ReadYourWritesFilter(long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String caller = caller(request);
+        boolean write = WRITE_METHODS.contains(request.getMethod());
+        if (write || wroteRecently(caller)) {
+            ReplicaRoutingContext.pinToPrimary();
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingContext.clear();
+            if (write && response.getStatus() < 400) {
+                recordWrite(caller);
+            }
+        }
+    }
+
+    private boolean wroteRecently(String caller) {
+        Long writtenAt = lastWriteAtByCaller.get(caller);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() - writtenAt <= windowMs) {
+            return true;
+        }
+        lastWriteAtByCaller.remove(caller, writtenAt);
+        return false;
+    }
+
+    private void recordWrite(String caller) {
+        long now = System.currentTimeMillis();
+        lastWriteAtByCaller.put(caller, now);
+        if (writesSincePrune.incrementAndGet() >= PRUNE_EVERY_WRITES) {
+            writesSincePrune.set(0);
+            lastWriteAtByCaller.values().removeIf(writtenAt -> now - writtenAt > windowMs);
+        }
+    }
+
+    private static String caller(HttpServletRequest request) {
+        String session = request.getHeader(CALLER_HEADER);
+        return session != null && !session.isBlank() ? session : request.getRemoteAddr();
+    }
+}
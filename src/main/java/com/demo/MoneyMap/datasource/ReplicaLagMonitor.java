@@ -0,0 +1,98 @@
+package com.demo.MoneyMap.datasource;
+
+import com.demo.MoneyMap.config.SchedulingConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Measures each replica's lag with a heartbeat row and takes lagging replicas out of routing.
+ *
+ * Each probe reads the heartbeat from every replica, then writes a new one on the primary.
+ * A replica holding the beat written by the previous probe is in sync; otherwise its lag is
+ * the time since the beat it holds. A replica without the row, or that cannot be reached,
+ * counts as lagging.
+ *
+ * A replica found in sync stays routable for max-lag after the probe that saw it, so
+ * it is taken out of routing if the probes stop. Probes run on their own scheduler
+ * thread, and must run more often than max-lag.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String READ_SQL = "SELECT beat_at_ms FROM replication_heartbeat WHERE id = 1";
+    private static final String UPDATE_SQL = "UPDATE replication_heartbeat SET beat_at_ms = ? WHERE id = 1";
+    private static final String INSERT_SQL = "INSERT INTO replication_heartbeat (id, beat_at_ms) VALUES (1, ?)";
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final long maxLagMs;
+    private final JdbcTemplate primaryTemplate;
+    private final Map<String, JdbcTemplate> replicaTemplates = new ConcurrentHashMap<>();
+    private final Map<String, Long> lagByReplica = new ConcurrentHashMap<>();
+
+    private volatile long lastBeatMs;
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, long maxLagMs) {
+        this.routingDataSource = routingDataSource;
+        this.maxLagMs = maxLagMs;
+        this.primaryTemplate = new JdbcTemplate(routingDataSource.getPrimary());
+        routingDataSource.getReplicas().forEach((name, dataSource) -> {
+            JdbcTemplate template = new JdbcTemplate(dataSource);
+            template.setQueryTimeout(2);
+            replicaTemplates.put(name, template);
+        });
+    }
+
+    /**
+     * Check every replica against the last beat, then write the next beat.
+     */
+    @Scheduled(fixedDelayString = "${moneymap.datasource.replica.lag-check-interval-ms:1000}",
+            scheduler = SchedulingConfig.REPLICA_PROBE_SCHEDULER)
+    public void probe() {
+        long now = System.currentTimeMillis();
+        replicaTemplates.forEach((name, template) -> check(name, template, now));
+        try {
+            long beat = System.currentTimeMillis();
+            if (primaryTemplate.update(UPDATE_SQL, beat) == 0) {
+                primaryTemplate.update(INSERT_SQL, beat);
+            }
+            lastBeatMs = beat;
+        } catch (RuntimeException e) {
+            log.warn("Could not write replication heartbeat: {}", e.getMessage());
+        }
+    }
+
+    private void check(String name, JdbcTemplate template, long now) {
+        long lag;
+        try {
+            List<Long> beats = template.queryForList(READ_SQL, Long.class);
+            if (beats.isEmpty()) {
+                lag = Long.MAX_VALUE;
+            } else {
+                long replicaBeat = beats.get(0);
+                lag = lastBeatMs > 0 && replicaBeat >= lastBeatMs ? 0 : now - replicaBeat;
+            }
+        } catch (RuntimeException e) {
+            log.debug("Replica {} heartbeat read failed: {}", name, e.getMessage());
+            lag = Long.MAX_VALUE;
+        }
+        lagByReplica.put(name, lag);
+        if (lag <= maxLagMs) {
+            routingDataSource.markHealthy(name, now + maxLagMs);
+        } else {
+            routingDataSource.markLagging(name);
+        }
+    }
+
+    /**
+     * Lag of each replica in milliseconds at the last probe ({@code Long.MAX_VALUE} when unknown).
+     */
+    public Map<String, Long> getLagByReplica() {
+        return Map.copyOf(lagByReplica);
+    }
+}
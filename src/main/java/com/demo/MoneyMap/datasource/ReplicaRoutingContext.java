@@ -0,0 +1,25 @@
+package com.demo.MoneyMap.datasource;
+
+/**
+ * Per-thread routing hint: while pinned, read-only transactions on this thread use the
+ * primary instead of a replica, so a caller reads its own recent writes.
+ */
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        PINNED_TO_PRIMARY.remove();
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PINNED_TO_PRIMARY.get() != null;
+    }
+}
@@ -0,0 +1,137 @@
+package com.demo.MoneyMap.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes connections of read-only transactions to a healthy replica, round robin,
+ * and everything else to the primary.
+ *
+ * The primary is used instead when no transaction is active, when the thread is pinned by
+ * {@link ReplicaRoutingContext} (read-your-writes), or when every replica is lagging. Replicas
+ * start out lagging until the {@link ReplicaLagMonitor} has seen them catch up.
+ *
+ * Must sit behind a LazyConnectionDataSourceProxy: the transaction manager opens its
+ * connection before the read-only flag is bound to the thread, so the physical connection
+ * has to be fetched on first use.
+ *
+ * A healthy mark is only good for a limited time: when the monitor stops confirming a
+ * replica (its probe thread is stuck, say), the replica drops out of routing on its own.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    public static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final Map<String, Long> healthyUntilMs = new ConcurrentHashMap<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private volatile List<String> routable = Collections.emptyList();
+
+    /**
+     * @param primary  the read-write primary
+     * @param replicas the replicas by name, in round-robin order
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+        this.primary = primary;
+        this.replicas = Collections.unmodifiableMap(new LinkedHashMap<>(replicas));
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || ReplicaRoutingContext.isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+        List<String> candidates = routable;
+        if (candidates.isEmpty()) {
+            return PRIMARY;
+        }
+        String replica = candidates.get(Math.floorMod(nextReplica.getAndIncrement(), candidates.size()));
+        Long until = healthyUntilMs.get(replica);
+        if (until == null || until < System.currentTimeMillis()) {
+            log.warn("Replica {} has not been confirmed in sync recently", replica);
+            markLagging(replica);
+            return PRIMARY;
+        }
+        return replica;
+    }
+
+    /**
+     * Let read-only transactions use the replica again, until the given time
+     * unless it is confirmed again before then.
+     */
+    public void markHealthy(String replica, long untilMs) {
+        if (!replicas.containsKey(replica)) {
+            return;
+        }
+        if (healthyUntilMs.put(replica, untilMs) == null) {
+            log.info("Replica {} is in sync; routing reads to it", replica);
+            refreshRoutable();
+        }
+    }
+
+    /**
+     * Send the replica's reads to the primary until it is marked healthy again.
+     */
+    public void markLagging(String replica) {
+        if (healthyUntilMs.remove(replica) != null) {
+            log.warn("Replica {} is lagging or unreachable; routing its reads to the primary", replica);
+            refreshRoutable();
+        }
+    }
+
+    private synchronized void refreshRoutable() {
+        List<String> names = new ArrayList<>();
+        replicas.keySet().stream().filter(healthyUntilMs::containsKey).forEach(names::add);
+        routable = List.copyOf(names);
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Names of the replicas currently receiving reads.
+     */
+    public List<String> getRoutableReplicas() {
+        return routable;
+    }
+
+    /**
+     * Close the replica pools; the primary is managed by whoever supplied it.
+     */
+    @Override
+    public void close() throws IOException {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
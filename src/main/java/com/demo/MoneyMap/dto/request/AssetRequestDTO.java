@@ -1,6 +1,7 @@
 package com.demo.MoneyMap.dto.request;
 
 import com.demo.MoneyMap.beans.enums.AssetType;
+import com.demo.MoneyMap.beans.enums.CurrencyCode;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.*;
 import lombok.*;
@@ -48,6 +49,9 @@ public class AssetRequestDTO {
     @Schema(description = "Current market price per unit", example = "175.50")
     private BigDecimal currentPrice;
 
+    @Schema(description = "Currency the prices are quoted in (default: USD)", example = "USD")
+    private CurrencyCode currency;
+
     @PastOrPresent(message = "Purchase date cannot be in the future")
     @Schema(description = "Date when the asset was purchased", example = "2024-01-15")
     private LocalDate purchaseDate;
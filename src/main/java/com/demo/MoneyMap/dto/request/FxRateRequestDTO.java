@@ -0,0 +1,30 @@
+package com.demo.MoneyMap.dto.request;
+
+import com.demo.MoneyMap.beans.enums.CurrencyCode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for updating the exchange rate of one currency.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Exchange rate of a currency against USD")
+public class FxRateRequestDTO {
+
+    @NotNull(message = "Currency is required")
+    @Schema(description = "Currency code", example = "INR", required = true)
+    private CurrencyCode currency;
+
+    @NotNull(message = "USD rate is required")
+    @DecimalMin(value = "0.0000000001", message = "USD rate must be greater than 0")
+    @Schema(description = "Value of one unit of the currency in USD", example = "0.0120", required = true)
+    private BigDecimal usdRate;
+}
@@ -1,5 +1,6 @@
 package com.demo.MoneyMap.dto.request;
 
+import com.demo.MoneyMap.beans.enums.CurrencyCode;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -29,4 +30,7 @@ public class PortfolioRequestDTO {
     @NotNull(message = "Client ID is required")
     @Schema(description = "ID of the client who owns this portfolio", example = "1", required = true)
     private Long clientId;
+
+    @Schema(description = "Base currency of the portfolio (default: USD)", example = "USD")
+    private CurrencyCode currency;
 }
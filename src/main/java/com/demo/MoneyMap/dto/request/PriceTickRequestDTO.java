@@ -0,0 +1,32 @@
+package com.demo.MoneyMap.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for a single market price tick.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "A market price tick for a symbol")
+public class PriceTickRequestDTO {
+
+    @NotBlank(message = "Symbol is required")
+    @Size(max = 50, message = "Symbol cannot exceed 50 characters")
+    @Schema(description = "Symbol/ticker", example = "BTC", required = true)
+    private String symbol;
+
+    @NotNull(message = "Price is required")
+    @DecimalMin(value = "0.0001", message = "Price must be greater than 0")
+    @Schema(description = "Traded price per unit", example = "64250.00", required = true)
+    private BigDecimal price;
+}
@@ -0,0 +1,29 @@
+package com.demo.MoneyMap.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for a single price update line in a bulk (NDJSON) price feed.
+ * Either assetId or symbol must be supplied; assetId takes precedence.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "One line of a bulk price update. Identify the holding by assetId, " +
+        "or by symbol to reprice every holding of that symbol.")
+public class PriceUpdateRequestDTO {
+
+    @Schema(description = "ID of the asset to reprice", example = "1")
+    private Long assetId;
+
+    @Schema(description = "Symbol/ticker to reprice (used when assetId is absent)", example = "AAPL")
+    private String symbol;
+
+    @Schema(description = "New current market price per unit", example = "175.50", required = true)
+    private BigDecimal price;
+}
@@ -0,0 +1,55 @@
+package com.demo.MoneyMap.dto.request;
+
+import com.demo.MoneyMap.beans.enums.TransactionType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO for recording a transaction against an asset.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Request payload for recording a buy, sell, dividend or transfer against an asset")
+public class TransactionRequestDTO {
+
+    @NotNull(message = "Transaction type is required")
+    @Schema(description = "Type of the transaction: BUY, SELL, DIVIDEND, TRANSFER_IN or TRANSFER_OUT",
+            example = "BUY", required = true)
+    private TransactionType transactionType;
+
+    @DecimalMin(value = "0.00000001", message = "Quantity must be greater than 0")
+    @Digits(integer = 11, fraction = 8, message = "Quantity must have at most 11 integer and 8 decimal digits")
+    @Schema(description = "Units bought, sold or transferred (optional for dividends)", example = "10.0")
+    private BigDecimal quantity;
+
+    @DecimalMin(value = "0.0", message = "Price per unit cannot be negative")
+    @Digits(integer = 15, fraction = 4, message = "Price per unit must have at most 15 integer and 4 decimal digits")
+    @Schema(description = "Price per unit (required except for dividends given as an amount)", example = "150.00")
+    private BigDecimal pricePerUnit;
+
+    @DecimalMin(value = "0.0", message = "Amount cannot be negative")
+    @Digits(integer = 15, fraction = 4, message = "Amount must have at most 15 integer and 4 decimal digits")
+    @Schema(description = "Cash amount of a dividend", example = "24.00")
+    private BigDecimal amount;
+
+    @DecimalMin(value = "0.0", message = "Fees cannot be negative")
+    @Digits(integer = 15, fraction = 4, message = "Fees must have at most 15 integer and 4 decimal digits")
+    @Schema(description = "Fees and commissions paid", example = "1.50")
+    private BigDecimal fees;
+
+    @NotNull(message = "Transaction date is required")
+    @PastOrPresent(message = "Transaction date cannot be in the future")
+    @Schema(description = "Trade date of the transaction", example = "2024-01-15", required = true)
+    private LocalDate transactionDate;
+
+    @Size(max = 500, message = "Notes cannot exceed 500 characters")
+    @Schema(description = "Additional notes about the transaction", example = "Quarterly rebalance")
+    private String notes;
+}
@@ -0,0 +1,57 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Generic envelope for every API response.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Standard API response wrapper")
+public class ApiResponseDTO<T> {
+
+    @Schema(description = "Whether the request succeeded", example = "true")
+    private boolean success;
+
+    @Schema(description = "Human-readable result message", example = "Request completed successfully")
+    private String message;
+
+    @Schema(description = "Response payload")
+    private T data;
+
+    @Schema(description = "When the response was created")
+    @Builder.Default
+    private LocalDateTime timestamp = LocalDateTime.now();
+
+    public static <T> ApiResponseDTO<T> success(T data) {
+        return success(data, "Request completed successfully");
+    }
+
+    public static <T> ApiResponseDTO<T> success(T data, String message) {
+        return ApiResponseDTO.<T>builder()
+                .success(true)
+                .message(message)
+                .data(data)
+                .build();
+    }
+
+    public static ApiResponseDTO<Void> success(String message) {
+        return ApiResponseDTO.<Void>builder()
+                .success(true)
+                .message(message)
+                .build();
+    }
+
+    public static <T> ApiResponseDTO<T> error(String message) {
+        return ApiResponseDTO.<T>builder()
+                .success(false)
+                .message(message)
+                .build();
+    }
+}
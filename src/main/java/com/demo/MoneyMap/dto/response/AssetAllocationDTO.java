@@ -0,0 +1,40 @@
+package com.demo.MoneyMap.dto.response;
+
+import com.demo.MoneyMap.beans.enums.AssetType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for the holdings of one asset type within a portfolio or a client.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Value, cost basis and profit/loss of one asset type, with its share of the total")
+public class AssetAllocationDTO {
+
+    @Schema(description = "Asset type", example = "STOCK")
+    private AssetType assetType;
+
+    @Schema(description = "Current value of the holdings", example = "50000.0000")
+    private BigDecimal currentValue;
+
+    @Schema(description = "Cost basis (purchase price * quantity)", example = "45000.0000")
+    private BigDecimal costBasis;
+
+    @Schema(description = "Profit/loss (current value - cost basis)", example = "5000.0000")
+    private BigDecimal profitLoss;
+
+    @Schema(description = "Profit/loss as a percentage of cost basis", example = "11.1100")
+    private BigDecimal profitLossPercentage;
+
+    @Schema(description = "Number of assets", example = "8")
+    private long assetCount;
+
+    @Schema(description = "Share of the enclosing total value, in percent", example = "33.33")
+    private BigDecimal allocationPercentage;
+}
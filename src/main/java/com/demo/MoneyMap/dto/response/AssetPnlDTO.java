@@ -0,0 +1,65 @@
+package com.demo.MoneyMap.dto.response;
+
+import com.demo.MoneyMap.beans.enums.CostMethod;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO for the ledger-derived position and P&L of an asset.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Position, realized and unrealized P&L of an asset derived from its transaction ledger")
+public class AssetPnlDTO {
+
+    @Schema(description = "Asset ID", example = "1")
+    private Long assetId;
+
+    @Schema(description = "Symbol/ticker of the asset", example = "AAPL")
+    private String symbol;
+
+    @Schema(description = "Cost method the figures are reported with", example = "FIFO")
+    private CostMethod costMethod;
+
+    @Schema(description = "Quantity held according to the ledger", example = "100.0")
+    private BigDecimal quantity;
+
+    @Schema(description = "Cost basis of the open position, fees included", example = "15000.0000")
+    private BigDecimal costBasis;
+
+    @Schema(description = "Average cost per unit of the open position", example = "150.0000")
+    private BigDecimal averageUnitCost;
+
+    @Schema(description = "Price the open position is valued at", example = "175.5000")
+    private BigDecimal currentPrice;
+
+    @Schema(description = "Value of the open position at the current price", example = "17550.0000")
+    private BigDecimal marketValue;
+
+    @Schema(description = "Profit or loss realized by sells, net of fees", example = "420.0000")
+    private BigDecimal realizedProfitLoss;
+
+    @Schema(description = "Profit or loss on the open position", example = "2550.0000")
+    private BigDecimal unrealizedProfitLoss;
+
+    @Schema(description = "Dividend income, net of fees", example = "88.0000")
+    private BigDecimal dividendIncome;
+
+    @Schema(description = "Realized plus unrealized P&L plus dividend income", example = "3058.0000")
+    private BigDecimal totalReturn;
+
+    @Schema(description = "Total fees paid", example = "12.5000")
+    private BigDecimal feesPaid;
+
+    @Schema(description = "Number of transactions applied", example = "14")
+    private Long transactionCount;
+
+    @Schema(description = "Date of the latest transaction", example = "2024-01-15")
+    private LocalDate lastTransactionDate;
+}
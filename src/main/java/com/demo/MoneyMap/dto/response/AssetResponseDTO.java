@@ -1,6 +1,8 @@
 package com.demo.MoneyMap.dto.response;
 
 import com.demo.MoneyMap.beans.enums.AssetType;
+import com.demo.MoneyMap.beans.enums.CostMethod;
+import com.demo.MoneyMap.beans.enums.CurrencyCode;
 import com.demo.MoneyMap.beans.enums.TransactionType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
@@ -52,6 +54,9 @@ public class AssetResponseDTO {
     @Schema(description = "Total current value of the asset", example = "17550.00")
     private BigDecimal currentValue;
 
+    @Schema(description = "Currency the asset's prices and values are quoted in", example = "USD")
+    private CurrencyCode currency;
+
     @Schema(description = "Date when the asset was purchased", example = "2024-01-15")
     private LocalDate purchaseDate;
 
@@ -67,6 +72,29 @@ public class AssetResponseDTO {
     @Schema(description = "Profit or loss percentage", example = "17.00")
     private BigDecimal profitLossPercentage;
 
+    // ============== LEDGER P&L FIELDS ==============
+
+    @Schema(description = "Cost method used for the ledger P&L figures", example = "AVERAGE_COST")
+    private CostMethod costMethod;
+
+    @Schema(description = "Quantity held according to the transaction ledger", example = "100.0")
+    private BigDecimal positionQuantity;
+
+    @Schema(description = "Cost basis of the open position", example = "15000.00")
+    private BigDecimal costBasis;
+
+    @Schema(description = "Profit or loss realized by sells, net of fees", example = "420.00")
+    private BigDecimal realizedProfitLoss;
+
+    @Schema(description = "Profit or loss on the open position at the current price", example = "2550.00")
+    private BigDecimal unrealizedProfitLoss;
+
+    @Schema(description = "Dividend income received, net of fees", example = "88.00")
+    private BigDecimal dividendIncome;
+
+    @Schema(description = "Realized plus unrealized P&L plus dividend income", example = "3058.00")
+    private BigDecimal totalReturn;
+
     @Schema(description = "Additional notes about the asset", example = "Long-term investment")
     private String notes;
 
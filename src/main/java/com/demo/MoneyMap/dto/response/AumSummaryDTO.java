@@ -0,0 +1,43 @@
+package com.demo.MoneyMap.dto.response;
+
+import com.demo.MoneyMap.beans.enums.AssetType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * DTO for firm-wide assets under management.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Firm-wide assets under management, in total and per asset type")
+public class AumSummaryDTO {
+
+    @Schema(description = "Total current value of all assets", example = "15234000.5000")
+    private BigDecimal totalValue;
+
+    @Schema(description = "Number of assets", example = "10250")
+    private long assetCount;
+
+    @Schema(description = "Total current value per asset type")
+    private Map<AssetType, BigDecimal> valueByAssetType;
+
+    @Schema(description = "Number of assets per asset type")
+    private Map<AssetType, Long> countByAssetType;
+
+    @Schema(description = "Whether the figures come from the materialized aggregates (false: computed from the assets table)",
+            example = "true")
+    private boolean materialized;
+
+    @Schema(description = "When the aggregates were last reconciled against the assets table")
+    private LocalDateTime lastReconciledAt;
+
+    @Schema(description = "Number of aggregates corrected by the last reconciliation", example = "0")
+    private int lastDriftCount;
+}
@@ -0,0 +1,45 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO for the outcome of a bulk price update run.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Per-line outcome counts and throughput of a bulk price update")
+public class BulkPriceUpdateResponseDTO {
+
+    @Schema(description = "Number of non-blank lines read from the feed", example = "50000")
+    private long linesRead;
+
+    @Schema(description = "Number of lines applied successfully", example = "49990")
+    private long linesSucceeded;
+
+    @Schema(description = "Number of lines rejected", example = "10")
+    private long linesFailed;
+
+    @Schema(description = "Number of asset rows repriced", example = "52000")
+    private long assetsUpdated;
+
+    @Schema(description = "Number of portfolio totals recalculated", example = "1200")
+    private long portfoliosRecalculated;
+
+    @Schema(description = "Number of chunks committed", example = "50")
+    private int chunksCommitted;
+
+    @Schema(description = "Wall-clock duration of the run in milliseconds", example = "1830")
+    private long elapsedMillis;
+
+    @Schema(description = "Throughput in lines per second", example = "27322.4")
+    private double linesPerSecond;
+
+    @Schema(description = "Rejected lines (truncated to the configured maximum)")
+    private List<PriceUpdateErrorDTO> errors;
+}
@@ -0,0 +1,43 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * DTO exposing the settings and hit/miss/eviction counters of one second-level cache region.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Second-level cache region: settings and counters since startup")
+public class CacheRegionStatsDTO {
+
+    @Schema(description = "Region name", example = "portfolio")
+    private String region;
+
+    @Schema(description = "Whether the region keeps entries", example = "true")
+    private boolean enabled;
+
+    @Schema(description = "Maximum number of entries, 0 for no bound", example = "10000")
+    private long maxSize;
+
+    @Schema(description = "Seconds an entry lives after it is written, 0 for no expiry", example = "600")
+    private long ttlSeconds;
+
+    @Schema(description = "Approximate number of entries held", example = "4210")
+    private long size;
+
+    @Schema(description = "Lookups answered from the region", example = "182340")
+    private long hitCount;
+
+    @Schema(description = "Lookups that went to the database", example = "9120")
+    private long missCount;
+
+    @Schema(description = "hitCount / (hitCount + missCount)", example = "0.95")
+    private double hitRate;
+
+    @Schema(description = "Entries removed for size or expiry (explicit evictions are not counted)", example = "310")
+    private long evictionCount;
+}
@@ -0,0 +1,27 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for a client's assets under management.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Assets under management of one client, across all of their portfolios")
+public class ClientAumDTO {
+
+    @Schema(description = "Client ID", example = "1")
+    private Long clientId;
+
+    @Schema(description = "Total current value of the client's assets", example = "152340.5000")
+    private BigDecimal totalValue;
+
+    @Schema(description = "Number of assets the client holds", example = "42")
+    private long assetCount;
+}
@@ -0,0 +1,47 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO for everything the client dashboard renders, built from one aggregate query.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Client dashboard: totals, allocation by asset type and per-portfolio breakdown. " +
+        "Client totals and allocation cover active portfolios only.")
+public class ClientDashboardDTO {
+
+    @Schema(description = "Client ID", example = "1")
+    private Long clientId;
+
+    @Schema(description = "Client full name", example = "John Doe")
+    private String clientName;
+
+    @Schema(description = "Current value across active portfolios", example = "150000.0000")
+    private BigDecimal totalValue;
+
+    @Schema(description = "Cost basis across active portfolios", example = "135000.0000")
+    private BigDecimal costBasis;
+
+    @Schema(description = "Profit/loss across active portfolios", example = "15000.0000")
+    private BigDecimal profitLoss;
+
+    @Schema(description = "Profit/loss as a percentage of cost basis", example = "11.1100")
+    private BigDecimal profitLossPercentage;
+
+    @Schema(description = "Number of assets in active portfolios", example = "24")
+    private long assetCount;
+
+    @Schema(description = "Allocation across active portfolios by asset type")
+    private List<AssetAllocationDTO> allocations;
+
+    @Schema(description = "Per-portfolio totals and allocation")
+    private List<PortfolioAllocationDTO> portfolios;
+}
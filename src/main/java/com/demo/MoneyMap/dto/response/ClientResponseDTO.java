@@ -3,6 +3,7 @@ package com.demo.MoneyMap.dto.response;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -44,6 +45,9 @@ public class ClientResponseDTO {
     @Schema(description = "Number of portfolios owned by the client", example = "3")
     private Integer portfolioCount;
 
+    @Schema(description = "Total value of the client's portfolios", example = "150000.00")
+    private BigDecimal totalValue;
+
     @Schema(description = "List of portfolio summaries for this client")
     private List<PortfolioSummaryDTO> portfolios;
 
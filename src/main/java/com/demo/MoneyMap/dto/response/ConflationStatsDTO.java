@@ -0,0 +1,48 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO exposing the metrics of the tick conflation buffer.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Tick conflation metrics: ticks received vs. written, flush latency and queue depth")
+public class ConflationStatsDTO {
+
+    @Schema(description = "Total ticks accepted since startup", example = "1250000")
+    private long ticksReceived;
+
+    @Schema(description = "Total symbol prices written to the database since startup", example = "48000")
+    private long ticksWritten;
+
+    @Schema(description = "ticksReceived / ticksWritten", example = "26.04")
+    private double conflationRatio;
+
+    @Schema(description = "Symbols with a pending, not yet flushed price", example = "37")
+    private int queueDepth;
+
+    @Schema(description = "Number of completed flushes", example = "14400")
+    private long flushCount;
+
+    @Schema(description = "Number of flushes that failed and were retried", example = "0")
+    private long failedFlushCount;
+
+    @Schema(description = "Duration of the last flush in milliseconds", example = "12")
+    private long lastFlushMillis;
+
+    @Schema(description = "Longest flush duration in milliseconds", example = "85")
+    private long maxFlushMillis;
+
+    @Schema(description = "Configured flush interval in milliseconds", example = "250")
+    private long flushIntervalMillis;
+
+    @Schema(description = "Timestamp of the last completed flush")
+    private LocalDateTime lastFlushAt;
+}
@@ -0,0 +1,42 @@
+package com.demo.MoneyMap.dto.response;
+
+import com.demo.MoneyMap.beans.enums.CurrencyCode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * DTO for a total value converted into a reporting currency.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Total value in a reporting currency, with the native totals it was converted from")
+public class CurrencyValuationDTO {
+
+    @Schema(description = "ID of the portfolio valued (portfolio valuations only)", example = "1")
+    private Long portfolioId;
+
+    @Schema(description = "ID of the client valued (client valuations only)", example = "1")
+    private Long clientId;
+
+    @Schema(description = "Currency the total is reported in", example = "USD")
+    private CurrencyCode reportingCurrency;
+
+    @Schema(description = "Total value in the reporting currency", example = "152340.5000")
+    private BigDecimal totalValue;
+
+    @Schema(description = "Total value held in each currency, before conversion")
+    private Map<CurrencyCode, BigDecimal> valueByCurrency;
+
+    @Schema(description = "Version of the FX cross-rate matrix used", example = "12")
+    private long fxRatesVersion;
+
+    @Schema(description = "When the FX cross-rate matrix used was built")
+    private Instant fxRatesAsOf;
+}
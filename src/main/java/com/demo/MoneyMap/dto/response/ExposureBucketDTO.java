@@ -0,0 +1,33 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for the value held in one exposure bucket (e.g. a sector, or a sector on an exchange).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Value held in one exposure bucket")
+public class ExposureBucketDTO {
+
+    @Schema(description = "Bucket, e.g. a sector or fund category", example = "Technology")
+    private String group;
+
+    @Schema(description = "Sub-bucket for cross breakdowns, e.g. the exchange", example = "NASDAQ")
+    private String subgroup;
+
+    @Schema(description = "Current value held in the bucket", example = "250000.0000")
+    private BigDecimal totalValue;
+
+    @Schema(description = "Number of holdings in the bucket", example = "120")
+    private long holdingCount;
+
+    @Schema(description = "Share of the asset class total (stocks or funds), in percent", example = "41.50")
+    private BigDecimal percentage;
+}
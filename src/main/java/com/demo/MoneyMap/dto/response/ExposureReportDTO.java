@@ -0,0 +1,61 @@
+package com.demo.MoneyMap.dto.response;
+
+import com.demo.MoneyMap.beans.enums.ExposureScope;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO for stock and mutual fund exposure of the firm, a client or a portfolio.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Stock exposure by sector/exchange and fund exposure by category/risk level. " +
+        "Holdings without a sector, exchange, category or risk level are reported as UNCLASSIFIED.")
+public class ExposureReportDTO {
+
+    @Schema(description = "Level the exposure was computed at", example = "CLIENT")
+    private ExposureScope scope;
+
+    @Schema(description = "Client or portfolio ID (null for the firm)", example = "1")
+    private Long scopeId;
+
+    @Schema(description = "Total value of stock holdings", example = "600000.0000")
+    private BigDecimal stockValue;
+
+    @Schema(description = "Number of stock holdings", example = "300")
+    private long stockHoldingCount;
+
+    @Schema(description = "Stock value per sector")
+    private List<ExposureBucketDTO> bySector;
+
+    @Schema(description = "Stock value per exchange")
+    private List<ExposureBucketDTO> byExchange;
+
+    @Schema(description = "Stock value per sector (group) and exchange (subgroup)")
+    private List<ExposureBucketDTO> bySectorAndExchange;
+
+    @Schema(description = "Total value of mutual fund holdings", example = "400000.0000")
+    private BigDecimal fundValue;
+
+    @Schema(description = "Number of mutual fund holdings", example = "80")
+    private long fundHoldingCount;
+
+    @Schema(description = "Fund value per fund category")
+    private List<ExposureBucketDTO> byFundCategory;
+
+    @Schema(description = "Fund value per risk level")
+    private List<ExposureBucketDTO> byRiskLevel;
+
+    @Schema(description = "Fund value per fund category (group) and risk level (subgroup)")
+    private List<ExposureBucketDTO> byFundCategoryAndRiskLevel;
+
+    @Schema(description = "When the figures were computed; results are cached briefly")
+    private Instant generatedAt;
+}
@@ -0,0 +1,30 @@
+package com.demo.MoneyMap.dto.response;
+
+import com.demo.MoneyMap.beans.enums.CurrencyCode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * DTO exposing the exchange rates currently used for conversions.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Exchange rates in effect, as value of one unit in USD")
+public class FxRatesResponseDTO {
+
+    @Schema(description = "Version of the cross-rate matrix in effect", example = "12")
+    private long version;
+
+    @Schema(description = "When the cross-rate matrix in effect was built")
+    private Instant asOf;
+
+    @Schema(description = "Value of one unit of each currency in USD")
+    private Map<CurrencyCode, BigDecimal> usdRates;
+}
@@ -0,0 +1,65 @@
+package com.demo.MoneyMap.dto.response;
+
+import com.demo.MoneyMap.beans.enums.AssetType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * DTO for one holding in a top movers ranking.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "A ranked holding with its profit/loss and change since the previous close")
+public class MoverDTO {
+
+    @Schema(description = "Rank, starting at 1", example = "1")
+    private int rank;
+
+    @Schema(description = "Asset ID", example = "42")
+    private Long assetId;
+
+    @Schema(description = "Asset name", example = "Apple Inc.")
+    private String name;
+
+    @Schema(description = "Symbol", example = "AAPL")
+    private String symbol;
+
+    @Schema(description = "Asset type", example = "STOCK")
+    private AssetType assetType;
+
+    @Schema(description = "Portfolio ID", example = "1")
+    private Long portfolioId;
+
+    @Schema(description = "Client ID", example = "1")
+    private Long clientId;
+
+    @Schema(description = "Current price", example = "182.5000")
+    private BigDecimal currentPrice;
+
+    @Schema(description = "Previous close the day change is measured from", example = "185.1000")
+    private BigDecimal previousClose;
+
+    @Schema(description = "Current value", example = "18250.0000")
+    private BigDecimal currentValue;
+
+    @Schema(description = "Unrealized profit/loss", example = "2250.0000")
+    private BigDecimal profitLoss;
+
+    @Schema(description = "Unrealized profit/loss in percent of cost basis", example = "14.0625")
+    private BigDecimal profitLossPercentage;
+
+    @Schema(description = "Change in value since the previous close", example = "-260.0000")
+    private BigDecimal dayChange;
+
+    @Schema(description = "Price change since the previous close, in percent", example = "-1.4046")
+    private BigDecimal dayChangePercentage;
+
+    @Schema(description = "When the price was last updated (null if unchanged since load)")
+    private Instant priceUpdatedAt;
+}
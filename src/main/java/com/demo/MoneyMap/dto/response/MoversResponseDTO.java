@@ -0,0 +1,46 @@
+package com.demo.MoneyMap.dto.response;
+
+import com.demo.MoneyMap.beans.enums.RankingDirection;
+import com.demo.MoneyMap.beans.enums.RankingMetric;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO for a top movers ranking with its freshness.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Top holdings by a metric, served from memory. " +
+        "Amounts are in each holding's own currency.")
+public class MoversResponseDTO {
+
+    @Schema(description = "Client the ranking is limited to (null for firm-wide)", example = "1")
+    private Long clientId;
+
+    @Schema(description = "Metric ranked by", example = "DAY_CHANGE_PERCENTAGE")
+    private RankingMetric metric;
+
+    @Schema(description = "Which end of the ranking", example = "LOSERS")
+    private RankingDirection direction;
+
+    @Schema(description = "Holdings in scope that have a value for the metric", example = "10250")
+    private int holdingsConsidered;
+
+    @Schema(description = "When the most recent price change was applied to the ranking")
+    private Instant pricesAsOf;
+
+    @Schema(description = "When holdings were last fully reloaded from the database")
+    private Instant holdingsAsOf;
+
+    @Schema(description = "When this ranking was computed")
+    private Instant generatedAt;
+
+    @Schema(description = "Ranked holdings, best match first")
+    private List<MoverDTO> movers;
+}
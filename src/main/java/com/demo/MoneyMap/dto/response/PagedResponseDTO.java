@@ -0,0 +1,55 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * Generic DTO for one page of a paginated listing.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "One page of a paginated listing")
+public class PagedResponseDTO<T> {
+
+    @Schema(description = "Items on this page")
+    private List<T> content;
+
+    @Schema(description = "Page number (0-indexed)", example = "0")
+    private int pageNumber;
+
+    @Schema(description = "Requested page size", example = "10")
+    private int pageSize;
+
+    @Schema(description = "Total number of items", example = "125")
+    private long totalElements;
+
+    @Schema(description = "Total number of pages", example = "13")
+    private int totalPages;
+
+    @Schema(description = "Whether this is the first page", example = "true")
+    private boolean first;
+
+    @Schema(description = "Whether this is the last page", example = "false")
+    private boolean last;
+
+    /**
+     * Build the DTO from a Spring Data page whose content is already mapped.
+     */
+    public static <T> PagedResponseDTO<T> from(Page<T> page) {
+        return PagedResponseDTO.<T>builder()
+                .content(page.getContent())
+                .pageNumber(page.getNumber())
+                .pageSize(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .first(page.isFirst())
+                .last(page.isLast())
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * DTO for the result of a full P&L recompute over the transaction ledger.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Result of rebuilding every position and open lot from the transaction ledger")
+public class PnlRecomputeResultDTO {
+
+    @Schema(description = "Ledger transactions read", example = "2500000")
+    private long transactionsProcessed;
+
+    @Schema(description = "Assets whose position was rebuilt", example = "120000")
+    private long assetsProcessed;
+
+    @Schema(description = "Assets skipped because their ledger is inconsistent (e.g. sells exceeding the position)",
+            example = "0")
+    private long assetsFailed;
+
+    @Schema(description = "Open FIFO lots written", example = "310000")
+    private long openLots;
+
+    @Schema(description = "Total duration of the run in milliseconds", example = "42000")
+    private long elapsedMillis;
+
+    @Schema(description = "Transactions processed per second", example = "59523.8")
+    private double transactionsPerSecond;
+}
@@ -0,0 +1,49 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO for one portfolio on the client dashboard.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Totals of one portfolio with its allocation by asset type")
+public class PortfolioAllocationDTO {
+
+    @Schema(description = "Portfolio ID", example = "1")
+    private Long portfolioId;
+
+    @Schema(description = "Portfolio name", example = "Growth Portfolio")
+    private String name;
+
+    @Schema(description = "Whether the portfolio is active", example = "true")
+    private Boolean active;
+
+    @Schema(description = "Current value of the portfolio's assets", example = "150000.0000")
+    private BigDecimal currentValue;
+
+    @Schema(description = "Cost basis of the portfolio's assets", example = "135000.0000")
+    private BigDecimal costBasis;
+
+    @Schema(description = "Profit/loss", example = "15000.0000")
+    private BigDecimal profitLoss;
+
+    @Schema(description = "Profit/loss as a percentage of cost basis", example = "11.1100")
+    private BigDecimal profitLossPercentage;
+
+    @Schema(description = "Number of assets", example = "24")
+    private long assetCount;
+
+    @Schema(description = "Share of the client's total value, in percent (0 for inactive portfolios)", example = "100.00")
+    private BigDecimal allocationPercentage;
+
+    @Schema(description = "Allocation of the portfolio by asset type")
+    private List<AssetAllocationDTO> allocations;
+}
@@ -0,0 +1,30 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO describing a portfolio whose recorded total differs from the sum of its assets.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Drift between a portfolio's recorded total value and the sum of its assets")
+public class PortfolioDriftDTO {
+
+    @Schema(description = "Portfolio ID", example = "1")
+    private Long portfolioId;
+
+    @Schema(description = "Total value stored on the portfolio", example = "150000.0000")
+    private BigDecimal recordedTotalValue;
+
+    @Schema(description = "Sum of the current values of the portfolio's assets", example = "150012.5000")
+    private BigDecimal actualTotalValue;
+
+    @Schema(description = "actualTotalValue - recordedTotalValue", example = "12.5000")
+    private BigDecimal drift;
+}
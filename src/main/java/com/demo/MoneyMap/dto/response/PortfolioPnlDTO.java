@@ -0,0 +1,46 @@
+package com.demo.MoneyMap.dto.response;
+
+import com.demo.MoneyMap.beans.enums.CostMethod;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for the ledger-derived P&L of a portfolio.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Realized and unrealized P&L of a portfolio, summed over its assets' ledger positions")
+public class PortfolioPnlDTO {
+
+    @Schema(description = "Portfolio ID", example = "1")
+    private Long portfolioId;
+
+    @Schema(description = "Cost method the figures are reported with", example = "AVERAGE_COST")
+    private CostMethod costMethod;
+
+    @Schema(description = "Number of assets with a ledger position", example = "8")
+    private Long positionCount;
+
+    @Schema(description = "Cost basis of the open positions", example = "120000.0000")
+    private BigDecimal costBasis;
+
+    @Schema(description = "Value of the open positions at current prices", example = "150000.0000")
+    private BigDecimal marketValue;
+
+    @Schema(description = "Profit or loss realized by sells, net of fees", example = "4200.0000")
+    private BigDecimal realizedProfitLoss;
+
+    @Schema(description = "Profit or loss on the open positions", example = "30000.0000")
+    private BigDecimal unrealizedProfitLoss;
+
+    @Schema(description = "Dividend income, net of fees", example = "880.0000")
+    private BigDecimal dividendIncome;
+
+    @Schema(description = "Realized plus unrealized P&L plus dividend income", example = "35080.0000")
+    private BigDecimal totalReturn;
+}
@@ -1,5 +1,6 @@
 package com.demo.MoneyMap.dto.response;
 
+import com.demo.MoneyMap.beans.enums.CurrencyCode;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
@@ -36,6 +37,9 @@ public class PortfolioResponseDTO {
     @Schema(description = "Total value of the portfolio", example = "150000.00")
     private BigDecimal totalValue;
 
+    @Schema(description = "Base currency of the portfolio", example = "USD")
+    private CurrencyCode currency;
+
     @Schema(description = "Whether the portfolio is active", example = "true")
     private Boolean active;
 
@@ -0,0 +1,52 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a portfolio's historical-simulation risk metrics.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Daily volatility and historical Value-at-Risk of a portfolio, from the daily returns " +
+        "of its holdings over a trailing window")
+public class PortfolioRiskDTO {
+
+    @Schema(description = "Portfolio ID", example = "1")
+    private Long portfolioId;
+
+    @Schema(description = "Last day of the return window", example = "2024-01-15")
+    private LocalDate asOfDate;
+
+    @Schema(description = "Number of daily returns (scenarios) in the window", example = "250")
+    private Integer windowDays;
+
+    @Schema(description = "Current value of the portfolio", example = "150000.0000")
+    private BigDecimal portfolioValue;
+
+    @Schema(description = "Value of the holdings with return history; the rest carries no measured risk",
+            example = "140000.0000")
+    private BigDecimal coveredValue;
+
+    @Schema(description = "Standard deviation of daily P&L", example = "1850.2500")
+    private BigDecimal dailyVolatility;
+
+    @Schema(description = "Daily volatility as a percentage of portfolio value", example = "1.2335")
+    private BigDecimal dailyVolatilityPercentage;
+
+    @Schema(description = "One-day 95% historical VaR (loss not exceeded on 95% of days)", example = "2900.0000")
+    private BigDecimal var95;
+
+    @Schema(description = "One-day 99% historical VaR", example = "4700.0000")
+    private BigDecimal var99;
+
+    @Schema(description = "When the metrics were computed")
+    private LocalDateTime computedAt;
+}
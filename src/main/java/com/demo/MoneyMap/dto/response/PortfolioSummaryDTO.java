@@ -30,4 +30,13 @@ public class PortfolioSummaryDTO {
 
     @Schema(description = "Whether the portfolio is active", example = "true")
     private Boolean active;
+
+    @Schema(description = "Profit or loss realized by sells, from the transaction ledger", example = "4200.0000")
+    private BigDecimal realizedProfitLoss;
+
+    @Schema(description = "Profit or loss on the open positions, from the transaction ledger", example = "30000.0000")
+    private BigDecimal unrealizedProfitLoss;
+
+    @Schema(description = "Dividend income, from the transaction ledger", example = "880.0000")
+    private BigDecimal dividendIncome;
 }
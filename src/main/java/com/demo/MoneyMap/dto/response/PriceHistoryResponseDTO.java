@@ -0,0 +1,37 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DTO for a price history range query.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Price history of a symbol over a time range, optionally downsampled")
+public class PriceHistoryResponseDTO {
+
+    @Schema(description = "Symbol/ticker", example = "AAPL")
+    private String symbol;
+
+    @Schema(description = "Start of the range (inclusive)")
+    private Instant from;
+
+    @Schema(description = "End of the range (inclusive)")
+    private Instant to;
+
+    @Schema(description = "Bucket width in milliseconds (null for raw observations)", example = "60000")
+    private Long stepMillis;
+
+    @Schema(description = "Whether the raw series was cut off at the configured maximum number of points")
+    private boolean truncated;
+
+    @Schema(description = "Price points in time order")
+    private List<PricePointDTO> points;
+}
@@ -0,0 +1,25 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * DTO for a single point of a price history series.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "A price observation (or the closing price of a downsampled bucket)")
+public class PricePointDTO {
+
+    @Schema(description = "Time of the observation, or start of the bucket when downsampled")
+    private Instant timestamp;
+
+    @Schema(description = "Price per unit", example = "175.5000")
+    private BigDecimal price;
+}
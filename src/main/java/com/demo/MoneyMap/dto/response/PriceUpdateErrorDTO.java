@@ -0,0 +1,22 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * DTO describing a rejected line of a bulk price update.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "A line of the bulk price feed that could not be applied")
+public class PriceUpdateErrorDTO {
+
+    @Schema(description = "1-based line number in the submitted feed", example = "42")
+    private Long lineNumber;
+
+    @Schema(description = "Reason the line was rejected", example = "Asset not found")
+    private String message;
+}
@@ -0,0 +1,41 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the outcome of a portfolio total value reconciliation run.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Report of a reconciliation of portfolio totals against their assets")
+public class ReconciliationReportDTO {
+
+    @Schema(description = "Number of portfolios checked", example = "12000")
+    private long portfoliosChecked;
+
+    @Schema(description = "Number of portfolios whose total had drifted", example = "3")
+    private int portfoliosDrifted;
+
+    @Schema(description = "Sum of absolute drift across all drifted portfolios", example = "27.1500")
+    private BigDecimal totalAbsoluteDrift;
+
+    @Schema(description = "Whether drifted totals were repaired", example = "true")
+    private boolean repaired;
+
+    @Schema(description = "Duration of the run in milliseconds", example = "420")
+    private long elapsedMillis;
+
+    @Schema(description = "Timestamp when the run completed")
+    private LocalDateTime completedAt;
+
+    @Schema(description = "Drifted portfolios (truncated to the configured maximum)")
+    private List<PortfolioDriftDTO> drifts;
+}
@@ -0,0 +1,32 @@
+package com.demo.MoneyMap.dto.response;
+
+import com.demo.MoneyMap.beans.enums.JobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * DTO for the progress of one partition of a revaluation run.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Progress of one portfolio ID range of a revaluation run")
+public class RevaluationPartitionDTO {
+
+    @Schema(description = "Partition number", example = "3")
+    private int partition;
+
+    @Schema(description = "Last portfolio ID committed in this partition", example = "37500")
+    private Long lastProcessedId;
+
+    @Schema(description = "Inclusive upper portfolio ID of the partition", example = "50000")
+    private Long rangeEnd;
+
+    @Schema(description = "Status of the partition", example = "RUNNING")
+    private JobStatus status;
+
+    @Schema(description = "Portfolios revalued in this partition, across restarts", example = "7500")
+    private long portfoliosProcessed;
+}
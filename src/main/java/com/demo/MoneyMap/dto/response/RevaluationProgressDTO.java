@@ -0,0 +1,71 @@
+package com.demo.MoneyMap.dto.response;
+
+import com.demo.MoneyMap.beans.enums.JobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the progress of a firm-wide revaluation run.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Progress and throughput of a partitioned firm-wide revaluation run")
+public class RevaluationProgressDTO {
+
+    @Schema(description = "Run identifier", example = "rv-20240115183000123")
+    private String runId;
+
+    @Schema(description = "Status of the run", example = "RUNNING")
+    private JobStatus status;
+
+    @Schema(description = "When the run (or its latest resume) started")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "When the run completed")
+    private LocalDateTime completedAt;
+
+    @Schema(description = "Partitions processed concurrently", example = "4")
+    private Integer concurrency;
+
+    @Schema(description = "Number of portfolio ID ranges", example = "16")
+    private int partitionCount;
+
+    @Schema(description = "Partitions completed", example = "9")
+    private int partitionsCompleted;
+
+    @Schema(description = "Partitions that failed and can be resumed", example = "0")
+    private int partitionsFailed;
+
+    @Schema(description = "Portfolios covered by the run (known while the run is held in memory)", example = "200000")
+    private Long portfoliosTotal;
+
+    @Schema(description = "Portfolios revalued so far, across restarts", example = "112500")
+    private long portfoliosProcessed;
+
+    @Schema(description = "Completion percentage", example = "56.25")
+    private Double percentComplete;
+
+    @Schema(description = "Asset rows whose current value changed in this invocation", example = "48211")
+    private long assetsRevalued;
+
+    @Schema(description = "Portfolio rows whose total value changed in this invocation", example = "10577")
+    private long portfoliosUpdated;
+
+    @Schema(description = "Duration of this invocation in milliseconds", example = "21000")
+    private long elapsedMillis;
+
+    @Schema(description = "Portfolios revalued per second in this invocation", example = "5357.1")
+    private double portfoliosPerSecond;
+
+    @Schema(description = "Asset and portfolio rows written per second in this invocation", example = "2799.3")
+    private double rowsPerSecond;
+
+    @Schema(description = "Per-partition progress")
+    private List<RevaluationPartitionDTO> partitions;
+}
@@ -0,0 +1,51 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * DTO for the outcome and throughput of a firm-wide risk run.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Result of a firm-wide risk metrics run")
+public class RiskRunResultDTO {
+
+    @Schema(description = "Last day of the return window", example = "2024-01-15")
+    private LocalDate asOfDate;
+
+    @Schema(description = "Number of daily returns (scenarios) per symbol", example = "250")
+    private int windowDays;
+
+    @Schema(description = "Symbols with usable return history", example = "1800")
+    private int symbolsWithHistory;
+
+    @Schema(description = "Portfolios processed", example = "12000")
+    private long portfoliosProcessed;
+
+    @Schema(description = "Holdings with return history that contributed to the metrics", example = "480000")
+    private long holdingsProcessed;
+
+    @Schema(description = "Fork/join parallelism used", example = "8")
+    private int parallelism;
+
+    @Schema(description = "Time spent loading the return window in milliseconds", example = "350")
+    private long loadMillis;
+
+    @Schema(description = "Time spent in the parallel computation in milliseconds", example = "900")
+    private long computeMillis;
+
+    @Schema(description = "Total duration of the run in milliseconds", example = "4200")
+    private long elapsedMillis;
+
+    @Schema(description = "Portfolios processed per second over the whole run", example = "2857.1")
+    private double portfoliosPerSecond;
+
+    @Schema(description = "Holding x scenario evaluations per second in the parallel computation", example = "1.3E8")
+    private double scenarioEvaluationsPerSecond;
+}
@@ -0,0 +1,31 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Generic DTO for one slice of a cursor-paginated listing.
+ * Unlike PagedResponseDTO it carries no totals, so no COUNT query is run.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "One slice of a cursor-paginated listing")
+public class SliceResponseDTO<T> {
+
+    @Schema(description = "Items in this slice")
+    private List<T> content;
+
+    @Schema(description = "Number of items in this slice", example = "50")
+    private int size;
+
+    @Schema(description = "Whether more items follow", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "Opaque token for the next slice; absent on the last one", example = "MTpJRDo1MDo")
+    private String nextCursor;
+}
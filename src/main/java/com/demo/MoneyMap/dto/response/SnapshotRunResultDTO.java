@@ -0,0 +1,40 @@
+package com.demo.MoneyMap.dto.response;
+
+import com.demo.MoneyMap.beans.enums.JobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * DTO for the outcome of a valuation snapshot run.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Result of an end-of-day valuation snapshot run")
+public class SnapshotRunResultDTO {
+
+    @Schema(description = "Date the snapshot was taken for", example = "2024-01-15")
+    private LocalDate snapshotDate;
+
+    @Schema(description = "Status of the run", example = "COMPLETED")
+    private JobStatus status;
+
+    @Schema(description = "Portfolio ID after which this invocation resumed (0 for a fresh run)", example = "0")
+    private Long resumedAfterPortfolioId;
+
+    @Schema(description = "Portfolios snapshotted by this invocation", example = "12000")
+    private long portfoliosProcessed;
+
+    @Schema(description = "Portfolios snapshotted by the run in total, across restarts", example = "12000")
+    private long totalPortfoliosProcessed;
+
+    @Schema(description = "Chunks committed by this invocation", example = "24")
+    private int chunksCommitted;
+
+    @Schema(description = "Duration of this invocation in milliseconds", example = "5400")
+    private long elapsedMillis;
+}
@@ -0,0 +1,30 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO for the outcome of repricing every holding of a symbol.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Result of applying one quote to all holdings of a symbol")
+public class SymbolPriceUpdateResponseDTO {
+
+    @Schema(description = "Symbol that was repriced", example = "BTC")
+    private String symbol;
+
+    @Schema(description = "Price applied to every holding", example = "64250.00")
+    private BigDecimal price;
+
+    @Schema(description = "Number of holdings repriced", example = "3120")
+    private int holdingsUpdated;
+
+    @Schema(description = "Number of portfolio totals adjusted", example = "2987")
+    private int portfoliosAdjusted;
+}
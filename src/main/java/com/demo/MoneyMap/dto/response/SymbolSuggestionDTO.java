@@ -0,0 +1,29 @@
+package com.demo.MoneyMap.dto.response;
+
+import com.demo.MoneyMap.beans.enums.AssetType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * DTO for one symbol autocomplete suggestion.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "A symbol suggestion with its most common name and how widely it is held")
+public class SymbolSuggestionDTO {
+
+    @Schema(description = "Symbol (absent for assets without one)", example = "AAPL")
+    private String symbol;
+
+    @Schema(description = "Most common asset name for the symbol", example = "Apple Inc.")
+    private String name;
+
+    @Schema(description = "Most common asset type for the symbol", example = "STOCK")
+    private AssetType assetType;
+
+    @Schema(description = "Number of holdings of the symbol across the firm", example = "1284")
+    private int holderCount;
+}
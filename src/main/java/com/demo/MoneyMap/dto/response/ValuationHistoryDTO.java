@@ -0,0 +1,34 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for a valuation time series of a portfolio or a client.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Daily valuation history of a portfolio, or of all portfolios of a client")
+public class ValuationHistoryDTO {
+
+    @Schema(description = "Portfolio ID (portfolio history only)", example = "1")
+    private Long portfolioId;
+
+    @Schema(description = "Client ID (client rollup only)", example = "1")
+    private Long clientId;
+
+    @Schema(description = "Start of the range (inclusive)", example = "2024-01-01")
+    private LocalDate from;
+
+    @Schema(description = "End of the range (inclusive)", example = "2024-01-31")
+    private LocalDate to;
+
+    @Schema(description = "Daily valuations in date order")
+    private List<ValuationPointDTO> points;
+}
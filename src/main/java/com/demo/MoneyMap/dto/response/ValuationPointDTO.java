@@ -0,0 +1,36 @@
+package com.demo.MoneyMap.dto.response;
+
+import com.demo.MoneyMap.beans.enums.AssetType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * DTO for one day of valuation history.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "End-of-day valuation")
+public class ValuationPointDTO {
+
+    @Schema(description = "Valuation date", example = "2024-01-15")
+    private LocalDate date;
+
+    @Schema(description = "Total value at end of day", example = "150000.0000")
+    private BigDecimal totalValue;
+
+    @Schema(description = "Cost basis (purchase price x quantity) at end of day", example = "120000.0000")
+    private BigDecimal costBasis;
+
+    @Schema(description = "Unrealized profit or loss (totalValue - costBasis)", example = "30000.0000")
+    private BigDecimal profitLoss;
+
+    @Schema(description = "Value broken down by asset type")
+    private Map<AssetType, BigDecimal> valueByAssetType;
+}
@@ -0,0 +1,31 @@
+package com.demo.MoneyMap.event;
+
+import com.demo.MoneyMap.beans.enums.AssetType;
+
+import java.math.BigDecimal;
+
+/**
+ * Application event published after an Asset row is created, updated or deleted
+ * through JPA. In-memory indexes and aggregates subscribe to it to stay in sync with the database.
+ *
+ * @param changeType          what happened to the asset
+ * @param assetId             the asset ID
+ * @param assetType           the asset type
+ * @param portfolioId         the owning portfolio ID (may be null for detached deletes)
+ * @param previousPortfolioId the owning portfolio ID before the change (null on create)
+ * @param symbol              the symbol after the change (null on delete)
+ * @param previousSymbol      the symbol before the change (null on create)
+ * @param currentValue        the current value after the change (null on delete)
+ * @param previousValue       the current value before the change (null on create)
+ */
+public record AssetChangedEvent(ChangeType changeType, Long assetId, AssetType assetType,
+                                Long portfolioId, Long previousPortfolioId,
+                                String symbol, String previousSymbol,
+                                BigDecimal currentValue, BigDecimal previousValue) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -0,0 +1,17 @@
+package com.demo.MoneyMap.event;
+
+/**
+ * Application event published after a Client row is created, updated or deleted
+ * through JPA. In-memory indexes subscribe to it to stay in sync with the database.
+ *
+ * @param changeType what happened to the client
+ * @param clientId   the client ID
+ */
+public record ClientChangedEvent(ChangeType changeType, Long clientId) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -0,0 +1,15 @@
+package com.demo.MoneyMap.event;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Application event published when a new market price has been applied for a symbol,
+ * whether through a single asset update, a symbol fan-out or a bulk feed.
+ *
+ * @param symbol    the symbol (upper case)
+ * @param price     the new price per unit
+ * @param timestamp when the price was applied
+ */
+public record SymbolPriceChangedEvent(String symbol, BigDecimal price, Instant timestamp) {
+}
@@ -0,0 +1,130 @@
+package com.demo.MoneyMap.fx;
+
+import com.demo.MoneyMap.beans.enums.CurrencyCode;
+import com.demo.MoneyMap.valuation.FixedPointValuation;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of every cross rate between the supported currencies.
+ * Rates are longs with 8 decimal places in a flat array indexed by
+ * {@code from.ordinal() * n + to.ordinal()}, so a conversion inside an aggregation
+ * loop is one array read and one fixed-point multiply. A new snapshot is built
+ * whenever rates change and published by swapping the reference.
+ */
+public final class FxRateMatrix {
+
+    public static final int RATE_SCALE = 8;
+
+    private static final CurrencyCode[] CURRENCIES = CurrencyCode.values();
+    private static final int SIZE = CURRENCIES.length;
+    private static final long NO_RATE = 0L;
+    private static final MathContext CROSS_RATE_CONTEXT = new MathContext(24, RoundingMode.HALF_EVEN);
+
+    public static final FxRateMatrix EMPTY = build(Map.of(), 0, Instant.EPOCH);
+
+    private final long[] scaledRates;
+    private final Map<CurrencyCode, BigDecimal> usdRates;
+    private final long version;
+    private final Instant asOf;
+
+    private FxRateMatrix(long[] scaledRates, Map<CurrencyCode, BigDecimal> usdRates, long version, Instant asOf) {
+        this.scaledRates = scaledRates;
+        this.usdRates = usdRates;
+        this.version = version;
+        this.asOf = asOf;
+    }
+
+    /**
+     * Precompute all cross rates from per-currency USD rates:
+     * rate(from, to) = usdRate(from) / usdRate(to).
+     */
+    public static FxRateMatrix build(Map<CurrencyCode, BigDecimal> usdRates, long version, Instant asOf) {
+        Map<CurrencyCode, BigDecimal> rates = new EnumMap<>(CurrencyCode.class);
+        rates.putAll(usdRates);
+        rates.put(CurrencyCode.USD, BigDecimal.ONE);
+
+        long[] scaledRates = new long[SIZE * SIZE];
+        for (CurrencyCode from : CURRENCIES) {
+            BigDecimal fromUsd = rates.get(from);
+            for (CurrencyCode to : CURRENCIES) {
+                BigDecimal toUsd = rates.get(to);
+                int index = from.ordinal() * SIZE + to.ordinal();
+                if (from == to) {
+                    scaledRates[index] = FixedPointValuation.toScaled(BigDecimal.ONE, RATE_SCALE);
+                } else if (fromUsd != null && toUsd != null && toUsd.signum() > 0) {
+                    scaledRates[index] = fromUsd.divide(toUsd, CROSS_RATE_CONTEXT)
+                            .setScale(RATE_SCALE, RoundingMode.HALF_UP)
+                            .unscaledValue()
+                            .longValueExact();
+                } else {
+                    scaledRates[index] = NO_RATE;
+                }
+            }
+        }
+        return new FxRateMatrix(scaledRates, Collections.unmodifiableMap(rates), version, asOf);
+    }
+
+    public boolean hasRate(CurrencyCode from, CurrencyCode to) {
+        return scaledRates[from.ordinal() * SIZE + to.ordinal()] != NO_RATE;
+    }
+
+    /**
+     * Cross rate with 8 decimal places.
+     */
+    public BigDecimal getRate(CurrencyCode from, CurrencyCode to) {
+        return BigDecimal.valueOf(scaledRate(from, to), RATE_SCALE);
+    }
+
+    /**
+     * Convert an amount, rounded HALF_UP to 4 decimal places.
+     *
+     * @throws IllegalStateException if no rate is known for the pair
+     */
+    public BigDecimal convert(BigDecimal amount, CurrencyCode from, CurrencyCode to) {
+        if (amount == null || from == to) {
+            return amount;
+        }
+        long rate = scaledRate(from, to);
+        long scaledAmount = FixedPointValuation.toScaled(amount, FixedPointValuation.VALUE_SCALE);
+        if (scaledAmount != FixedPointValuation.NOT_REPRESENTABLE) {
+            try {
+                return BigDecimal.valueOf(FixedPointValuation.multiplyScaled(rate, scaledAmount),
+                        FixedPointValuation.VALUE_SCALE);
+            } catch (ArithmeticException overflow) {
+                // fall back to BigDecimal
+            }
+        }
+        return amount.multiply(BigDecimal.valueOf(rate, RATE_SCALE))
+                .setScale(FixedPointValuation.VALUE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Per-currency USD rates the matrix was built from.
+     */
+    public Map<CurrencyCode, BigDecimal> getUsdRates() {
+        return usdRates;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getAsOf() {
+        return asOf;
+    }
+
+    private long scaledRate(CurrencyCode from, CurrencyCode to) {
+        long rate = scaledRates[from.ordinal() * SIZE + to.ordinal()];
+        if (rate == NO_RATE) {
+            throw new IllegalStateException("No FX rate available for " + from + "/" + to);
+        }
+        return rate;
+    }
+}
@@ -0,0 +1,129 @@
+package com.demo.MoneyMap.index;
+
+import com.demo.MoneyMap.event.AssetChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of symbol to holding (asset) IDs.
+ * Built from the assets table at startup and kept in sync from AssetChangedEvents
+ * once the originating transaction commits.
+ *
+ * Symbols are normalized to upper case, matching the case-insensitive lookups
+ * used elsewhere (e.g. findBySymbolIgnoreCase).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SymbolHoldingIndex {
+
+    private static final String LOAD_SQL = "SELECT id, symbol FROM assets WHERE symbol IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<String, Set<Long>> holdingsBySymbol = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    /**
+     * Build the index from the database once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        holdingsBySymbol.clear();
+        jdbcTemplate.query(LOAD_SQL, rs -> {
+            add(rs.getString("symbol"), rs.getLong("id"));
+        });
+        ready = true;
+        log.info("Symbol holding index built: {} symbols in {} ms",
+                holdingsBySymbol.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Keep the index in sync with committed asset changes.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssetChanged(AssetChangedEvent event) {
+        switch (event.changeType()) {
+            case CREATED -> add(event.symbol(), event.assetId());
+            case UPDATED -> {
+                remove(event.previousSymbol(), event.assetId());
+                add(event.symbol(), event.assetId());
+            }
+            case DELETED -> remove(event.previousSymbol(), event.assetId());
+        }
+    }
+
+    /**
+     * Whether the initial build has completed.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Get the IDs of all holdings of a symbol (read-only view).
+     */
+    public Set<Long> getHoldingIds(String symbol) {
+        String key = normalize(symbol);
+        if (key == null) {
+            return Collections.emptySet();
+        }
+        Set<Long> ids = holdingsBySymbol.get(key);
+        return ids != null ? Collections.unmodifiableSet(ids) : Collections.emptySet();
+    }
+
+    /**
+     * Get the number of holdings of a symbol.
+     */
+    public int getHoldingCount(String symbol) {
+        String key = normalize(symbol);
+        Set<Long> ids = key != null ? holdingsBySymbol.get(key) : null;
+        return ids != null ? ids.size() : 0;
+    }
+
+    /**
+     * Get the number of distinct symbols currently held.
+     */
+    public int getSymbolCount() {
+        return holdingsBySymbol.size();
+    }
+
+    private void add(String symbol, Long assetId) {
+        String key = normalize(symbol);
+        if (key == null || assetId == null) {
+            return;
+        }
+        holdingsBySymbol.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(assetId);
+    }
+
+    private void remove(String symbol, Long assetId) {
+        String key = normalize(symbol);
+        if (key == null || assetId == null) {
+            return;
+        }
+        holdingsBySymbol.computeIfPresent(key, (k, ids) -> {
+            ids.remove(assetId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    public static String normalize(String symbol) {
+        if (symbol == null || symbol.isBlank()) {
+            return null;
+        }
+        return symbol.trim().toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,63 @@
+package com.demo.MoneyMap.listener;
+
+import com.demo.MoneyMap.beans.Asset;
+import com.demo.MoneyMap.event.AssetChangedEvent;
+import com.demo.MoneyMap.event.AssetChangedEvent.ChangeType;
+import com.demo.MoneyMap.event.SymbolPriceChangedEvent;
+import com.demo.MoneyMap.index.SymbolHoldingIndex;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * JPA entity listener that turns Asset lifecycle callbacks into AssetChangedEvents.
+ * Runs before the entity's own callbacks, so the persisted-state snapshot on the
+ * Asset still holds the values from before the change.
+ */
+@Component
+@RequiredArgsConstructor
+public class AssetEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void afterCreate(Asset asset) {
+        eventPublisher.publishEvent(new AssetChangedEvent(ChangeType.CREATED, asset.getId(), asset.getType(),
+                portfolioId(asset), null, asset.getSymbol(), null, asset.getCurrentValue(), null));
+    }
+
+    @PostUpdate
+    public void afterUpdate(Asset asset) {
+        eventPublisher.publishEvent(new AssetChangedEvent(ChangeType.UPDATED, asset.getId(), asset.getType(),
+                portfolioId(asset), asset.getPersistedPortfolioId(), asset.getSymbol(), asset.getPersistedSymbol(),
+                asset.getCurrentValue(), asset.getPersistedCurrentValue()));
+        publishPriceChange(asset);
+    }
+
+    @PostRemove
+    public void afterDelete(Asset asset) {
+        eventPublisher.publishEvent(new AssetChangedEvent(ChangeType.DELETED, asset.getId(), asset.getType(),
+                portfolioId(asset), asset.getPersistedPortfolioId(), null, asset.getPersistedSymbol(),
+                null, asset.getPersistedCurrentValue()));
+    }
+
+    private void publishPriceChange(Asset asset) {
+        String symbol = SymbolHoldingIndex.normalize(asset.getSymbol());
+        if (symbol == null || asset.getCurrentPrice() == null) {
+            return;
+        }
+        if (asset.getPersistedCurrentPrice() == null
+                || asset.getCurrentPrice().compareTo(asset.getPersistedCurrentPrice()) != 0) {
+            eventPublisher.publishEvent(new SymbolPriceChangedEvent(symbol, asset.getCurrentPrice(), Instant.now()));
+        }
+    }
+
+    private Long portfolioId(Asset asset) {
+        return asset.getPortfolio() != null ? asset.getPortfolio().getId() : null;
+    }
+}
@@ -0,0 +1,36 @@
+package com.demo.MoneyMap.listener;
+
+import com.demo.MoneyMap.beans.Client;
+import com.demo.MoneyMap.event.ClientChangedEvent;
+import com.demo.MoneyMap.event.ClientChangedEvent.ChangeType;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that turns Client lifecycle callbacks into ClientChangedEvents.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClientEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void afterCreate(Client client) {
+        eventPublisher.publishEvent(new ClientChangedEvent(ChangeType.CREATED, client.getId()));
+    }
+
+    @PostUpdate
+    public void afterUpdate(Client client) {
+        eventPublisher.publishEvent(new ClientChangedEvent(ChangeType.UPDATED, client.getId()));
+    }
+
+    @PostRemove
+    public void afterDelete(Client client) {
+        eventPublisher.publishEvent(new ClientChangedEvent(ChangeType.DELETED, client.getId()));
+    }
+}
@@ -0,0 +1,187 @@
+package com.demo.MoneyMap.listener;
+
+import com.demo.MoneyMap.beans.Asset;
+import com.demo.MoneyMap.beans.Portfolio;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps portfolios.total_value in step with its assets through SQL increments.
+ *
+ * The Portfolio entity never writes the total (the column is not updatable): a
+ * flushed read-modify-write of a cached or long-lived Portfolio would put a stale
+ * total back over the increments of the price and revaluation jobs. Instead every
+ * asset row Hibernate inserts, updates or deletes contributes the change in its
+ * current_value, taken from the flushed state, to its portfolio. The changes are
+ * summed per portfolio and applied with one batched
+ * {@code UPDATE ... SET total_value = total_value + ?} after the transaction's last
+ * flush, then the touched portfolios are evicted from the second-level cache.
+ * Nothing depends on Asset setters, so assets built by builders and constructors
+ * count like any other.
+ *
+ * Registered with every session factory through META-INF/services.
+ */
+public class PortfolioTotalListener implements Integrator, PostInsertEventListener, PostUpdateEventListener,
+        PostDeleteEventListener {
+
+    static final String APPLY_DELTA_SQL =
+            "UPDATE portfolios SET total_value = COALESCE(total_value, 0) + ? WHERE id = ?";
+
+    private final Map<SharedSessionContractImplementor, PendingDeltas> pendingBySession = new ConcurrentHashMap<>();
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                          SessionFactoryImplementor sessionFactory) {
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class);
+        // Prepended so the old state is read before Asset's callbacks refresh its persisted snapshot
+        registry.prependListeners(EventType.POST_INSERT, this);
+        registry.prependListeners(EventType.POST_UPDATE, this);
+        registry.prependListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Asset asset) {
+            add(event.getSession(), portfolioId(asset.getPortfolio()), asset.getCurrentValue());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof Asset asset)) {
+            return;
+        }
+        Object[] oldState = event.getOldState();
+        Long oldPortfolioId = oldState != null
+                ? portfolioId((Portfolio) oldState[index(event.getPersister(), "portfolio")])
+                : asset.getPersistedPortfolioId();
+        BigDecimal oldValue = oldState != null
+                ? (BigDecimal) oldState[index(event.getPersister(), "currentValue")]
+                : asset.getPersistedCurrentValue();
+        Long newPortfolioId = portfolioId(asset.getPortfolio());
+        BigDecimal newValue = asset.getCurrentValue();
+
+        if (oldPortfolioId != null && !oldPortfolioId.equals(newPortfolioId)) {
+            add(event.getSession(), oldPortfolioId, negate(oldValue));
+            add(event.getSession(), newPortfolioId, newValue);
+        } else if (newValue != null) {
+            add(event.getSession(), newPortfolioId, oldValue != null ? newValue.subtract(oldValue) : newValue);
+        } else {
+            add(event.getSession(), newPortfolioId, negate(oldValue));
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        // The deleted state holds the current values, which orphans removed from a
+        // portfolio no longer point at; the persisted snapshot has the row as stored
+        if (event.getEntity() instanceof Asset asset) {
+            add(event.getSession(), asset.getPersistedPortfolioId(), negate(asset.getPersistedCurrentValue()));
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory,
+                             SessionFactoryServiceRegistry serviceRegistry) {
+        pendingBySession.clear();
+    }
+
+    private void add(EventSource session, Long portfolioId, BigDecimal delta) {
+        if (portfolioId == null || delta == null || delta.signum() == 0) {
+            return;
+        }
+        pendingBySession.computeIfAbsent(session, key -> register(session)).add(portfolioId, delta);
+    }
+
+    /**
+     * The first change in a transaction registers the processes that apply the
+     * deltas before commit and forget them (and evict again) once it completes.
+     */
+    private PendingDeltas register(EventSource session) {
+        PendingDeltas pending = new PendingDeltas();
+        session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) s -> pending.apply(s));
+        session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, s) -> {
+            pendingBySession.remove(session);
+            if (success) {
+                pending.evict(s.getFactory());
+            }
+        });
+        return pending;
+    }
+
+    private static int index(EntityPersister persister, String property) {
+        return persister.getEntityMetamodel().getPropertyIndex(property);
+    }
+
+    private static Long portfolioId(Portfolio portfolio) {
+        // Reading the ID of a lazy proxy does not initialize it
+        return portfolio != null ? portfolio.getId() : null;
+    }
+
+    private static BigDecimal negate(BigDecimal value) {
+        return value != null ? value.negate() : null;
+    }
+
+    /**
+     * Net change per portfolio for one transaction, applied in ID order so
+     * concurrent transactions lock the rows in the same order.
+     */
+    private static final class PendingDeltas {
+
+        private final Map<Long, BigDecimal> deltas = new TreeMap<>();
+
+        private synchronized void add(Long portfolioId, BigDecimal delta) {
+            deltas.merge(portfolioId, delta, BigDecimal::add);
+        }
+
+        private synchronized void apply(SharedSessionContractImplementor session) {
+            deltas.values().removeIf(delta -> delta.signum() == 0);
+            if (deltas.isEmpty()) {
+                return;
+            }
+            session.doWork(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(APPLY_DELTA_SQL)) {
+                    for (Map.Entry<Long, BigDecimal> entry : deltas.entrySet()) {
+                        statement.setBigDecimal(1, entry.getValue());
+                        statement.setLong(2, entry.getKey());
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+            });
+            deltas.keySet().forEach(id -> session.getFactory().getCache().evictEntityData(Portfolio.class, id));
+        }
+
+        // Runs after the entity actions' own cache updates, which carry the stale total
+        private synchronized void evict(SessionFactoryImplementor sessionFactory) {
+            deltas.keySet().forEach(id -> sessionFactory.getCache().evictEntityData(Portfolio.class, id));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.demo.MoneyMap.mapper;
+
+import com.demo.MoneyMap.beans.Asset;
+import com.demo.MoneyMap.dto.request.AssetRequestDTO;
+import com.demo.MoneyMap.dto.response.AssetResponseDTO;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Per-subclass mapping behaviour for Asset, computed once per concrete class.
+ * Replaces instanceof chains: the mapper looks the descriptor up by class and
+ * lets it write or read the subtype-specific fields.
+ */
+final class AssetDescriptor {
+
+    static final AssetDescriptor NONE = new AssetDescriptor((asset, builder) -> { }, (dto, asset) -> { });
+
+    private final BiConsumer<Asset, AssetResponseDTO.AssetResponseDTOBuilder> responseWriter;
+    private final BiConsumer<AssetRequestDTO, Asset> entityUpdater;
+
+    private AssetDescriptor(BiConsumer<Asset, AssetResponseDTO.AssetResponseDTOBuilder> responseWriter,
+                            BiConsumer<AssetRequestDTO, Asset> entityUpdater) {
+        this.responseWriter = responseWriter;
+        this.entityUpdater = entityUpdater;
+    }
+
+    static <T extends Asset> AssetDescriptor of(Class<T> subtype,
+                                                BiConsumer<T, AssetResponseDTO.AssetResponseDTOBuilder> responseWriter,
+                                                BiConsumer<AssetRequestDTO, T> entityUpdater) {
+        return new AssetDescriptor(
+                (asset, builder) -> responseWriter.accept(subtype.cast(asset), builder),
+                (dto, asset) -> entityUpdater.accept(dto, subtype.cast(asset)));
+    }
+
+    void writeResponse(Asset asset, AssetResponseDTO.AssetResponseDTOBuilder builder) {
+        responseWriter.accept(asset, builder);
+    }
+
+    void updateEntity(AssetRequestDTO dto, Asset asset) {
+        entityUpdater.accept(dto, asset);
+    }
+}
@@ -3,17 +3,119 @@ package com.demo.MoneyMap.mapper;
 import com.demo.MoneyMap.dto.request.AssetRequestDTO;
 import com.demo.MoneyMap.dto.response.AssetResponseDTO;
 import com.demo.MoneyMap.beans.*;
+import com.demo.MoneyMap.beans.enums.AssetType;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+
 /**
  * Mapper class for Asset entity and DTOs.
  * Handles conversions between Asset entity (and its subtypes) and DTOs.
  * 
  * Demonstrates polymorphism - can work with any Asset subtype.
+ * Subtype-specific fields are handled by an AssetDescriptor resolved once per
+ * concrete class through a ClassValue. Lazy proxies extend the abstract Asset,
+ * not the concrete type, so entities are unproxied before the lookup.
  */
 @Component
 public class AssetMapper {
 
+    private static final Map<Class<? extends Asset>, AssetDescriptor> REGISTERED = Map.of(
+            StockAsset.class, AssetDescriptor.of(StockAsset.class,
+                    (stock, builder) -> builder.exchange(stock.getExchange())
+                            .sector(stock.getSector())
+                            .dividendYield(stock.getDividendYield())
+                            .fractionalAllowed(stock.getFractionalAllowed()),
+                    (dto, stock) -> {
+                        if (dto.getExchange() != null) stock.setExchange(dto.getExchange());
+                        if (dto.getSector() != null) stock.setSector(dto.getSector());
+                        if (dto.getDividendYield() != null) stock.setDividendYield(dto.getDividendYield());
+                        if (dto.getFractionalAllowed() != null) stock.setFractionalAllowed(dto.getFractionalAllowed());
+                    }),
+            CryptoAsset.class, AssetDescriptor.of(CryptoAsset.class,
+                    (crypto, builder) -> builder.blockchainNetwork(crypto.getBlockchainNetwork())
+                            .walletAddress(crypto.getWalletAddress())
+                            .stakingEnabled(crypto.getStakingEnabled())
+                            .stakingApy(crypto.getStakingApy()),
+                    (dto, crypto) -> {
+                        if (dto.getBlockchainNetwork() != null) crypto.setBlockchainNetwork(dto.getBlockchainNetwork());
+                        if (dto.getWalletAddress() != null) crypto.setWalletAddress(dto.getWalletAddress());
+                        if (dto.getStakingEnabled() != null) crypto.setStakingEnabled(dto.getStakingEnabled());
+                        if (dto.getStakingApy() != null) crypto.setStakingApy(dto.getStakingApy());
+                    }),
+            GoldAsset.class, AssetDescriptor.of(GoldAsset.class,
+                    (gold, builder) -> builder.goldForm(gold.getGoldForm())
+                            .purity(gold.getPurity())
+                            .weightUnit(gold.getWeightUnit())
+                            .storageLocation(gold.getStorageLocation())
+                            .isPhysical(gold.getIsPhysical()),
+                    (dto, gold) -> {
+                        if (dto.getGoldForm() != null) gold.setGoldForm(dto.getGoldForm());
+                        if (dto.getPurity() != null) gold.setPurity(dto.getPurity());
+                        if (dto.getWeightUnit() != null) gold.setWeightUnit(dto.getWeightUnit());
+                        if (dto.getStorageLocation() != null) gold.setStorageLocation(dto.getStorageLocation());
+                        if (dto.getIsPhysical() != null) gold.setIsPhysical(dto.getIsPhysical());
+                    }),
+            MutualFundAsset.class, AssetDescriptor.of(MutualFundAsset.class,
+                    (fund, builder) -> builder.fundCategory(fund.getFundCategory())
+                            .amcName(fund.getAmcName())
+                            .planType(fund.getPlanType())
+                            .expenseRatio(fund.getExpenseRatio())
+                            .navDate(fund.getNavDate())
+                            .riskLevel(fund.getRiskLevel())
+                            .minInvestment(fund.getMinInvestment()),
+                    (dto, fund) -> {
+                        if (dto.getFundCategory() != null) fund.setFundCategory(dto.getFundCategory());
+                        if (dto.getAmcName() != null) fund.setAmcName(dto.getAmcName());
+                        if (dto.getPlanType() != null) fund.setPlanType(dto.getPlanType());
+                        if (dto.getExpenseRatio() != null) fund.setExpenseRatio(dto.getExpenseRatio());
+                        if (dto.getNavDate() != null) fund.setNavDate(dto.getNavDate());
+                        if (dto.getRiskLevel() != null) fund.setRiskLevel(dto.getRiskLevel());
+                        if (dto.getMinInvestment() != null) fund.setMinInvestment(dto.getMinInvestment());
+                    })
+    );
+
+    /**
+     * Resolves a class to the descriptor of its nearest registered superclass.
+     * A Hibernate lazy proxy extends the abstract Asset and would resolve to
+     * {@link AssetDescriptor#NONE}; callers pass the unproxied entity's class.
+     */
+    private static final ClassValue<AssetDescriptor> DESCRIPTORS = new ClassValue<>() {
+        @Override
+        protected AssetDescriptor computeValue(Class<?> type) {
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                AssetDescriptor descriptor = REGISTERED.get(c);
+                if (descriptor != null) {
+                    return descriptor;
+                }
+            }
+            return AssetDescriptor.NONE;
+        }
+    };
+
+    /**
+     * Convert AssetRequestDTO to a new Asset of the requested subtype.
+     * The portfolio is not set; the caller attaches the asset to one.
+     */
+    public Asset toEntity(AssetRequestDTO dto) {
+        if (dto == null) {
+            return null;
+        }
+        if (dto.getAssetType() == null) {
+            throw new IllegalArgumentException("Asset type is required");
+        }
+
+        Asset entity = switch (dto.getAssetType()) {
+            case STOCK -> StockAsset.builder().build();
+            case CRYPTO -> CryptoAsset.builder().build();
+            case GOLD -> GoldAsset.builder().build();
+            case MUTUAL_FUND -> MutualFundAsset.builder().build();
+        };
+        updateEntityFromDTO(dto, entity);
+        return entity;
+    }
+
     /**
      * Convert Asset entity (any subtype) to AssetResponseDTO.
      * Uses polymorphism to handle all asset types.
@@ -23,17 +125,19 @@ public class AssetMapper {
             return null;
         }
 
+        AssetType type = entity.getType();
         AssetResponseDTO.AssetResponseDTOBuilder builder = AssetResponseDTO.builder()
                 .id(entity.getId())
                 .name(entity.getName())
                 .symbol(entity.getSymbol())
-                .assetType(entity.getType())
-                .assetTypeDisplayName(entity.getType() != null ? entity.getType().getDisplayName() : null)
+                .assetType(type)
+                .assetTypeDisplayName(type != null ? type.getDisplayName() : null)
                 .typeDescription(entity.getTypeDescription())
                 .quantity(entity.getQuantity())
                 .purchasePrice(entity.getPurchasePrice())
                 .currentPrice(entity.getCurrentPrice())
                 .currentValue(entity.getCurrentValue())
+                .currency(entity.getCurrency())
                 .purchaseDate(entity.getPurchaseDate())
                 .portfolioId(entity.getPortfolio() != null ? entity.getPortfolio().getId() : null)
                 .portfolioName(entity.getPortfolio() != null ? entity.getPortfolio().getName() : null)
@@ -45,32 +149,8 @@ public class AssetMapper {
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt());
 
-        // Add type-specific fields using instanceof pattern matching (Java 16+)
-        if (entity instanceof StockAsset stock) {
-            builder.exchange(stock.getExchange())
-                   .sector(stock.getSector())
-                   .dividendYield(stock.getDividendYield())
-                   .fractionalAllowed(stock.getFractionalAllowed());
-        } else if (entity instanceof CryptoAsset crypto) {
-            builder.blockchainNetwork(crypto.getBlockchainNetwork())
-                   .walletAddress(crypto.getWalletAddress())
-                   .stakingEnabled(crypto.getStakingEnabled())
-                   .stakingApy(crypto.getStakingApy());
-        } else if (entity instanceof GoldAsset gold) {
-            builder.goldForm(gold.getGoldForm())
-                   .purity(gold.getPurity())
-                   .weightUnit(gold.getWeightUnit())
-                   .storageLocation(gold.getStorageLocation())
-                   .isPhysical(gold.getIsPhysical());
-        } else if (entity instanceof MutualFundAsset fund) {
-            builder.fundCategory(fund.getFundCategory())
-                   .amcName(fund.getAmcName())
-                   .planType(fund.getPlanType())
-                   .expenseRatio(fund.getExpenseRatio())
-                   .navDate(fund.getNavDate())
-                   .riskLevel(fund.getRiskLevel())
-                   .minInvestment(fund.getMinInvestment());
-        }
+        Asset target = (Asset) Hibernate.unproxy(entity);
+        DESCRIPTORS.get(target.getClass()).writeResponse(target, builder);
 
         return builder.build();
     }
@@ -92,35 +172,15 @@ public class AssetMapper {
         if (dto.getCurrentPrice() != null) {
             entity.setCurrentPrice(dto.getCurrentPrice());
         }
+        if (dto.getCurrency() != null) {
+            entity.setCurrency(dto.getCurrency());
+        }
         entity.setPurchaseDate(dto.getPurchaseDate());
         entity.setNotes(dto.getNotes());
 
         // Update type-specific fields
-        if (entity instanceof StockAsset stock) {
-            if (dto.getExchange() != null) stock.setExchange(dto.getExchange());
-            if (dto.getSector() != null) stock.setSector(dto.getSector());
-            if (dto.getDividendYield() != null) stock.setDividendYield(dto.getDividendYield());
-            if (dto.getFractionalAllowed() != null) stock.setFractionalAllowed(dto.getFractionalAllowed());
-        } else if (entity instanceof CryptoAsset crypto) {
-            if (dto.getBlockchainNetwork() != null) crypto.setBlockchainNetwork(dto.getBlockchainNetwork());
-            if (dto.getWalletAddress() != null) crypto.setWalletAddress(dto.getWalletAddress());
-            if (dto.getStakingEnabled() != null) crypto.setStakingEnabled(dto.getStakingEnabled());
-            if (dto.getStakingApy() != null) crypto.setStakingApy(dto.getStakingApy());
-        } else if (entity instanceof GoldAsset gold) {
-            if (dto.getGoldForm() != null) gold.setGoldForm(dto.getGoldForm());
-            if (dto.getPurity() != null) gold.setPurity(dto.getPurity());
-            if (dto.getWeightUnit() != null) gold.setWeightUnit(dto.getWeightUnit());
-            if (dto.getStorageLocation() != null) gold.setStorageLocation(dto.getStorageLocation());
-            if (dto.getIsPhysical() != null) gold.setIsPhysical(dto.getIsPhysical());
-        } else if (entity instanceof MutualFundAsset fund) {
-            if (dto.getFundCategory() != null) fund.setFundCategory(dto.getFundCategory());
-            if (dto.getAmcName() != null) fund.setAmcName(dto.getAmcName());
-            if (dto.getPlanType() != null) fund.setPlanType(dto.getPlanType());
-            if (dto.getExpenseRatio() != null) fund.setExpenseRatio(dto.getExpenseRatio());
-            if (dto.getNavDate() != null) fund.setNavDate(dto.getNavDate());
-            if (dto.getRiskLevel() != null) fund.setRiskLevel(dto.getRiskLevel());
-            if (dto.getMinInvestment() != null) fund.setMinInvestment(dto.getMinInvestment());
-        }
+        Asset target = (Asset) Hibernate.unproxy(entity);
+        DESCRIPTORS.get(target.getClass()).updateEntity(dto, target);
 
         entity.calculateCurrentValue();
     }
@@ -5,6 +5,8 @@ import com.demo.MoneyMap.dto.response.ClientResponseDTO;
 import com.demo.MoneyMap.dto.response.PortfolioSummaryDTO;
 import com.demo.MoneyMap.beans.Client;
 import com.demo.MoneyMap.beans.Portfolio;
+import com.demo.MoneyMap.repository.projection.ClientListProjection;
+import com.demo.MoneyMap.repository.projection.PortfolioSummaryProjection;
 import org.springframework.stereotype.Component;
 
 import java.util.Collections;
@@ -53,7 +55,7 @@ public class ClientMapper {
                 .phone(entity.getPhone())
                 .address(entity.getAddress())
                 .active(entity.getActive())
-                .portfolioCount(entity.getPortfolios() != null ? entity.getPortfolios().size() : 0)
+                .portfolioCount(entity.getPortfolio() != null ? 1 : 0)
                 .portfolios(Collections.emptyList())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
@@ -68,10 +70,8 @@ public class ClientMapper {
             return null;
         }
 
-        List<PortfolioSummaryDTO> portfolioSummaries = entity.getPortfolios() != null
-                ? entity.getPortfolios().stream()
-                        .map(this::toPortfolioSummaryDTO)
-                        .collect(Collectors.toList())
+        List<PortfolioSummaryDTO> portfolioSummaries = entity.getPortfolio() != null
+                ? List.of(toPortfolioSummaryDTO(entity.getPortfolio()))
                 : Collections.emptyList();
 
         return ClientResponseDTO.builder()
@@ -90,6 +90,51 @@ public class ClientMapper {
                 .build();
     }
 
+    /**
+     * Convert a client list row to ClientResponseDTO (without portfolios).
+     */
+    public ClientResponseDTO toResponseDTO(ClientListProjection row) {
+        if (row == null) {
+            return null;
+        }
+
+        return toResponseDTO(row, Collections.emptyList(), row.getPortfolioCount().intValue());
+    }
+
+    /**
+     * Convert a client list row and its portfolio summary rows to ClientResponseDTO (with portfolios).
+     */
+    public ClientResponseDTO toResponseDTOWithPortfolios(ClientListProjection row,
+                                                         List<PortfolioSummaryProjection> portfolios) {
+        if (row == null) {
+            return null;
+        }
+
+        List<PortfolioSummaryDTO> portfolioSummaries = portfolios.stream()
+                .map(this::toPortfolioSummaryDTO)
+                .collect(Collectors.toList());
+        return toResponseDTO(row, portfolioSummaries, portfolioSummaries.size());
+    }
+
+    private ClientResponseDTO toResponseDTO(ClientListProjection row, List<PortfolioSummaryDTO> portfolios,
+                                            int portfolioCount) {
+        return ClientResponseDTO.builder()
+                .id(row.getId())
+                .firstName(row.getFirstName())
+                .lastName(row.getLastName())
+                .fullName(row.getFirstName() + " " + row.getLastName())
+                .email(row.getEmail())
+                .phone(row.getPhone())
+                .address(row.getAddress())
+                .active(row.getActive())
+                .portfolioCount(portfolioCount)
+                .totalValue(row.getTotalValue())
+                .portfolios(portfolios)
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .build();
+    }
+
     /**
      * Update existing Client entity from ClientRequestDTO.
      */
@@ -117,4 +162,17 @@ public class ClientMapper {
                 .active(portfolio.getActive())
                 .build();
     }
+
+    /**
+     * Convert a portfolio summary row to PortfolioSummaryDTO.
+     */
+    private PortfolioSummaryDTO toPortfolioSummaryDTO(PortfolioSummaryProjection row) {
+        return PortfolioSummaryDTO.builder()
+                .id(row.getId())
+                .name(row.getName())
+                .totalValue(row.getTotalValue())
+                .assetCount(row.getAssetCount().intValue())
+                .active(row.getActive())
+                .build();
+    }
 }
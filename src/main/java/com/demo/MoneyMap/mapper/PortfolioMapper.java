@@ -5,6 +5,8 @@ import com.demo.MoneyMap.dto.response.AssetSummaryDTO;
 import com.demo.MoneyMap.dto.response.PortfolioResponseDTO;
 import com.demo.MoneyMap.beans.Asset;
 import com.demo.MoneyMap.beans.Portfolio;
+import com.demo.MoneyMap.beans.enums.CurrencyCode;
+import com.demo.MoneyMap.repository.projection.PortfolioListProjection;
 import org.springframework.stereotype.Component;
 
 import java.util.Collections;
@@ -29,6 +31,7 @@ public class PortfolioMapper {
         return Portfolio.builder()
                 .name(dto.getName())
                 .description(dto.getDescription())
+                .currency(dto.getCurrency() != null ? dto.getCurrency() : CurrencyCode.USD)
                 .active(true)
                 .build();
     }
@@ -48,6 +51,7 @@ public class PortfolioMapper {
                 .clientId(entity.getClient() != null ? entity.getClient().getId() : null)
                 .clientName(entity.getClient() != null ? entity.getClient().getFullName() : null)
                 .totalValue(entity.getTotalValue())
+                .currency(entity.getCurrency())
                 .active(entity.getActive())
                 .assetCount(entity.getAssets() != null ? entity.getAssets().size() : 0)
                 .assets(Collections.emptyList())
@@ -56,6 +60,31 @@ public class PortfolioMapper {
                 .build();
     }
 
+    /**
+     * Convert a portfolio list row to PortfolioResponseDTO (without assets).
+     * Builds the client name the same way as Client.getFullName().
+     */
+    public PortfolioResponseDTO toResponseDTO(PortfolioListProjection row) {
+        if (row == null) {
+            return null;
+        }
+
+        return PortfolioResponseDTO.builder()
+                .id(row.getId())
+                .name(row.getName())
+                .description(row.getDescription())
+                .clientId(row.getClientId())
+                .clientName(row.getClientFirstName() + " " + row.getClientLastName())
+                .totalValue(row.getTotalValue())
+                .currency(row.getCurrency())
+                .active(row.getActive())
+                .assetCount(row.getAssetCount() != null ? row.getAssetCount().intValue() : 0)
+                .assets(Collections.emptyList())
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .build();
+    }
+
     /**
      * Convert Portfolio entity to PortfolioResponseDTO (with assets).
      */
@@ -77,6 +106,7 @@ public class PortfolioMapper {
                 .clientId(entity.getClient() != null ? entity.getClient().getId() : null)
                 .clientName(entity.getClient() != null ? entity.getClient().getFullName() : null)
                 .totalValue(entity.getTotalValue())
+                .currency(entity.getCurrency())
                 .active(entity.getActive())
                 .assetCount(assetSummaries.size())
                 .assets(assetSummaries)
@@ -95,6 +125,9 @@ public class PortfolioMapper {
 
         entity.setName(dto.getName());
         entity.setDescription(dto.getDescription());
+        if (dto.getCurrency() != null) {
+            entity.setCurrency(dto.getCurrency());
+        }
     }
 
     /**
@@ -0,0 +1,61 @@
+package com.demo.MoneyMap.pagination;
+
+import com.demo.MoneyMap.beans.enums.ScrollSort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of a keyset-paginated listing: the sort key and ID of the last row
+ * returned. Clients receive it as an opaque URL-safe token and send it back to
+ * get the rows that follow, so a page is a seek on (key, id) instead of an OFFSET.
+ *
+ * @param sort    the sort key the listing is ordered by
+ * @param lastKey the sort key value of the last row (null when sorting by ID)
+ * @param lastId  the ID of the last row
+ */
+public record KeysetCursor(ScrollSort sort, String lastKey, long lastId) {
+
+    private static final String VERSION = "1";
+
+    /**
+     * Position before the first row.
+     */
+    public static KeysetCursor start(ScrollSort sort) {
+        return new KeysetCursor(sort, sort == ScrollSort.ID ? null : "", 0L);
+    }
+
+    /**
+     * Decode a token, or start from the beginning when there is none.
+     *
+     * @throws IllegalArgumentException if the token is malformed or was issued for another sort
+     */
+    public static KeysetCursor decode(String token, ScrollSort requestedSort) {
+        if (token == null || token.isBlank()) {
+            return start(requestedSort != null ? requestedSort : ScrollSort.ID);
+        }
+        KeysetCursor cursor;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":", 4);
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            ScrollSort sort = ScrollSort.valueOf(parts[1]);
+            cursor = new KeysetCursor(sort, sort == ScrollSort.ID ? null : parts[3], Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (requestedSort != null && requestedSort != cursor.sort()) {
+            throw new IllegalArgumentException("Cursor was issued for sort " + cursor.sort());
+        }
+        return cursor;
+    }
+
+    /**
+     * Encode the position after the given row.
+     */
+    public static String encode(ScrollSort sort, String key, long id) {
+        String raw = VERSION + ":" + sort.name() + ":" + id + ":" + (key != null ? key : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,60 @@
+package com.demo.MoneyMap.pagination;
+
+import com.demo.MoneyMap.beans.enums.ScrollSort;
+import com.demo.MoneyMap.dto.response.SliceResponseDTO;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Helpers for turning keyset query results into slices.
+ * Queries are run with {@link #limitFor(int)}, one row more than the slice size;
+ * the extra row only tells whether another slice follows.
+ */
+public final class KeysetSlices {
+
+    private KeysetSlices() {
+    }
+
+    /**
+     * Reject slice sizes outside 1..maxSize.
+     */
+    public static void checkSize(int size, int maxSize) {
+        if (size < 1 || size > maxSize) {
+            throw new IllegalArgumentException("Slice size must be between 1 and " + maxSize);
+        }
+    }
+
+    public static Limit limitFor(int size) {
+        return Limit.of(size + 1);
+    }
+
+    /**
+     * Build a slice from up to size + 1 rows, with the cursor after its last row.
+     */
+    public static <R, T> SliceResponseDTO<T> toSlice(List<R> rows, int size, ScrollSort sort,
+                                                     Function<R, String> keyOf, ToLongFunction<R> idOf,
+                                                     Function<R, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<R> visible = hasNext ? rows.subList(0, size) : rows;
+        List<T> content = new ArrayList<>(visible.size());
+        for (R row : visible) {
+            content.add(mapper.apply(row));
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            R last = visible.get(visible.size() - 1);
+            nextCursor = KeysetCursor.encode(sort, sort == ScrollSort.ID ? null : keyOf.apply(last),
+                    idOf.applyAsLong(last));
+        }
+        return SliceResponseDTO.<T>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -0,0 +1,239 @@
+package com.demo.MoneyMap.pnl;
+
+import com.demo.MoneyMap.beans.enums.CostMethod;
+import com.demo.MoneyMap.beans.enums.TransactionType;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Running position of one asset, advanced one ledger transaction at a time.
+ *
+ * Both cost methods are maintained side by side:
+ * - Average cost: a sell relieves cost basis * sold / held.
+ * - FIFO: open purchase lots are consumed from the head of a queue. Every lot is
+ *   pushed once and popped once, so a transaction costs O(1) amortized.
+ *
+ * Fees are capitalized into the cost of buys and transfers in, and deducted from
+ * the proceeds of sells and from dividend income. Amounts are kept at scale 4 and
+ * quantities at scale 8, matching the columns they are persisted to.
+ *
+ * The state records which lots it opened, changed or closed since the last
+ * {@link #drainLotChanges()}, so callers persist only what moved.
+ */
+@Getter
+public final class PositionState {
+
+    private static final int QUANTITY_SCALE = 8;
+    private static final int AMOUNT_SCALE = 4;
+    private static final BigDecimal ZERO_QUANTITY = BigDecimal.ZERO.setScale(QUANTITY_SCALE);
+    private static final BigDecimal ZERO_AMOUNT = BigDecimal.ZERO.setScale(AMOUNT_SCALE);
+
+    private BigDecimal quantity = ZERO_QUANTITY;
+    private BigDecimal averageCostBasis = ZERO_AMOUNT;
+    private BigDecimal averageRealizedPnl = ZERO_AMOUNT;
+    private BigDecimal fifoCostBasis = ZERO_AMOUNT;
+    private BigDecimal fifoRealizedPnl = ZERO_AMOUNT;
+    private BigDecimal dividendIncome = ZERO_AMOUNT;
+    private BigDecimal feesPaid = ZERO_AMOUNT;
+    private long transactionCount;
+    private Long lastTransactionId;
+    private LocalDate lastTransactionDate;
+
+    private final ArrayDeque<Lot> openLots = new ArrayDeque<>();
+    private final List<Lot> closedLots = new ArrayList<>();
+
+    public PositionState() {
+    }
+
+    /**
+     * Resume from a persisted position. Open lots only need to be supplied when the
+     * next transaction relieves FIFO cost (a sell or transfer out).
+     */
+    public PositionState(BigDecimal quantity, BigDecimal averageCostBasis, BigDecimal averageRealizedPnl,
+                         BigDecimal fifoCostBasis, BigDecimal fifoRealizedPnl, BigDecimal dividendIncome,
+                         BigDecimal feesPaid, long transactionCount, Long lastTransactionId,
+                         LocalDate lastTransactionDate, Collection<Lot> openLots) {
+        this.quantity = quantity;
+        this.averageCostBasis = averageCostBasis;
+        this.averageRealizedPnl = averageRealizedPnl;
+        this.fifoCostBasis = fifoCostBasis;
+        this.fifoRealizedPnl = fifoRealizedPnl;
+        this.dividendIncome = dividendIncome;
+        this.feesPaid = feesPaid;
+        this.transactionCount = transactionCount;
+        this.lastTransactionId = lastTransactionId;
+        this.lastTransactionDate = lastTransactionDate;
+        this.openLots.addAll(openLots);
+    }
+
+    /**
+     * Apply the next transaction of the ledger.
+     *
+     * @throws IllegalArgumentException if a sell or transfer out exceeds the open position
+     */
+    public void apply(long transactionId, TransactionType type, BigDecimal txQuantity, BigDecimal price,
+                      BigDecimal amount, BigDecimal fees, LocalDate date) {
+        BigDecimal fee = fees != null ? fees.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP) : ZERO_AMOUNT;
+        switch (type) {
+            case BUY, TRANSFER_IN -> open(transactionId, txQuantity, price, fee);
+            case SELL -> close(txQuantity, price, fee, true);
+            case TRANSFER_OUT -> close(txQuantity, price, fee, false);
+            case DIVIDEND -> dividend(txQuantity, price, amount, fee);
+        }
+        feesPaid = feesPaid.add(fee);
+        transactionCount++;
+        lastTransactionId = transactionId;
+        lastTransactionDate = date;
+    }
+
+    private void open(long transactionId, BigDecimal txQuantity, BigDecimal price, BigDecimal fee) {
+        BigDecimal units = requirePositive(txQuantity);
+        BigDecimal cost = units.multiply(price).add(fee).setScale(AMOUNT_SCALE, RoundingMode.HALF_UP);
+        quantity = quantity.add(units);
+        averageCostBasis = averageCostBasis.add(cost);
+        fifoCostBasis = fifoCostBasis.add(cost);
+        openLots.addLast(new Lot(null, transactionId, units.setScale(QUANTITY_SCALE, RoundingMode.HALF_UP), cost));
+    }
+
+    private void close(BigDecimal txQuantity, BigDecimal price, BigDecimal fee, boolean realize) {
+        BigDecimal units = requirePositive(txQuantity);
+        if (units.compareTo(quantity) > 0) {
+            throw new IllegalArgumentException("Quantity " + units.stripTrailingZeros().toPlainString()
+                    + " exceeds the open position of " + quantity.stripTrailingZeros().toPlainString());
+        }
+
+        BigDecimal averageRelieved = units.compareTo(quantity) == 0
+                ? averageCostBasis
+                : averageCostBasis.multiply(units).divide(quantity, AMOUNT_SCALE, RoundingMode.HALF_UP);
+        BigDecimal fifoRelieved = consumeLots(units);
+
+        averageCostBasis = averageCostBasis.subtract(averageRelieved);
+        fifoCostBasis = fifoCostBasis.subtract(fifoRelieved);
+        quantity = quantity.subtract(units);
+
+        if (realize) {
+            BigDecimal proceeds = units.multiply(price).subtract(fee).setScale(AMOUNT_SCALE, RoundingMode.HALF_UP);
+            averageRealizedPnl = averageRealizedPnl.add(proceeds.subtract(averageRelieved));
+            fifoRealizedPnl = fifoRealizedPnl.add(proceeds.subtract(fifoRelieved));
+        } else {
+            // Cost basis moves out with the units; only the fee is a realized cost.
+            averageRealizedPnl = averageRealizedPnl.subtract(fee);
+            fifoRealizedPnl = fifoRealizedPnl.subtract(fee);
+        }
+    }
+
+    private void dividend(BigDecimal txQuantity, BigDecimal price, BigDecimal amount, BigDecimal fee) {
+        BigDecimal income;
+        if (amount != null) {
+            income = amount;
+        } else if (txQuantity != null && price != null) {
+            income = txQuantity.multiply(price);
+        } else {
+            throw new IllegalArgumentException("A dividend needs an amount, or a quantity and price per unit");
+        }
+        dividendIncome = dividendIncome.add(income.subtract(fee).setScale(AMOUNT_SCALE, RoundingMode.HALF_UP));
+    }
+
+    /**
+     * Take units from the oldest lots, splitting the last one if needed.
+     * Returns the cost basis relieved.
+     */
+    private BigDecimal consumeLots(BigDecimal units) {
+        BigDecimal remaining = units;
+        BigDecimal relieved = ZERO_AMOUNT;
+        while (remaining.signum() > 0) {
+            Lot lot = openLots.peekFirst();
+            if (lot == null) {
+                throw new IllegalStateException("Open lots do not cover the position quantity");
+            }
+            if (lot.quantity.compareTo(remaining) <= 0) {
+                openLots.pollFirst();
+                relieved = relieved.add(lot.costBasis);
+                remaining = remaining.subtract(lot.quantity);
+                if (lot.id != null) {
+                    closedLots.add(lot);
+                }
+            } else {
+                BigDecimal part = lot.costBasis.multiply(remaining)
+                        .divide(lot.quantity, AMOUNT_SCALE, RoundingMode.HALF_UP);
+                lot.costBasis = lot.costBasis.subtract(part);
+                lot.quantity = lot.quantity.subtract(remaining);
+                lot.dirty = true;
+                relieved = relieved.add(part);
+                remaining = BigDecimal.ZERO;
+            }
+        }
+        return relieved;
+    }
+
+    private static BigDecimal requirePositive(BigDecimal txQuantity) {
+        if (txQuantity == null || txQuantity.signum() <= 0) {
+            throw new IllegalArgumentException("Quantity must be greater than 0");
+        }
+        return txQuantity;
+    }
+
+    public BigDecimal getCostBasis(CostMethod method) {
+        return method == CostMethod.FIFO ? fifoCostBasis : averageCostBasis;
+    }
+
+    public BigDecimal getRealizedPnl(CostMethod method) {
+        return method == CostMethod.FIFO ? fifoRealizedPnl : averageRealizedPnl;
+    }
+
+    /**
+     * Lots changed since the last drain: new lots (no ID yet), lots partly consumed,
+     * and persisted lots fully consumed. Resets the change tracking.
+     */
+    public LotChanges drainLotChanges() {
+        List<Lot> inserted = new ArrayList<>();
+        List<Lot> updated = new ArrayList<>();
+        for (Lot lot : openLots) {
+            if (lot.id == null) {
+                inserted.add(lot);
+            } else if (lot.dirty) {
+                updated.add(lot);
+            }
+            lot.dirty = false;
+        }
+        List<Lot> deleted = new ArrayList<>(closedLots);
+        closedLots.clear();
+        return new LotChanges(inserted, updated, deleted);
+    }
+
+    /**
+     * Open remainder of one purchase lot.
+     */
+    @Getter
+    public static final class Lot {
+        private Long id;
+        private final long transactionId;
+        private BigDecimal quantity;
+        private BigDecimal costBasis;
+        private boolean dirty;
+
+        public Lot(Long id, long transactionId, BigDecimal quantity, BigDecimal costBasis) {
+            this.id = id;
+            this.transactionId = transactionId;
+            this.quantity = quantity;
+            this.costBasis = costBasis;
+        }
+
+        /**
+         * Record the ID assigned when the lot was inserted.
+         */
+        public void assignId(Long id) {
+            this.id = id;
+        }
+    }
+
+    public record LotChanges(List<Lot> inserted, List<Lot> updated, List<Lot> deleted) {
+    }
+}
@@ -0,0 +1,378 @@
+package com.demo.MoneyMap.ranking;
+
+import com.demo.MoneyMap.beans.enums.AssetType;
+import com.demo.MoneyMap.beans.enums.RankingDirection;
+import com.demo.MoneyMap.beans.enums.RankingMetric;
+import com.demo.MoneyMap.event.AssetChangedEvent;
+import com.demo.MoneyMap.event.SymbolPriceChangedEvent;
+import com.demo.MoneyMap.index.SymbolHoldingIndex;
+import com.demo.MoneyMap.timeseries.PriceHistoryStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory ranking of holdings by profit/loss and by change since the previous close,
+ * firm-wide and per client.
+ *
+ * Holdings share one quote per symbol, so a price change is a single reference swap
+ * and every holding of the symbol is re-valued implicitly; nothing is re-sorted on write.
+ * A top-k query scans the holdings of its scope with a bounded heap of size k,
+ * O(n log k), without touching the database.
+ *
+ * Kept in sync from AssetChangedEvents (the changed row is re-read after commit) and
+ * SymbolPriceChangedEvents; a periodic rebuild picks up writes that publish neither.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HoldingRankingIndex {
+
+    private static final String HOLDING_COLUMNS =
+            "SELECT a.id, a.name, a.symbol, a.asset_type, a.quantity, a.purchase_price, a.current_price, " +
+            "a.portfolio_id, p.client_id FROM assets a JOIN portfolios p ON p.id = a.portfolio_id";
+
+    private static final String LOAD_ONE_SQL = HOLDING_COLUMNS + " WHERE a.id = ?";
+
+    /** How far back to look for a symbol's previous close. */
+    private static final int PREVIOUS_CLOSE_LOOKBACK_DAYS = 7;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PriceHistoryStore priceHistoryStore;
+
+    private final Map<Long, Holding> holdingsById = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Holding>> holdingsByClient = new ConcurrentHashMap<>();
+    private final Map<String, Quote> quotesBySymbol = new ConcurrentHashMap<>();
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+    private volatile Instant lastPriceUpdateAt;
+    private volatile Instant lastRebuildAt;
+
+    // ============== MAINTENANCE ==============
+
+    /**
+     * Load all holdings, keeping the quotes (and previous closes) already known.
+     * A known quote takes its price from the first row of its symbol, so prices
+     * written without a SymbolPriceChangedEvent are picked up too. Assets changed while
+     * the table was being read may have been overwritten with an older row, or dropped
+     * as unseen, so their IDs are collected and re-read afterwards.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${moneymap.rankings.rebuild-interval-ms:300000}",
+            fixedDelayString = "${moneymap.rankings.rebuild-interval-ms:300000}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        Set<Long> seen = new HashSet<>();
+        Set<String> pricedSymbols = new HashSet<>();
+        changedDuringRebuild.clear();
+        rebuilding = true;
+        try {
+            jdbcTemplate.query(HOLDING_COLUMNS, rs -> {
+                Holding holding = toHolding(rs, pricedSymbols);
+                seen.add(holding.assetId());
+                put(holding);
+            });
+            holdingsById.keySet().stream().filter(id -> !seen.contains(id)).toList().forEach(this::remove);
+        } finally {
+            rebuilding = false;
+        }
+        List<Long> changed = new ArrayList<>(changedDuringRebuild);
+        changedDuringRebuild.clear();
+        changed.forEach(this::refresh);
+        ready = true;
+        lastRebuildAt = Instant.now();
+        log.info("Holding ranking index built: {} holdings, {} symbols in {} ms",
+                holdingsById.size(), quotesBySymbol.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Re-read created or updated assets and drop deleted ones once the change has committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssetChanged(AssetChangedEvent event) {
+        if (rebuilding) {
+            changedDuringRebuild.add(event.assetId());
+        }
+        if (event.changeType() == AssetChangedEvent.ChangeType.DELETED) {
+            remove(event.assetId());
+        } else {
+            refresh(event.assetId());
+        }
+    }
+
+    /**
+     * Re-value every holding of a symbol by swapping its quote.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPriceChanged(SymbolPriceChangedEvent event) {
+        String key = SymbolHoldingIndex.normalize(event.symbol());
+        Quote quote = key != null ? quotesBySymbol.get(key) : null;
+        if (quote == null || event.price() == null) {
+            // Nobody holds the symbol; a later holding starts from its stored price
+            return;
+        }
+        quote.update(event.price().doubleValue(), event.timestamp(), zone);
+        lastPriceUpdateAt = event.timestamp();
+    }
+
+    private void refresh(Long assetId) {
+        List<Holding> rows = jdbcTemplate.query(LOAD_ONE_SQL, (rs, rowNum) -> toHolding(rs, null), assetId);
+        if (rows.isEmpty()) {
+            remove(assetId);
+        } else {
+            put(rows.get(0));
+        }
+    }
+
+    private void put(Holding holding) {
+        Holding previous = holdingsById.put(holding.assetId(), holding);
+        if (previous != null) {
+            removeFromClient(previous);
+        }
+        if (holding.clientId() != null) {
+            holdingsByClient.computeIfAbsent(holding.clientId(), id -> ConcurrentHashMap.newKeySet()).add(holding);
+        }
+    }
+
+    private void remove(Long assetId) {
+        Holding previous = holdingsById.remove(assetId);
+        if (previous != null) {
+            removeFromClient(previous);
+        }
+    }
+
+    private void removeFromClient(Holding holding) {
+        if (holding.clientId() == null) {
+            return;
+        }
+        holdingsByClient.computeIfPresent(holding.clientId(), (id, holdings) -> {
+            holdings.remove(holding);
+            return holdings.isEmpty() ? null : holdings;
+        });
+    }
+
+    /**
+     * @param pricedSymbols symbols whose quote has already taken its price from a row
+     *                      in this pass, or null to leave existing quotes alone
+     */
+    private Holding toHolding(ResultSet rs, Set<String> pricedSymbols) throws SQLException {
+        BigDecimal quantity = rs.getBigDecimal("quantity");
+        BigDecimal purchasePrice = rs.getBigDecimal("purchase_price");
+        BigDecimal currentPrice = rs.getBigDecimal("current_price");
+        double price = currentPrice != null ? currentPrice.doubleValue() : 0.0;
+        String symbol = SymbolHoldingIndex.normalize(rs.getString("symbol"));
+        long clientId = rs.getLong("client_id");
+        Quote quote = symbol != null ? quote(symbol, price) : new Quote(price, previousClose(null, price), today());
+        if (symbol != null && pricedSymbols != null && currentPrice != null && pricedSymbols.add(symbol)) {
+            quote.reprice(price);
+        }
+        return new Holding(
+                rs.getLong("id"),
+                rs.getString("name"),
+                symbol,
+                AssetType.valueOf(rs.getString("asset_type")),
+                rs.getLong("portfolio_id"),
+                rs.wasNull() ? null : clientId,
+                quantity != null ? quantity.doubleValue() : 0.0,
+                quantity != null && purchasePrice != null ? quantity.multiply(purchasePrice).doubleValue() : 0.0,
+                quote);
+    }
+
+    /**
+     * The shared quote of a (normalized) symbol, created on first use with the previous close from the price history.
+     */
+    private Quote quote(String symbol, double currentPrice) {
+        return quotesBySymbol.computeIfAbsent(symbol, k -> new Quote(currentPrice, previousClose(k, currentPrice), today()));
+    }
+
+    private double previousClose(String symbol, double fallback) {
+        if (symbol == null) {
+            return fallback;
+        }
+        LocalDate today = today();
+        long to = today.atStartOfDay(zone).toInstant().toEpochMilli() - 1;
+        long from = today.minusDays(PREVIOUS_CLOSE_LOOKBACK_DAYS).atStartOfDay(zone).toInstant().toEpochMilli();
+        long[] last = {0};
+        priceHistoryStore.scan(symbol, from, to, (timestamp, scaledPrice) -> {
+            last[0] = scaledPrice;
+            return true;
+        });
+        return last[0] > 0 ? PriceHistoryStore.fromScaled(last[0]).doubleValue() : fallback;
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(zone);
+    }
+
+    // ============== QUERIES ==============
+
+    /**
+     * Top holdings of the firm by a metric.
+     */
+    public Ranking topFirm(RankingMetric metric, RankingDirection direction, int limit) {
+        return top(holdingsById.values(), metric, direction, limit);
+    }
+
+    /**
+     * Top holdings of a client by a metric.
+     */
+    public Ranking topClient(Long clientId, RankingMetric metric, RankingDirection direction, int limit) {
+        return top(holdingsByClient.getOrDefault(clientId, Collections.emptySet()), metric, direction, limit);
+    }
+
+    private Ranking top(Collection<Holding> scope, RankingMetric metric, RankingDirection direction, int limit) {
+        int sign = direction == RankingDirection.GAINERS ? 1 : -1;
+        // Min-heap on the signed score: the root is the weakest of the k kept so far
+        Comparator<Ranked> weakestFirst = Comparator.comparingDouble(Ranked::signedScore)
+                .thenComparing(ranked -> -ranked.holding().assetId());
+        PriorityQueue<Ranked> heap = new PriorityQueue<>(limit + 1, weakestFirst);
+        int considered = 0;
+        for (Holding holding : scope) {
+            double signed = sign * holding.score(metric);
+            if (Double.isNaN(signed)) {
+                continue;
+            }
+            considered++;
+            if (heap.size() < limit) {
+                heap.add(new Ranked(holding, signed));
+            } else if (signed > heap.peek().signedScore()) {
+                heap.poll();
+                heap.add(new Ranked(holding, signed));
+            }
+        }
+        List<Ranked> ranked = new ArrayList<>(heap);
+        ranked.sort(weakestFirst.reversed());
+        List<Holding> holdings = new ArrayList<>(ranked.size());
+        ranked.forEach(entry -> holdings.add(entry.holding()));
+        return new Ranking(holdings, considered);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * When the most recent price change was applied (null if none since startup).
+     */
+    public Instant getLastPriceUpdateAt() {
+        return lastPriceUpdateAt;
+    }
+
+    public Instant getLastRebuildAt() {
+        return lastRebuildAt;
+    }
+
+    // ============== TYPES ==============
+
+    /**
+     * Result of a top-k query: the holdings in rank order and how many were considered.
+     */
+    public record Ranking(List<Holding> holdings, int considered) {
+    }
+
+    private record Ranked(Holding holding, double signedScore) {
+    }
+
+    /**
+     * Immutable holding; its price comes from the (shared) quote.
+     */
+    public record Holding(long assetId, String name, String symbol, AssetType assetType, long portfolioId,
+                          Long clientId, double quantity, double costBasis, Quote quote) {
+
+        public double currentValue() {
+            return quantity * quote.state().price();
+        }
+
+        public double profitLoss() {
+            return currentValue() - costBasis;
+        }
+
+        public double profitLossPercentage() {
+            return costBasis != 0.0 ? profitLoss() / costBasis * 100.0 : Double.NaN;
+        }
+
+        public double dayChange() {
+            Quote.State state = quote.state();
+            return quantity * (state.price() - state.previousClose());
+        }
+
+        public double dayChangePercentage() {
+            Quote.State state = quote.state();
+            return state.previousClose() != 0.0
+                    ? (state.price() - state.previousClose()) / state.previousClose() * 100.0
+                    : Double.NaN;
+        }
+
+        double score(RankingMetric metric) {
+            return switch (metric) {
+                case PROFIT_LOSS -> profitLoss();
+                case PROFIT_LOSS_PERCENTAGE -> profitLossPercentage();
+                case DAY_CHANGE -> dayChange();
+                case DAY_CHANGE_PERCENTAGE -> dayChangePercentage();
+            };
+        }
+    }
+
+    /**
+     * Latest price of a symbol with the previous day's close. State is swapped as a whole,
+     * so readers never see a price paired with the wrong close.
+     */
+    public static final class Quote {
+
+        private volatile State state;
+
+        Quote(double price, double previousClose, LocalDate day) {
+            this.state = new State(price, previousClose, day, null);
+        }
+
+        public State state() {
+            return state;
+        }
+
+        /**
+         * Correct the price from the stored row, keeping the day and previous close.
+         */
+        synchronized void reprice(double price) {
+            State current = state;
+            if (current.price() != price) {
+                state = new State(price, current.previousClose(), current.day(), current.updatedAt());
+            }
+        }
+
+        synchronized void update(double price, Instant timestamp, ZoneId zone) {
+            State current = state;
+            LocalDate day = LocalDate.ofInstant(timestamp, zone);
+            // The first price of a new day turns the last price into the previous close
+            double previousClose = day.isAfter(current.day()) ? current.price() : current.previousClose();
+            state = new State(price, previousClose, day.isAfter(current.day()) ? day : current.day(), timestamp);
+        }
+
+        public record State(double price, double previousClose, LocalDate day, Instant updatedAt) {
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.demo.MoneyMap.repository;
+
+import com.demo.MoneyMap.beans.AssetPosition;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for AssetPosition entity operations.
+ */
+@Repository
+public interface AssetPositionRepository extends JpaRepository<AssetPosition, Long> {
+
+    /**
+     * Find the position of an asset and lock it, so concurrent transactions on the
+     * same asset are applied one after the other.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM AssetPosition p WHERE p.assetId = :assetId")
+    Optional<AssetPosition> findByAssetIdForUpdate(@Param("assetId") Long assetId);
+}
@@ -2,14 +2,19 @@ package com.demo.MoneyMap.repository;
 
 import com.demo.MoneyMap.beans.Asset;
 import com.demo.MoneyMap.beans.enums.AssetType;
+import com.demo.MoneyMap.repository.projection.CurrencyTotalProjection;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -56,6 +61,13 @@ public interface AssetRepository extends JpaRepository<Asset, Long> {
     @Query("SELECT a FROM Asset a JOIN FETCH a.portfolio WHERE a.id = :id")
     Optional<Asset> findByIdWithPortfolio(@Param("id") Long id);
 
+    /**
+     * Find an asset and lock its row, so its ledger is not rebuilt while a transaction is recorded.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Asset a WHERE a.id = :id")
+    Optional<Asset> findByIdForUpdate(@Param("id") Long id);
+
     /**
      * Find asset with transactions eagerly loaded.
      */
@@ -70,12 +82,32 @@ public interface AssetRepository extends JpaRepository<Asset, Long> {
            "LOWER(a.symbol) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     Page<Asset> searchAssets(@Param("searchTerm") String searchTerm, Pageable pageable);
 
+    /**
+     * Find assets by IDs with their portfolios, in one query.
+     */
+    @Query("SELECT a FROM Asset a JOIN FETCH a.portfolio WHERE a.id IN :ids")
+    List<Asset> findAllWithPortfolioByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * Get total value of all assets in a portfolio.
      */
     @Query("SELECT COALESCE(SUM(a.currentValue), 0) FROM Asset a WHERE a.portfolio.id = :portfolioId")
     BigDecimal getTotalValueByPortfolioId(@Param("portfolioId") Long portfolioId);
 
+    /**
+     * Get the total value of a portfolio's assets per currency.
+     */
+    @Query("SELECT a.currency AS currency, COALESCE(SUM(a.currentValue), 0) AS totalValue " +
+           "FROM Asset a WHERE a.portfolio.id = :portfolioId GROUP BY a.currency")
+    List<CurrencyTotalProjection> getTotalValueByCurrencyForPortfolio(@Param("portfolioId") Long portfolioId);
+
+    /**
+     * Get the total value of a client's assets in active portfolios per currency.
+     */
+    @Query("SELECT a.currency AS currency, COALESCE(SUM(a.currentValue), 0) AS totalValue " +
+           "FROM Asset a WHERE a.portfolio.client.id = :clientId AND a.portfolio.active = true GROUP BY a.currency")
+    List<CurrencyTotalProjection> getTotalValueByCurrencyForClient(@Param("clientId") Long clientId);
+
     /**
      * Get total value by asset type across all portfolios.
      */
@@ -103,4 +135,21 @@ public interface AssetRepository extends JpaRepository<Asset, Long> {
      */
     @Query("SELECT a FROM Asset a WHERE a.portfolio.client.id = :clientId")
     Page<Asset> findByClientId(@Param("clientId") Long clientId, Pageable pageable);
+
+    // ============== KEYSET (SEEK) PAGINATION ==============
+    // Each slice seeks past the last (key, id) instead of skipping an OFFSET, so
+    // deep slices cost the same as the first. Callers fetch one extra row to learn
+    // whether more follow; no COUNT is run.
+
+    @Query("SELECT a FROM Asset a JOIN FETCH a.portfolio WHERE a.id > :afterId ORDER BY a.id")
+    List<Asset> scrollById(@Param("afterId") long afterId, Limit limit);
+
+    @Query("SELECT a FROM Asset a JOIN FETCH a.portfolio " +
+           "WHERE a.name > :afterName OR (a.name = :afterName AND a.id > :afterId) ORDER BY a.name, a.id")
+    List<Asset> scrollByName(@Param("afterName") String afterName, @Param("afterId") long afterId, Limit limit);
+
+    @Query("SELECT a FROM Asset a JOIN FETCH a.portfolio " +
+           "WHERE a.portfolio.id = :portfolioId AND a.id > :afterId ORDER BY a.id")
+    List<Asset> scrollByPortfolioId(@Param("portfolioId") Long portfolioId, @Param("afterId") long afterId,
+                                    Limit limit);
 }
@@ -0,0 +1,14 @@
+package com.demo.MoneyMap.repository;
+
+import com.demo.MoneyMap.beans.AumAggregate;
+import com.demo.MoneyMap.beans.AumAggregateId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for AumAggregate entity operations.
+ * Rows are written in batches by AumAggregateStore; this repository is used for reads.
+ */
+@Repository
+public interface AumAggregateRepository extends JpaRepository<AumAggregate, AumAggregateId> {
+}
@@ -0,0 +1,31 @@
+package com.demo.MoneyMap.repository;
+
+import com.demo.MoneyMap.beans.BatchJobCheckpoint;
+import com.demo.MoneyMap.beans.enums.JobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for BatchJobCheckpoint entity operations.
+ */
+@Repository
+public interface BatchJobCheckpointRepository extends JpaRepository<BatchJobCheckpoint, Long> {
+
+    /**
+     * Find the checkpoint of a specific job run.
+     */
+    Optional<BatchJobCheckpoint> findByJobNameAndRunKey(String jobName, String runKey);
+
+    /**
+     * Find all runs of a job in a given state.
+     */
+    List<BatchJobCheckpoint> findByJobNameAndStatusIn(String jobName, List<JobStatus> statuses);
+
+    /**
+     * Find the partition checkpoints of a partitioned run, whose run keys share a prefix.
+     */
+    List<BatchJobCheckpoint> findByJobNameAndRunKeyStartingWithOrderByRunKeyAsc(String jobName, String runKeyPrefix);
+}
@@ -1,13 +1,22 @@
 package com.demo.MoneyMap.repository;
 
 import com.demo.MoneyMap.beans.Client;
+import com.demo.MoneyMap.cache.CacheRegions;
+import com.demo.MoneyMap.repository.projection.ClientAllocationProjection;
+import com.demo.MoneyMap.repository.projection.ClientListProjection;
+import com.demo.MoneyMap.repository.projection.PortfolioSummaryProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -55,11 +64,95 @@ public interface ClientRepository extends JpaRepository<Client, Long> {
     /**
      * Find client with their portfolios eagerly loaded.
      */
-    @Query("SELECT c FROM Client c LEFT JOIN FETCH c.portfolios WHERE c.id = :id")
+    @Query("SELECT c FROM Client c LEFT JOIN FETCH c.portfolio WHERE c.id = :id")
     Optional<Client> findByIdWithPortfolios(@Param("id") Long id);
 
     /**
-     * Count active clients.
+     * Count active clients. Served from the query cache until clients are written.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.CLIENT_COUNTS)
+    })
     long countByActiveTrue();
+
+    /**
+     * Aggregate a client's holdings per portfolio and asset type in one query,
+     * without loading any Asset entities. Empty if the client does not exist.
+     */
+    @Query("SELECT c.id AS clientId, c.firstName AS firstName, c.lastName AS lastName, " +
+           "p.id AS portfolioId, p.name AS portfolioName, p.active AS portfolioActive, " +
+           "a.assetType AS assetType, SUM(a.currentValue) AS currentValue, " +
+           "SUM(a.purchasePrice * a.quantity) AS costBasis, COUNT(a) AS assetCount " +
+           "FROM Client c LEFT JOIN c.portfolio p LEFT JOIN p.assets a " +
+           "WHERE c.id = :clientId " +
+           "GROUP BY c.id, c.firstName, c.lastName, p.id, p.name, p.active, a.assetType")
+    List<ClientAllocationProjection> getAllocationBreakdown(@Param("clientId") Long clientId);
+
+    // ============== LIST PROJECTIONS ==============
+    // Client rows carry their portfolio count and total value as aggregates, so
+    // listings never initialize the portfolio association.
+
+    String LIST_SELECT = "SELECT c.id AS id, c.firstName AS firstName, c.lastName AS lastName, " +
+            "c.email AS email, c.phone AS phone, c.address AS address, c.active AS active, " +
+            "COUNT(p) AS portfolioCount, COALESCE(SUM(p.totalValue), 0) AS totalValue, " +
+            "c.createdAt AS createdAt, c.updatedAt AS updatedAt " +
+            "FROM Client c LEFT JOIN c.portfolio p ";
+
+    String LIST_GROUP_BY = " GROUP BY c.id, c.firstName, c.lastName, c.email, c.phone, c.address, c.active, " +
+            "c.createdAt, c.updatedAt";
+
+    String SEARCH_FILTER = "WHERE LOWER(c.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            "LOWER(c.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+            "LOWER(c.email) LIKE LOWER(CONCAT('%', :searchTerm, '%'))";
+
+    /**
+     * Find a page of client list rows.
+     */
+    @Query(value = LIST_SELECT + LIST_GROUP_BY, countQuery = "SELECT COUNT(c) FROM Client c")
+    Page<ClientListProjection> findListPage(Pageable pageable);
+
+    /**
+     * Find the list rows of all active clients.
+     */
+    @Query(LIST_SELECT + "WHERE c.active = true" + LIST_GROUP_BY + " ORDER BY c.id")
+    List<ClientListProjection> findActiveList();
+
+    /**
+     * Search client list rows by first name, last name or email.
+     */
+    @Query(value = LIST_SELECT + SEARCH_FILTER + LIST_GROUP_BY,
+            countQuery = "SELECT COUNT(c) FROM Client c " + SEARCH_FILTER)
+    Page<ClientListProjection> searchListPage(@Param("searchTerm") String searchTerm, Pageable pageable);
+
+    /**
+     * Find the list row of one client.
+     */
+    @Query(LIST_SELECT + "WHERE c.id = :id" + LIST_GROUP_BY)
+    Optional<ClientListProjection> findListRowById(@Param("id") Long id);
+
+    /**
+     * Find the list rows of the given clients.
+     */
+    @Query(LIST_SELECT + "WHERE c.id IN :ids" + LIST_GROUP_BY)
+    List<ClientListProjection> findListRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find a client's portfolio summaries with their asset counts in one grouped query.
+     */
+    @Query("SELECT p.id AS id, p.name AS name, p.totalValue AS totalValue, COUNT(a) AS assetCount, " +
+           "p.active AS active " +
+           "FROM Portfolio p LEFT JOIN p.assets a WHERE p.client.id = :clientId " +
+           "GROUP BY p.id, p.name, p.totalValue, p.active ORDER BY p.id")
+    List<PortfolioSummaryProjection> findPortfolioSummaries(@Param("clientId") Long clientId);
+
+    // ============== KEYSET (SEEK) PAGINATION ==============
+
+    @Query(LIST_SELECT + "WHERE c.id > :afterId" + LIST_GROUP_BY + " ORDER BY c.id")
+    List<ClientListProjection> scrollListById(@Param("afterId") long afterId, Limit limit);
+
+    @Query(LIST_SELECT + "WHERE c.lastName > :afterName OR (c.lastName = :afterName AND c.id > :afterId)"
+            + LIST_GROUP_BY + " ORDER BY c.lastName, c.id")
+    List<ClientListProjection> scrollListByLastName(@Param("afterName") String afterName,
+                                                    @Param("afterId") long afterId, Limit limit);
 }
@@ -0,0 +1,13 @@
+package com.demo.MoneyMap.repository;
+
+import com.demo.MoneyMap.beans.FxRate;
+import com.demo.MoneyMap.beans.enums.CurrencyCode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for FxRate entity operations.
+ */
+@Repository
+public interface FxRateRepository extends JpaRepository<FxRate, CurrencyCode> {
+}
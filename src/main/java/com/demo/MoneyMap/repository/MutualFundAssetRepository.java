@@ -0,0 +1,43 @@
+package com.demo.MoneyMap.repository;
+
+import com.demo.MoneyMap.beans.MutualFundAsset;
+import com.demo.MoneyMap.repository.projection.FundExposureProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for MutualFundAsset entity operations.
+ * Exposure queries group by (fund category, risk level) and are covered by the
+ * idx_assets_*_category_risk indexes on the assets table.
+ */
+@Repository
+public interface MutualFundAssetRepository extends JpaRepository<MutualFundAsset, Long> {
+
+    /**
+     * Firm-wide fund value per category and risk level.
+     */
+    @Query("SELECT f.fundCategory AS fundCategory, f.riskLevel AS riskLevel, " +
+           "COALESCE(SUM(f.currentValue), 0) AS totalValue, COUNT(f) AS holdingCount " +
+           "FROM MutualFundAsset f GROUP BY f.fundCategory, f.riskLevel")
+    List<FundExposureProjection> getExposure();
+
+    /**
+     * Fund value of a client per category and risk level.
+     */
+    @Query("SELECT f.fundCategory AS fundCategory, f.riskLevel AS riskLevel, " +
+           "COALESCE(SUM(f.currentValue), 0) AS totalValue, COUNT(f) AS holdingCount " +
+           "FROM MutualFundAsset f WHERE f.portfolio.client.id = :clientId GROUP BY f.fundCategory, f.riskLevel")
+    List<FundExposureProjection> getExposureByClientId(@Param("clientId") Long clientId);
+
+    /**
+     * Fund value of a portfolio per category and risk level.
+     */
+    @Query("SELECT f.fundCategory AS fundCategory, f.riskLevel AS riskLevel, " +
+           "COALESCE(SUM(f.currentValue), 0) AS totalValue, COUNT(f) AS holdingCount " +
+           "FROM MutualFundAsset f WHERE f.portfolio.id = :portfolioId GROUP BY f.fundCategory, f.riskLevel")
+    List<FundExposureProjection> getExposureByPortfolioId(@Param("portfolioId") Long portfolioId);
+}
@@ -1,10 +1,17 @@
 package com.demo.MoneyMap.repository;
 
 import com.demo.MoneyMap.beans.Portfolio;
+import com.demo.MoneyMap.cache.CacheRegions;
+import com.demo.MoneyMap.repository.projection.PortfolioListProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -62,6 +69,15 @@ public interface PortfolioRepository extends JpaRepository<Portfolio, Long> {
     @Query("SELECT p FROM Portfolio p WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     Page<Portfolio> searchPortfolios(@Param("searchTerm") String searchTerm, Pageable pageable);
 
+    /**
+     * Recompute a portfolio's total value from its assets in one statement.
+     * Pending changes are flushed first, so their deltas are not counted twice.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Portfolio p SET p.totalValue = " +
+           "(SELECT COALESCE(SUM(a.currentValue), 0) FROM Asset a WHERE a.portfolio.id = p.id) WHERE p.id = :id")
+    int recalculateTotalValue(@Param("id") Long id);
+
     /**
      * Get total value of all portfolios for a client.
      */
@@ -69,12 +85,76 @@ public interface PortfolioRepository extends JpaRepository<Portfolio, Long> {
     BigDecimal getTotalValueByClientId(@Param("clientId") Long clientId);
 
     /**
-     * Count portfolios by client ID.
+     * Count portfolios by client ID. Served from the query cache until portfolios are written.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.PORTFOLIO_COUNTS)
+    })
     long countByClientId(Long clientId);
 
     /**
-     * Count active portfolios.
+     * Count a client's active portfolios. Served from the query cache until portfolios are written.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.PORTFOLIO_COUNTS)
+    })
+    long countByClientIdAndActiveTrue(Long clientId);
+
+    /**
+     * Count active portfolios. Served from the query cache until portfolios are written.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.PORTFOLIO_COUNTS)
+    })
     long countByActiveTrue();
+
+    // ============== LIST PROJECTIONS ==============
+    // List rows join the client name and count assets with a correlated subquery
+    // (served by the assets.portfolio_id index), so a page is one SELECT plus its count.
+
+    String LIST_SELECT = "SELECT p.id AS id, p.name AS name, p.description AS description, " +
+            "c.id AS clientId, c.firstName AS clientFirstName, c.lastName AS clientLastName, " +
+            "p.totalValue AS totalValue, p.currency AS currency, p.active AS active, " +
+            "(SELECT COUNT(a) FROM Asset a WHERE a.portfolio = p) AS assetCount, " +
+            "p.createdAt AS createdAt, p.updatedAt AS updatedAt " +
+            "FROM Portfolio p JOIN p.client c";
+
+    /**
+     * Find a page of portfolio list rows.
+     */
+    @Query(value = LIST_SELECT, countQuery = "SELECT COUNT(p) FROM Portfolio p")
+    Page<PortfolioListProjection> findListPage(Pageable pageable);
+
+    /**
+     * Search portfolio list rows by name.
+     */
+    @Query(value = LIST_SELECT + " WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :searchTerm, '%'))",
+            countQuery = "SELECT COUNT(p) FROM Portfolio p " +
+                    "WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
+    Page<PortfolioListProjection> searchListPage(@Param("searchTerm") String searchTerm, Pageable pageable);
+
+    /**
+     * Find the list rows of a client's portfolios.
+     */
+    @Query(LIST_SELECT + " WHERE c.id = :clientId ORDER BY p.id")
+    List<PortfolioListProjection> findListByClientId(@Param("clientId") Long clientId);
+
+    /**
+     * Find the list rows of a client's active portfolios.
+     */
+    @Query(LIST_SELECT + " WHERE c.id = :clientId AND p.active = true ORDER BY p.id")
+    List<PortfolioListProjection> findActiveListByClientId(@Param("clientId") Long clientId);
+
+    // ============== KEYSET (SEEK) PAGINATION ==============
+
+    @Query(LIST_SELECT + " WHERE p.id > :afterId ORDER BY p.id")
+    List<PortfolioListProjection> scrollListById(@Param("afterId") long afterId, Limit limit);
+
+    @Query(LIST_SELECT + " WHERE p.name > :afterName OR (p.name = :afterName AND p.id > :afterId) " +
+           "ORDER BY p.name, p.id")
+    List<PortfolioListProjection> scrollListByName(@Param("afterName") String afterName,
+                                                   @Param("afterId") long afterId, Limit limit);
 }
@@ -0,0 +1,13 @@
+package com.demo.MoneyMap.repository;
+
+import com.demo.MoneyMap.beans.PortfolioRiskMetrics;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for PortfolioRiskMetrics entity operations.
+ * Rows are written in batches by the risk engine; this repository is used for reads.
+ */
+@Repository
+public interface PortfolioRiskMetricsRepository extends JpaRepository<PortfolioRiskMetrics, Long> {
+}
@@ -0,0 +1,44 @@
+package com.demo.MoneyMap.repository;
+
+import com.demo.MoneyMap.beans.PortfolioSnapshot;
+import com.demo.MoneyMap.beans.PortfolioSnapshotId;
+import com.demo.MoneyMap.repository.projection.ValuationPointProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for PortfolioSnapshot entity operations.
+ * Snapshots are written in batches by the snapshot job; reads use projections.
+ */
+@Repository
+public interface PortfolioSnapshotRepository extends JpaRepository<PortfolioSnapshot, PortfolioSnapshotId> {
+
+    /**
+     * Get a portfolio's daily valuations within a date range.
+     */
+    @Query("SELECT s.snapshotDate AS snapshotDate, s.totalValue AS totalValue, s.costBasis AS costBasis, " +
+           "s.goldValue AS goldValue, s.stockValue AS stockValue, " +
+           "s.mutualFundValue AS mutualFundValue, s.cryptoValue AS cryptoValue " +
+           "FROM PortfolioSnapshot s WHERE s.portfolioId = :portfolioId " +
+           "AND s.snapshotDate BETWEEN :from AND :to ORDER BY s.snapshotDate")
+    List<ValuationPointProjection> findHistoryByPortfolioId(@Param("portfolioId") Long portfolioId,
+                                                            @Param("from") LocalDate from,
+                                                            @Param("to") LocalDate to);
+
+    /**
+     * Get a client's daily valuations (summed over their portfolios) within a date range.
+     */
+    @Query("SELECT s.snapshotDate AS snapshotDate, SUM(s.totalValue) AS totalValue, SUM(s.costBasis) AS costBasis, " +
+           "SUM(s.goldValue) AS goldValue, SUM(s.stockValue) AS stockValue, " +
+           "SUM(s.mutualFundValue) AS mutualFundValue, SUM(s.cryptoValue) AS cryptoValue " +
+           "FROM PortfolioSnapshot s WHERE s.clientId = :clientId " +
+           "AND s.snapshotDate BETWEEN :from AND :to GROUP BY s.snapshotDate ORDER BY s.snapshotDate")
+    List<ValuationPointProjection> findHistoryByClientId(@Param("clientId") Long clientId,
+                                                         @Param("from") LocalDate from,
+                                                         @Param("to") LocalDate to);
+}
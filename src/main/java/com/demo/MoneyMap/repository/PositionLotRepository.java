@@ -0,0 +1,35 @@
+package com.demo.MoneyMap.repository;
+
+import com.demo.MoneyMap.beans.PositionLot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Repository interface for PositionLot entity operations.
+ */
+@Repository
+public interface PositionLotRepository extends JpaRepository<PositionLot, Long> {
+
+    /**
+     * Find the open lots of an asset, oldest first.
+     */
+    List<PositionLot> findByAssetIdOrderByIdAsc(Long assetId);
+
+    /**
+     * Shrink a partly consumed lot.
+     */
+    @Modifying
+    @Query("UPDATE PositionLot l SET l.quantity = :quantity, l.costBasis = :costBasis WHERE l.id = :id")
+    int updateRemaining(@Param("id") Long id, @Param("quantity") BigDecimal quantity,
+                        @Param("costBasis") BigDecimal costBasis);
+
+    @Modifying
+    @Query("DELETE FROM PositionLot l WHERE l.assetId = :assetId")
+    int deleteByAssetId(@Param("assetId") Long assetId);
+}
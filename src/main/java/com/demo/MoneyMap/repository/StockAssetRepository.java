@@ -0,0 +1,43 @@
+package com.demo.MoneyMap.repository;
+
+import com.demo.MoneyMap.beans.StockAsset;
+import com.demo.MoneyMap.repository.projection.StockExposureProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for StockAsset entity operations.
+ * Exposure queries group by (sector, exchange) and are covered by the
+ * idx_assets_*_sector_exchange indexes on the assets table.
+ */
+@Repository
+public interface StockAssetRepository extends JpaRepository<StockAsset, Long> {
+
+    /**
+     * Firm-wide stock value per sector and exchange.
+     */
+    @Query("SELECT s.sector AS sector, s.exchange AS exchange, " +
+           "COALESCE(SUM(s.currentValue), 0) AS totalValue, COUNT(s) AS holdingCount " +
+           "FROM StockAsset s GROUP BY s.sector, s.exchange")
+    List<StockExposureProjection> getExposure();
+
+    /**
+     * Stock value of a client per sector and exchange.
+     */
+    @Query("SELECT s.sector AS sector, s.exchange AS exchange, " +
+           "COALESCE(SUM(s.currentValue), 0) AS totalValue, COUNT(s) AS holdingCount " +
+           "FROM StockAsset s WHERE s.portfolio.client.id = :clientId GROUP BY s.sector, s.exchange")
+    List<StockExposureProjection> getExposureByClientId(@Param("clientId") Long clientId);
+
+    /**
+     * Stock value of a portfolio per sector and exchange.
+     */
+    @Query("SELECT s.sector AS sector, s.exchange AS exchange, " +
+           "COALESCE(SUM(s.currentValue), 0) AS totalValue, COUNT(s) AS holdingCount " +
+           "FROM StockAsset s WHERE s.portfolio.id = :portfolioId GROUP BY s.sector, s.exchange")
+    List<StockExposureProjection> getExposureByPortfolioId(@Param("portfolioId") Long portfolioId);
+}
@@ -0,0 +1,19 @@
+package com.demo.MoneyMap.repository;
+
+import com.demo.MoneyMap.beans.Transaction;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for Transaction entity operations.
+ */
+@Repository
+public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+
+    /**
+     * Find the ledger of an asset in processing order (date, then entry order).
+     */
+    List<Transaction> findByAssetIdOrderByTransactionDateAscIdAsc(Long assetId);
+}
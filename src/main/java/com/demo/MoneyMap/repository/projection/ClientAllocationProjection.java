@@ -0,0 +1,33 @@
+package com.demo.MoneyMap.repository.projection;
+
+import com.demo.MoneyMap.beans.enums.AssetType;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection of a client's holdings grouped by portfolio and asset type.
+ * A portfolio without assets yields one row with a null asset type; a client
+ * without portfolios yields one row with a null portfolio.
+ */
+public interface ClientAllocationProjection {
+
+    Long getClientId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    Long getPortfolioId();
+
+    String getPortfolioName();
+
+    Boolean getPortfolioActive();
+
+    AssetType getAssetType();
+
+    BigDecimal getCurrentValue();
+
+    BigDecimal getCostBasis();
+
+    Long getAssetCount();
+}
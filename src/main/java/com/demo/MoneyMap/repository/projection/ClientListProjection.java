@@ -0,0 +1,33 @@
+package com.demo.MoneyMap.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a client list row: the client's own columns plus the number and
+ * total value of their portfolios, aggregated in the same SELECT.
+ */
+public interface ClientListProjection {
+
+    Long getId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getEmail();
+
+    String getPhone();
+
+    String getAddress();
+
+    Boolean getActive();
+
+    Long getPortfolioCount();
+
+    BigDecimal getTotalValue();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,15 @@
+package com.demo.MoneyMap.repository.projection;
+
+import com.demo.MoneyMap.beans.enums.CurrencyCode;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection of a value total in one currency.
+ */
+public interface CurrencyTotalProjection {
+
+    CurrencyCode getCurrency();
+
+    BigDecimal getTotalValue();
+}
@@ -0,0 +1,17 @@
+package com.demo.MoneyMap.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection of mutual fund holdings grouped by fund category and risk level.
+ */
+public interface FundExposureProjection {
+
+    String getFundCategory();
+
+    String getRiskLevel();
+
+    BigDecimal getTotalValue();
+
+    Long getHoldingCount();
+}
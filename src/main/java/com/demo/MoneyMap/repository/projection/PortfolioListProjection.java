@@ -0,0 +1,37 @@
+package com.demo.MoneyMap.repository.projection;
+
+import com.demo.MoneyMap.beans.enums.CurrencyCode;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a portfolio list row: the portfolio's own columns, its client's
+ * name and its asset count, read in one SELECT without loading either association.
+ */
+public interface PortfolioListProjection {
+
+    Long getId();
+
+    String getName();
+
+    String getDescription();
+
+    Long getClientId();
+
+    String getClientFirstName();
+
+    String getClientLastName();
+
+    BigDecimal getTotalValue();
+
+    CurrencyCode getCurrency();
+
+    Boolean getActive();
+
+    Long getAssetCount();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
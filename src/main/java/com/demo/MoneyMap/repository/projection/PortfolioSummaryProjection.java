@@ -0,0 +1,19 @@
+package com.demo.MoneyMap.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection of a portfolio summary with its asset count, grouped in one query.
+ */
+public interface PortfolioSummaryProjection {
+
+    Long getId();
+
+    String getName();
+
+    BigDecimal getTotalValue();
+
+    Long getAssetCount();
+
+    Boolean getActive();
+}
@@ -0,0 +1,17 @@
+package com.demo.MoneyMap.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection of stock holdings grouped by sector and exchange.
+ */
+public interface StockExposureProjection {
+
+    String getSector();
+
+    String getExchange();
+
+    BigDecimal getTotalValue();
+
+    Long getHoldingCount();
+}
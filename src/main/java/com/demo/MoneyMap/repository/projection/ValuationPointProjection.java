@@ -0,0 +1,24 @@
+package com.demo.MoneyMap.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Projection of one day of valuation history (a portfolio or a client rollup).
+ */
+public interface ValuationPointProjection {
+
+    LocalDate getSnapshotDate();
+
+    BigDecimal getTotalValue();
+
+    BigDecimal getCostBasis();
+
+    BigDecimal getGoldValue();
+
+    BigDecimal getStockValue();
+
+    BigDecimal getMutualFundValue();
+
+    BigDecimal getCryptoValue();
+}
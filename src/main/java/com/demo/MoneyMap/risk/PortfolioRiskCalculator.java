@@ -0,0 +1,127 @@
+package com.demo.MoneyMap.risk;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Historical-simulation risk for every portfolio of a RiskBook.
+ * For each portfolio the P&L under each historical day's returns is
+ * {@code sum(exposure_i * return_i[day])}; daily volatility is the sample standard
+ * deviation of that vector and VaR at confidence c is the loss at the (1 - c)
+ * quantile of the sorted vector.
+ *
+ * Portfolios are split across a fork/join pool. Each leaf task allocates one
+ * scratch P&L array and reuses it for all of its portfolios, so the scenario loop
+ * allocates nothing.
+ */
+public final class PortfolioRiskCalculator {
+
+    /** Metrics written per portfolio into the results array. */
+    public static final int METRIC_COUNT = 3;
+    public static final int VOLATILITY = 0;
+    public static final int VAR_95 = 1;
+    public static final int VAR_99 = 2;
+
+    /** Portfolios per leaf task. */
+    private static final int LEAF_SIZE = 64;
+
+    private PortfolioRiskCalculator() {
+    }
+
+    /**
+     * Compute the metrics of every portfolio in the book.
+     *
+     * @return {@code results[portfolio * METRIC_COUNT + metric]}
+     */
+    public static double[] computeAll(ForkJoinPool pool, RiskBook book, ReturnWindow window) {
+        double[] results = new double[book.getPortfolioCount() * METRIC_COUNT];
+        if (book.getPortfolioCount() > 0) {
+            pool.invoke(new RiskTask(book, window, results, 0, book.getPortfolioCount()));
+        }
+        return results;
+    }
+
+    /**
+     * Compute the metrics of one portfolio into results, using pnl (length >= scenario count) as scratch.
+     */
+    static void compute(RiskBook book, ReturnWindow window, int portfolio, double[] pnl, double[] results) {
+        int scenarios = window.getScenarioCount();
+        int out = portfolio * METRIC_COUNT;
+        int from = book.holdingsFrom(portfolio);
+        int to = book.holdingsTo(portfolio);
+        if (from == to || scenarios < 2) {
+            results[out + VOLATILITY] = 0.0;
+            results[out + VAR_95] = 0.0;
+            results[out + VAR_99] = 0.0;
+            return;
+        }
+
+        double[] returns = window.returns();
+        int[] symbolIndex = book.symbolIndex();
+        double[] exposure = book.exposure();
+        Arrays.fill(pnl, 0, scenarios, 0.0);
+        for (int h = from; h < to; h++) {
+            double position = exposure[h];
+            int base = symbolIndex[h] * scenarios;
+            for (int s = 0; s < scenarios; s++) {
+                pnl[s] += position * returns[base + s];
+            }
+        }
+
+        double sum = 0.0;
+        for (int s = 0; s < scenarios; s++) {
+            sum += pnl[s];
+        }
+        double mean = sum / scenarios;
+        double squares = 0.0;
+        for (int s = 0; s < scenarios; s++) {
+            double deviation = pnl[s] - mean;
+            squares += deviation * deviation;
+        }
+
+        Arrays.sort(pnl, 0, scenarios);
+        results[out + VOLATILITY] = Math.sqrt(squares / (scenarios - 1));
+        results[out + VAR_95] = valueAtRisk(pnl, scenarios, 0.95);
+        results[out + VAR_99] = valueAtRisk(pnl, scenarios, 0.99);
+    }
+
+    /**
+     * Loss at the (1 - confidence) quantile of an ascending P&L vector, floored at zero.
+     */
+    private static double valueAtRisk(double[] sortedPnl, int scenarios, double confidence) {
+        int index = (int) Math.floor((1.0 - confidence) * scenarios);
+        return Math.max(0.0, -sortedPnl[Math.min(index, scenarios - 1)]);
+    }
+
+    private static final class RiskTask extends RecursiveAction {
+
+        private final RiskBook book;
+        private final ReturnWindow window;
+        private final double[] results;
+        private final int from;
+        private final int to;
+
+        private RiskTask(RiskBook book, ReturnWindow window, double[] results, int from, int to) {
+            this.book = book;
+            this.window = window;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                double[] pnl = new double[Math.max(window.getScenarioCount(), 1)];
+                for (int portfolio = from; portfolio < to; portfolio++) {
+                    PortfolioRiskCalculator.compute(book, window, portfolio, pnl, results);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RiskTask(book, window, results, from, middle),
+                    new RiskTask(book, window, results, middle, to));
+        }
+    }
+}
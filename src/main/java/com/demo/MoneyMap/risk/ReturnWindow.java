@@ -0,0 +1,121 @@
+package com.demo.MoneyMap.risk;
+
+import com.demo.MoneyMap.index.SymbolHoldingIndex;
+import com.demo.MoneyMap.timeseries.PriceHistoryStore;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Daily simple returns of a set of symbols over a trailing window, read from the
+ * price history store. Returns are held in one flat array, symbol-major
+ * ({@code returns[symbolIndex * scenarioCount + day]}), so summing a portfolio's
+ * P&L vector walks contiguous memory.
+ *
+ * Each calendar day's close is the last price recorded on that date in the given
+ * zone, so the 23 and 25 hour days of DST changes keep their own closes. Days
+ * without a price carry the previous close forward, which yields a zero return.
+ * Symbols with fewer than two closes in the window have no index.
+ */
+public final class ReturnWindow {
+
+    private final Map<String, Integer> indexBySymbol;
+    private final double[] returns;
+    private final int scenarioCount;
+    private final LocalDate endDate;
+
+    /**
+     * A window over returns already laid out symbol-major; tests build one directly.
+     */
+    ReturnWindow(Map<String, Integer> indexBySymbol, double[] returns, int scenarioCount, LocalDate endDate) {
+        this.indexBySymbol = indexBySymbol;
+        this.returns = returns;
+        this.scenarioCount = scenarioCount;
+        this.endDate = endDate;
+    }
+
+    /**
+     * Load the returns of the given symbols for the windowDays days ending on endDate (inclusive).
+     */
+    public static ReturnWindow load(PriceHistoryStore store, Collection<String> symbols,
+                                    LocalDate endDate, int windowDays, ZoneId zone) {
+        int closeCount = windowDays + 1;
+        LocalDate fromDate = endDate.minusDays(windowDays);
+        long fromDay = fromDate.toEpochDay();
+        long fromMillis = fromDate.atStartOfDay(zone).toInstant().toEpochMilli();
+        long toMillis = endDate.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli() - 1;
+
+        // Many held symbols have no history in the window: collect the returns of those that
+        // do first, so the flat array is sized by them rather than by every held symbol.
+        Map<String, Integer> indexBySymbol = new HashMap<>();
+        List<double[]> returnsBySymbol = new ArrayList<>();
+        long[] closes = new long[closeCount];
+        for (String symbol : symbols) {
+            String key = SymbolHoldingIndex.normalize(symbol);
+            if (key == null || indexBySymbol.containsKey(key)) {
+                continue;
+            }
+            Arrays.fill(closes, 0L);
+            int[] priced = {0};
+            store.scan(key, fromMillis, toMillis, (timestamp, scaledPrice) -> {
+                long date = LocalDate.ofInstant(Instant.ofEpochMilli(timestamp), zone).toEpochDay();
+                int day = (int) Math.min(date - fromDay, closeCount - 1);
+                if (closes[day] == 0) {
+                    priced[0]++;
+                }
+                closes[day] = scaledPrice;
+                return true;
+            });
+            if (priced[0] < 2) {
+                continue;
+            }
+            double[] symbolReturns = new double[windowDays];
+            long previous = closes[0];
+            for (int day = 1; day < closeCount; day++) {
+                long close = closes[day] != 0 ? closes[day] : previous;
+                symbolReturns[day - 1] = previous > 0 ? (double) (close - previous) / previous : 0.0;
+                previous = close;
+            }
+            indexBySymbol.put(key, returnsBySymbol.size());
+            returnsBySymbol.add(symbolReturns);
+        }
+
+        double[] returns = new double[returnsBySymbol.size() * windowDays];
+        for (int index = 0; index < returnsBySymbol.size(); index++) {
+            System.arraycopy(returnsBySymbol.get(index), 0, returns, index * windowDays, windowDays);
+        }
+        return new ReturnWindow(indexBySymbol, returns, windowDays, endDate);
+    }
+
+    /**
+     * Index of a symbol's returns, or -1 if the symbol has no usable history in the window.
+     */
+    public int indexOf(String symbol) {
+        String key = SymbolHoldingIndex.normalize(symbol);
+        Integer index = key != null ? indexBySymbol.get(key) : null;
+        return index != null ? index : -1;
+    }
+
+    public int getScenarioCount() {
+        return scenarioCount;
+    }
+
+    public int getSymbolCount() {
+        return indexBySymbol.size();
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    double[] returns() {
+        return returns;
+    }
+}
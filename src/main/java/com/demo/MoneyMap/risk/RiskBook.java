@@ -0,0 +1,108 @@
+package com.demo.MoneyMap.risk;
+
+import java.util.Arrays;
+
+/**
+ * Holdings of a set of portfolios in flat primitive arrays, ordered by portfolio.
+ * Holdings of portfolio {@code p} are the positions {@code [offsets[p], offsets[p + 1])}
+ * of {@code symbolIndex} and {@code exposure}. Filled by one pass over a result set
+ * ordered by portfolio ID. Not thread-safe while being filled; read-only afterwards.
+ */
+public final class RiskBook {
+
+    private long[] portfolioIds;
+    private int[] offsets;
+    private double[] portfolioValue;
+    private double[] coveredValue;
+    private int portfolioCount;
+
+    private int[] symbolIndex;
+    private double[] exposure;
+    private int holdingCount;
+
+    public RiskBook(int expectedPortfolios, int expectedHoldings) {
+        int portfolios = Math.max(expectedPortfolios, 1);
+        int holdings = Math.max(expectedHoldings, 1);
+        portfolioIds = new long[portfolios];
+        offsets = new int[portfolios + 1];
+        portfolioValue = new double[portfolios];
+        coveredValue = new double[portfolios];
+        symbolIndex = new int[holdings];
+        exposure = new double[holdings];
+    }
+
+    /**
+     * Start a new portfolio. Holdings added afterwards belong to it.
+     */
+    public void addPortfolio(long portfolioId) {
+        if (portfolioCount == portfolioIds.length) {
+            int capacity = portfolioIds.length * 2;
+            portfolioIds = Arrays.copyOf(portfolioIds, capacity);
+            offsets = Arrays.copyOf(offsets, capacity + 1);
+            portfolioValue = Arrays.copyOf(portfolioValue, capacity);
+            coveredValue = Arrays.copyOf(coveredValue, capacity);
+        }
+        portfolioIds[portfolioCount] = portfolioId;
+        offsets[portfolioCount] = holdingCount;
+        portfolioCount++;
+        offsets[portfolioCount] = holdingCount;
+    }
+
+    /**
+     * Add a holding of the current portfolio. A holding without return history
+     * (symbolIndex < 0) counts towards the portfolio value but carries no risk.
+     */
+    public void addHolding(int returnsIndex, double value) {
+        int portfolio = portfolioCount - 1;
+        portfolioValue[portfolio] += value;
+        if (returnsIndex < 0) {
+            return;
+        }
+        if (holdingCount == symbolIndex.length) {
+            int capacity = symbolIndex.length * 2;
+            symbolIndex = Arrays.copyOf(symbolIndex, capacity);
+            exposure = Arrays.copyOf(exposure, capacity);
+        }
+        symbolIndex[holdingCount] = returnsIndex;
+        exposure[holdingCount] = value;
+        holdingCount++;
+        offsets[portfolioCount] = holdingCount;
+        coveredValue[portfolio] += value;
+    }
+
+    public int getPortfolioCount() {
+        return portfolioCount;
+    }
+
+    public int getHoldingCount() {
+        return holdingCount;
+    }
+
+    public long getPortfolioId(int portfolio) {
+        return portfolioIds[portfolio];
+    }
+
+    public double getPortfolioValue(int portfolio) {
+        return portfolioValue[portfolio];
+    }
+
+    public double getCoveredValue(int portfolio) {
+        return coveredValue[portfolio];
+    }
+
+    int holdingsFrom(int portfolio) {
+        return offsets[portfolio];
+    }
+
+    int holdingsTo(int portfolio) {
+        return offsets[portfolio + 1];
+    }
+
+    int[] symbolIndex() {
+        return symbolIndex;
+    }
+
+    double[] exposure() {
+        return exposure;
+    }
+}
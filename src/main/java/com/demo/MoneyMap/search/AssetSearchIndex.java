@@ -0,0 +1,72 @@
+package com.demo.MoneyMap.search;
+
+import com.demo.MoneyMap.event.AssetChangedEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Search index over asset name and symbol. A symbol match outranks a name match of the same kind.
+ * Built at startup, kept in sync from AssetChangedEvents and rebuilt periodically to pick up
+ * writes that publish none.
+ */
+@Component
+public class AssetSearchIndex extends EntitySearchIndex {
+
+    private static final String LOAD_SQL = "SELECT id, name, symbol FROM assets";
+
+    private static final String LOAD_ONE_SQL = LOAD_SQL + " WHERE id = ?";
+
+    private static final int NAME_WEIGHT = 1;
+    private static final int SYMBOL_WEIGHT = 2;
+
+    public AssetSearchIndex(JdbcTemplate jdbcTemplate) {
+        super(jdbcTemplate, "Asset");
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${moneymap.search.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${moneymap.search.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        super.rebuild();
+    }
+
+    /**
+     * Re-index created or updated assets and drop deleted ones once the change has committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssetChanged(AssetChangedEvent event) {
+        if (event.changeType() == AssetChangedEvent.ChangeType.DELETED) {
+            evict(event.assetId());
+        } else {
+            refresh(event.assetId());
+        }
+    }
+
+    @Override
+    protected String loadSql() {
+        return LOAD_SQL;
+    }
+
+    @Override
+    protected String loadOneSql() {
+        return LOAD_ONE_SQL;
+    }
+
+    @Override
+    protected NGramIndex newIndex() {
+        return new NGramIndex(NAME_WEIGHT, SYMBOL_WEIGHT);
+    }
+
+    @Override
+    protected String[] values(ResultSet rs) throws SQLException {
+        return new String[]{rs.getString("name"), rs.getString("symbol")};
+    }
+}
@@ -0,0 +1,72 @@
+package com.demo.MoneyMap.search;
+
+import com.demo.MoneyMap.event.ClientChangedEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Search index over client first name, last name and email. Names outrank email of the same match kind.
+ * Built at startup, kept in sync from ClientChangedEvents and rebuilt periodically to pick up
+ * writes that publish none.
+ */
+@Component
+public class ClientSearchIndex extends EntitySearchIndex {
+
+    private static final String LOAD_SQL = "SELECT id, first_name, last_name, email FROM clients";
+
+    private static final String LOAD_ONE_SQL = LOAD_SQL + " WHERE id = ?";
+
+    private static final int NAME_WEIGHT = 2;
+    private static final int EMAIL_WEIGHT = 1;
+
+    public ClientSearchIndex(JdbcTemplate jdbcTemplate) {
+        super(jdbcTemplate, "Client");
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${moneymap.search.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${moneymap.search.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        super.rebuild();
+    }
+
+    /**
+     * Re-index created or updated clients and drop deleted ones once the change has committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClientChanged(ClientChangedEvent event) {
+        if (event.changeType() == ClientChangedEvent.ChangeType.DELETED) {
+            evict(event.clientId());
+        } else {
+            refresh(event.clientId());
+        }
+    }
+
+    @Override
+    protected String loadSql() {
+        return LOAD_SQL;
+    }
+
+    @Override
+    protected String loadOneSql() {
+        return LOAD_ONE_SQL;
+    }
+
+    @Override
+    protected NGramIndex newIndex() {
+        return new NGramIndex(NAME_WEIGHT, NAME_WEIGHT, EMAIL_WEIGHT);
+    }
+
+    @Override
+    protected String[] values(ResultSet rs) throws SQLException {
+        return new String[]{rs.getString("first_name"), rs.getString("last_name"), rs.getString("email")};
+    }
+}
@@ -0,0 +1,141 @@
+package com.demo.MoneyMap.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps an {@link NGramIndex} of one table in sync with the database.
+ *
+ * A rebuild streams the table into a fresh index and swaps it in, so searches keep
+ * using the previous one meanwhile. Rows changed while the table was being read may be
+ * missing from the new index, so their IDs are collected and re-read after the swap.
+ */
+@Slf4j
+public abstract class EntitySearchIndex {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingTemplate;
+    private final String name;
+
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    private volatile NGramIndex index;
+    private volatile boolean rebuilding;
+
+    protected EntitySearchIndex(JdbcTemplate jdbcTemplate, String name) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.name = name;
+        // MySQL Connector/J streams rows one at a time instead of buffering the result set.
+        this.streamingTemplate = new JdbcTemplate(Objects.requireNonNull(jdbcTemplate.getDataSource()));
+        this.streamingTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    /**
+     * Query returning the ID column followed by the indexed columns of every row.
+     */
+    protected abstract String loadSql();
+
+    /**
+     * {@link #loadSql()} restricted to one ID.
+     */
+    protected abstract String loadOneSql();
+
+    /**
+     * An empty index with one weight per indexed column.
+     */
+    protected abstract NGramIndex newIndex();
+
+    /**
+     * The indexed column values of the current row, in field order.
+     */
+    protected abstract String[] values(ResultSet rs) throws SQLException;
+
+    /**
+     * Load the whole table into a new index and swap it in.
+     */
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        changedDuringRebuild.clear();
+        rebuilding = true;
+        NGramIndex fresh = newIndex();
+        try {
+            streamingTemplate.query(loadSql(), rs -> {
+                fresh.put(rs.getLong(1), values(rs));
+            });
+            index = fresh;
+        } finally {
+            rebuilding = false;
+        }
+        List<Long> changed = new ArrayList<>(changedDuringRebuild);
+        changedDuringRebuild.clear();
+        changed.forEach(this::refresh);
+        log.info("{} search index built: {} documents, {} trigrams in {} ms",
+                name, fresh.size(), fresh.gramCount(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Re-read one row after its change has committed.
+     */
+    protected void refresh(Long id) {
+        if (id == null) {
+            return;
+        }
+        if (rebuilding) {
+            changedDuringRebuild.add(id);
+        }
+        NGramIndex current = index;
+        if (current == null) {
+            return;
+        }
+        List<String[]> rows = jdbcTemplate.query(loadOneSql(), (rs, rowNum) -> values(rs), id);
+        if (rows.isEmpty()) {
+            current.remove(id);
+        } else {
+            current.put(id, rows.get(0));
+        }
+    }
+
+    /**
+     * Drop one row after its deletion has committed.
+     */
+    protected void evict(Long id) {
+        if (id == null) {
+            return;
+        }
+        if (rebuilding) {
+            changedDuringRebuild.add(id);
+        }
+        NGramIndex current = index;
+        if (current != null) {
+            current.remove(id);
+        }
+    }
+
+    /**
+     * Rank the rows matching a term; see {@link NGramIndex#search}.
+     *
+     * @throws IllegalStateException if the initial build has not completed
+     */
+    public NGramIndex.SearchResult search(String term, int offset, int limit) {
+        NGramIndex current = index;
+        if (current == null) {
+            throw new IllegalStateException(name + " search index is not ready");
+        }
+        return current.search(term, offset, limit);
+    }
+
+    /**
+     * Whether the initial build has completed.
+     */
+    public boolean isReady() {
+        return index != null;
+    }
+}
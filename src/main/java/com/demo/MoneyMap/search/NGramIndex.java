@@ -0,0 +1,430 @@
+package com.demo.MoneyMap.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Trigram inverted index answering case-insensitive substring searches over a few
+ * text fields per document, with the same matching rule as {@code LOWER(x) LIKE '%term%'}.
+ *
+ * Each document gets an int slot; every trigram of its lower-cased fields maps to a
+ * sorted int[] of slots. A search intersects the postings of the term's trigrams,
+ * smallest first, and verifies the few survivors against the stored text, so its cost
+ * follows the number of candidates rather than the number of documents. Terms shorter
+ * than a trigram have no postings and are answered by a scan.
+ *
+ * Slots are handed out in increasing order, so appending keeps postings sorted. An
+ * update or delete leaves a dead slot behind; postings are compacted once dead slots
+ * outnumber live ones.
+ *
+ * Thread-safe: searches share a read lock, writes take the write lock.
+ */
+public final class NGramIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MIN_DEAD_SLOTS_TO_COMPACT = 1024;
+
+    /** How a field matched, best first; the ordinal order is the rank order. */
+    private enum MatchKind {
+        EXACT, PREFIX, WORD_PREFIX, SUBSTRING
+    }
+
+    private final int[] fieldWeights;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private final Map<Long, Postings> postingsByGram = new HashMap<>();
+    private final BitSet liveSlots = new BitSet();
+    private long[] idBySlot = new long[INITIAL_CAPACITY];
+    private String[][] fieldsBySlot = new String[INITIAL_CAPACITY][];
+    private int nextSlot;
+
+    /**
+     * @param fieldWeights the relative weight of each field, in the order values are passed to {@link #put}
+     */
+    public NGramIndex(int... fieldWeights) {
+        if (fieldWeights.length == 0) {
+            throw new IllegalArgumentException("At least one field is required");
+        }
+        this.fieldWeights = fieldWeights.clone();
+    }
+
+    // ============== WRITES ==============
+
+    /**
+     * Add or replace a document.
+     *
+     * @param id     the document ID
+     * @param values one value per field (null for none)
+     */
+    public void put(long id, String... values) {
+        if (values.length != fieldWeights.length) {
+            throw new IllegalArgumentException("Expected " + fieldWeights.length + " field values");
+        }
+        String[] fields = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            fields[i] = normalize(values[i]);
+        }
+        lock.writeLock().lock();
+        try {
+            Integer previous = slotById.get(id);
+            if (previous != null) {
+                if (Arrays.equals(fieldsBySlot[previous], fields)) {
+                    return;
+                }
+                kill(previous);
+            }
+            int slot = allocate(id, fields);
+            slotById.put(id, slot);
+            for (long gram : distinctGrams(fields)) {
+                postingsByGram.computeIfAbsent(gram, g -> new Postings()).append(slot);
+            }
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a document; unknown IDs are ignored.
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.remove(id);
+            if (slot != null) {
+                kill(slot);
+                compactIfSparse();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int allocate(long id, String[] fields) {
+        if (nextSlot == idBySlot.length) {
+            int capacity = idBySlot.length * 2;
+            idBySlot = Arrays.copyOf(idBySlot, capacity);
+            fieldsBySlot = Arrays.copyOf(fieldsBySlot, capacity);
+        }
+        int slot = nextSlot++;
+        idBySlot[slot] = id;
+        fieldsBySlot[slot] = fields;
+        liveSlots.set(slot);
+        return slot;
+    }
+
+    private void kill(int slot) {
+        liveSlots.clear(slot);
+        fieldsBySlot[slot] = null;
+    }
+
+    private void compactIfSparse() {
+        int dead = nextSlot - slotById.size();
+        if (dead >= MIN_DEAD_SLOTS_TO_COMPACT && dead > slotById.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Renumber live slots densely, keeping their order, and drop dead slots from every postings list.
+     */
+    private void compact() {
+        int[] remap = new int[nextSlot];
+        int live = 0;
+        for (int slot = 0; slot < nextSlot; slot++) {
+            if (liveSlots.get(slot)) {
+                remap[slot] = live;
+                idBySlot[live] = idBySlot[slot];
+                fieldsBySlot[live] = fieldsBySlot[slot];
+                slotById.put(idBySlot[live], live);
+                live++;
+            } else {
+                remap[slot] = -1;
+            }
+        }
+        Arrays.fill(fieldsBySlot, live, nextSlot, null);
+        nextSlot = live;
+        liveSlots.clear();
+        liveSlots.set(0, live);
+        postingsByGram.values().removeIf(postings -> postings.remap(remap) == 0);
+    }
+
+    // ============== SEARCH ==============
+
+    /**
+     * Find the documents with a field containing the term, best matches first.
+     * Ranking: a field equal to the term beats one starting with it, which beats a word
+     * inside it starting with it, which beats any other occurrence; the field weight
+     * scales that rank. Ties go to the shorter field, then the lower ID.
+     *
+     * @param term   the search term (case-insensitive)
+     * @param offset how many ranked matches to skip
+     * @param limit  how many ranked matches to return
+     * @return the requested IDs in rank order and the total number of matches
+     */
+    public SearchResult search(String term, int offset, int limit) {
+        String needle = normalize(term);
+        if (needle == null) {
+            needle = "";
+        }
+        int wanted = Math.max(0, offset) + Math.max(0, limit);
+        // Min-heap on rank: the root is the weakest of the best matches kept so far
+        PriorityQueue<Match> heap = new PriorityQueue<>(Math.max(1, wanted + 1), Match.BEST_FIRST.reversed());
+        int total = 0;
+
+        lock.readLock().lock();
+        try {
+            if (needle.length() < GRAM_LENGTH) {
+                for (int slot = liveSlots.nextSetBit(0); slot >= 0; slot = liveSlots.nextSetBit(slot + 1)) {
+                    total += collect(slot, needle, heap, wanted);
+                }
+            } else {
+                int[] candidates = candidates(needle);
+                for (int slot : candidates) {
+                    if (liveSlots.get(slot)) {
+                        total += collect(slot, needle, heap, wanted);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Match> ranked = new ArrayList<>(heap);
+        ranked.sort(Match.BEST_FIRST);
+        int from = Math.min(Math.max(0, offset), ranked.size());
+        long[] ids = new long[ranked.size() - from];
+        for (int i = from; i < ranked.size(); i++) {
+            ids[i - from] = ranked.get(i).id();
+        }
+        return new SearchResult(ids, total);
+    }
+
+    /**
+     * Slots whose postings contain every trigram of the term, in slot order (may include dead slots).
+     */
+    private int[] candidates(String needle) {
+        long[] grams = distinctGrams(new String[]{needle});
+        Postings[] lists = new Postings[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = postingsByGram.get(grams[i]);
+            if (lists[i] == null) {
+                return new int[0];
+            }
+        }
+        Arrays.sort(lists, Comparator.comparingInt(Postings::size));
+        int[] result = Arrays.copyOf(lists[0].slots, lists[0].size);
+        int size = result.length;
+        for (int i = 1; i < lists.length && size > 0; i++) {
+            size = lists[i].retainAll(result, size);
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Rank a slot against the term and offer it to the heap; returns 1 if it matched.
+     */
+    private int collect(int slot, String needle, PriorityQueue<Match> heap, int wanted) {
+        String[] fields = fieldsBySlot[slot];
+        int best = 0;
+        int length = Integer.MAX_VALUE;
+        for (int f = 0; f < fields.length; f++) {
+            String field = fields[f];
+            MatchKind kind = field != null ? match(field, needle) : null;
+            if (kind == null) {
+                continue;
+            }
+            int score = (MatchKind.values().length - kind.ordinal()) * fieldWeights[f];
+            if (score > best || (score == best && field.length() < length)) {
+                best = score;
+                length = field.length();
+            }
+        }
+        if (best == 0) {
+            return 0;
+        }
+        if (heap.size() < wanted) {
+            heap.add(new Match(idBySlot[slot], best, length));
+        } else if (wanted > 0 && heap.peek().isWorseThan(idBySlot[slot], best, length)) {
+            heap.poll();
+            heap.add(new Match(idBySlot[slot], best, length));
+        }
+        return 1;
+    }
+
+    private static MatchKind match(String field, String needle) {
+        int at = field.indexOf(needle);
+        if (at < 0) {
+            return null;
+        }
+        if (at == 0) {
+            return field.length() == needle.length() ? MatchKind.EXACT : MatchKind.PREFIX;
+        }
+        for (; at >= 0; at = field.indexOf(needle, at + 1)) {
+            if (!Character.isLetterOrDigit(field.charAt(at - 1))) {
+                return MatchKind.WORD_PREFIX;
+            }
+        }
+        return MatchKind.SUBSTRING;
+    }
+
+    // ============== STATUS ==============
+
+    /**
+     * Number of live documents.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of distinct trigrams with postings.
+     */
+    public int gramCount() {
+        lock.readLock().lock();
+        try {
+            return postingsByGram.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ============== HELPERS ==============
+
+    static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The distinct trigrams of the fields, each packed as three 16-bit chars into a long.
+     */
+    private static long[] distinctGrams(String[] fields) {
+        int capacity = 0;
+        for (String field : fields) {
+            if (field != null) {
+                capacity += Math.max(0, field.length() - GRAM_LENGTH + 1);
+            }
+        }
+        long[] grams = new long[capacity];
+        int count = 0;
+        for (String field : fields) {
+            if (field == null) {
+                continue;
+            }
+            for (int i = 0; i + GRAM_LENGTH <= field.length(); i++) {
+                grams[count++] = ((long) field.charAt(i) << 32) | ((long) field.charAt(i + 1) << 16) | field.charAt(i + 2);
+            }
+        }
+        Arrays.sort(grams, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || grams[i] != grams[distinct - 1]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+
+    // ============== TYPES ==============
+
+    /**
+     * IDs of one page of ranked matches and the total number of matches.
+     */
+    public record SearchResult(long[] ids, int total) {
+    }
+
+    private record Match(long id, int score, int length) {
+
+        static final Comparator<Match> BEST_FIRST = Comparator.comparingInt(Match::score).reversed()
+                .thenComparingInt(Match::length)
+                .thenComparingLong(Match::id);
+
+        boolean isWorseThan(long otherId, int otherScore, int otherLength) {
+            if (score != otherScore) {
+                return score < otherScore;
+            }
+            if (length != otherLength) {
+                return length > otherLength;
+            }
+            return id > otherId;
+        }
+    }
+
+    /**
+     * Growable sorted int[] of slots.
+     */
+    private static final class Postings {
+
+        private int[] slots = new int[4];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        void append(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size + (size >> 1) + 1);
+            }
+            slots[size++] = slot;
+        }
+
+        /**
+         * Keep the first {@code count} entries of {@code candidates} (sorted) that are also here,
+         * compacting them to the front; returns how many were kept. Gallops through this list,
+         * which is at least as long as the candidates.
+         */
+        int retainAll(int[] candidates, int count) {
+            int kept = 0;
+            int from = 0;
+            for (int i = 0; i < count && from < size; i++) {
+                int at = Arrays.binarySearch(slots, from, size, candidates[i]);
+                if (at >= 0) {
+                    candidates[kept++] = candidates[i];
+                    from = at + 1;
+                } else {
+                    from = -at - 1;
+                }
+            }
+            return kept;
+        }
+
+        /**
+         * Rewrite slots through the remap table, dropping those mapped to -1; returns the new size.
+         */
+        int remap(int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int slot = remap[slots[i]];
+                if (slot >= 0) {
+                    slots[kept++] = slot;
+                }
+            }
+            size = kept;
+            if (slots.length > 16 && kept < slots.length / 4) {
+                slots = Arrays.copyOf(slots, Math.max(4, kept));
+            }
+            return kept;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.demo.MoneyMap.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Immutable prefix lookup returning the highest-weighted entries whose keys start with a prefix.
+ *
+ * Keys are lower-cased and sorted in one array, so the keys sharing a prefix form one
+ * contiguous range found with two binary searches. A max segment tree over the keys'
+ * weights then yields the top k of that range in O(k log k log n) without visiting the
+ * rest of it, however short (and broad) the prefix is.
+ *
+ * An entry may have several keys (a symbol and the words of its name); each entry is
+ * returned at most once. Safe for concurrent reads; build a new one to change it.
+ *
+ * @param <T> the entry type
+ */
+public final class PrefixSuggester<T> {
+
+    private final String[] keys;
+    private final int[] entryOfKey;
+    private final int[] weightOfKey;
+    private final List<T> entries;
+    /** tree[1] is the root; tree[n + i] is key i; each node holds the best key position below it. */
+    private final int[] tree;
+    private final int n;
+
+    private PrefixSuggester(String[] keys, int[] entryOfKey, int[] weightOfKey, List<T> entries) {
+        this.keys = keys;
+        this.entryOfKey = entryOfKey;
+        this.weightOfKey = weightOfKey;
+        this.entries = entries;
+        this.n = keys.length;
+        this.tree = new int[Math.max(2, 2 * n)];
+        for (int i = 0; i < n; i++) {
+            tree[n + i] = i;
+        }
+        for (int node = n - 1; node >= 1; node--) {
+            tree[node] = better(tree[2 * node], tree[2 * node + 1]);
+        }
+    }
+
+    /**
+     * Build a suggester over the given entries.
+     *
+     * @param entries the entries
+     * @param weight  ranking weight of an entry, higher first
+     * @param keysOf  the keys an entry is found under (null or blank keys are skipped)
+     */
+    public static <T> PrefixSuggester<T> build(Collection<T> entries, ToIntFunction<T> weight,
+                                               Function<T, Collection<String>> keysOf) {
+        List<T> entryList = new ArrayList<>(entries);
+        List<KeyRef> refs = new ArrayList<>(entryList.size() * 2);
+        for (int e = 0; e < entryList.size(); e++) {
+            T entry = entryList.get(e);
+            int w = weight.applyAsInt(entry);
+            for (String key : keysOf.apply(entry)) {
+                String normalized = normalize(key);
+                if (normalized != null) {
+                    refs.add(new KeyRef(normalized, e, w));
+                }
+            }
+        }
+        refs.sort(Comparator.comparing(KeyRef::key).thenComparingInt(KeyRef::entry));
+        String[] keys = new String[refs.size()];
+        int[] entryOfKey = new int[refs.size()];
+        int[] weightOfKey = new int[refs.size()];
+        int count = 0;
+        for (KeyRef ref : refs) {
+            // The same key twice for one entry (e.g. a name equal to its symbol) adds nothing
+            if (count > 0 && entryOfKey[count - 1] == ref.entry() && keys[count - 1].equals(ref.key())) {
+                continue;
+            }
+            keys[count] = ref.key();
+            entryOfKey[count] = ref.entry();
+            weightOfKey[count] = ref.weight();
+            count++;
+        }
+        return new PrefixSuggester<>(Arrays.copyOf(keys, count), Arrays.copyOf(entryOfKey, count),
+                Arrays.copyOf(weightOfKey, count), entryList);
+    }
+
+    /**
+     * The highest-weighted entries with a key starting with the prefix; ties go to the
+     * alphabetically first key. A blank prefix matches every entry.
+     */
+    public List<T> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        int from = normalized == null ? 0 : lowerBound(normalized);
+        int to = normalized == null ? n : endOfPrefix(normalized, from);
+        List<T> result = new ArrayList<>(Math.min(limit, 16));
+        if (from >= to || limit <= 0) {
+            return result;
+        }
+        BitSet returned = new BitSet();
+        PriorityQueue<Range> ranges = new PriorityQueue<>((a, b) -> compare(a.best(), b.best()));
+        ranges.add(new Range(from, to, query(from, to)));
+        while (!ranges.isEmpty() && result.size() < limit) {
+            Range range = ranges.poll();
+            int best = range.best();
+            int entry = entryOfKey[best];
+            if (!returned.get(entry)) {
+                returned.set(entry);
+                result.add(entries.get(entry));
+            }
+            if (range.from() < best) {
+                ranges.add(new Range(range.from(), best, query(range.from(), best)));
+            }
+            if (best + 1 < range.to()) {
+                ranges.add(new Range(best + 1, range.to(), query(best + 1, range.to())));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Number of distinct entries.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Number of keys, counting every key of every entry.
+     */
+    public int keyCount() {
+        return n;
+    }
+
+    // ============== HELPERS ==============
+
+    static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed.toLowerCase(Locale.ROOT);
+    }
+
+    /** First key not less than the prefix. */
+    private int lowerBound(String prefix) {
+        int lo = 0;
+        int hi = n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /** First key at or after {@code from} that does not start with the prefix. */
+    private int endOfPrefix(String prefix, int from) {
+        int lo = from;
+        int hi = n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid].startsWith(prefix)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /** Best key position in [from, to). */
+    private int query(int from, int to) {
+        int best = -1;
+        for (int l = from + n, r = to + n; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) {
+                best = best < 0 ? tree[l] : better(best, tree[l]);
+                l++;
+            }
+            if ((r & 1) == 1) {
+                r--;
+                best = best < 0 ? tree[r] : better(best, tree[r]);
+            }
+        }
+        return best;
+    }
+
+    private int better(int a, int b) {
+        return compare(a, b) <= 0 ? a : b;
+    }
+
+    /** Negative if key position a ranks before b: higher weight first, then the earlier key. */
+    private int compare(int a, int b) {
+        int byWeight = Integer.compare(weightOfKey[b], weightOfKey[a]);
+        return byWeight != 0 ? byWeight : Integer.compare(a, b);
+    }
+
+    private record KeyRef(String key, int entry, int weight) {
+    }
+
+    private record Range(int from, int to, int best) {
+    }
+}
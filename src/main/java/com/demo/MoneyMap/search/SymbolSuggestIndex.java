@@ -0,0 +1,276 @@
+package com.demo.MoneyMap.search;
+
+import com.demo.MoneyMap.beans.enums.AssetType;
+import com.demo.MoneyMap.event.AssetChangedEvent;
+import com.demo.MoneyMap.index.SymbolHoldingIndex;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Symbol autocomplete over the distinct symbols held by the firm, ranked by holder count.
+ *
+ * Holdings are aggregated per symbol in memory and kept in sync from AssetChangedEvents.
+ * Lookups never touch the aggregates: they read an immutable {@link PrefixSuggester}
+ * that a background task rebuilds from them when something changed, and swaps in with
+ * a single reference write. A periodic reload from the database picks up writes that
+ * publish no event.
+ *
+ * Assets without a symbol are grouped by name instead.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SymbolSuggestIndex {
+
+    private static final String HOLDING_COLUMNS = "SELECT id, symbol, name, asset_type FROM assets";
+
+    private static final String LOAD_ONE_SQL = HOLDING_COLUMNS + " WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private JdbcTemplate streamingTemplate;
+
+    /** Guarded by {@code this}. */
+    private final Map<Long, Holding> holdingsById = new HashMap<>();
+    /** Guarded by {@code this}. */
+    private final Map<String, SymbolGroup> groupsByKey = new HashMap<>();
+
+    private volatile PrefixSuggester<Suggestion> suggester;
+    private volatile boolean dirty;
+    private volatile Instant builtAt;
+
+    @PostConstruct
+    public void init() {
+        // MySQL Connector/J streams rows one at a time instead of buffering the result set.
+        streamingTemplate = new JdbcTemplate(Objects.requireNonNull(jdbcTemplate.getDataSource()));
+        streamingTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    // ============== MAINTENANCE ==============
+
+    /**
+     * Reload all holdings from the database and publish a new suggester.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${moneymap.suggest.reload-interval-ms:3600000}",
+            fixedDelayString = "${moneymap.suggest.reload-interval-ms:3600000}")
+    public void reload() {
+        long start = System.currentTimeMillis();
+        Set<Long> seen = new HashSet<>();
+        streamingTemplate.query(HOLDING_COLUMNS, rs -> {
+            Holding holding = toHolding(rs);
+            seen.add(holding.assetId());
+            put(holding);
+        });
+        List<Long> gone;
+        synchronized (this) {
+            gone = holdingsById.keySet().stream().filter(id -> !seen.contains(id)).toList();
+        }
+        gone.forEach(this::remove);
+        publish();
+        log.info("Symbol suggest index loaded: {} holdings in {} ms", seen.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Re-read created or updated assets and drop deleted ones once the change has committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssetChanged(AssetChangedEvent event) {
+        if (event.changeType() == AssetChangedEvent.ChangeType.DELETED) {
+            remove(event.assetId());
+            return;
+        }
+        List<Holding> rows = jdbcTemplate.query(LOAD_ONE_SQL, (rs, rowNum) -> toHolding(rs), event.assetId());
+        if (rows.isEmpty()) {
+            remove(event.assetId());
+        } else {
+            put(rows.get(0));
+        }
+    }
+
+    /**
+     * Rebuild and swap in the suggester if holdings changed since the last build.
+     */
+    @Scheduled(fixedDelayString = "${moneymap.suggest.publish-interval-ms:1000}")
+    public void publishIfDirty() {
+        if (dirty && suggester != null) {
+            publish();
+        }
+    }
+
+    private void publish() {
+        List<Suggestion> suggestions;
+        synchronized (this) {
+            dirty = false;
+            suggestions = new ArrayList<>(groupsByKey.size());
+            groupsByKey.values().forEach(group -> suggestions.add(group.toSuggestion()));
+        }
+        suggester = PrefixSuggester.build(suggestions, Suggestion::holderCount, SymbolSuggestIndex::keysOf);
+        builtAt = Instant.now();
+    }
+
+    private synchronized void put(Holding holding) {
+        Holding previous = holdingsById.put(holding.assetId(), holding);
+        if (holding.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            release(previous);
+        }
+        groupsByKey.computeIfAbsent(holding.groupKey(), key -> new SymbolGroup(holding.symbol())).add(holding);
+        dirty = true;
+    }
+
+    private synchronized void remove(Long assetId) {
+        Holding previous = holdingsById.remove(assetId);
+        if (previous != null) {
+            release(previous);
+            dirty = true;
+        }
+    }
+
+    private void release(Holding holding) {
+        SymbolGroup group = groupsByKey.get(holding.groupKey());
+        if (group != null && group.remove(holding)) {
+            groupsByKey.remove(holding.groupKey());
+        }
+    }
+
+    private Holding toHolding(ResultSet rs) throws SQLException {
+        String type = rs.getString("asset_type");
+        return new Holding(rs.getLong("id"), SymbolHoldingIndex.normalize(rs.getString("symbol")),
+                rs.getString("name"), type != null ? AssetType.valueOf(type) : null);
+    }
+
+    /**
+     * A suggestion is found by its symbol, its full name and each later word of its name.
+     */
+    static Collection<String> keysOf(Suggestion suggestion) {
+        List<String> keys = new ArrayList<>(4);
+        if (suggestion.symbol() != null) {
+            keys.add(suggestion.symbol());
+        }
+        String name = suggestion.name();
+        if (name != null) {
+            keys.add(name);
+            for (int i = 1; i < name.length(); i++) {
+                if (!Character.isLetterOrDigit(name.charAt(i - 1)) && Character.isLetterOrDigit(name.charAt(i))) {
+                    keys.add(name.substring(i));
+                }
+            }
+        }
+        return keys;
+    }
+
+    // ============== QUERIES ==============
+
+    /**
+     * The most held symbols with the symbol, or a word of the name, starting with the prefix.
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        PrefixSuggester<Suggestion> current = suggester;
+        return current != null ? current.suggest(prefix, limit) : Collections.emptyList();
+    }
+
+    public boolean isReady() {
+        return suggester != null;
+    }
+
+    /**
+     * When the suggester being served was built (null before the first build).
+     */
+    public Instant getBuiltAt() {
+        return builtAt;
+    }
+
+    // ============== TYPES ==============
+
+    /**
+     * One suggestion: a symbol with its most common name and type and how many holdings it has.
+     */
+    public record Suggestion(String symbol, String name, AssetType assetType, int holderCount) {
+    }
+
+    private record Holding(long assetId, String symbol, String name, AssetType assetType) {
+
+        String groupKey() {
+            return symbol != null ? symbol : "name:" + (name != null ? name.trim().toLowerCase(Locale.ROOT) : "");
+        }
+    }
+
+    /**
+     * Holdings of one symbol; the suggested name and type are the most common among them.
+     */
+    private static final class SymbolGroup {
+
+        private final String symbol;
+        private final Map<String, Integer> nameCounts = new HashMap<>(2);
+        private final Map<AssetType, Integer> typeCounts = new HashMap<>(2);
+        private int holders;
+
+        SymbolGroup(String symbol) {
+            this.symbol = symbol;
+        }
+
+        void add(Holding holding) {
+            holders++;
+            if (holding.name() != null) {
+                nameCounts.merge(holding.name(), 1, Integer::sum);
+            }
+            if (holding.assetType() != null) {
+                typeCounts.merge(holding.assetType(), 1, Integer::sum);
+            }
+        }
+
+        /**
+         * Returns true when the group has no holdings left.
+         */
+        boolean remove(Holding holding) {
+            holders--;
+            if (holding.name() != null) {
+                nameCounts.computeIfPresent(holding.name(), (name, count) -> count > 1 ? count - 1 : null);
+            }
+            if (holding.assetType() != null) {
+                typeCounts.computeIfPresent(holding.assetType(), (type, count) -> count > 1 ? count - 1 : null);
+            }
+            return holders <= 0;
+        }
+
+        Suggestion toSuggestion() {
+            return new Suggestion(symbol, mostCommon(nameCounts), mostCommon(typeCounts), holders);
+        }
+
+        private static <K> K mostCommon(Map<K, Integer> counts) {
+            K best = null;
+            int bestCount = 0;
+            for (Map.Entry<K, Integer> entry : counts.entrySet()) {
+                if (entry.getValue() > bestCount) {
+                    best = entry.getKey();
+                    bestCount = entry.getValue();
+                }
+            }
+            return best;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.beans.enums.ScrollSort;
+import com.demo.MoneyMap.dto.response.AssetResponseDTO;
+import com.demo.MoneyMap.dto.response.SliceResponseDTO;
+
+/**
+ * Service interface for cursor-paginated asset listings.
+ * Follows Interface Segregation Principle (ISP) from SOLID.
+ */
+public interface AssetQueryService {
+
+    /**
+     * Get the slice of assets after a cursor, without counting the total.
+     *
+     * @param cursor the token from the previous slice, or null for the first slice
+     * @param size   the slice size
+     * @param sort   the sort key
+     * @return the slice with the cursor for the next one
+     */
+    SliceResponseDTO<AssetResponseDTO> scrollAssets(String cursor, int size, ScrollSort sort);
+
+    /**
+     * Get the slice of a portfolio's assets after a cursor, ordered by ID.
+     *
+     * @param portfolioId the portfolio ID
+     * @param cursor      the token from the previous slice, or null for the first slice
+     * @param size        the slice size
+     * @return the slice with the cursor for the next one
+     */
+    SliceResponseDTO<AssetResponseDTO> scrollAssetsByPortfolio(Long portfolioId, String cursor, int size);
+}
@@ -0,0 +1,52 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.beans.enums.AssetType;
+import com.demo.MoneyMap.dto.response.AumSummaryDTO;
+import com.demo.MoneyMap.dto.response.ClientAumDTO;
+
+import java.math.BigDecimal;
+
+/**
+ * Service interface for materialized assets-under-management aggregates.
+ * Follows Interface Segregation Principle (ISP) from SOLID.
+ */
+public interface AumAggregateService {
+
+    /**
+     * Get the total value of all assets of a type.
+     *
+     * @param assetType the asset type
+     * @return the total current value
+     */
+    BigDecimal getTotalValueByAssetType(AssetType assetType);
+
+    /**
+     * Get the number of assets of a type.
+     *
+     * @param assetType the asset type
+     * @return the asset count
+     */
+    long getAssetCountByAssetType(AssetType assetType);
+
+    /**
+     * Get the assets under management of a client, across all of their portfolios.
+     *
+     * @param clientId the client ID
+     * @return the client's totals
+     */
+    ClientAumDTO getClientAum(Long clientId);
+
+    /**
+     * Get firm-wide totals and counts, overall and per asset type.
+     *
+     * @return the summary
+     */
+    AumSummaryDTO getSummary();
+
+    /**
+     * Recompute the aggregates from the assets table and correct any drift.
+     *
+     * @return the summary after reconciliation
+     */
+    AumSummaryDTO reconcile();
+}
@@ -0,0 +1,27 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.dto.response.CacheRegionStatsDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for second-level cache metrics.
+ * Follows Interface Segregation Principle (ISP) from SOLID.
+ */
+public interface CacheStatsService {
+
+    /**
+     * Get the settings and counters of every cache region.
+     *
+     * @return one entry per region
+     */
+    List<CacheRegionStatsDTO> getRegionStats();
+
+    /**
+     * Get the settings and counters of one cache region.
+     *
+     * @param region the region name
+     * @return the region's stats
+     */
+    CacheRegionStatsDTO getRegionStats(String region);
+}
@@ -0,0 +1,18 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.dto.response.ClientDashboardDTO;
+
+/**
+ * Service interface for the client dashboard.
+ * Follows Interface Segregation Principle (ISP) from SOLID.
+ */
+public interface ClientDashboardService {
+
+    /**
+     * Build a client's dashboard from one aggregate query.
+     *
+     * @param clientId the client ID
+     * @return totals, allocation by asset type and per-portfolio breakdown
+     */
+    ClientDashboardDTO getDashboard(Long clientId);
+}
@@ -0,0 +1,58 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.beans.enums.ScrollSort;
+import com.demo.MoneyMap.dto.response.ClientResponseDTO;
+import com.demo.MoneyMap.dto.response.PagedResponseDTO;
+import com.demo.MoneyMap.dto.response.SliceResponseDTO;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * Service interface for client listings, served from projections rather than entities.
+ * Follows Interface Segregation Principle (ISP) from SOLID.
+ */
+public interface ClientQueryService {
+
+    /**
+     * Get all clients with pagination.
+     *
+     * @param pageable pagination parameters
+     * @return paginated list of clients
+     */
+    PagedResponseDTO<ClientResponseDTO> getAllClients(Pageable pageable);
+
+    /**
+     * Get all active clients.
+     *
+     * @return list of active clients
+     */
+    List<ClientResponseDTO> getActiveClients();
+
+    /**
+     * Search clients by name or email.
+     *
+     * @param searchTerm the search term
+     * @param pageable   pagination parameters
+     * @return paginated list of matching clients
+     */
+    PagedResponseDTO<ClientResponseDTO> searchClients(String searchTerm, Pageable pageable);
+
+    /**
+     * Get a client with their portfolio summaries.
+     *
+     * @param id the client ID
+     * @return the client details with portfolios
+     */
+    ClientResponseDTO getClientWithPortfolios(Long id);
+
+    /**
+     * Get the slice of clients after a cursor, without counting the total.
+     *
+     * @param cursor the token from the previous slice, or null for the first slice
+     * @param size   the slice size
+     * @param sort   the sort key; NAME orders by last name
+     * @return the slice with the cursor for the next one
+     */
+    SliceResponseDTO<ClientResponseDTO> scrollClients(String cursor, int size, ScrollSort sort);
+}
@@ -0,0 +1,29 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.beans.enums.CurrencyCode;
+import com.demo.MoneyMap.dto.response.CurrencyValuationDTO;
+
+/**
+ * Service interface for valuing portfolios and clients in a reporting currency.
+ * Follows Interface Segregation Principle (ISP) from SOLID.
+ */
+public interface CurrencyValuationService {
+
+    /**
+     * Value a portfolio in a reporting currency.
+     *
+     * @param portfolioId the portfolio ID
+     * @param reportingCurrency the currency to report in, or null for the portfolio's currency
+     * @return the valuation
+     */
+    CurrencyValuationDTO getPortfolioValuation(Long portfolioId, CurrencyCode reportingCurrency);
+
+    /**
+     * Value all active portfolios of a client in a reporting currency.
+     *
+     * @param clientId the client ID
+     * @param reportingCurrency the currency to report in, or null for the default reporting currency
+     * @return the valuation
+     */
+    CurrencyValuationDTO getClientValuation(Long clientId, CurrencyCode reportingCurrency);
+}
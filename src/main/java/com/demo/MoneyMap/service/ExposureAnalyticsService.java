@@ -0,0 +1,33 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.dto.response.ExposureReportDTO;
+
+/**
+ * Service interface for sector, exchange, fund category and risk level exposure.
+ * Follows Interface Segregation Principle (ISP) from SOLID.
+ */
+public interface ExposureAnalyticsService {
+
+    /**
+     * Get firm-wide exposure.
+     *
+     * @return the exposure report
+     */
+    ExposureReportDTO getFirmExposure();
+
+    /**
+     * Get the exposure of a client across their portfolios.
+     *
+     * @param clientId the client ID
+     * @return the exposure report
+     */
+    ExposureReportDTO getClientExposure(Long clientId);
+
+    /**
+     * Get the exposure of a portfolio.
+     *
+     * @param portfolioId the portfolio ID
+     * @return the exposure report
+     */
+    ExposureReportDTO getPortfolioExposure(Long portfolioId);
+}
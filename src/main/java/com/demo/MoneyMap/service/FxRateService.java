@@ -0,0 +1,35 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.dto.request.FxRateRequestDTO;
+import com.demo.MoneyMap.dto.response.FxRatesResponseDTO;
+import com.demo.MoneyMap.fx.FxRateMatrix;
+
+import java.util.List;
+
+/**
+ * Service interface for exchange rates.
+ * Follows Interface Segregation Principle (ISP) from SOLID.
+ */
+public interface FxRateService {
+
+    /**
+     * Store new rates. The cross-rate matrix is rebuilt in the background once they are committed.
+     *
+     * @param rates the rates to store
+     */
+    void updateRates(List<FxRateRequestDTO> rates);
+
+    /**
+     * Get the rates in effect.
+     *
+     * @return the rates the current cross-rate matrix was built from
+     */
+    FxRatesResponseDTO getRates();
+
+    /**
+     * Get the current cross-rate matrix. Cheap enough to call per request.
+     *
+     * @return the current immutable matrix
+     */
+    FxRateMatrix getMatrix();
+}
@@ -0,0 +1,33 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.beans.enums.RankingDirection;
+import com.demo.MoneyMap.beans.enums.RankingMetric;
+import com.demo.MoneyMap.dto.response.MoversResponseDTO;
+
+/**
+ * Service interface for top gainers/losers rankings.
+ * Follows Interface Segregation Principle (ISP) from SOLID.
+ */
+public interface MoversService {
+
+    /**
+     * Get the top holdings across the firm.
+     *
+     * @param metric what to rank by
+     * @param direction gainers or losers
+     * @param limit number of holdings to return
+     * @return the ranking
+     */
+    MoversResponseDTO getFirmMovers(RankingMetric metric, RankingDirection direction, int limit);
+
+    /**
+     * Get the top holdings of a client.
+     *
+     * @param clientId the client ID
+     * @param metric what to rank by
+     * @param direction gainers or losers
+     * @param limit number of holdings to return
+     * @return the ranking
+     */
+    MoversResponseDTO getClientMovers(Long clientId, RankingMetric metric, RankingDirection direction, int limit);
+}
@@ -0,0 +1,59 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.beans.enums.ScrollSort;
+import com.demo.MoneyMap.dto.response.PagedResponseDTO;
+import com.demo.MoneyMap.dto.response.PortfolioResponseDTO;
+import com.demo.MoneyMap.dto.response.SliceResponseDTO;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * Service interface for portfolio listings, served from projections rather than entities.
+ * Follows Interface Segregation Principle (ISP) from SOLID.
+ */
+public interface PortfolioQueryService {
+
+    /**
+     * Get all portfolios with pagination.
+     *
+     * @param pageable pagination parameters
+     * @return paginated list of portfolios
+     */
+    PagedResponseDTO<PortfolioResponseDTO> getAllPortfolios(Pageable pageable);
+
+    /**
+     * Search portfolios by name.
+     *
+     * @param searchTerm the search term
+     * @param pageable   pagination parameters
+     * @return paginated list of matching portfolios
+     */
+    PagedResponseDTO<PortfolioResponseDTO> searchPortfolios(String searchTerm, Pageable pageable);
+
+    /**
+     * Get all portfolios for a specific client.
+     *
+     * @param clientId the client ID
+     * @return list of portfolios
+     */
+    List<PortfolioResponseDTO> getPortfoliosByClientId(Long clientId);
+
+    /**
+     * Get all active portfolios for a specific client.
+     *
+     * @param clientId the client ID
+     * @return list of active portfolios
+     */
+    List<PortfolioResponseDTO> getActivePortfoliosByClientId(Long clientId);
+
+    /**
+     * Get the slice of portfolios after a cursor, without counting the total.
+     *
+     * @param cursor the token from the previous slice, or null for the first slice
+     * @param size   the slice size
+     * @param sort   the sort key
+     * @return the slice with the cursor for the next one
+     */
+    SliceResponseDTO<PortfolioResponseDTO> scrollPortfolios(String cursor, int size, ScrollSort sort);
+}
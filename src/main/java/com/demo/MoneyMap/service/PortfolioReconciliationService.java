@@ -0,0 +1,18 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.dto.response.ReconciliationReportDTO;
+
+/**
+ * Service interface for reconciling incrementally maintained portfolio totals.
+ * Follows Interface Segregation Principle (ISP) from SOLID.
+ */
+public interface PortfolioReconciliationService {
+
+    /**
+     * Compare every portfolio's total value with the sum of its assets' current values.
+     *
+     * @param repair whether to overwrite drifted totals with the recomputed value
+     * @return the drift report
+     */
+    ReconciliationReportDTO reconcile(boolean repair);
+}
@@ -0,0 +1,26 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.dto.response.PortfolioRiskDTO;
+import com.demo.MoneyMap.dto.response.RiskRunResultDTO;
+
+/**
+ * Service interface for portfolio risk metrics (volatility, historical VaR).
+ * Follows Interface Segregation Principle (ISP) from SOLID.
+ */
+public interface PortfolioRiskService {
+
+    /**
+     * Get the stored risk metrics of a portfolio, computing them first if none exist yet.
+     *
+     * @param portfolioId the portfolio ID
+     * @return the risk metrics
+     */
+    PortfolioRiskDTO getPortfolioRisk(Long portfolioId);
+
+    /**
+     * Compute and store the risk metrics of every portfolio.
+     *
+     * @return the run result with throughput figures
+     */
+    RiskRunResultDTO runRiskBatch();
+}
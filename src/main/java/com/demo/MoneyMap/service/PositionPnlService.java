@@ -0,0 +1,66 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.beans.enums.CostMethod;
+import com.demo.MoneyMap.dto.request.TransactionRequestDTO;
+import com.demo.MoneyMap.dto.response.AssetPnlDTO;
+import com.demo.MoneyMap.dto.response.AssetResponseDTO;
+import com.demo.MoneyMap.dto.response.PnlRecomputeResultDTO;
+import com.demo.MoneyMap.dto.response.PortfolioPnlDTO;
+import com.demo.MoneyMap.dto.response.PortfolioSummaryDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for ledger-derived positions and realized/unrealized P&L.
+ * Follows Interface Segregation Principle (ISP) from SOLID.
+ */
+public interface PositionPnlService {
+
+    /**
+     * Record a transaction and advance the asset's position with it.
+     *
+     * @param assetId the asset ID
+     * @param request the transaction
+     * @return the updated position and P&L in the default cost method
+     */
+    AssetPnlDTO recordTransaction(Long assetId, TransactionRequestDTO request);
+
+    /**
+     * Get the position and P&L of an asset.
+     *
+     * @param assetId the asset ID
+     * @param method  the cost method, or null for the configured default
+     * @return the position and P&L
+     */
+    AssetPnlDTO getAssetPnl(Long assetId, CostMethod method);
+
+    /**
+     * Get the P&L of a portfolio summed over its assets' positions.
+     *
+     * @param portfolioId the portfolio ID
+     * @param method      the cost method, or null for the configured default
+     * @return the portfolio P&L
+     */
+    PortfolioPnlDTO getPortfolioPnl(Long portfolioId, CostMethod method);
+
+    /**
+     * Fill the ledger P&L fields of asset responses in the default cost method.
+     *
+     * @param assets the responses to enrich
+     */
+    void enrichAssets(List<AssetResponseDTO> assets);
+
+    /**
+     * Fill the ledger P&L fields of portfolio summaries in the default cost method.
+     *
+     * @param portfolios the summaries to enrich
+     */
+    void enrichPortfolioSummaries(List<PortfolioSummaryDTO> portfolios);
+
+    /**
+     * Rebuild every position and open lot from the full ledger.
+     *
+     * @return the run result with throughput figures
+     */
+    PnlRecomputeResultDTO recomputeAll();
+}
@@ -0,0 +1,32 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.dto.response.SymbolPriceUpdateResponseDTO;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Service interface for fanning a single quote out to every holding of a symbol.
+ * Follows Interface Segregation Principle (ISP) from SOLID.
+ */
+public interface PriceFanOutService {
+
+    /**
+     * Apply a quote to all holdings of a symbol with set-based updates,
+     * adjusting the owning portfolios' totals incrementally.
+     *
+     * @param symbol the symbol/ticker
+     * @param price the new current price
+     * @return the number of holdings and portfolios touched
+     */
+    SymbolPriceUpdateResponseDTO applyQuote(String symbol, BigDecimal price);
+
+    /**
+     * Apply a batch of quotes (one latest price per symbol) in a single transaction
+     * using JDBC batching.
+     *
+     * @param pricesBySymbol latest price per symbol
+     * @return the number of holdings repriced
+     */
+    int applyQuotes(Map<String, BigDecimal> pricesBySymbol);
+}
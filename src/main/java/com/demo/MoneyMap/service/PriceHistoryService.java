@@ -0,0 +1,24 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.dto.response.PriceHistoryResponseDTO;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Service interface for querying the price history of symbols.
+ * Follows Interface Segregation Principle (ISP) from SOLID.
+ */
+public interface PriceHistoryService {
+
+    /**
+     * Get the price history of a symbol over a time range.
+     *
+     * @param symbol the symbol/ticker
+     * @param from start of the range (inclusive)
+     * @param to end of the range (inclusive)
+     * @param step bucket width for downsampling (closing price per bucket), or null for raw points
+     * @return the price history
+     */
+    PriceHistoryResponseDTO getPriceHistory(String symbol, Instant from, Instant to, Duration step);
+}
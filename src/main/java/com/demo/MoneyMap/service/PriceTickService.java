@@ -0,0 +1,33 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.dto.request.PriceTickRequestDTO;
+import com.demo.MoneyMap.dto.response.ConflationStatsDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for ingesting high-frequency price ticks.
+ * Follows Interface Segregation Principle (ISP) from SOLID.
+ */
+public interface PriceTickService {
+
+    /**
+     * Accept price ticks. Ticks are conflated per symbol and only the latest
+     * price per symbol is written at the next flush.
+     *
+     * @param ticks the ticks to accept
+     */
+    void submitTicks(List<PriceTickRequestDTO> ticks);
+
+    /**
+     * Write the latest pending price of every symbol in one batch.
+     */
+    void flush();
+
+    /**
+     * Get conflation metrics.
+     *
+     * @return ticks received vs. written, flush latency and queue depth
+     */
+    ConflationStatsDTO getStats();
+}
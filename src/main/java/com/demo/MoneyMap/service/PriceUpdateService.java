@@ -0,0 +1,22 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.dto.response.BulkPriceUpdateResponseDTO;
+
+import java.io.InputStream;
+
+/**
+ * Service interface for bulk market price updates.
+ * Follows Interface Segregation Principle (ISP) from SOLID.
+ */
+public interface PriceUpdateService {
+
+    /**
+     * Apply a streamed NDJSON feed of price updates.
+     * Each line is a JSON object with either an assetId or a symbol, and a price.
+     * The feed is parsed incrementally and applied in chunked transactions.
+     *
+     * @param input the NDJSON feed
+     * @return per-line outcome counts and throughput stats
+     */
+    BulkPriceUpdateResponseDTO bulkUpdatePrices(InputStream input);
+}
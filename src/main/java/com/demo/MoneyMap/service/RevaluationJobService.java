@@ -0,0 +1,33 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.dto.response.RevaluationProgressDTO;
+
+/**
+ * Service interface for the partitioned firm-wide revaluation job.
+ * Follows Interface Segregation Principle (ISP) from SOLID.
+ */
+public interface RevaluationJobService {
+
+    /**
+     * Start revaluing every portfolio in the background.
+     *
+     * @return the progress of the new run
+     */
+    RevaluationProgressDTO startRun();
+
+    /**
+     * Resume the unfinished partitions of an interrupted or failed run.
+     *
+     * @param runId the run identifier
+     * @return the progress of the resumed run
+     */
+    RevaluationProgressDTO resumeRun(String runId);
+
+    /**
+     * Get the progress of a run.
+     *
+     * @param runId the run identifier
+     * @return the progress
+     */
+    RevaluationProgressDTO getProgress(String runId);
+}
@@ -0,0 +1,31 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.dto.response.AssetResponseDTO;
+import com.demo.MoneyMap.dto.response.ClientResponseDTO;
+import com.demo.MoneyMap.dto.response.PagedResponseDTO;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Service interface for asset and client search.
+ * Follows Interface Segregation Principle (ISP) from SOLID.
+ */
+public interface SearchService {
+
+    /**
+     * Search assets by name or symbol, best matches first.
+     *
+     * @param searchTerm the search term
+     * @param pageable   pagination parameters
+     * @return paginated list of matching assets
+     */
+    PagedResponseDTO<AssetResponseDTO> searchAssets(String searchTerm, Pageable pageable);
+
+    /**
+     * Search clients by first name, last name or email, best matches first.
+     *
+     * @param searchTerm the search term
+     * @param pageable   pagination parameters
+     * @return paginated list of matching clients
+     */
+    PagedResponseDTO<ClientResponseDTO> searchClients(String searchTerm, Pageable pageable);
+}
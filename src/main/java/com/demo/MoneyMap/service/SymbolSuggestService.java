@@ -0,0 +1,22 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.dto.response.SymbolSuggestionDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for symbol autocomplete.
+ * Follows Interface Segregation Principle (ISP) from SOLID.
+ */
+public interface SymbolSuggestService {
+
+    /**
+     * Suggest symbols whose ticker, or a word of whose name, starts with a prefix,
+     * most held first.
+     *
+     * @param prefix the typed prefix (case-insensitive)
+     * @param limit  number of suggestions to return
+     * @return the suggestions
+     */
+    List<SymbolSuggestionDTO> suggest(String prefix, int limit);
+}
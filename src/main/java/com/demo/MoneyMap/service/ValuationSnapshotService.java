@@ -0,0 +1,42 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.dto.response.SnapshotRunResultDTO;
+import com.demo.MoneyMap.dto.response.ValuationHistoryDTO;
+
+import java.time.LocalDate;
+
+/**
+ * Service interface for end-of-day portfolio valuation snapshots.
+ * Follows Interface Segregation Principle (ISP) from SOLID.
+ */
+public interface ValuationSnapshotService {
+
+    /**
+     * Snapshot every portfolio for a date. Processes portfolios in chunks and
+     * resumes from the last committed chunk if a previous run for the date was interrupted.
+     *
+     * @param snapshotDate the valuation date
+     * @return the run result
+     */
+    SnapshotRunResultDTO runSnapshot(LocalDate snapshotDate);
+
+    /**
+     * Get a portfolio's daily valuation history.
+     *
+     * @param portfolioId the portfolio ID
+     * @param from start date (inclusive)
+     * @param to end date (inclusive)
+     * @return the valuation history
+     */
+    ValuationHistoryDTO getPortfolioHistory(Long portfolioId, LocalDate from, LocalDate to);
+
+    /**
+     * Get a client's daily valuation history, summed over their portfolios.
+     *
+     * @param clientId the client ID
+     * @param from start date (inclusive)
+     * @param to end date (inclusive)
+     * @return the valuation history
+     */
+    ValuationHistoryDTO getClientHistory(Long clientId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,57 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.beans.Asset;
+import com.demo.MoneyMap.beans.enums.ScrollSort;
+import com.demo.MoneyMap.dto.response.AssetResponseDTO;
+import com.demo.MoneyMap.dto.response.SliceResponseDTO;
+import com.demo.MoneyMap.mapper.AssetMapper;
+import com.demo.MoneyMap.pagination.KeysetCursor;
+import com.demo.MoneyMap.pagination.KeysetSlices;
+import com.demo.MoneyMap.repository.AssetRepository;
+import com.demo.MoneyMap.service.AssetQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Implementation of AssetQueryService.
+ * Each slice is one seek query on (key, id) with the portfolio fetched in the same
+ * statement; the row past the slice decides whether a next cursor is issued, so
+ * no COUNT runs and deep slices cost the same as the first.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AssetQueryServiceImpl implements AssetQueryService {
+
+    private final AssetRepository assetRepository;
+    private final AssetMapper assetMapper;
+
+    @Value("${moneymap.pagination.keyset.max-size:500}")
+    private int maxSliceSize;
+
+    @Override
+    public SliceResponseDTO<AssetResponseDTO> scrollAssets(String cursor, int size, ScrollSort sort) {
+        KeysetSlices.checkSize(size, maxSliceSize);
+        KeysetCursor position = KeysetCursor.decode(cursor, sort);
+        List<Asset> rows = position.sort() == ScrollSort.NAME
+                ? assetRepository.scrollByName(position.lastKey(), position.lastId(), KeysetSlices.limitFor(size))
+                : assetRepository.scrollById(position.lastId(), KeysetSlices.limitFor(size));
+        return toSlice(rows, size, position.sort());
+    }
+
+    @Override
+    public SliceResponseDTO<AssetResponseDTO> scrollAssetsByPortfolio(Long portfolioId, String cursor, int size) {
+        KeysetSlices.checkSize(size, maxSliceSize);
+        KeysetCursor position = KeysetCursor.decode(cursor, ScrollSort.ID);
+        return toSlice(assetRepository.scrollByPortfolioId(portfolioId, position.lastId(),
+                KeysetSlices.limitFor(size)), size, ScrollSort.ID);
+    }
+
+    private SliceResponseDTO<AssetResponseDTO> toSlice(List<Asset> rows, int size, ScrollSort sort) {
+        return KeysetSlices.toSlice(rows, size, sort, Asset::getName, Asset::getId, assetMapper::toResponseDTO);
+    }
+}
@@ -0,0 +1,168 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.beans.Asset;
+import com.demo.MoneyMap.beans.Portfolio;
+import com.demo.MoneyMap.beans.enums.AssetType;
+import com.demo.MoneyMap.dto.request.AssetRequestDTO;
+import com.demo.MoneyMap.dto.response.AssetResponseDTO;
+import com.demo.MoneyMap.dto.response.PagedResponseDTO;
+import com.demo.MoneyMap.mapper.AssetMapper;
+import com.demo.MoneyMap.repository.AssetRepository;
+import com.demo.MoneyMap.repository.PortfolioRepository;
+import com.demo.MoneyMap.service.AssetService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of AssetService.
+ * The owning portfolio's total follows every create, update and delete through
+ * PortfolioTotalListener, which applies the change in SQL before commit.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class AssetServiceImpl implements AssetService {
+
+    private final AssetRepository assetRepository;
+    private final PortfolioRepository portfolioRepository;
+    private final AssetMapper assetMapper;
+
+    @Override
+    public AssetResponseDTO createAsset(AssetRequestDTO requestDTO) {
+        Portfolio portfolio = findPortfolio(requestDTO.getPortfolioId());
+        Asset asset = assetMapper.toEntity(requestDTO);
+        checkQuantity(asset);
+        asset.setPortfolio(portfolio);
+        return assetMapper.toResponseDTO(assetRepository.save(asset));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AssetResponseDTO getAssetById(Long id) {
+        return assetMapper.toResponseDTO(assetRepository.findByIdWithPortfolio(id).orElseThrow(() -> notFound(id)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AssetResponseDTO getAssetByIdWithTransactions(Long id) {
+        return assetMapper.toResponseDTO(assetRepository.findByIdWithTransactions(id).orElseThrow(() -> notFound(id)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponseDTO<AssetResponseDTO> getAllAssets(Pageable pageable) {
+        return PagedResponseDTO.from(assetRepository.findAll(pageable).map(assetMapper::toResponseDTO));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AssetResponseDTO> getAssetsByPortfolioId(Long portfolioId) {
+        return toResponseDTOs(assetRepository.findByPortfolioId(portfolioId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponseDTO<AssetResponseDTO> getAssetsByPortfolioId(Long portfolioId, Pageable pageable) {
+        return PagedResponseDTO.from(assetRepository.findByPortfolioId(portfolioId, pageable)
+                .map(assetMapper::toResponseDTO));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AssetResponseDTO> getAssetsByType(AssetType assetType) {
+        return toResponseDTOs(assetRepository.findByAssetType(assetType));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponseDTO<AssetResponseDTO> getAssetsByType(AssetType assetType, Pageable pageable) {
+        return PagedResponseDTO.from(assetRepository.findByAssetType(assetType, pageable)
+                .map(assetMapper::toResponseDTO));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AssetResponseDTO> getAssetsByClientId(Long clientId) {
+        return toResponseDTOs(assetRepository.findByClientId(clientId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponseDTO<AssetResponseDTO> searchAssets(String searchTerm, Pageable pageable) {
+        return PagedResponseDTO.from(assetRepository.searchAssets(searchTerm, pageable)
+                .map(assetMapper::toResponseDTO));
+    }
+
+    @Override
+    public AssetResponseDTO updateAsset(Long id, AssetRequestDTO requestDTO) {
+        Asset asset = findAsset(id);
+        if (requestDTO.getAssetType() != null && requestDTO.getAssetType() != asset.getType()) {
+            throw new IllegalArgumentException("Asset type cannot be changed from " + asset.getType()
+                    + " to " + requestDTO.getAssetType());
+        }
+        assetMapper.updateEntityFromDTO(requestDTO, asset);
+        checkQuantity(asset);
+        if (requestDTO.getPortfolioId() != null && !requestDTO.getPortfolioId().equals(asset.getPortfolio().getId())) {
+            asset.setPortfolio(findPortfolio(requestDTO.getPortfolioId()));
+        }
+        return assetMapper.toResponseDTO(asset);
+    }
+
+    @Override
+    public AssetResponseDTO updateAssetPrice(Long id, BigDecimal currentPrice) {
+        if (currentPrice == null || currentPrice.signum() <= 0) {
+            throw new IllegalArgumentException("Current price must be greater than 0");
+        }
+        Asset asset = findAsset(id);
+        asset.setCurrentPrice(currentPrice);
+        return assetMapper.toResponseDTO(asset);
+    }
+
+    @Override
+    public void deleteAsset(Long id) {
+        assetRepository.delete(findAsset(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BigDecimal getTotalValueByAssetType(AssetType assetType) {
+        return assetRepository.getTotalValueByAssetType(assetType);
+    }
+
+    @Override
+    public List<AssetType> getAssetTypes() {
+        return Arrays.asList(AssetType.values());
+    }
+
+    private void checkQuantity(Asset asset) {
+        if (!asset.isQuantityValid(asset.getQuantity())) {
+            throw new IllegalArgumentException("Invalid quantity " + asset.getQuantity() + " for a "
+                    + asset.getType().getDisplayName() + " asset");
+        }
+    }
+
+    private List<AssetResponseDTO> toResponseDTOs(List<Asset> assets) {
+        return assets.stream().map(assetMapper::toResponseDTO).collect(Collectors.toList());
+    }
+
+    private Asset findAsset(Long id) {
+        return assetRepository.findByIdWithPortfolio(id).orElseThrow(() -> notFound(id));
+    }
+
+    private Portfolio findPortfolio(Long id) {
+        return portfolioRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Portfolio not found with id: " + id));
+    }
+
+    private static EntityNotFoundException notFound(Long id) {
+        return new EntityNotFoundException("Asset not found with id: " + id);
+    }
+}
@@ -0,0 +1,88 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.aggregate.AumAggregateStore;
+import com.demo.MoneyMap.beans.enums.AssetType;
+import com.demo.MoneyMap.dto.response.AumSummaryDTO;
+import com.demo.MoneyMap.dto.response.ClientAumDTO;
+import com.demo.MoneyMap.repository.AssetRepository;
+import com.demo.MoneyMap.repository.ClientRepository;
+import com.demo.MoneyMap.service.AumAggregateService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Implementation of AumAggregateService.
+ * Answers from the in-memory aggregates in constant time; until they have been
+ * loaded at startup it falls back to the repository scans.
+ */
+@Service
+@RequiredArgsConstructor
+public class AumAggregateServiceImpl implements AumAggregateService {
+
+    private final AumAggregateStore aumAggregateStore;
+    private final AssetRepository assetRepository;
+    private final ClientRepository clientRepository;
+
+    @Override
+    public BigDecimal getTotalValueByAssetType(AssetType assetType) {
+        return aumAggregateStore.isReady()
+                ? aumAggregateStore.getTotalValue(assetType)
+                : assetRepository.getTotalValueByAssetType(assetType);
+    }
+
+    @Override
+    public long getAssetCountByAssetType(AssetType assetType) {
+        return aumAggregateStore.isReady()
+                ? aumAggregateStore.getAssetCount(assetType)
+                : assetRepository.countByAssetType(assetType);
+    }
+
+    @Override
+    public ClientAumDTO getClientAum(Long clientId) {
+        if (!clientRepository.existsById(clientId)) {
+            throw new EntityNotFoundException("Client not found with id: " + clientId);
+        }
+        return ClientAumDTO.builder()
+                .clientId(clientId)
+                .totalValue(aumAggregateStore.getClientTotalValue(clientId))
+                .assetCount(aumAggregateStore.getClientAssetCount(clientId))
+                .build();
+    }
+
+    @Override
+    public AumSummaryDTO getSummary() {
+        Map<AssetType, BigDecimal> valueByAssetType = new EnumMap<>(AssetType.class);
+        Map<AssetType, Long> countByAssetType = new EnumMap<>(AssetType.class);
+        BigDecimal totalValue = BigDecimal.ZERO;
+        long assetCount = 0;
+        for (AssetType type : AssetType.values()) {
+            BigDecimal value = getTotalValueByAssetType(type);
+            long count = getAssetCountByAssetType(type);
+            valueByAssetType.put(type, value);
+            countByAssetType.put(type, count);
+            totalValue = totalValue.add(value);
+            assetCount += count;
+        }
+        boolean materialized = aumAggregateStore.isReady();
+        return AumSummaryDTO.builder()
+                .totalValue(materialized ? aumAggregateStore.getFirmTotalValue() : totalValue)
+                .assetCount(materialized ? aumAggregateStore.getFirmAssetCount() : assetCount)
+                .valueByAssetType(valueByAssetType)
+                .countByAssetType(countByAssetType)
+                .materialized(materialized)
+                .lastReconciledAt(aumAggregateStore.getLastReconciledAt())
+                .lastDriftCount(aumAggregateStore.getLastDriftCount())
+                .build();
+    }
+
+    @Override
+    public AumSummaryDTO reconcile() {
+        aumAggregateStore.reconcile();
+        return getSummary();
+    }
+}
@@ -0,0 +1,59 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.cache.CacheRegionSettings;
+import com.demo.MoneyMap.cache.SecondLevelCacheSettings;
+import com.demo.MoneyMap.dto.response.CacheRegionStatsDTO;
+import com.demo.MoneyMap.service.CacheStatsService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import javax.cache.CacheManager;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of CacheStatsService.
+ * Reads the native Caffeine statistics behind each JCache region.
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheStatsServiceImpl implements CacheStatsService {
+
+    private final CacheManager secondLevelCacheManager;
+    private final SecondLevelCacheSettings settings;
+
+    @Override
+    public List<CacheRegionStatsDTO> getRegionStats() {
+        List<CacheRegionStatsDTO> stats = new ArrayList<>();
+        for (String region : secondLevelCacheManager.getCacheNames()) {
+            stats.add(getRegionStats(region));
+        }
+        return stats;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public CacheRegionStatsDTO getRegionStats(String region) {
+        javax.cache.Cache<Object, Object> cache = secondLevelCacheManager.getCache(region);
+        if (cache == null) {
+            throw new EntityNotFoundException("Cache region not found with name: " + region);
+        }
+        Cache<Object, Object> nativeCache = cache.unwrap(Cache.class);
+        CacheStats stats = nativeCache.stats();
+        CacheRegionSettings regionSettings = settings.getRegion(region);
+        return CacheRegionStatsDTO.builder()
+                .region(region)
+                .enabled(regionSettings == null || regionSettings.enabled())
+                .maxSize(regionSettings != null ? regionSettings.maxSize() : 0)
+                .ttlSeconds(regionSettings != null ? regionSettings.ttlSeconds() : 0)
+                .size(nativeCache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+}
@@ -0,0 +1,169 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.beans.enums.AssetType;
+import com.demo.MoneyMap.dto.response.AssetAllocationDTO;
+import com.demo.MoneyMap.dto.response.ClientDashboardDTO;
+import com.demo.MoneyMap.dto.response.PortfolioAllocationDTO;
+import com.demo.MoneyMap.repository.ClientRepository;
+import com.demo.MoneyMap.repository.projection.ClientAllocationProjection;
+import com.demo.MoneyMap.service.ClientDashboardService;
+import com.demo.MoneyMap.valuation.FixedPointValuation;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of ClientDashboardService.
+ * One GROUP BY query returns a row per (portfolio, asset type); totals, profit/loss
+ * and percentages are rolled up from those rows here. Values are summed as stored,
+ * without currency conversion, like the portfolio totals.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ClientDashboardServiceImpl implements ClientDashboardService {
+
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
+    private final ClientRepository clientRepository;
+
+    @Override
+    public ClientDashboardDTO getDashboard(Long clientId) {
+        List<ClientAllocationProjection> rows = clientRepository.getAllocationBreakdown(clientId);
+        if (rows.isEmpty()) {
+            throw new EntityNotFoundException("Client not found with id: " + clientId);
+        }
+
+        Map<Long, PortfolioRollup> portfolios = new LinkedHashMap<>();
+        Totals clientTotals = new Totals();
+        Map<AssetType, Totals> clientByType = new EnumMap<>(AssetType.class);
+        for (ClientAllocationProjection row : rows) {
+            if (row.getPortfolioId() == null) {
+                continue;
+            }
+            PortfolioRollup portfolio = portfolios.computeIfAbsent(row.getPortfolioId(),
+                    id -> new PortfolioRollup(row.getPortfolioName(), row.getPortfolioActive()));
+            if (row.getAssetType() == null) {
+                continue;
+            }
+            portfolio.add(row);
+            if (Boolean.TRUE.equals(row.getPortfolioActive())) {
+                clientTotals.add(row);
+                clientByType.computeIfAbsent(row.getAssetType(), type -> new Totals()).add(row);
+            }
+        }
+
+        BigDecimal clientValue = clientTotals.value.toBigDecimal();
+        List<PortfolioAllocationDTO> portfolioDTOs = new ArrayList<>(portfolios.size());
+        portfolios.forEach((portfolioId, portfolio) -> {
+            BigDecimal value = portfolio.totals.value.toBigDecimal();
+            BigDecimal cost = portfolio.totals.costBasis();
+            portfolioDTOs.add(PortfolioAllocationDTO.builder()
+                    .portfolioId(portfolioId)
+                    .name(portfolio.name)
+                    .active(portfolio.active)
+                    .currentValue(value)
+                    .costBasis(cost)
+                    .profitLoss(value.subtract(cost))
+                    .profitLossPercentage(profitLossPercentage(value, cost))
+                    .assetCount(portfolio.totals.count)
+                    .allocationPercentage(Boolean.TRUE.equals(portfolio.active)
+                            ? share(value, clientValue) : BigDecimal.ZERO)
+                    .allocations(allocations(portfolio.byType, value))
+                    .build());
+        });
+
+        ClientAllocationProjection client = rows.get(0);
+        BigDecimal clientCost = clientTotals.costBasis();
+        return ClientDashboardDTO.builder()
+                .clientId(client.getClientId())
+                .clientName(client.getFirstName() + " " + client.getLastName())
+                .totalValue(clientValue)
+                .costBasis(clientCost)
+                .profitLoss(clientValue.subtract(clientCost))
+                .profitLossPercentage(profitLossPercentage(clientValue, clientCost))
+                .assetCount(clientTotals.count)
+                .allocations(allocations(clientByType, clientValue))
+                .portfolios(portfolioDTOs)
+                .build();
+    }
+
+    private static List<AssetAllocationDTO> allocations(Map<AssetType, Totals> byType, BigDecimal total) {
+        List<AssetAllocationDTO> allocations = new ArrayList<>(byType.size());
+        byType.forEach((type, totals) -> {
+            BigDecimal value = totals.value.toBigDecimal();
+            BigDecimal cost = totals.costBasis();
+            allocations.add(AssetAllocationDTO.builder()
+                    .assetType(type)
+                    .currentValue(value)
+                    .costBasis(cost)
+                    .profitLoss(value.subtract(cost))
+                    .profitLossPercentage(profitLossPercentage(value, cost))
+                    .assetCount(totals.count)
+                    .allocationPercentage(share(value, total))
+                    .build());
+        });
+        return allocations;
+    }
+
+    /**
+     * Same rounding as Asset.getProfitLossPercentage.
+     */
+    private static BigDecimal profitLossPercentage(BigDecimal value, BigDecimal cost) {
+        if (cost.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        return value.subtract(cost).divide(cost, 4, RoundingMode.HALF_UP).multiply(ONE_HUNDRED);
+    }
+
+    private static BigDecimal share(BigDecimal part, BigDecimal total) {
+        if (total.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        return part.multiply(ONE_HUNDRED).divide(total, 2, RoundingMode.HALF_UP);
+    }
+
+    private static final class Totals {
+        private final FixedPointValuation.Accumulator value = new FixedPointValuation.Accumulator();
+        private BigDecimal cost = BigDecimal.ZERO;
+        private long count;
+
+        private void add(ClientAllocationProjection row) {
+            value.add(row.getCurrentValue());
+            if (row.getCostBasis() != null) {
+                cost = cost.add(row.getCostBasis());
+            }
+            count += row.getAssetCount() != null ? row.getAssetCount() : 0;
+        }
+
+        private BigDecimal costBasis() {
+            return cost.setScale(FixedPointValuation.VALUE_SCALE, RoundingMode.HALF_UP);
+        }
+    }
+
+    private static final class PortfolioRollup {
+        private final String name;
+        private final Boolean active;
+        private final Totals totals = new Totals();
+        private final Map<AssetType, Totals> byType = new EnumMap<>(AssetType.class);
+
+        private PortfolioRollup(String name, Boolean active) {
+            this.name = name;
+            this.active = active;
+        }
+
+        private void add(ClientAllocationProjection row) {
+            totals.add(row);
+            byType.computeIfAbsent(row.getAssetType(), type -> new Totals()).add(row);
+        }
+    }
+}
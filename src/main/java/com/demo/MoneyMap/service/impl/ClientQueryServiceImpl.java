@@ -0,0 +1,77 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.beans.enums.ScrollSort;
+import com.demo.MoneyMap.dto.response.ClientResponseDTO;
+import com.demo.MoneyMap.dto.response.PagedResponseDTO;
+import com.demo.MoneyMap.dto.response.SliceResponseDTO;
+import com.demo.MoneyMap.mapper.ClientMapper;
+import com.demo.MoneyMap.pagination.KeysetCursor;
+import com.demo.MoneyMap.pagination.KeysetSlices;
+import com.demo.MoneyMap.repository.ClientRepository;
+import com.demo.MoneyMap.repository.projection.ClientListProjection;
+import com.demo.MoneyMap.service.ClientQueryService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of ClientQueryService.
+ * Listings are one grouped projection query (plus a count for pages); a client with
+ * portfolios is its list row plus one grouped query for the portfolio summaries.
+ * No Client or Portfolio entity is loaded, so no association is initialized per row.
+ * Scrolled listings seek past the cursor's (key, id) and run no count at all.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ClientQueryServiceImpl implements ClientQueryService {
+
+    private final ClientRepository clientRepository;
+    private final ClientMapper clientMapper;
+
+    @Value("${moneymap.pagination.keyset.max-size:500}")
+    private int maxSliceSize;
+
+    @Override
+    public PagedResponseDTO<ClientResponseDTO> getAllClients(Pageable pageable) {
+        return PagedResponseDTO.from(clientRepository.findListPage(pageable).map(clientMapper::toResponseDTO));
+    }
+
+    @Override
+    public List<ClientResponseDTO> getActiveClients() {
+        return clientRepository.findActiveList().stream()
+                .map(clientMapper::toResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public PagedResponseDTO<ClientResponseDTO> searchClients(String searchTerm, Pageable pageable) {
+        return PagedResponseDTO.from(clientRepository.searchListPage(searchTerm, pageable)
+                .map(clientMapper::toResponseDTO));
+    }
+
+    @Override
+    public ClientResponseDTO getClientWithPortfolios(Long id) {
+        ClientListProjection row = clientRepository.findListRowById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Client not found with id: " + id));
+        return clientMapper.toResponseDTOWithPortfolios(row, clientRepository.findPortfolioSummaries(id));
+    }
+
+    @Override
+    public SliceResponseDTO<ClientResponseDTO> scrollClients(String cursor, int size, ScrollSort sort) {
+        KeysetSlices.checkSize(size, maxSliceSize);
+        KeysetCursor position = KeysetCursor.decode(cursor, sort);
+        List<ClientListProjection> rows = position.sort() == ScrollSort.NAME
+                ? clientRepository.scrollListByLastName(position.lastKey(), position.lastId(),
+                        KeysetSlices.limitFor(size))
+                : clientRepository.scrollListById(position.lastId(), KeysetSlices.limitFor(size));
+        return KeysetSlices.toSlice(rows, size, position.sort(), ClientListProjection::getLastName,
+                ClientListProjection::getId, clientMapper::toResponseDTO);
+    }
+}
@@ -0,0 +1,106 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.beans.Client;
+import com.demo.MoneyMap.dto.request.ClientRequestDTO;
+import com.demo.MoneyMap.dto.response.ClientResponseDTO;
+import com.demo.MoneyMap.dto.response.PagedResponseDTO;
+import com.demo.MoneyMap.mapper.ClientMapper;
+import com.demo.MoneyMap.repository.ClientRepository;
+import com.demo.MoneyMap.service.ClientQueryService;
+import com.demo.MoneyMap.service.ClientService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Implementation of ClientService.
+ * Writes go through the Client entity; listings are served by ClientQueryService.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ClientServiceImpl implements ClientService {
+
+    private final ClientRepository clientRepository;
+    private final ClientQueryService clientQueryService;
+    private final ClientMapper clientMapper;
+
+    @Override
+    public ClientResponseDTO createClient(ClientRequestDTO requestDTO) {
+        if (clientRepository.existsByEmail(requestDTO.getEmail())) {
+            throw new IllegalStateException("Client already exists with email: " + requestDTO.getEmail());
+        }
+        Client client = clientRepository.save(clientMapper.toEntity(requestDTO));
+        return clientMapper.toResponseDTO(client);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ClientResponseDTO getClientById(Long id) {
+        return clientMapper.toResponseDTO(findClient(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ClientResponseDTO getClientByIdWithPortfolios(Long id) {
+        return clientQueryService.getClientWithPortfolios(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponseDTO<ClientResponseDTO> getAllClients(Pageable pageable) {
+        return clientQueryService.getAllClients(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ClientResponseDTO> getActiveClients() {
+        return clientQueryService.getActiveClients();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponseDTO<ClientResponseDTO> searchClients(String searchTerm, Pageable pageable) {
+        return clientQueryService.searchClients(searchTerm, pageable);
+    }
+
+    @Override
+    public ClientResponseDTO updateClient(Long id, ClientRequestDTO requestDTO) {
+        Client client = findClient(id);
+        if (clientRepository.existsByEmailAndIdNot(requestDTO.getEmail(), id)) {
+            throw new IllegalStateException("Client already exists with email: " + requestDTO.getEmail());
+        }
+        clientMapper.updateEntityFromDTO(requestDTO, client);
+        return clientMapper.toResponseDTO(client);
+    }
+
+    @Override
+    public void deactivateClient(Long id) {
+        findClient(id).setActive(false);
+    }
+
+    @Override
+    public void activateClient(Long id) {
+        findClient(id).setActive(true);
+    }
+
+    @Override
+    public void deleteClient(Long id) {
+        clientRepository.delete(findClient(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getActiveClientCount() {
+        return clientRepository.countByActiveTrue();
+    }
+
+    private Client findClient(Long id) {
+        return clientRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Client not found with id: " + id));
+    }
+}
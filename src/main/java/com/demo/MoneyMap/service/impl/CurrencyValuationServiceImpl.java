@@ -0,0 +1,80 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.beans.Portfolio;
+import com.demo.MoneyMap.beans.enums.CurrencyCode;
+import com.demo.MoneyMap.dto.response.CurrencyValuationDTO;
+import com.demo.MoneyMap.fx.FxRateMatrix;
+import com.demo.MoneyMap.repository.AssetRepository;
+import com.demo.MoneyMap.repository.ClientRepository;
+import com.demo.MoneyMap.repository.PortfolioRepository;
+import com.demo.MoneyMap.repository.projection.CurrencyTotalProjection;
+import com.demo.MoneyMap.service.CurrencyValuationService;
+import com.demo.MoneyMap.service.FxRateService;
+import com.demo.MoneyMap.valuation.FixedPointValuation;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of CurrencyValuationService.
+ * The database returns one total per currency; each is converted with a single
+ * lookup in the current FX cross-rate matrix and summed as a scaled long.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CurrencyValuationServiceImpl implements CurrencyValuationService {
+
+    private final AssetRepository assetRepository;
+    private final PortfolioRepository portfolioRepository;
+    private final ClientRepository clientRepository;
+    private final FxRateService fxRateService;
+
+    @Value("${moneymap.fx.default-reporting-currency:USD}")
+    private CurrencyCode defaultReportingCurrency;
+
+    @Override
+    public CurrencyValuationDTO getPortfolioValuation(Long portfolioId, CurrencyCode reportingCurrency) {
+        Portfolio portfolio = portfolioRepository.findById(portfolioId)
+                .orElseThrow(() -> new EntityNotFoundException("Portfolio not found with id: " + portfolioId));
+        CurrencyCode currency = reportingCurrency != null ? reportingCurrency : portfolio.getCurrency();
+        return value(assetRepository.getTotalValueByCurrencyForPortfolio(portfolioId), currency)
+                .portfolioId(portfolioId)
+                .build();
+    }
+
+    @Override
+    public CurrencyValuationDTO getClientValuation(Long clientId, CurrencyCode reportingCurrency) {
+        if (!clientRepository.existsById(clientId)) {
+            throw new EntityNotFoundException("Client not found with id: " + clientId);
+        }
+        CurrencyCode currency = reportingCurrency != null ? reportingCurrency : defaultReportingCurrency;
+        return value(assetRepository.getTotalValueByCurrencyForClient(clientId), currency)
+                .clientId(clientId)
+                .build();
+    }
+
+    private CurrencyValuationDTO.CurrencyValuationDTOBuilder value(List<CurrencyTotalProjection> totals,
+                                                                   CurrencyCode reportingCurrency) {
+        FxRateMatrix matrix = fxRateService.getMatrix();
+        FixedPointValuation.Accumulator total = new FixedPointValuation.Accumulator();
+        Map<CurrencyCode, BigDecimal> valueByCurrency = new EnumMap<>(CurrencyCode.class);
+        for (CurrencyTotalProjection row : totals) {
+            valueByCurrency.put(row.getCurrency(), row.getTotalValue());
+            total.add(matrix.convert(row.getTotalValue(), row.getCurrency(), reportingCurrency));
+        }
+        return CurrencyValuationDTO.builder()
+                .reportingCurrency(reportingCurrency)
+                .totalValue(total.toBigDecimal())
+                .valueByCurrency(valueByCurrency)
+                .fxRatesVersion(matrix.getVersion())
+                .fxRatesAsOf(matrix.getAsOf());
+    }
+}
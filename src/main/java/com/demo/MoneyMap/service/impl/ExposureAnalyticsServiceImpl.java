@@ -0,0 +1,194 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.beans.enums.ExposureScope;
+import com.demo.MoneyMap.dto.response.ExposureBucketDTO;
+import com.demo.MoneyMap.dto.response.ExposureReportDTO;
+import com.demo.MoneyMap.repository.ClientRepository;
+import com.demo.MoneyMap.repository.MutualFundAssetRepository;
+import com.demo.MoneyMap.repository.PortfolioRepository;
+import com.demo.MoneyMap.repository.StockAssetRepository;
+import com.demo.MoneyMap.repository.projection.FundExposureProjection;
+import com.demo.MoneyMap.repository.projection.StockExposureProjection;
+import com.demo.MoneyMap.service.ExposureAnalyticsService;
+import com.demo.MoneyMap.valuation.FixedPointValuation;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of ExposureAnalyticsService.
+ * Each report costs two grouped queries, (sector, exchange) for stocks and
+ * (fund category, risk level) for funds; the single-dimension breakdowns are rolled
+ * up from the cross breakdown in memory. Reports are cached per scope for a short TTL,
+ * so a dashboard polling the same scope does not re-run the queries; the cache is a
+ * size-bounded Caffeine cache, and concurrent misses on one scope run the queries once.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ExposureAnalyticsServiceImpl implements ExposureAnalyticsService {
+
+    private static final String UNCLASSIFIED = "UNCLASSIFIED";
+
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
+    private final StockAssetRepository stockAssetRepository;
+    private final MutualFundAssetRepository mutualFundAssetRepository;
+    private final ClientRepository clientRepository;
+    private final PortfolioRepository portfolioRepository;
+
+    @Value("${moneymap.analytics.exposure.cache-ttl-ms:30000}")
+    private long cacheTtlMillis;
+
+    @Value("${moneymap.analytics.exposure.cache-max-entries:10000}")
+    private int cacheMaxEntries;
+
+    private Cache<CacheKey, ExposureReportDTO> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxEntries)
+                .expireAfterWrite(Duration.ofMillis(cacheTtlMillis))
+                .build();
+    }
+
+    @Override
+    public ExposureReportDTO getFirmExposure() {
+        return cached(new CacheKey(ExposureScope.FIRM, null), () -> build(ExposureScope.FIRM, null,
+                stockAssetRepository.getExposure(), mutualFundAssetRepository.getExposure()));
+    }
+
+    @Override
+    public ExposureReportDTO getClientExposure(Long clientId) {
+        if (!clientRepository.existsById(clientId)) {
+            throw new EntityNotFoundException("Client not found with id: " + clientId);
+        }
+        return cached(new CacheKey(ExposureScope.CLIENT, clientId), () -> build(ExposureScope.CLIENT, clientId,
+                stockAssetRepository.getExposureByClientId(clientId),
+                mutualFundAssetRepository.getExposureByClientId(clientId)));
+    }
+
+    @Override
+    public ExposureReportDTO getPortfolioExposure(Long portfolioId) {
+        if (!portfolioRepository.existsById(portfolioId)) {
+            throw new EntityNotFoundException("Portfolio not found with id: " + portfolioId);
+        }
+        return cached(new CacheKey(ExposureScope.PORTFOLIO, portfolioId), () -> build(ExposureScope.PORTFOLIO,
+                portfolioId, stockAssetRepository.getExposureByPortfolioId(portfolioId),
+                mutualFundAssetRepository.getExposureByPortfolioId(portfolioId)));
+    }
+
+    private ExposureReportDTO cached(CacheKey key, Supplier<ExposureReportDTO> loader) {
+        return cache.get(key, ignored -> loader.get());
+    }
+
+    private ExposureReportDTO build(ExposureScope scope, Long scopeId,
+                                    List<StockExposureProjection> stocks, List<FundExposureProjection> funds) {
+        List<Row> stockRows = new ArrayList<>(stocks.size());
+        stocks.forEach(row -> stockRows.add(new Row(row.getSector(), row.getExchange(),
+                row.getTotalValue(), row.getHoldingCount())));
+        List<Row> fundRows = new ArrayList<>(funds.size());
+        funds.forEach(row -> fundRows.add(new Row(row.getFundCategory(), row.getRiskLevel(),
+                row.getTotalValue(), row.getHoldingCount())));
+
+        Bucket stockTotal = total(stockRows);
+        Bucket fundTotal = total(fundRows);
+        return ExposureReportDTO.builder()
+                .scope(scope)
+                .scopeId(scopeId)
+                .stockValue(stockTotal.value.toBigDecimal())
+                .stockHoldingCount(stockTotal.count)
+                .bySector(rollUp(stockRows, true, stockTotal))
+                .byExchange(rollUp(stockRows, false, stockTotal))
+                .bySectorAndExchange(crossBreakdown(stockRows, stockTotal))
+                .fundValue(fundTotal.value.toBigDecimal())
+                .fundHoldingCount(fundTotal.count)
+                .byFundCategory(rollUp(fundRows, true, fundTotal))
+                .byRiskLevel(rollUp(fundRows, false, fundTotal))
+                .byFundCategoryAndRiskLevel(crossBreakdown(fundRows, fundTotal))
+                .generatedAt(Instant.now())
+                .build();
+    }
+
+    private static Bucket total(List<Row> rows) {
+        Bucket total = new Bucket();
+        rows.forEach(total::add);
+        return total;
+    }
+
+    /**
+     * Roll the cross breakdown up to one dimension: the group (first) or the subgroup (second).
+     */
+    private static List<ExposureBucketDTO> rollUp(List<Row> rows, boolean byGroup, Bucket total) {
+        Map<String, Bucket> buckets = new LinkedHashMap<>();
+        for (Row row : rows) {
+            buckets.computeIfAbsent(label(byGroup ? row.group() : row.subgroup()), key -> new Bucket()).add(row);
+        }
+        BigDecimal totalValue = total.value.toBigDecimal();
+        List<ExposureBucketDTO> result = new ArrayList<>(buckets.size());
+        buckets.forEach((key, bucket) -> result.add(toDTO(key, null, bucket, totalValue)));
+        result.sort(Comparator.comparing(ExposureBucketDTO::getTotalValue).reversed());
+        return result;
+    }
+
+    private static List<ExposureBucketDTO> crossBreakdown(List<Row> rows, Bucket total) {
+        BigDecimal totalValue = total.value.toBigDecimal();
+        List<ExposureBucketDTO> result = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            Bucket bucket = new Bucket();
+            bucket.add(row);
+            result.add(toDTO(label(row.group()), label(row.subgroup()), bucket, totalValue));
+        }
+        result.sort(Comparator.comparing(ExposureBucketDTO::getTotalValue).reversed());
+        return result;
+    }
+
+    private static ExposureBucketDTO toDTO(String group, String subgroup, Bucket bucket, BigDecimal total) {
+        BigDecimal value = bucket.value.toBigDecimal();
+        return ExposureBucketDTO.builder()
+                .group(group)
+                .subgroup(subgroup)
+                .totalValue(value)
+                .holdingCount(bucket.count)
+                .percentage(total.signum() == 0 ? BigDecimal.ZERO
+                        : value.multiply(ONE_HUNDRED).divide(total, 2, RoundingMode.HALF_UP))
+                .build();
+    }
+
+    private static String label(String value) {
+        return value == null || value.isBlank() ? UNCLASSIFIED : value;
+    }
+
+    private record Row(String group, String subgroup, BigDecimal value, Long count) {
+    }
+
+    private record CacheKey(ExposureScope scope, Long scopeId) {
+    }
+
+    private static final class Bucket {
+        private final FixedPointValuation.Accumulator value = new FixedPointValuation.Accumulator();
+        private long count;
+
+        private void add(Row row) {
+            value.add(row.value());
+            count += row.count() != null ? row.count() : 0;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.beans.FxRate;
+import com.demo.MoneyMap.beans.enums.CurrencyCode;
+import com.demo.MoneyMap.dto.request.FxRateRequestDTO;
+import com.demo.MoneyMap.dto.response.FxRatesResponseDTO;
+import com.demo.MoneyMap.fx.FxRateMatrix;
+import com.demo.MoneyMap.repository.FxRateRepository;
+import com.demo.MoneyMap.service.FxRateService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Implementation of FxRateService.
+ * Readers only ever see a complete, immutable FxRateMatrix through an atomic reference.
+ * Rate updates are persisted on the request thread; the matrix is rebuilt from the
+ * stored rates on a single background thread after commit, and bursts of updates
+ * collapse into one rebuild.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FxRateServiceImpl implements FxRateService {
+
+    private final FxRateRepository fxRateRepository;
+
+    private final AtomicReference<FxRateMatrix> matrix = new AtomicReference<>(FxRateMatrix.EMPTY);
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+    private final AtomicLong versions = new AtomicLong();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "fx-matrix-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRates() {
+        rebuild();
+    }
+
+    @Override
+    @Transactional
+    public void updateRates(List<FxRateRequestDTO> rates) {
+        for (FxRateRequestDTO rate : rates) {
+            if (rate.getCurrency() == CurrencyCode.USD) {
+                continue;
+            }
+            FxRate entity = fxRateRepository.findById(rate.getCurrency())
+                    .orElseGet(() -> FxRate.builder().currency(rate.getCurrency()).build());
+            entity.setUsdRate(rate.getUsdRate());
+            fxRateRepository.save(entity);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                scheduleRebuild();
+            }
+        });
+    }
+
+    @Override
+    public FxRatesResponseDTO getRates() {
+        FxRateMatrix current = matrix.get();
+        return FxRatesResponseDTO.builder()
+                .version(current.getVersion())
+                .asOf(current.getAsOf())
+                .usdRates(current.getUsdRates())
+                .build();
+    }
+
+    @Override
+    public FxRateMatrix getMatrix() {
+        return matrix.get();
+    }
+
+    private void scheduleRebuild() {
+        if (rebuildPending.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                // Clear first so that an update committed during the rebuild schedules another
+                rebuildPending.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    private void rebuild() {
+        try {
+            Map<CurrencyCode, BigDecimal> usdRates = new EnumMap<>(CurrencyCode.class);
+            fxRateRepository.findAll().forEach(rate -> usdRates.put(rate.getCurrency(), rate.getUsdRate()));
+            FxRateMatrix rebuilt = FxRateMatrix.build(usdRates, versions.incrementAndGet(), Instant.now());
+            matrix.set(rebuilt);
+            log.info("FX cross-rate matrix v{} built from {} rates", rebuilt.getVersion(), usdRates.size());
+        } catch (RuntimeException e) {
+            log.error("FX cross-rate matrix rebuild failed; keeping v{}", matrix.get().getVersion(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,101 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.beans.enums.RankingDirection;
+import com.demo.MoneyMap.beans.enums.RankingMetric;
+import com.demo.MoneyMap.dto.response.MoverDTO;
+import com.demo.MoneyMap.dto.response.MoversResponseDTO;
+import com.demo.MoneyMap.ranking.HoldingRankingIndex;
+import com.demo.MoneyMap.repository.ClientRepository;
+import com.demo.MoneyMap.service.MoversService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of MoversService.
+ * Rankings come from the in-memory HoldingRankingIndex; the database is only
+ * consulted to reject unknown clients.
+ */
+@Service
+@RequiredArgsConstructor
+public class MoversServiceImpl implements MoversService {
+
+    private final HoldingRankingIndex holdingRankingIndex;
+    private final ClientRepository clientRepository;
+
+    @Value("${moneymap.rankings.max-limit:100}")
+    private int maxLimit;
+
+    @Override
+    public MoversResponseDTO getFirmMovers(RankingMetric metric, RankingDirection direction, int limit) {
+        validate(limit);
+        return toResponse(null, metric, direction, holdingRankingIndex.topFirm(metric, direction, limit));
+    }
+
+    @Override
+    public MoversResponseDTO getClientMovers(Long clientId, RankingMetric metric, RankingDirection direction,
+                                             int limit) {
+        validate(limit);
+        if (!clientRepository.existsById(clientId)) {
+            throw new EntityNotFoundException("Client not found with id: " + clientId);
+        }
+        return toResponse(clientId, metric, direction,
+                holdingRankingIndex.topClient(clientId, metric, direction, limit));
+    }
+
+    private void validate(int limit) {
+        if (limit < 1 || limit > maxLimit) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + maxLimit);
+        }
+        if (!holdingRankingIndex.isReady()) {
+            throw new IllegalStateException("Holding rankings are still loading");
+        }
+    }
+
+    private MoversResponseDTO toResponse(Long clientId, RankingMetric metric, RankingDirection direction,
+                                         HoldingRankingIndex.Ranking ranking) {
+        List<MoverDTO> movers = new ArrayList<>(ranking.holdings().size());
+        int rank = 1;
+        for (HoldingRankingIndex.Holding holding : ranking.holdings()) {
+            HoldingRankingIndex.Quote.State quote = holding.quote().state();
+            movers.add(MoverDTO.builder()
+                    .rank(rank++)
+                    .assetId(holding.assetId())
+                    .name(holding.name())
+                    .symbol(holding.symbol())
+                    .assetType(holding.assetType())
+                    .portfolioId(holding.portfolioId())
+                    .clientId(holding.clientId())
+                    .currentPrice(decimal(quote.price()))
+                    .previousClose(decimal(quote.previousClose()))
+                    .currentValue(decimal(holding.currentValue()))
+                    .profitLoss(decimal(holding.profitLoss()))
+                    .profitLossPercentage(decimal(holding.profitLossPercentage()))
+                    .dayChange(decimal(holding.dayChange()))
+                    .dayChangePercentage(decimal(holding.dayChangePercentage()))
+                    .priceUpdatedAt(quote.updatedAt())
+                    .build());
+        }
+        return MoversResponseDTO.builder()
+                .clientId(clientId)
+                .metric(metric)
+                .direction(direction)
+                .holdingsConsidered(ranking.considered())
+                .pricesAsOf(holdingRankingIndex.getLastPriceUpdateAt())
+                .holdingsAsOf(holdingRankingIndex.getLastRebuildAt())
+                .generatedAt(Instant.now())
+                .movers(movers)
+                .build();
+    }
+
+    private static BigDecimal decimal(double value) {
+        return Double.isFinite(value) ? BigDecimal.valueOf(value).setScale(4, RoundingMode.HALF_UP) : null;
+    }
+}
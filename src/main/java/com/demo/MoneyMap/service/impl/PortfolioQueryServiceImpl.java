@@ -0,0 +1,75 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.beans.enums.ScrollSort;
+import com.demo.MoneyMap.dto.response.PagedResponseDTO;
+import com.demo.MoneyMap.dto.response.PortfolioResponseDTO;
+import com.demo.MoneyMap.dto.response.SliceResponseDTO;
+import com.demo.MoneyMap.mapper.PortfolioMapper;
+import com.demo.MoneyMap.pagination.KeysetCursor;
+import com.demo.MoneyMap.pagination.KeysetSlices;
+import com.demo.MoneyMap.repository.PortfolioRepository;
+import com.demo.MoneyMap.repository.projection.PortfolioListProjection;
+import com.demo.MoneyMap.service.PortfolioQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of PortfolioQueryService.
+ * Each listing is one projection query (plus a count for pages): the client name
+ * and asset count come back with the row, so nothing is lazily loaded per portfolio.
+ * Scrolled listings seek past the cursor's (key, id) and run no count at all.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PortfolioQueryServiceImpl implements PortfolioQueryService {
+
+    private final PortfolioRepository portfolioRepository;
+    private final PortfolioMapper portfolioMapper;
+
+    @Value("${moneymap.pagination.keyset.max-size:500}")
+    private int maxSliceSize;
+
+    @Override
+    public PagedResponseDTO<PortfolioResponseDTO> getAllPortfolios(Pageable pageable) {
+        return PagedResponseDTO.from(portfolioRepository.findListPage(pageable).map(portfolioMapper::toResponseDTO));
+    }
+
+    @Override
+    public PagedResponseDTO<PortfolioResponseDTO> searchPortfolios(String searchTerm, Pageable pageable) {
+        return PagedResponseDTO.from(portfolioRepository.searchListPage(searchTerm, pageable)
+                .map(portfolioMapper::toResponseDTO));
+    }
+
+    @Override
+    public List<PortfolioResponseDTO> getPortfoliosByClientId(Long clientId) {
+        return portfolioRepository.findListByClientId(clientId).stream()
+                .map(portfolioMapper::toResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<PortfolioResponseDTO> getActivePortfoliosByClientId(Long clientId) {
+        return portfolioRepository.findActiveListByClientId(clientId).stream()
+                .map(portfolioMapper::toResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public SliceResponseDTO<PortfolioResponseDTO> scrollPortfolios(String cursor, int size, ScrollSort sort) {
+        KeysetSlices.checkSize(size, maxSliceSize);
+        KeysetCursor position = KeysetCursor.decode(cursor, sort);
+        List<PortfolioListProjection> rows = position.sort() == ScrollSort.NAME
+                ? portfolioRepository.scrollListByName(position.lastKey(), position.lastId(),
+                        KeysetSlices.limitFor(size))
+                : portfolioRepository.scrollListById(position.lastId(), KeysetSlices.limitFor(size));
+        return KeysetSlices.toSlice(rows, size, position.sort(), PortfolioListProjection::getName,
+                PortfolioListProjection::getId, portfolioMapper::toResponseDTO);
+    }
+}
@@ -0,0 +1,111 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.cache.PortfolioCacheInvalidator;
+import com.demo.MoneyMap.dto.response.PortfolioDriftDTO;
+import com.demo.MoneyMap.dto.response.ReconciliationReportDTO;
+import com.demo.MoneyMap.service.PortfolioReconciliationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of PortfolioReconciliationService.
+ * Portfolio totals are maintained by deltas on every asset change; this job
+ * recomputes them from the assets table with one grouped query, reports any
+ * drift and optionally repairs it. Runs on a schedule and on demand.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PortfolioReconciliationServiceImpl implements PortfolioReconciliationService {
+
+    private static final String COUNT_PORTFOLIOS_SQL = "SELECT COUNT(*) FROM portfolios";
+
+    private static final String FIND_DRIFT_SQL =
+            "SELECT p.id, COALESCE(p.total_value, 0) AS recorded, COALESCE(SUM(a.current_value), 0) AS actual " +
+            "FROM portfolios p LEFT JOIN assets a ON a.portfolio_id = p.id " +
+            "GROUP BY p.id, p.total_value " +
+            "HAVING COALESCE(p.total_value, 0) <> COALESCE(SUM(a.current_value), 0)";
+
+    // Recomputed at update time so concurrent asset changes since the scan are not lost
+    private static final String REPAIR_SQL =
+            "UPDATE portfolios p SET total_value = " +
+            "(SELECT COALESCE(SUM(a.current_value), 0) FROM assets a WHERE a.portfolio_id = p.id), " +
+            "updated_at = :updatedAt WHERE p.id IN (:ids)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final PortfolioCacheInvalidator portfolioCacheInvalidator;
+
+    @Value("${moneymap.portfolios.reconciliation.max-reported-drifts:100}")
+    private int maxReportedDrifts;
+
+    @Override
+    @Transactional
+    public ReconciliationReportDTO reconcile(boolean repair) {
+        long startNanos = System.nanoTime();
+        Long checked = jdbcTemplate.queryForObject(COUNT_PORTFOLIOS_SQL, Long.class);
+
+        List<Long> driftedIds = new ArrayList<>();
+        List<PortfolioDriftDTO> drifts = new ArrayList<>();
+        BigDecimal[] totalAbsoluteDrift = {BigDecimal.ZERO};
+        jdbcTemplate.query(FIND_DRIFT_SQL, rs -> {
+            long portfolioId = rs.getLong("id");
+            BigDecimal recorded = rs.getBigDecimal("recorded");
+            BigDecimal actual = rs.getBigDecimal("actual");
+            BigDecimal drift = actual.subtract(recorded);
+            driftedIds.add(portfolioId);
+            totalAbsoluteDrift[0] = totalAbsoluteDrift[0].add(drift.abs());
+            if (drifts.size() < maxReportedDrifts) {
+                drifts.add(PortfolioDriftDTO.builder()
+                        .portfolioId(portfolioId)
+                        .recordedTotalValue(recorded)
+                        .actualTotalValue(actual)
+                        .drift(drift)
+                        .build());
+            }
+        });
+
+        if (repair && !driftedIds.isEmpty()) {
+            namedParameterJdbcTemplate.update(REPAIR_SQL, new MapSqlParameterSource()
+                    .addValue("ids", driftedIds)
+                    .addValue("updatedAt", Timestamp.valueOf(LocalDateTime.now())));
+            portfolioCacheInvalidator.portfoliosUpdated(driftedIds);
+        }
+        if (!driftedIds.isEmpty()) {
+            log.warn("Portfolio reconciliation found {} drifted totals (absolute drift {}), repaired: {}",
+                    driftedIds.size(), totalAbsoluteDrift[0], repair);
+        }
+
+        return ReconciliationReportDTO.builder()
+                .portfoliosChecked(checked != null ? checked : 0)
+                .portfoliosDrifted(driftedIds.size())
+                .totalAbsoluteDrift(totalAbsoluteDrift[0])
+                .repaired(repair && !driftedIds.isEmpty())
+                .elapsedMillis((System.nanoTime() - startNanos) / 1_000_000)
+                .completedAt(LocalDateTime.now())
+                .drifts(drifts)
+                .build();
+    }
+
+    /**
+     * Periodic reconciliation and repair.
+     */
+    @Scheduled(cron = "${moneymap.portfolios.reconciliation.cron:0 0 2 * * *}")
+    @Transactional
+    public void scheduledReconcile() {
+        reconcile(true);
+    }
+}
@@ -0,0 +1,236 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.beans.PortfolioRiskMetrics;
+import com.demo.MoneyMap.dto.response.PortfolioRiskDTO;
+import com.demo.MoneyMap.dto.response.RiskRunResultDTO;
+import com.demo.MoneyMap.repository.PortfolioRepository;
+import com.demo.MoneyMap.repository.PortfolioRiskMetricsRepository;
+import com.demo.MoneyMap.risk.PortfolioRiskCalculator;
+import com.demo.MoneyMap.risk.ReturnWindow;
+import com.demo.MoneyMap.risk.RiskBook;
+import com.demo.MoneyMap.service.PortfolioRiskService;
+import com.demo.MoneyMap.timeseries.PriceHistoryStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementation of PortfolioRiskService.
+ * A run loads the daily returns of every held symbol once, then walks portfolios
+ * by ID in chunks (keyset): each chunk's holdings are read into flat arrays, the
+ * metrics are computed on a dedicated fork/join pool and written with a batched upsert.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PortfolioRiskServiceImpl implements PortfolioRiskService {
+
+    private static final String HELD_SYMBOLS_SQL = "SELECT DISTINCT symbol FROM assets WHERE symbol IS NOT NULL";
+
+    private static final String PORTFOLIO_SYMBOLS_SQL =
+            "SELECT DISTINCT symbol FROM assets WHERE portfolio_id = ? AND symbol IS NOT NULL";
+
+    private static final String PORTFOLIO_IDS_SQL = "SELECT id FROM portfolios WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String HOLDINGS_SQL =
+            "SELECT portfolio_id, symbol, current_value FROM assets " +
+            "WHERE portfolio_id BETWEEN ? AND ? ORDER BY portfolio_id";
+
+    private static final String UPSERT_METRICS_SQL =
+            "INSERT INTO portfolio_risk_metrics (portfolio_id, as_of_date, window_days, portfolio_value, " +
+            "covered_value, daily_volatility, var_95, var_99, computed_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE as_of_date = VALUES(as_of_date), window_days = VALUES(window_days), " +
+            "portfolio_value = VALUES(portfolio_value), covered_value = VALUES(covered_value), " +
+            "daily_volatility = VALUES(daily_volatility), var_95 = VALUES(var_95), var_99 = VALUES(var_99), " +
+            "computed_at = VALUES(computed_at)";
+
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PriceHistoryStore priceHistoryStore;
+    private final PortfolioRepository portfolioRepository;
+    private final PortfolioRiskMetricsRepository riskMetricsRepository;
+
+    private final ReentrantLock runLock = new ReentrantLock();
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private ForkJoinPool pool;
+
+    @Value("${moneymap.risk.window-days:250}")
+    private int windowDays;
+
+    @Value("${moneymap.risk.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${moneymap.risk.parallelism:0}")
+    private int parallelism;
+
+    @PostConstruct
+    public void init() {
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    @Override
+    public PortfolioRiskDTO getPortfolioRisk(Long portfolioId) {
+        if (!portfolioRepository.existsById(portfolioId)) {
+            throw new EntityNotFoundException("Portfolio not found with id: " + portfolioId);
+        }
+        PortfolioRiskMetrics metrics = riskMetricsRepository.findById(portfolioId).orElseGet(() -> {
+            LocalDate asOf = LocalDate.now(zone);
+            List<String> symbols = jdbcTemplate.queryForList(PORTFOLIO_SYMBOLS_SQL, String.class, portfolioId);
+            ReturnWindow window = ReturnWindow.load(priceHistoryStore, symbols, asOf, windowDays, zone);
+            processChunk(List.of(portfolioId), window);
+            return riskMetricsRepository.findById(portfolioId)
+                    .orElseThrow(() -> new EntityNotFoundException("Portfolio not found with id: " + portfolioId));
+        });
+        return toDTO(metrics);
+    }
+
+    @Override
+    public RiskRunResultDTO runRiskBatch() {
+        if (!runLock.tryLock()) {
+            throw new IllegalStateException("A risk run is already in progress");
+        }
+        try {
+            return doRun();
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    /**
+     * Nightly firm-wide run.
+     */
+    @Scheduled(cron = "${moneymap.risk.cron:0 30 0 * * *}")
+    public void scheduledRun() {
+        RiskRunResultDTO result = runRiskBatch();
+        log.info("Risk run: {} portfolios in {} ms ({} portfolios/s)", result.getPortfoliosProcessed(),
+                result.getElapsedMillis(), Math.round(result.getPortfoliosPerSecond()));
+    }
+
+    private RiskRunResultDTO doRun() {
+        long startNanos = System.nanoTime();
+        LocalDate asOf = LocalDate.now(zone);
+        ReturnWindow window = ReturnWindow.load(priceHistoryStore,
+                jdbcTemplate.queryForList(HELD_SYMBOLS_SQL, String.class), asOf, windowDays, zone);
+        long loadNanos = System.nanoTime() - startNanos;
+
+        long lastId = 0;
+        long portfolios = 0;
+        long holdings = 0;
+        long computeNanos = 0;
+        List<Long> ids;
+        while (!(ids = jdbcTemplate.queryForList(PORTFOLIO_IDS_SQL, Long.class, lastId, chunkSize)).isEmpty()) {
+            ChunkStats stats = processChunk(ids, window);
+            portfolios += ids.size();
+            holdings += stats.holdings();
+            computeNanos += stats.computeNanos();
+            lastId = ids.get(ids.size() - 1);
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        return RiskRunResultDTO.builder()
+                .asOfDate(asOf)
+                .windowDays(windowDays)
+                .symbolsWithHistory(window.getSymbolCount())
+                .portfoliosProcessed(portfolios)
+                .holdingsProcessed(holdings)
+                .parallelism(pool.getParallelism())
+                .loadMillis(loadNanos / 1_000_000)
+                .computeMillis(computeNanos / 1_000_000)
+                .elapsedMillis(elapsedNanos / 1_000_000)
+                .portfoliosPerSecond(elapsedNanos > 0 ? portfolios * 1e9 / elapsedNanos : portfolios)
+                .scenarioEvaluationsPerSecond(computeNanos > 0
+                        ? (double) holdings * window.getScenarioCount() * 1e9 / computeNanos : 0.0)
+                .build();
+    }
+
+    /**
+     * Load, compute and write the metrics of a chunk of portfolios (ascending IDs).
+     */
+    private ChunkStats processChunk(List<Long> ids, ReturnWindow window) {
+        RiskBook book = new RiskBook(ids.size(), ids.size() * 8);
+        int[] next = {0};
+        jdbcTemplate.query(HOLDINGS_SQL, rs -> {
+            long portfolioId = rs.getLong("portfolio_id");
+            while (next[0] < ids.size() && ids.get(next[0]) <= portfolioId) {
+                book.addPortfolio(ids.get(next[0]++));
+            }
+            BigDecimal value = rs.getBigDecimal("current_value");
+            book.addHolding(window.indexOf(rs.getString("symbol")), value != null ? value.doubleValue() : 0.0);
+        }, ids.get(0), ids.get(ids.size() - 1));
+        while (next[0] < ids.size()) {
+            book.addPortfolio(ids.get(next[0]++));
+        }
+
+        long computeStart = System.nanoTime();
+        double[] results = PortfolioRiskCalculator.computeAll(pool, book, window);
+        long computeNanos = System.nanoTime() - computeStart;
+
+        Date asOf = Date.valueOf(window.getEndDate());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(book.getPortfolioCount());
+        for (int p = 0; p < book.getPortfolioCount(); p++) {
+            int out = p * PortfolioRiskCalculator.METRIC_COUNT;
+            rows.add(new Object[]{
+                    book.getPortfolioId(p), asOf, window.getScenarioCount(),
+                    amount(book.getPortfolioValue(p)), amount(book.getCoveredValue(p)),
+                    amount(results[out + PortfolioRiskCalculator.VOLATILITY]),
+                    amount(results[out + PortfolioRiskCalculator.VAR_95]),
+                    amount(results[out + PortfolioRiskCalculator.VAR_99]),
+                    now
+            });
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPSERT_METRICS_SQL, rows));
+        return new ChunkStats(book.getHoldingCount(), computeNanos);
+    }
+
+    private PortfolioRiskDTO toDTO(PortfolioRiskMetrics metrics) {
+        BigDecimal value = metrics.getPortfolioValue();
+        return PortfolioRiskDTO.builder()
+                .portfolioId(metrics.getPortfolioId())
+                .asOfDate(metrics.getAsOfDate())
+                .windowDays(metrics.getWindowDays())
+                .portfolioValue(value)
+                .coveredValue(metrics.getCoveredValue())
+                .dailyVolatility(metrics.getDailyVolatility())
+                .dailyVolatilityPercentage(value.signum() == 0 ? BigDecimal.ZERO
+                        : metrics.getDailyVolatility().multiply(ONE_HUNDRED).divide(value, 4, RoundingMode.HALF_UP))
+                .var95(metrics.getVar95())
+                .var99(metrics.getVar99())
+                .computedAt(metrics.getComputedAt())
+                .build();
+    }
+
+    private static BigDecimal amount(double value) {
+        return BigDecimal.valueOf(value).setScale(4, RoundingMode.HALF_UP);
+    }
+
+    private record ChunkStats(long holdings, long computeNanos) {
+    }
+}
@@ -0,0 +1,144 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.aggregate.AumAggregateStore;
+import com.demo.MoneyMap.beans.Client;
+import com.demo.MoneyMap.beans.Portfolio;
+import com.demo.MoneyMap.dto.request.PortfolioRequestDTO;
+import com.demo.MoneyMap.dto.response.PagedResponseDTO;
+import com.demo.MoneyMap.dto.response.PortfolioResponseDTO;
+import com.demo.MoneyMap.mapper.PortfolioMapper;
+import com.demo.MoneyMap.repository.ClientRepository;
+import com.demo.MoneyMap.repository.PortfolioRepository;
+import com.demo.MoneyMap.service.PortfolioQueryService;
+import com.demo.MoneyMap.service.PortfolioService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Implementation of PortfolioService.
+ * Writes go through the Portfolio entity; listings are served by PortfolioQueryService.
+ * A client has at most one portfolio, so its total value is the in-memory AUM total of
+ * the client while that portfolio is active, once the aggregates have been loaded.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PortfolioServiceImpl implements PortfolioService {
+
+    private final PortfolioRepository portfolioRepository;
+    private final ClientRepository clientRepository;
+    private final PortfolioQueryService portfolioQueryService;
+    private final PortfolioMapper portfolioMapper;
+    private final AumAggregateStore aumAggregateStore;
+
+    @Override
+    public PortfolioResponseDTO createPortfolio(PortfolioRequestDTO requestDTO) {
+        Client client = clientRepository.findById(requestDTO.getClientId())
+                .orElseThrow(() -> new EntityNotFoundException("Client not found with id: " + requestDTO.getClientId()));
+        if (client.getPortfolio() != null) {
+            throw new IllegalStateException("Client " + client.getId() + " already has a portfolio");
+        }
+        Portfolio portfolio = portfolioMapper.toEntity(requestDTO);
+        client.setPortfolio(portfolio);
+        return portfolioMapper.toResponseDTO(portfolioRepository.save(portfolio));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PortfolioResponseDTO getPortfolioById(Long id) {
+        return portfolioMapper.toResponseDTO(portfolioRepository.findByIdWithClient(id)
+                .orElseThrow(() -> notFound(id)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PortfolioResponseDTO getPortfolioByIdWithAssets(Long id) {
+        return portfolioMapper.toResponseDTOWithAssets(portfolioRepository.findByIdWithAssets(id)
+                .orElseThrow(() -> notFound(id)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponseDTO<PortfolioResponseDTO> getAllPortfolios(Pageable pageable) {
+        return portfolioQueryService.getAllPortfolios(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PortfolioResponseDTO> getPortfoliosByClientId(Long clientId) {
+        return portfolioQueryService.getPortfoliosByClientId(clientId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PortfolioResponseDTO> getActivePortfoliosByClientId(Long clientId) {
+        return portfolioQueryService.getActivePortfoliosByClientId(clientId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponseDTO<PortfolioResponseDTO> searchPortfolios(String searchTerm, Pageable pageable) {
+        return portfolioQueryService.searchPortfolios(searchTerm, pageable);
+    }
+
+    @Override
+    public PortfolioResponseDTO updatePortfolio(Long id, PortfolioRequestDTO requestDTO) {
+        Portfolio portfolio = findPortfolio(id);
+        if (requestDTO.getClientId() != null && !requestDTO.getClientId().equals(portfolio.getClient().getId())) {
+            throw new IllegalArgumentException("A portfolio cannot be moved to another client");
+        }
+        portfolioMapper.updateEntityFromDTO(requestDTO, portfolio);
+        return portfolioMapper.toResponseDTO(portfolio);
+    }
+
+    @Override
+    public void deactivatePortfolio(Long id) {
+        findPortfolio(id).setActive(false);
+    }
+
+    @Override
+    public void activatePortfolio(Long id) {
+        findPortfolio(id).setActive(true);
+    }
+
+    @Override
+    public void deletePortfolio(Long id) {
+        Portfolio portfolio = findPortfolio(id);
+        portfolio.getClient().setPortfolio(null);
+        portfolioRepository.delete(portfolio);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BigDecimal getTotalValueByClientId(Long clientId) {
+        if (!aumAggregateStore.isReady()) {
+            return portfolioRepository.getTotalValueByClientId(clientId);
+        }
+        // Inactive portfolios are left out of the total, as in the query
+        return portfolioRepository.countByClientIdAndActiveTrue(clientId) > 0
+                ? aumAggregateStore.getClientTotalValue(clientId)
+                : BigDecimal.ZERO;
+    }
+
+    @Override
+    public PortfolioResponseDTO recalculateTotalValue(Long id) {
+        if (portfolioRepository.recalculateTotalValue(id) == 0) {
+            throw notFound(id);
+        }
+        return portfolioMapper.toResponseDTO(findPortfolio(id));
+    }
+
+    private Portfolio findPortfolio(Long id) {
+        return portfolioRepository.findById(id).orElseThrow(() -> notFound(id));
+    }
+
+    private static EntityNotFoundException notFound(Long id) {
+        return new EntityNotFoundException("Portfolio not found with id: " + id);
+    }
+}
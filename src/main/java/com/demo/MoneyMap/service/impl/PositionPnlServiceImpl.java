@@ -0,0 +1,531 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.beans.Asset;
+import com.demo.MoneyMap.beans.AssetPosition;
+import com.demo.MoneyMap.beans.PositionLot;
+import com.demo.MoneyMap.beans.Transaction;
+import com.demo.MoneyMap.beans.enums.CostMethod;
+import com.demo.MoneyMap.beans.enums.TransactionType;
+import com.demo.MoneyMap.dto.request.TransactionRequestDTO;
+import com.demo.MoneyMap.dto.response.AssetPnlDTO;
+import com.demo.MoneyMap.dto.response.AssetResponseDTO;
+import com.demo.MoneyMap.dto.response.PnlRecomputeResultDTO;
+import com.demo.MoneyMap.dto.response.PortfolioPnlDTO;
+import com.demo.MoneyMap.dto.response.PortfolioSummaryDTO;
+import com.demo.MoneyMap.event.AssetChangedEvent;
+import com.demo.MoneyMap.pnl.PositionState;
+import com.demo.MoneyMap.repository.AssetPositionRepository;
+import com.demo.MoneyMap.repository.AssetRepository;
+import com.demo.MoneyMap.repository.PortfolioRepository;
+import com.demo.MoneyMap.repository.PositionLotRepository;
+import com.demo.MoneyMap.repository.TransactionRepository;
+import com.demo.MoneyMap.service.PositionPnlService;
+import com.demo.MoneyMap.valuation.FixedPointValuation;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of PositionPnlService.
+ *
+ * Each asset has one asset_positions row carrying both average-cost and FIFO state,
+ * plus its open FIFO lots in position_lots. Recording a transaction locks the row,
+ * applies the transaction to the stored state and writes back only what changed,
+ * so the cost does not grow with the length of the ledger. A back-dated transaction
+ * replays that asset's ledger instead.
+ *
+ * The bulk recompute walks the assets that have a ledger in batches. Each batch is
+ * rebuilt in one transaction: it locks the batch's asset rows, the same locks recording
+ * takes, so no instance can record into a ledger being replayed; then it replays their
+ * ledgers and replaces their positions and lots. Readers see every asset's old position
+ * until its batch commits, and a failed run leaves the unfinished batches as they were.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PositionPnlServiceImpl implements PositionPnlService {
+
+    private static final String NEXT_ASSETS_SQL =
+            "SELECT DISTINCT asset_id FROM transactions WHERE asset_id > ? ORDER BY asset_id LIMIT ?";
+
+    // %s is the asset ID placeholder list of a batch
+    private static final String LOCK_ASSETS_SQL = "SELECT id FROM assets WHERE id IN (%s) ORDER BY id FOR UPDATE";
+
+    private static final String LEDGER_SQL =
+            "SELECT id, asset_id, transaction_type, quantity, price_per_unit, amount, fees, transaction_date " +
+            "FROM transactions WHERE asset_id IN (%s) ORDER BY asset_id, transaction_date, id";
+
+    private static final String DELETE_LOTS_SQL = "DELETE FROM position_lots WHERE asset_id IN (%s)";
+
+    private static final String DELETE_POSITIONS_SQL = "DELETE FROM asset_positions WHERE asset_id IN (%s)";
+
+    // Positions left behind by an asset whose ledger is gone
+    private static final String DELETE_ORPHAN_LOTS_SQL =
+            "DELETE FROM position_lots WHERE NOT EXISTS " +
+            "(SELECT 1 FROM transactions t WHERE t.asset_id = position_lots.asset_id)";
+
+    private static final String DELETE_ORPHAN_POSITIONS_SQL =
+            "DELETE FROM asset_positions WHERE NOT EXISTS " +
+            "(SELECT 1 FROM transactions t WHERE t.asset_id = asset_positions.asset_id)";
+
+    private static final String INSERT_POSITION_SQL =
+            "INSERT INTO asset_positions (asset_id, quantity, average_cost_basis, average_realized_pnl, " +
+            "fifo_cost_basis, fifo_realized_pnl, dividend_income, fees_paid, transaction_count, " +
+            "last_transaction_id, last_transaction_date, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_LOT_SQL =
+            "INSERT INTO position_lots (asset_id, transaction_id, quantity, cost_basis) VALUES (?, ?, ?, ?)";
+
+    /**
+     * Ledger totals of a set of portfolios; %1$s and %2$s are the cost basis and realized
+     * columns of the cost method, %3$s the portfolio filter.
+     */
+    private static final String PORTFOLIO_PNL_SQL =
+            "SELECT a.portfolio_id, COUNT(*) AS positions, SUM(p.%1$s) AS cost_basis, " +
+            "SUM(ROUND(p.quantity * COALESCE(a.current_price, a.purchase_price), 4)) AS market_value, " +
+            "SUM(p.%2$s) AS realized, SUM(p.dividend_income) AS dividends " +
+            "FROM asset_positions p JOIN assets a ON a.id = p.asset_id " +
+            "WHERE %3$s GROUP BY a.portfolio_id";
+
+    private final AssetRepository assetRepository;
+    private final PortfolioRepository portfolioRepository;
+    private final TransactionRepository transactionRepository;
+    private final AssetPositionRepository positionRepository;
+    private final PositionLotRepository lotRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean recomputing = new AtomicBoolean();
+
+    @Value("${moneymap.pnl.cost-method:AVERAGE_COST}")
+    private CostMethod defaultMethod;
+
+    @Value("${moneymap.pnl.recompute.batch-size:1000}")
+    private int batchSize;
+
+    // ============== RECORDING ==============
+
+    @Override
+    public AssetPnlDTO recordTransaction(Long assetId, TransactionRequestDTO request) {
+        return transactionTemplate.execute(status -> doRecord(assetId, request));
+    }
+
+    private AssetPnlDTO doRecord(Long assetId, TransactionRequestDTO request) {
+        // Locked for the whole transaction: a recompute batch holding the asset waits for it, and vice versa
+        Asset asset = assetRepository.findByIdForUpdate(assetId)
+                .orElseThrow(() -> new EntityNotFoundException("Asset not found with id: " + assetId));
+        TransactionType type = request.getTransactionType();
+        if (!asset.isTransactionTypeAllowed(type)) {
+            throw new IllegalArgumentException("Transaction type " + type + " is not allowed for "
+                    + asset.getType() + " assets");
+        }
+        if (type != TransactionType.DIVIDEND && request.getPricePerUnit() == null) {
+            throw new IllegalArgumentException("Price per unit is required for " + type + " transactions");
+        }
+
+        AssetPosition position = positionRepository.findByAssetIdForUpdate(assetId).orElse(null);
+        // At column scale, so the incremental state sees the figures a ledger replay reads back
+        Transaction transaction = transactionRepository.save(Transaction.builder()
+                .asset(asset)
+                .transactionType(type)
+                .quantity(toScale(request.getQuantity(), FixedPointValuation.QUANTITY_SCALE))
+                .pricePerUnit(toScale(request.getPricePerUnit(), FixedPointValuation.PRICE_SCALE))
+                .amount(toScale(request.getAmount(), FixedPointValuation.VALUE_SCALE))
+                .fees(request.getFees() != null
+                        ? toScale(request.getFees(), FixedPointValuation.VALUE_SCALE)
+                        : BigDecimal.ZERO)
+                .transactionDate(request.getTransactionDate())
+                .notes(request.getNotes())
+                .build());
+
+        PositionState state;
+        boolean backDated = position != null && position.getLastTransactionDate() != null
+                && transaction.getTransactionDate().isBefore(position.getLastTransactionDate());
+        if (position == null || backDated) {
+            // First position of the asset, or an entry before the latest one: rebuild from the ledger.
+            state = new PositionState();
+            for (Transaction entry : transactionRepository.findByAssetIdOrderByTransactionDateAscIdAsc(assetId)) {
+                apply(state, entry);
+            }
+            lotRepository.deleteByAssetId(assetId);
+        } else {
+            boolean relievesLots = type == TransactionType.SELL || type == TransactionType.TRANSFER_OUT;
+            state = restore(position, relievesLots
+                    ? lotRepository.findByAssetIdOrderByIdAsc(assetId)
+                    : Collections.emptyList());
+            apply(state, transaction);
+        }
+
+        writeLots(assetId, state.drainLotChanges());
+        AssetPosition saved = positionRepository.save(toEntity(assetId, state, position));
+        return toAssetPnlDTO(asset, saved, defaultMethod);
+    }
+
+    private static BigDecimal toScale(BigDecimal value, int scale) {
+        return value != null ? value.setScale(scale, RoundingMode.HALF_UP) : null;
+    }
+
+    private static void apply(PositionState state, Transaction transaction) {
+        state.apply(transaction.getId(), transaction.getTransactionType(), transaction.getQuantity(),
+                transaction.getPricePerUnit(), transaction.getAmount(), transaction.getFees(),
+                transaction.getTransactionDate());
+    }
+
+    private static PositionState restore(AssetPosition position, List<PositionLot> lots) {
+        List<PositionState.Lot> openLots = new ArrayList<>(lots.size());
+        for (PositionLot lot : lots) {
+            openLots.add(new PositionState.Lot(lot.getId(), lot.getTransactionId(),
+                    lot.getQuantity(), lot.getCostBasis()));
+        }
+        return new PositionState(position.getQuantity(), position.getAverageCostBasis(),
+                position.getAverageRealizedPnl(), position.getFifoCostBasis(), position.getFifoRealizedPnl(),
+                position.getDividendIncome(), position.getFeesPaid(), position.getTransactionCount(),
+                position.getLastTransactionId(), position.getLastTransactionDate(), openLots);
+    }
+
+    private void writeLots(Long assetId, PositionState.LotChanges changes) {
+        if (!changes.deleted().isEmpty()) {
+            lotRepository.deleteAllByIdInBatch(changes.deleted().stream()
+                    .map(PositionState.Lot::getId)
+                    .collect(Collectors.toList()));
+        }
+        for (PositionState.Lot lot : changes.updated()) {
+            lotRepository.updateRemaining(lot.getId(), lot.getQuantity(), lot.getCostBasis());
+        }
+        for (PositionState.Lot lot : changes.inserted()) {
+            PositionLot saved = lotRepository.save(PositionLot.builder()
+                    .assetId(assetId)
+                    .transactionId(lot.getTransactionId())
+                    .quantity(lot.getQuantity())
+                    .costBasis(lot.getCostBasis())
+                    .build());
+            lot.assignId(saved.getId());
+        }
+    }
+
+    private static AssetPosition toEntity(Long assetId, PositionState state, AssetPosition existing) {
+        AssetPosition position = existing != null ? existing : AssetPosition.builder().assetId(assetId).build();
+        position.setQuantity(state.getQuantity());
+        position.setAverageCostBasis(state.getAverageCostBasis());
+        position.setAverageRealizedPnl(state.getAverageRealizedPnl());
+        position.setFifoCostBasis(state.getFifoCostBasis());
+        position.setFifoRealizedPnl(state.getFifoRealizedPnl());
+        position.setDividendIncome(state.getDividendIncome());
+        position.setFeesPaid(state.getFeesPaid());
+        position.setTransactionCount(state.getTransactionCount());
+        position.setLastTransactionId(state.getLastTransactionId());
+        position.setLastTransactionDate(state.getLastTransactionDate());
+        return position;
+    }
+
+    /**
+     * Positions and lots go with their asset.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onAssetChanged(AssetChangedEvent event) {
+        if (event.changeType() == AssetChangedEvent.ChangeType.DELETED) {
+            jdbcTemplate.update("DELETE FROM position_lots WHERE asset_id = ?", event.assetId());
+            jdbcTemplate.update("DELETE FROM asset_positions WHERE asset_id = ?", event.assetId());
+        }
+    }
+
+    // ============== READS ==============
+
+    @Override
+    public AssetPnlDTO getAssetPnl(Long assetId, CostMethod method) {
+        Asset asset = assetRepository.findById(assetId)
+                .orElseThrow(() -> new EntityNotFoundException("Asset not found with id: " + assetId));
+        AssetPosition position = positionRepository.findById(assetId).orElse(null);
+        return toAssetPnlDTO(asset, position, method != null ? method : defaultMethod);
+    }
+
+    @Override
+    public PortfolioPnlDTO getPortfolioPnl(Long portfolioId, CostMethod method) {
+        if (!portfolioRepository.existsById(portfolioId)) {
+            throw new EntityNotFoundException("Portfolio not found with id: " + portfolioId);
+        }
+        CostMethod costMethod = method != null ? method : defaultMethod;
+        PortfolioPnlDTO pnl = queryPortfolioPnl(List.of(portfolioId), costMethod).get(portfolioId);
+        if (pnl != null) {
+            return pnl;
+        }
+        return PortfolioPnlDTO.builder()
+                .portfolioId(portfolioId)
+                .costMethod(costMethod)
+                .positionCount(0L)
+                .costBasis(BigDecimal.ZERO)
+                .marketValue(BigDecimal.ZERO)
+                .realizedProfitLoss(BigDecimal.ZERO)
+                .unrealizedProfitLoss(BigDecimal.ZERO)
+                .dividendIncome(BigDecimal.ZERO)
+                .totalReturn(BigDecimal.ZERO)
+                .build();
+    }
+
+    @Override
+    public void enrichAssets(List<AssetResponseDTO> assets) {
+        if (assets == null || assets.isEmpty()) {
+            return;
+        }
+        Map<Long, AssetPosition> positions = new HashMap<>();
+        for (AssetPosition position : positionRepository.findAllById(
+                assets.stream().map(AssetResponseDTO::getId).collect(Collectors.toList()))) {
+            positions.put(position.getAssetId(), position);
+        }
+        for (AssetResponseDTO asset : assets) {
+            AssetPosition position = positions.get(asset.getId());
+            if (position == null) {
+                continue;
+            }
+            BigDecimal price = asset.getCurrentPrice() != null ? asset.getCurrentPrice() : asset.getPurchasePrice();
+            Figures figures = figures(position, defaultMethod, price);
+            asset.setCostMethod(defaultMethod);
+            asset.setPositionQuantity(position.getQuantity());
+            asset.setCostBasis(figures.costBasis());
+            asset.setRealizedProfitLoss(figures.realized());
+            asset.setUnrealizedProfitLoss(figures.unrealized());
+            asset.setDividendIncome(position.getDividendIncome());
+            asset.setTotalReturn(figures.totalReturn());
+        }
+    }
+
+    @Override
+    public void enrichPortfolioSummaries(List<PortfolioSummaryDTO> portfolios) {
+        if (portfolios == null || portfolios.isEmpty()) {
+            return;
+        }
+        Map<Long, PortfolioPnlDTO> pnl = queryPortfolioPnl(
+                portfolios.stream().map(PortfolioSummaryDTO::getId).collect(Collectors.toList()), defaultMethod);
+        for (PortfolioSummaryDTO portfolio : portfolios) {
+            PortfolioPnlDTO totals = pnl.get(portfolio.getId());
+            portfolio.setRealizedProfitLoss(totals != null ? totals.getRealizedProfitLoss() : BigDecimal.ZERO);
+            portfolio.setUnrealizedProfitLoss(totals != null ? totals.getUnrealizedProfitLoss() : BigDecimal.ZERO);
+            portfolio.setDividendIncome(totals != null ? totals.getDividendIncome() : BigDecimal.ZERO);
+        }
+    }
+
+    private Map<Long, PortfolioPnlDTO> queryPortfolioPnl(List<Long> portfolioIds, CostMethod method) {
+        String filter = "a.portfolio_id IN (" + String.join(",", Collections.nCopies(portfolioIds.size(), "?")) + ")";
+        String sql = method == CostMethod.FIFO
+                ? String.format(PORTFOLIO_PNL_SQL, "fifo_cost_basis", "fifo_realized_pnl", filter)
+                : String.format(PORTFOLIO_PNL_SQL, "average_cost_basis", "average_realized_pnl", filter);
+        Map<Long, PortfolioPnlDTO> result = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            BigDecimal costBasis = rs.getBigDecimal("cost_basis");
+            BigDecimal marketValue = rs.getBigDecimal("market_value");
+            BigDecimal realized = rs.getBigDecimal("realized");
+            BigDecimal dividends = rs.getBigDecimal("dividends");
+            BigDecimal unrealized = marketValue.subtract(costBasis);
+            long portfolioId = rs.getLong("portfolio_id");
+            result.put(portfolioId, PortfolioPnlDTO.builder()
+                    .portfolioId(portfolioId)
+                    .costMethod(method)
+                    .positionCount(rs.getLong("positions"))
+                    .costBasis(costBasis)
+                    .marketValue(marketValue)
+                    .realizedProfitLoss(realized)
+                    .unrealizedProfitLoss(unrealized)
+                    .dividendIncome(dividends)
+                    .totalReturn(realized.add(unrealized).add(dividends))
+                    .build());
+        }, portfolioIds.toArray());
+        return result;
+    }
+
+    private AssetPnlDTO toAssetPnlDTO(Asset asset, AssetPosition position, CostMethod method) {
+        BigDecimal price = asset.getCurrentPrice() != null ? asset.getCurrentPrice() : asset.getPurchasePrice();
+        AssetPnlDTO.AssetPnlDTOBuilder builder = AssetPnlDTO.builder()
+                .assetId(asset.getId())
+                .symbol(asset.getSymbol())
+                .costMethod(method)
+                .currentPrice(price);
+        if (position == null) {
+            return builder
+                    .quantity(BigDecimal.ZERO)
+                    .costBasis(BigDecimal.ZERO)
+                    .marketValue(BigDecimal.ZERO)
+                    .realizedProfitLoss(BigDecimal.ZERO)
+                    .unrealizedProfitLoss(BigDecimal.ZERO)
+                    .dividendIncome(BigDecimal.ZERO)
+                    .totalReturn(BigDecimal.ZERO)
+                    .feesPaid(BigDecimal.ZERO)
+                    .transactionCount(0L)
+                    .build();
+        }
+        Figures figures = figures(position, method, price);
+        return builder
+                .quantity(position.getQuantity())
+                .costBasis(figures.costBasis())
+                .averageUnitCost(position.getQuantity().signum() > 0
+                        ? figures.costBasis().divide(position.getQuantity(), 4, RoundingMode.HALF_UP)
+                        : null)
+                .marketValue(figures.marketValue())
+                .realizedProfitLoss(figures.realized())
+                .unrealizedProfitLoss(figures.unrealized())
+                .dividendIncome(position.getDividendIncome())
+                .totalReturn(figures.totalReturn())
+                .feesPaid(position.getFeesPaid())
+                .transactionCount(position.getTransactionCount())
+                .lastTransactionDate(position.getLastTransactionDate())
+                .build();
+    }
+
+    private static Figures figures(AssetPosition position, CostMethod method, BigDecimal price) {
+        BigDecimal costBasis = method == CostMethod.FIFO ? position.getFifoCostBasis() : position.getAverageCostBasis();
+        BigDecimal realized = method == CostMethod.FIFO
+                ? position.getFifoRealizedPnl() : position.getAverageRealizedPnl();
+        BigDecimal marketValue = price != null
+                ? FixedPointValuation.value(position.getQuantity(), price) : costBasis;
+        BigDecimal unrealized = marketValue.subtract(costBasis);
+        return new Figures(costBasis, marketValue, realized, unrealized,
+                realized.add(unrealized).add(position.getDividendIncome()));
+    }
+
+    private record Figures(BigDecimal costBasis, BigDecimal marketValue, BigDecimal realized,
+                           BigDecimal unrealized, BigDecimal totalReturn) {
+    }
+
+    // ============== BULK RECOMPUTE ==============
+
+    @Override
+    public PnlRecomputeResultDTO recomputeAll() {
+        if (!recomputing.compareAndSet(false, true)) {
+            throw new IllegalStateException("A P&L recompute is already in progress");
+        }
+        try {
+            return doRecompute();
+        } finally {
+            recomputing.set(false);
+        }
+    }
+
+    private PnlRecomputeResultDTO doRecompute() {
+        long startNanos = System.nanoTime();
+        RecomputeRun run = new RecomputeRun();
+        long lastAssetId = 0;
+        while (true) {
+            List<Long> assetIds = jdbcTemplate.queryForList(NEXT_ASSETS_SQL, Long.class, lastAssetId, batchSize);
+            if (assetIds.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status -> run.rebuild(assetIds));
+            lastAssetId = assetIds.get(assetIds.size() - 1);
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_ORPHAN_LOTS_SQL);
+            jdbcTemplate.update(DELETE_ORPHAN_POSITIONS_SQL);
+        });
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        log.info("P&L recompute: {} transactions, {} assets in {} ms", run.transactions, run.assets,
+                elapsedNanos / 1_000_000);
+        return PnlRecomputeResultDTO.builder()
+                .transactionsProcessed(run.transactions)
+                .assetsProcessed(run.assets)
+                .assetsFailed(run.failed)
+                .openLots(run.lots)
+                .elapsedMillis(elapsedNanos / 1_000_000)
+                .transactionsPerSecond(elapsedNanos > 0 ? run.transactions * 1e9 / elapsedNanos : run.transactions)
+                .build();
+    }
+
+    /**
+     * State of a recompute: running totals, the asset being folded and the finished
+     * positions of the current batch.
+     */
+    private final class RecomputeRun {
+        private long assetId = -1;
+        private PositionState state;
+        private long transactions;
+        private long assets;
+        private long failed;
+        private long lots;
+        private final List<Object[]> positionRows = new ArrayList<>();
+        private final List<Object[]> lotRows = new ArrayList<>();
+
+        /**
+         * Replay the ledgers of a batch of assets and replace their positions and lots.
+         * Must run in a transaction; assets whose ledger fails to replay lose their position.
+         */
+        void rebuild(List<Long> assetIds) {
+            String placeholders = String.join(",", Collections.nCopies(assetIds.size(), "?"));
+            Object[] ids = assetIds.toArray();
+            jdbcTemplate.queryForList(String.format(LOCK_ASSETS_SQL, placeholders), Long.class, ids);
+            jdbcTemplate.query(String.format(LEDGER_SQL, placeholders), rs -> {
+                long assetId = rs.getLong("asset_id");
+                if (assetId != this.assetId) {
+                    finishAsset();
+                    this.assetId = assetId;
+                    state = new PositionState();
+                }
+                transactions++;
+                if (state == null) {
+                    return;
+                }
+                Date date = rs.getDate("transaction_date");
+                try {
+                    state.apply(rs.getLong("id"), TransactionType.valueOf(rs.getString("transaction_type")),
+                            rs.getBigDecimal("quantity"), rs.getBigDecimal("price_per_unit"),
+                            rs.getBigDecimal("amount"), rs.getBigDecimal("fees"),
+                            date != null ? date.toLocalDate() : null);
+                } catch (IllegalArgumentException e) {
+                    log.warn("Skipping P&L of asset {}: {}", assetId, e.getMessage());
+                    failed++;
+                    state = null;
+                }
+            }, ids);
+            finishAsset();
+
+            jdbcTemplate.update(String.format(DELETE_LOTS_SQL, placeholders), ids);
+            jdbcTemplate.update(String.format(DELETE_POSITIONS_SQL, placeholders), ids);
+            if (!positionRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_POSITION_SQL, positionRows);
+            }
+            if (!lotRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_LOT_SQL, lotRows);
+            }
+            lots += lotRows.size();
+            positionRows.clear();
+            lotRows.clear();
+        }
+
+        private void finishAsset() {
+            if (state == null) {
+                return;
+            }
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            LocalDate lastDate = state.getLastTransactionDate();
+            positionRows.add(new Object[]{
+                    assetId, state.getQuantity(), state.getAverageCostBasis(), state.getAverageRealizedPnl(),
+                    state.getFifoCostBasis(), state.getFifoRealizedPnl(), state.getDividendIncome(),
+                    state.getFeesPaid(), state.getTransactionCount(), state.getLastTransactionId(),
+                    lastDate != null ? Date.valueOf(lastDate) : null, now
+            });
+            for (PositionState.Lot lot : state.getOpenLots()) {
+                lotRows.add(new Object[]{assetId, lot.getTransactionId(), lot.getQuantity(), lot.getCostBasis()});
+            }
+            assets++;
+            state = null;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.aggregate.AumAggregateStore;
+import com.demo.MoneyMap.cache.PortfolioCacheInvalidator;
+import com.demo.MoneyMap.dto.response.SymbolPriceUpdateResponseDTO;
+import com.demo.MoneyMap.event.SymbolPriceChangedEvent;
+import com.demo.MoneyMap.index.SymbolHoldingIndex;
+import com.demo.MoneyMap.service.PriceFanOutService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of PriceFanOutService.
+ * Reprices a symbol with two statements regardless of how many clients hold it:
+ * one that shifts each owning portfolio's total by the value delta of its holdings,
+ * and one that rewrites current_price/current_value of the holdings themselves.
+ * The symbol index lets quotes for symbols nobody holds skip the database and the
+ * price history entirely. Only the owning portfolios, found through
+ * idx_assets_symbol_portfolio, are evicted from the second-level cache.
+ */
+@Service
+@RequiredArgsConstructor
+public class PriceFanOutServiceImpl implements PriceFanOutService {
+
+    // Must run before the asset update, while current_value still holds the old value.
+    // ROUND(..., 4) mirrors the scale of the current_value column.
+    private static final String ADJUST_PORTFOLIO_TOTALS_SQL =
+            "UPDATE portfolios p JOIN (" +
+            "  SELECT portfolio_id, SUM(ROUND(quantity * ?, 4) - COALESCE(current_value, 0)) AS delta " +
+            "  FROM assets WHERE symbol = ? GROUP BY portfolio_id" +
+            ") d ON d.portfolio_id = p.id " +
+            "SET p.total_value = COALESCE(p.total_value, 0) + d.delta, p.updated_at = ?";
+
+    private static final String UPDATE_HOLDINGS_SQL =
+            "UPDATE assets SET current_price = ?, current_value = ROUND(quantity * ?, 4), updated_at = ? " +
+            "WHERE symbol = ?";
+
+    private static final String PORTFOLIOS_BY_SYMBOL_SQL =
+            "SELECT DISTINCT portfolio_id FROM assets WHERE symbol = ?";
+
+    private static final String PORTFOLIOS_BY_SYMBOLS_SQL =
+            "SELECT DISTINCT portfolio_id FROM assets WHERE symbol IN (:symbols)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final SymbolHoldingIndex symbolHoldingIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AumAggregateStore aumAggregateStore;
+    private final PortfolioCacheInvalidator portfolioCacheInvalidator;
+
+    @Override
+    @Transactional
+    public SymbolPriceUpdateResponseDTO applyQuote(String symbol, BigDecimal price) {
+        if (price == null || price.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("Price must be greater than 0");
+        }
+        String key = SymbolHoldingIndex.normalize(symbol);
+        if (key == null) {
+            throw new IllegalArgumentException("Symbol is required");
+        }
+
+        SymbolPriceUpdateResponseDTO.SymbolPriceUpdateResponseDTOBuilder result = SymbolPriceUpdateResponseDTO.builder()
+                .symbol(key)
+                .price(price);
+        // No history is kept for symbols nobody holds
+        if (symbolHoldingIndex.isReady() && symbolHoldingIndex.getHoldingCount(key) == 0) {
+            return result.build();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        aumAggregateStore.recordSymbolRepricing(Map.of(key, price));
+        int portfoliosAdjusted = jdbcTemplate.update(ADJUST_PORTFOLIO_TOTALS_SQL, price, key, now);
+        if (portfoliosAdjusted > 0) {
+            portfolioCacheInvalidator.portfoliosUpdated(
+                    jdbcTemplate.queryForList(PORTFOLIOS_BY_SYMBOL_SQL, Long.class, key));
+        }
+        int holdingsUpdated = jdbcTemplate.update(UPDATE_HOLDINGS_SQL, price, price, now, key);
+        eventPublisher.publishEvent(new SymbolPriceChangedEvent(key, price, now.toInstant()));
+        return result
+                .holdingsUpdated(holdingsUpdated)
+                .portfoliosAdjusted(portfoliosAdjusted)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public int applyQuotes(Map<String, BigDecimal> pricesBySymbol) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> adjustArgs = new ArrayList<>(pricesBySymbol.size());
+        List<Object[]> updateArgs = new ArrayList<>(pricesBySymbol.size());
+        Map<String, BigDecimal> repriced = new LinkedHashMap<>();
+        for (Map.Entry<String, BigDecimal> quote : pricesBySymbol.entrySet()) {
+            String key = SymbolHoldingIndex.normalize(quote.getKey());
+            BigDecimal price = quote.getValue();
+            if (key == null || price == null || price.compareTo(BigDecimal.ZERO) <= 0) {
+                continue;
+            }
+            if (symbolHoldingIndex.isReady() && symbolHoldingIndex.getHoldingCount(key) == 0) {
+                continue;
+            }
+            eventPublisher.publishEvent(new SymbolPriceChangedEvent(key, price, now.toInstant()));
+            adjustArgs.add(new Object[]{price, key, now});
+            updateArgs.add(new Object[]{price, price, now, key});
+            repriced.put(key, price);
+        }
+        if (updateArgs.isEmpty()) {
+            return 0;
+        }
+
+        aumAggregateStore.recordSymbolRepricing(repriced);
+        jdbcTemplate.batchUpdate(ADJUST_PORTFOLIO_TOTALS_SQL, adjustArgs);
+        portfolioCacheInvalidator.portfoliosUpdated(namedParameterJdbcTemplate.queryForList(
+                PORTFOLIOS_BY_SYMBOLS_SQL, Map.of("symbols", repriced.keySet()), Long.class));
+        int holdingsUpdated = 0;
+        for (int count : jdbcTemplate.batchUpdate(UPDATE_HOLDINGS_SQL, updateArgs)) {
+            holdingsUpdated += Math.max(count, 0);
+        }
+        return holdingsUpdated;
+    }
+}
@@ -0,0 +1,120 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.dto.response.PriceHistoryResponseDTO;
+import com.demo.MoneyMap.dto.response.PricePointDTO;
+import com.demo.MoneyMap.index.SymbolHoldingIndex;
+import com.demo.MoneyMap.service.PriceHistoryService;
+import com.demo.MoneyMap.timeseries.PriceHistoryStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of PriceHistoryService.
+ * Reads straight from the memory-mapped store and downsamples while scanning,
+ * keeping only the closing price of each bucket. Raw and downsampled responses
+ * alike stop at max-points and are flagged as truncated.
+ */
+@Service
+@RequiredArgsConstructor
+public class PriceHistoryServiceImpl implements PriceHistoryService {
+
+    private final PriceHistoryStore priceHistoryStore;
+
+    @Value("${moneymap.prices.history.max-points:10000}")
+    private int maxPoints;
+
+    @Override
+    public PriceHistoryResponseDTO getPriceHistory(String symbol, Instant from, Instant to, Duration step) {
+        String key = SymbolHoldingIndex.normalize(symbol);
+        if (key == null) {
+            throw new IllegalArgumentException("Symbol is required");
+        }
+        Instant end = to != null ? to : Instant.now();
+        Instant start = from != null ? from : end.minus(Duration.ofDays(1));
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        // Buckets are whole milliseconds; a shorter step would truncate to 0
+        if (step != null && step.compareTo(Duration.ofMillis(1)) < 0) {
+            throw new IllegalArgumentException("'step' must be at least 1 ms");
+        }
+
+        long fromMillis = start.toEpochMilli();
+        long toMillis = end.toEpochMilli();
+        List<PricePointDTO> points = new ArrayList<>();
+        boolean truncated;
+        if (step == null) {
+            truncated = scanRaw(key, fromMillis, toMillis, points);
+        } else {
+            truncated = scanDownsampled(key, fromMillis, toMillis, step.toMillis(), points);
+        }
+
+        return PriceHistoryResponseDTO.builder()
+                .symbol(key)
+                .from(start)
+                .to(end)
+                .stepMillis(step != null ? step.toMillis() : null)
+                .truncated(truncated)
+                .points(points)
+                .build();
+    }
+
+    /**
+     * Stops at the first point past maxPoints, which only marks the result truncated.
+     */
+    private boolean scanRaw(String key, long fromMillis, long toMillis, List<PricePointDTO> points) {
+        boolean[] truncated = {false};
+        priceHistoryStore.scan(key, fromMillis, toMillis, (timestamp, scaledPrice) -> {
+            if (points.size() >= maxPoints) {
+                truncated[0] = true;
+                return false;
+            }
+            points.add(point(timestamp, scaledPrice));
+            return true;
+        });
+        return truncated[0];
+    }
+
+    /**
+     * Stops at the first price of the bucket past maxPoints, which only marks the result truncated.
+     */
+    private boolean scanDownsampled(String key, long fromMillis, long toMillis, long stepMillis,
+                                    List<PricePointDTO> points) {
+        // {current bucket index, closing price of that bucket}
+        long[] bucket = {-1, 0};
+        boolean[] truncated = {false};
+        priceHistoryStore.scan(key, fromMillis, toMillis, (timestamp, scaledPrice) -> {
+            long index = (timestamp - fromMillis) / stepMillis;
+            if (index != bucket[0]) {
+                if (bucket[0] >= 0) {
+                    points.add(point(fromMillis + bucket[0] * stepMillis, bucket[1]));
+                }
+                if (points.size() >= maxPoints) {
+                    // This price opens a bucket that does not fit
+                    truncated[0] = true;
+                    return false;
+                }
+                bucket[0] = index;
+            }
+            bucket[1] = scaledPrice;
+            return true;
+        });
+        if (!truncated[0] && bucket[0] >= 0) {
+            points.add(point(fromMillis + bucket[0] * stepMillis, bucket[1]));
+        }
+        return truncated[0];
+    }
+
+    private PricePointDTO point(long epochMillis, long scaledPrice) {
+        return PricePointDTO.builder()
+                .timestamp(Instant.ofEpochMilli(epochMillis))
+                .price(PriceHistoryStore.fromScaled(scaledPrice))
+                .build();
+    }
+}
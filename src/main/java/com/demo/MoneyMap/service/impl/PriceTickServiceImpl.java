@@ -0,0 +1,130 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.config.SchedulingConfig;
+import com.demo.MoneyMap.dto.request.PriceTickRequestDTO;
+import com.demo.MoneyMap.dto.response.ConflationStatsDTO;
+import com.demo.MoneyMap.index.SymbolHoldingIndex;
+import com.demo.MoneyMap.service.PriceFanOutService;
+import com.demo.MoneyMap.service.PriceTickService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementation of PriceTickService.
+ * Keeps one slot per symbol holding only the latest unflushed price. Producers
+ * overwrite the slot with a single atomic swap, so a burst of ticks for one symbol
+ * collapses into one pending write. A dedicated scheduler thread drains all slots
+ * at a fixed interval and hands the batch to PriceFanOutService. Drained slots are
+ * removed, so the map only holds symbols with a pending price.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceTickServiceImpl implements PriceTickService {
+
+    private final PriceFanOutService priceFanOutService;
+
+    private final Map<String, BigDecimal> pendingBySymbol = new ConcurrentHashMap<>();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAdder ticksReceived = new LongAdder();
+    private final LongAdder ticksWritten = new LongAdder();
+    private final LongAdder flushCount = new LongAdder();
+    private final LongAdder failedFlushCount = new LongAdder();
+
+    private volatile long lastFlushMillis;
+    private volatile long maxFlushMillis;
+    private volatile LocalDateTime lastFlushAt;
+
+    @Value("${moneymap.prices.conflation.flush-interval-ms:250}")
+    private long flushIntervalMillis;
+
+    @Override
+    public void submitTicks(List<PriceTickRequestDTO> ticks) {
+        for (PriceTickRequestDTO tick : ticks) {
+            offer(tick.getSymbol(), tick.getPrice());
+        }
+    }
+
+    private void offer(String symbol, BigDecimal price) {
+        String key = SymbolHoldingIndex.normalize(symbol);
+        if (key == null || price == null) {
+            return;
+        }
+        ticksReceived.increment();
+        if (pendingBySymbol.put(key, price) == null) {
+            queueDepth.incrementAndGet();
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${moneymap.prices.conflation.flush-interval-ms:250}",
+            scheduler = SchedulingConfig.PRICE_TICK_SCHEDULER)
+    public void flush() {
+        if (queueDepth.get() == 0) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        Map<String, BigDecimal> batch = new HashMap<>();
+        for (String symbol : pendingBySymbol.keySet()) {
+            BigDecimal price = pendingBySymbol.remove(symbol);
+            if (price != null) {
+                queueDepth.decrementAndGet();
+                batch.put(symbol, price);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            priceFanOutService.applyQuotes(batch);
+            ticksWritten.add(batch.size());
+            flushCount.increment();
+        } catch (RuntimeException e) {
+            failedFlushCount.increment();
+            log.warn("Price flush of {} symbols failed, requeueing", batch.size(), e);
+            // Put prices back unless a newer tick arrived in the meantime
+            batch.forEach((symbol, price) -> {
+                if (pendingBySymbol.putIfAbsent(symbol, price) == null) {
+                    queueDepth.incrementAndGet();
+                }
+            });
+            return;
+        }
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        lastFlushMillis = elapsedMillis;
+        maxFlushMillis = Math.max(maxFlushMillis, elapsedMillis);
+        lastFlushAt = LocalDateTime.now();
+    }
+
+    @Override
+    public ConflationStatsDTO getStats() {
+        long received = ticksReceived.sum();
+        long written = ticksWritten.sum();
+        return ConflationStatsDTO.builder()
+                .ticksReceived(received)
+                .ticksWritten(written)
+                .conflationRatio(written > 0 ? (double) received / written : 0.0)
+                .queueDepth(queueDepth.get())
+                .flushCount(flushCount.sum())
+                .failedFlushCount(failedFlushCount.sum())
+                .lastFlushMillis(lastFlushMillis)
+                .maxFlushMillis(maxFlushMillis)
+                .flushIntervalMillis(flushIntervalMillis)
+                .lastFlushAt(lastFlushAt)
+                .build();
+    }
+}
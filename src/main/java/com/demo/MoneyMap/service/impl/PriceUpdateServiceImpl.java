@@ -0,0 +1,313 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.aggregate.AumAggregateStore;
+import com.demo.MoneyMap.cache.PortfolioCacheInvalidator;
+import com.demo.MoneyMap.dto.request.PriceUpdateRequestDTO;
+import com.demo.MoneyMap.dto.response.BulkPriceUpdateResponseDTO;
+import com.demo.MoneyMap.dto.response.PriceUpdateErrorDTO;
+import com.demo.MoneyMap.event.SymbolPriceChangedEvent;
+import com.demo.MoneyMap.index.SymbolHoldingIndex;
+import com.demo.MoneyMap.service.PriceUpdateService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Implementation of PriceUpdateService.
+ * Reads the feed line by line, groups lines into chunks and applies each chunk
+ * with JDBC batch updates in its own transaction. Portfolio totals touched by a
+ * chunk are recalculated once per chunk instead of once per asset. Every applied
+ * line publishes a SymbolPriceChangedEvent; lines by asset ID are resolved to
+ * their symbols with one query per chunk.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceUpdateServiceImpl implements PriceUpdateService {
+
+    private static final String UPDATE_PRICE_BY_ID_SQL =
+            "UPDATE assets SET current_price = ?, current_value = ROUND(quantity * ?, 4), updated_at = ? " +
+            "WHERE id = ?";
+
+    // The symbol column uses a case-insensitive collation, so plain equality matches
+    // findBySymbolIgnoreCase semantics while still being able to use an index.
+    private static final String UPDATE_PRICE_BY_SYMBOL_SQL =
+            "UPDATE assets SET current_price = ?, current_value = ROUND(quantity * ?, 4), updated_at = ? " +
+            "WHERE symbol = ?";
+
+    private static final String SYMBOLS_BY_ASSET_IDS_SQL =
+            "SELECT id, symbol FROM assets WHERE id IN (:ids) AND symbol IS NOT NULL";
+
+    private static final String PORTFOLIOS_BY_ASSET_IDS_SQL =
+            "SELECT DISTINCT portfolio_id FROM assets WHERE id IN (:ids)";
+
+    private static final String PORTFOLIOS_BY_SYMBOLS_SQL =
+            "SELECT DISTINCT portfolio_id FROM assets WHERE symbol IN (:symbols)";
+
+    private static final String RECALCULATE_PORTFOLIOS_SQL =
+            "UPDATE portfolios p SET total_value = " +
+            "(SELECT COALESCE(SUM(a.current_value), 0) FROM assets a WHERE a.portfolio_id = p.id), " +
+            "updated_at = :updatedAt WHERE p.id IN (:ids)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AumAggregateStore aumAggregateStore;
+    private final PortfolioCacheInvalidator portfolioCacheInvalidator;
+
+    @Value("${moneymap.prices.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${moneymap.prices.bulk.max-reported-errors:100}")
+    private int maxReportedErrors;
+
+    @Override
+    public BulkPriceUpdateResponseDTO bulkUpdatePrices(InputStream input) {
+        long startNanos = System.nanoTime();
+        RunStats stats = new RunStats();
+        List<PriceLine> chunk = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                stats.linesRead++;
+                PriceLine parsed = parseLine(lineNumber, line, stats);
+                if (parsed == null) {
+                    continue;
+                }
+                chunk.add(parsed);
+                if (chunk.size() >= chunkSize) {
+                    applyChunk(chunk, stats);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read bulk price feed", e);
+        }
+        if (!chunk.isEmpty()) {
+            applyChunk(chunk, stats);
+        }
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        return BulkPriceUpdateResponseDTO.builder()
+                .linesRead(stats.linesRead)
+                .linesSucceeded(stats.linesSucceeded)
+                .linesFailed(stats.linesFailed)
+                .assetsUpdated(stats.assetsUpdated)
+                .portfoliosRecalculated(stats.portfoliosRecalculated)
+                .chunksCommitted(stats.chunksCommitted)
+                .elapsedMillis(elapsedMillis)
+                .linesPerSecond(elapsedMillis > 0 ? stats.linesRead * 1000.0 / elapsedMillis : stats.linesRead)
+                .errors(stats.errors)
+                .build();
+    }
+
+    /**
+     * Parse and validate a single NDJSON line. Returns null (and records the failure) if invalid.
+     */
+    private PriceLine parseLine(long lineNumber, String line, RunStats stats) {
+        PriceUpdateRequestDTO request;
+        try {
+            request = objectMapper.readValue(line, PriceUpdateRequestDTO.class);
+        } catch (JsonProcessingException e) {
+            stats.fail(lineNumber, "Malformed JSON: " + e.getOriginalMessage(), maxReportedErrors);
+            return null;
+        }
+        if (request.getPrice() == null || request.getPrice().compareTo(BigDecimal.ZERO) <= 0) {
+            stats.fail(lineNumber, "Price must be greater than 0", maxReportedErrors);
+            return null;
+        }
+        if (request.getAssetId() == null && (request.getSymbol() == null || request.getSymbol().isBlank())) {
+            stats.fail(lineNumber, "Either assetId or symbol is required", maxReportedErrors);
+            return null;
+        }
+        return new PriceLine(lineNumber, request.getAssetId(),
+                request.getAssetId() == null ? request.getSymbol().trim() : null, request.getPrice());
+    }
+
+    /**
+     * Apply one chunk in a single transaction: batch the asset updates, then
+     * recalculate every affected portfolio total with one statement.
+     */
+    private void applyChunk(List<PriceLine> chunk, RunStats stats) {
+        List<PriceLine> byId = new ArrayList<>();
+        List<PriceLine> bySymbol = new ArrayList<>();
+        for (PriceLine line : chunk) {
+            (line.assetId() != null ? byId : bySymbol).add(line);
+        }
+
+        try {
+            ChunkResult result = transactionTemplate.execute(status -> {
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                ChunkResult chunkResult = new ChunkResult();
+                recordAggregateDeltas(byId, bySymbol);
+                Map<Long, String> symbolsById = symbolsOf(byId);
+                applyBatch(UPDATE_PRICE_BY_ID_SQL, byId, now, chunkResult, line -> symbolsById.get(line.assetId()));
+                applyBatch(UPDATE_PRICE_BY_SYMBOL_SQL, bySymbol, now, chunkResult, PriceLine::symbol);
+                chunkResult.portfoliosRecalculated = recalculatePortfolios(byId, bySymbol, now);
+                return chunkResult;
+            });
+            stats.chunksCommitted++;
+            stats.assetsUpdated += result.assetsUpdated;
+            stats.portfoliosRecalculated += result.portfoliosRecalculated;
+            stats.linesSucceeded += chunk.size() - result.notFound.size();
+            for (PriceLine line : result.notFound) {
+                stats.fail(line.lineNumber(), line.assetId() != null
+                        ? "Asset not found with id: " + line.assetId()
+                        : "No holdings found for symbol: " + line.symbol(), maxReportedErrors);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Bulk price chunk of {} lines rolled back", chunk.size(), e);
+            for (PriceLine line : chunk) {
+                stats.fail(line.lineNumber(), "Chunk rolled back: " + e.getMostSpecificCause().getMessage(),
+                        maxReportedErrors);
+            }
+        }
+    }
+
+    /**
+     * Hand the value deltas of this chunk to the AUM aggregates before the assets change.
+     */
+    private void recordAggregateDeltas(List<PriceLine> byId, List<PriceLine> bySymbol) {
+        Map<Long, BigDecimal> pricesById = new LinkedHashMap<>();
+        byId.forEach(line -> pricesById.put(line.assetId(), line.price()));
+        aumAggregateStore.recordAssetRepricing(pricesById);
+        Map<String, BigDecimal> pricesBySymbol = new LinkedHashMap<>();
+        bySymbol.forEach(line -> pricesBySymbol.put(line.symbol(), line.price()));
+        aumAggregateStore.recordSymbolRepricing(pricesBySymbol);
+    }
+
+    /**
+     * Symbols of the assets named by ID in this chunk; unknown IDs and assets without a symbol are absent.
+     */
+    private Map<Long, String> symbolsOf(List<PriceLine> byId) {
+        if (byId.isEmpty()) {
+            return Map.of();
+        }
+        Set<Long> assetIds = new HashSet<>();
+        byId.forEach(line -> assetIds.add(line.assetId()));
+        Map<Long, String> symbols = new HashMap<>();
+        namedParameterJdbcTemplate.query(SYMBOLS_BY_ASSET_IDS_SQL, new MapSqlParameterSource("ids", assetIds),
+                rs -> {
+                    symbols.put(rs.getLong("id"), rs.getString("symbol"));
+                });
+        return symbols;
+    }
+
+    /**
+     * @param symbolOf the symbol whose price a line sets, or null when it has none
+     */
+    private void applyBatch(String sql, List<PriceLine> lines, Timestamp now, ChunkResult result,
+                            Function<PriceLine, String> symbolOf) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(lines.size());
+        for (PriceLine line : lines) {
+            args.add(new Object[]{line.price(), line.price(), now,
+                    line.assetId() != null ? line.assetId() : line.symbol()});
+        }
+        int[] counts = jdbcTemplate.batchUpdate(sql, args);
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == Statement.SUCCESS_NO_INFO) {
+                // Rewritten batches do not report per-statement counts
+                result.assetsUpdated++;
+            } else if (counts[i] == 0) {
+                result.notFound.add(lines.get(i));
+                continue;
+            } else {
+                result.assetsUpdated += counts[i];
+            }
+            PriceLine line = lines.get(i);
+            String symbol = SymbolHoldingIndex.normalize(symbolOf.apply(line));
+            if (symbol != null) {
+                eventPublisher.publishEvent(new SymbolPriceChangedEvent(symbol, line.price(), now.toInstant()));
+            }
+        }
+    }
+
+    private int recalculatePortfolios(List<PriceLine> byId, List<PriceLine> bySymbol, Timestamp now) {
+        Set<Long> portfolioIds = new HashSet<>();
+        if (!byId.isEmpty()) {
+            Set<Long> assetIds = new HashSet<>();
+            byId.forEach(line -> assetIds.add(line.assetId()));
+            portfolioIds.addAll(namedParameterJdbcTemplate.queryForList(PORTFOLIOS_BY_ASSET_IDS_SQL,
+                    new MapSqlParameterSource("ids", assetIds), Long.class));
+        }
+        if (!bySymbol.isEmpty()) {
+            Set<String> symbols = new HashSet<>();
+            bySymbol.forEach(line -> symbols.add(line.symbol()));
+            portfolioIds.addAll(namedParameterJdbcTemplate.queryForList(PORTFOLIOS_BY_SYMBOLS_SQL,
+                    new MapSqlParameterSource("symbols", symbols), Long.class));
+        }
+        if (portfolioIds.isEmpty()) {
+            return 0;
+        }
+        int recalculated = namedParameterJdbcTemplate.update(RECALCULATE_PORTFOLIOS_SQL, new MapSqlParameterSource()
+                .addValue("ids", portfolioIds)
+                .addValue("updatedAt", now));
+        portfolioCacheInvalidator.portfoliosUpdated(portfolioIds);
+        return recalculated;
+    }
+
+    private record PriceLine(long lineNumber, Long assetId, String symbol, BigDecimal price) {
+    }
+
+    private static class ChunkResult {
+        private long assetsUpdated;
+        private int portfoliosRecalculated;
+        private final List<PriceLine> notFound = new ArrayList<>();
+    }
+
+    private static class RunStats {
+        private long linesRead;
+        private long linesSucceeded;
+        private long linesFailed;
+        private long assetsUpdated;
+        private long portfoliosRecalculated;
+        private int chunksCommitted;
+        private final List<PriceUpdateErrorDTO> errors = new ArrayList<>();
+
+        private void fail(long lineNumber, String message, int maxReportedErrors) {
+            linesFailed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(PriceUpdateErrorDTO.builder().lineNumber(lineNumber).message(message).build());
+            }
+        }
+    }
+}
@@ -0,0 +1,437 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.aggregate.AumAggregateStore;
+import com.demo.MoneyMap.beans.BatchJobCheckpoint;
+import com.demo.MoneyMap.beans.enums.JobStatus;
+import com.demo.MoneyMap.cache.PortfolioCacheInvalidator;
+import com.demo.MoneyMap.dto.response.RevaluationPartitionDTO;
+import com.demo.MoneyMap.dto.response.RevaluationProgressDTO;
+import com.demo.MoneyMap.ranking.HoldingRankingIndex;
+import com.demo.MoneyMap.repository.BatchJobCheckpointRepository;
+import com.demo.MoneyMap.service.RevaluationJobService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementation of RevaluationJobService.
+ *
+ * A run splits the portfolio ID space into equal ranges, one checkpoint per range.
+ * Partitions are processed by a fixed pool of workers, each on its own pooled
+ * connection. Within a partition, portfolios are taken in keyset chunks; a chunk's
+ * asset values and portfolio totals are recomputed with two set-based UPDATEs and
+ * committed together with the partition checkpoint, so a restarted run skips every
+ * committed chunk. Rows already holding the right value are not rewritten. The SQL
+ * is portable, so the job runs unchanged against the embedded test database.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RevaluationJobServiceImpl implements RevaluationJobService {
+
+    static final String JOB_NAME = "portfolio-revaluation";
+
+    private static final DateTimeFormatter RUN_ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS");
+
+    private static final String ID_BOUNDS_SQL = "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM portfolios";
+
+    private static final String COUNT_UP_TO_SQL = "SELECT COUNT(*) FROM portfolios WHERE id <= ?";
+
+    private static final String NEXT_CHUNK_SQL =
+            "SELECT MAX(id) AS chunk_end, COUNT(*) AS chunk_size " +
+            "FROM (SELECT id FROM portfolios WHERE id > ? AND id <= ? ORDER BY id LIMIT ?) chunk";
+
+    private static final String REVALUE_ASSETS_SQL =
+            "UPDATE assets SET current_value = ROUND(quantity * COALESCE(current_price, purchase_price), 4) " +
+            "WHERE portfolio_id > ? AND portfolio_id <= ? " +
+            "AND (current_value IS NULL OR current_value <> ROUND(quantity * COALESCE(current_price, purchase_price), 4))";
+
+    private static final String PORTFOLIO_ASSET_TOTAL =
+            "(SELECT COALESCE(SUM(a.current_value), 0) FROM assets a WHERE a.portfolio_id = p.id)";
+
+    private static final String RETOTAL_PORTFOLIOS_SQL =
+            "UPDATE portfolios p SET total_value = " + PORTFOLIO_ASSET_TOTAL + " " +
+            "WHERE p.id > ? AND p.id <= ? " +
+            "AND (p.total_value IS NULL OR p.total_value <> " + PORTFOLIO_ASSET_TOTAL + ")";
+
+    private static final String CHUNK_PORTFOLIO_IDS_SQL = "SELECT id FROM portfolios WHERE id > ? AND id <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BatchJobCheckpointRepository checkpointRepository;
+    private final AumAggregateStore aumAggregateStore;
+    private final HoldingRankingIndex holdingRankingIndex;
+    private final PortfolioCacheInvalidator portfolioCacheInvalidator;
+
+    private final Map<String, Run> runs = new ConcurrentHashMap<>();
+
+    private ExecutorService executor;
+    private volatile Run activeRun;
+
+    /**
+     * Partitions revalued at once. Each busy worker holds one pooled connection
+     * for the duration of a chunk, so keep this well below the pool size.
+     */
+    @Value("${moneymap.revaluation.concurrency:4}")
+    private int concurrency;
+
+    @Value("${moneymap.revaluation.partitions:16}")
+    private int partitionCount;
+
+    @Value("${moneymap.revaluation.chunk-size:500}")
+    private int chunkSize;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "revaluation-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public synchronized RevaluationProgressDTO startRun() {
+        requireIdle();
+        String runId = "rv-" + LocalDateTime.now().format(RUN_ID_FORMAT);
+        List<BatchJobCheckpoint> checkpoints = new ArrayList<>();
+        jdbcTemplate.query(ID_BOUNDS_SQL, rs -> {
+            long minId = rs.getLong("min_id");
+            if (rs.wasNull()) {
+                return;
+            }
+            long maxId = rs.getLong("max_id");
+            long width = Math.max(1, (maxId - minId + partitionCount) / partitionCount);
+            long start = minId - 1;
+            for (int i = 0; start < maxId; i++) {
+                long end = Math.min(maxId, start + width);
+                checkpoints.add(BatchJobCheckpoint.builder()
+                        .jobName(JOB_NAME)
+                        .runKey(partitionKey(runId, i))
+                        .lastProcessedId(start)
+                        .rangeEnd(end)
+                        .build());
+                start = end;
+            }
+        });
+        return launch(runId, checkpointRepository.saveAll(checkpoints));
+    }
+
+    @Override
+    public synchronized RevaluationProgressDTO resumeRun(String runId) {
+        requireIdle();
+        List<BatchJobCheckpoint> checkpoints = findCheckpoints(runId);
+        log.info("Resuming revaluation {} ({} of {} partitions unfinished)", runId,
+                checkpoints.stream().filter(c -> c.getStatus() != JobStatus.COMPLETED).count(), checkpoints.size());
+        return launch(runId, checkpoints);
+    }
+
+    @Override
+    public RevaluationProgressDTO getProgress(String runId) {
+        Run run = runs.get(runId);
+        if (run != null) {
+            return run.toDTO();
+        }
+        List<BatchJobCheckpoint> checkpoints = findCheckpoints(runId);
+        List<RevaluationPartitionDTO> partitions = new ArrayList<>(checkpoints.size());
+        for (int i = 0; i < checkpoints.size(); i++) {
+            BatchJobCheckpoint checkpoint = checkpoints.get(i);
+            partitions.add(RevaluationPartitionDTO.builder()
+                    .partition(i)
+                    .lastProcessedId(checkpoint.getLastProcessedId())
+                    .rangeEnd(checkpoint.getRangeEnd())
+                    .status(checkpoint.getStatus())
+                    .portfoliosProcessed(checkpoint.getItemsProcessed())
+                    .build());
+        }
+        return summarize(runId, partitions)
+                .startedAt(checkpoints.stream().map(BatchJobCheckpoint::getStartedAt)
+                        .min(Comparator.naturalOrder()).orElse(null))
+                .completedAt(checkpoints.stream().allMatch(c -> c.getStatus() == JobStatus.COMPLETED)
+                        ? checkpoints.stream().map(BatchJobCheckpoint::getCompletedAt)
+                                .filter(Objects::nonNull).max(Comparator.naturalOrder()).orElse(null)
+                        : null)
+                .build();
+    }
+
+    /**
+     * Resume the latest run interrupted by a shutdown or a failure.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedRun() {
+        checkpointRepository.findByJobNameAndStatusIn(JOB_NAME, List.of(JobStatus.RUNNING, JobStatus.FAILED))
+                .stream()
+                .map(checkpoint -> runIdOf(checkpoint.getRunKey()))
+                .max(Comparator.naturalOrder())
+                .ifPresent(this::resumeRun);
+    }
+
+    private void requireIdle() {
+        if (activeRun != null) {
+            throw new IllegalStateException("A revaluation run is already in progress: " + activeRun.runId);
+        }
+    }
+
+    private List<BatchJobCheckpoint> findCheckpoints(String runId) {
+        List<BatchJobCheckpoint> checkpoints =
+                checkpointRepository.findByJobNameAndRunKeyStartingWithOrderByRunKeyAsc(JOB_NAME, runId + "/");
+        if (checkpoints.isEmpty()) {
+            throw new EntityNotFoundException("Revaluation run not found with id: " + runId);
+        }
+        return checkpoints;
+    }
+
+    private RevaluationProgressDTO launch(String runId, List<BatchJobCheckpoint> checkpoints) {
+        long lastRangeEnd = checkpoints.isEmpty() ? 0 : checkpoints.get(checkpoints.size() - 1).getRangeEnd();
+        Long total = jdbcTemplate.queryForObject(COUNT_UP_TO_SQL, Long.class, lastRangeEnd);
+        Run run = new Run(runId, checkpoints, total != null ? total : 0);
+        runs.put(runId, run);
+        activeRun = run;
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < checkpoints.size(); i++) {
+            BatchJobCheckpoint checkpoint = checkpoints.get(i);
+            if (checkpoint.getStatus() != JobStatus.COMPLETED) {
+                Partition partition = run.partitions.get(i);
+                futures.add(CompletableFuture.runAsync(() -> processPartition(run, partition, checkpoint), executor));
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).whenComplete((ignored, error) -> finish(run));
+        return run.toDTO();
+    }
+
+    private void processPartition(Run run, Partition partition, BatchJobCheckpoint checkpoint) {
+        partition.status = JobStatus.RUNNING;
+        try {
+            if (checkpoint.getStatus() != JobStatus.RUNNING) {
+                checkpoint.setStatus(JobStatus.RUNNING);
+                checkpointRepository.save(checkpoint);
+            }
+            while (processChunk(run, partition, checkpoint)) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+            }
+            checkpoint.setStatus(JobStatus.COMPLETED);
+            checkpoint.setCompletedAt(LocalDateTime.now());
+            checkpointRepository.save(checkpoint);
+            partition.status = JobStatus.COMPLETED;
+        } catch (RuntimeException e) {
+            log.error("Revaluation {} partition {} failed after portfolio {}", run.runId, partition.index,
+                    checkpoint.getLastProcessedId(), e);
+            partition.status = JobStatus.FAILED;
+            checkpoint.setStatus(JobStatus.FAILED);
+            checkpointRepository.save(checkpoint);
+        }
+    }
+
+    /**
+     * Revalue one keyset chunk of a partition and advance its checkpoint in the same transaction.
+     * The checkpoint entity and the in-memory progress move only once that transaction has
+     * committed, so a failed chunk is recorded as FAILED at the position it started from.
+     *
+     * @return false once the partition is exhausted
+     */
+    private boolean processChunk(Run run, Partition partition, BatchJobCheckpoint checkpoint) {
+        long from = checkpoint.getLastProcessedId();
+        long itemsBefore = checkpoint.getItemsProcessed();
+        ChunkResult chunk;
+        try {
+            chunk = transactionTemplate.execute(status -> {
+                long[] bounds = jdbcTemplate.queryForObject(NEXT_CHUNK_SQL,
+                        (rs, rowNum) -> new long[]{rs.getLong("chunk_end"), rs.getLong("chunk_size")},
+                        from, checkpoint.getRangeEnd(), chunkSize);
+                long count = bounds[1];
+                if (count == 0) {
+                    return null;
+                }
+                long to = bounds[0];
+                int assets = jdbcTemplate.update(REVALUE_ASSETS_SQL, from, to);
+                int portfolios = jdbcTemplate.update(RETOTAL_PORTFOLIOS_SQL, from, to);
+                if (portfolios > 0) {
+                    // At most chunkSize IDs; the range itself may be sparse
+                    portfolioCacheInvalidator.portfoliosUpdated(
+                            jdbcTemplate.queryForList(CHUNK_PORTFOLIO_IDS_SQL, Long.class, from, to));
+                }
+                checkpoint.setLastProcessedId(to);
+                checkpoint.setItemsProcessed(itemsBefore + count);
+                checkpointRepository.save(checkpoint);
+                return new ChunkResult(to, count, assets, portfolios);
+            });
+        } catch (RuntimeException e) {
+            // The checkpoint row rolled back with the chunk; the entity must not keep the advance
+            checkpoint.setLastProcessedId(from);
+            checkpoint.setItemsProcessed(itemsBefore);
+            throw e;
+        }
+        if (chunk == null) {
+            return false;
+        }
+        partition.lastProcessedId = chunk.to();
+        partition.processed.add(chunk.count());
+        run.portfoliosProcessed.add(chunk.count());
+        run.assetsRevalued.add(chunk.assets());
+        run.portfoliosUpdated.add(chunk.portfolios());
+        return true;
+    }
+
+    private void finish(Run run) {
+        RevaluationProgressDTO result = run.toDTO();
+        log.info("Revaluation {} {}: {} portfolios, {} assets revalued in {} ms ({} portfolios/s)", run.runId,
+                result.getStatus(), result.getPortfoliosProcessed(), result.getAssetsRevalued(),
+                result.getElapsedMillis(), Math.round(result.getPortfoliosPerSecond()));
+        try {
+            if (result.getAssetsRevalued() > 0 || result.getPortfoliosUpdated() > 0) {
+                // The UPDATEs bypass JPA, so in-memory aggregates are refreshed from the tables.
+                aumAggregateStore.reconcile();
+                holdingRankingIndex.rebuild();
+            }
+        } finally {
+            // The run reads as completed only once the aggregates have caught up, and idle
+            // before that, so whoever sees it finish can start the next
+            activeRun = null;
+            run.completedAt = LocalDateTime.now();
+        }
+    }
+
+    private static String partitionKey(String runId, int index) {
+        return String.format("%s/%03d", runId, index);
+    }
+
+    private static String runIdOf(String runKey) {
+        return runKey.substring(0, runKey.lastIndexOf('/'));
+    }
+
+    private static RevaluationProgressDTO.RevaluationProgressDTOBuilder summarize(
+            String runId, List<RevaluationPartitionDTO> partitions) {
+        int completed = 0;
+        int failed = 0;
+        long processed = 0;
+        for (RevaluationPartitionDTO partition : partitions) {
+            if (partition.getStatus() == JobStatus.COMPLETED) {
+                completed++;
+            } else if (partition.getStatus() == JobStatus.FAILED) {
+                failed++;
+            }
+            processed += partition.getPortfoliosProcessed();
+        }
+        JobStatus status = completed == partitions.size() ? JobStatus.COMPLETED
+                : failed > 0 && partitions.stream().noneMatch(p -> p.getStatus() == JobStatus.RUNNING)
+                        ? JobStatus.FAILED : JobStatus.RUNNING;
+        return RevaluationProgressDTO.builder()
+                .runId(runId)
+                .status(status)
+                .partitionCount(partitions.size())
+                .partitionsCompleted(completed)
+                .partitionsFailed(failed)
+                .portfoliosProcessed(processed)
+                .partitions(partitions);
+    }
+
+    private record ChunkResult(long to, long count, int assets, int portfolios) {
+    }
+
+    /**
+     * In-memory progress of a run started or resumed by this instance.
+     */
+    private final class Run {
+        private final String runId;
+        private final List<Partition> partitions = new ArrayList<>();
+        private final long portfoliosTotal;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startNanos = System.nanoTime();
+        private final LongAdder portfoliosProcessed = new LongAdder();
+        private final LongAdder assetsRevalued = new LongAdder();
+        private final LongAdder portfoliosUpdated = new LongAdder();
+        private volatile LocalDateTime completedAt;
+
+        Run(String runId, List<BatchJobCheckpoint> checkpoints, long portfoliosTotal) {
+            this.runId = runId;
+            this.portfoliosTotal = portfoliosTotal;
+            for (int i = 0; i < checkpoints.size(); i++) {
+                partitions.add(new Partition(i, checkpoints.get(i)));
+            }
+        }
+
+        RevaluationProgressDTO toDTO() {
+            List<RevaluationPartitionDTO> partitionDTOs = new ArrayList<>(partitions.size());
+            for (Partition partition : partitions) {
+                partitionDTOs.add(RevaluationPartitionDTO.builder()
+                        .partition(partition.index)
+                        .lastProcessedId(partition.lastProcessedId)
+                        .rangeEnd(partition.rangeEnd)
+                        .status(partition.status)
+                        .portfoliosProcessed(partition.processed.sum())
+                        .build());
+            }
+            long processedTotal = partitionDTOs.stream().mapToLong(RevaluationPartitionDTO::getPortfoliosProcessed).sum();
+            long elapsedNanos = completedAt != null
+                    ? Duration.between(startedAt, completedAt).toNanos()
+                    : System.nanoTime() - startNanos;
+            long processedNow = portfoliosProcessed.sum();
+            long rowsNow = assetsRevalued.sum() + portfoliosUpdated.sum();
+            return summarize(runId, partitionDTOs)
+                    .startedAt(startedAt)
+                    .completedAt(completedAt)
+                    .concurrency(concurrency)
+                    .portfoliosTotal(portfoliosTotal)
+                    .percentComplete(portfoliosTotal > 0
+                            ? Math.min(100.0, Math.round(processedTotal * 10000.0 / portfoliosTotal) / 100.0)
+                            : 100.0)
+                    .assetsRevalued(assetsRevalued.sum())
+                    .portfoliosUpdated(portfoliosUpdated.sum())
+                    .elapsedMillis(elapsedNanos / 1_000_000)
+                    .portfoliosPerSecond(elapsedNanos > 0 ? processedNow * 1e9 / elapsedNanos : processedNow)
+                    .rowsPerSecond(elapsedNanos > 0 ? rowsNow * 1e9 / elapsedNanos : rowsNow)
+                    .build();
+        }
+    }
+
+    /**
+     * Live state of one partition; written by its worker, read by progress requests.
+     */
+    private static final class Partition {
+        private final int index;
+        private final Long rangeEnd;
+        private final LongAdder processed = new LongAdder();
+        private volatile Long lastProcessedId;
+        private volatile JobStatus status;
+
+        Partition(int index, BatchJobCheckpoint checkpoint) {
+            this.index = index;
+            this.rangeEnd = checkpoint.getRangeEnd();
+            this.lastProcessedId = checkpoint.getLastProcessedId();
+            this.status = checkpoint.getStatus();
+            this.processed.add(checkpoint.getItemsProcessed());
+        }
+    }
+}
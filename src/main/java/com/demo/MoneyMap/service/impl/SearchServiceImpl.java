@@ -0,0 +1,94 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.beans.Asset;
+import com.demo.MoneyMap.dto.response.AssetResponseDTO;
+import com.demo.MoneyMap.dto.response.ClientResponseDTO;
+import com.demo.MoneyMap.dto.response.PagedResponseDTO;
+import com.demo.MoneyMap.mapper.AssetMapper;
+import com.demo.MoneyMap.mapper.ClientMapper;
+import com.demo.MoneyMap.repository.AssetRepository;
+import com.demo.MoneyMap.repository.ClientRepository;
+import com.demo.MoneyMap.repository.projection.ClientListProjection;
+import com.demo.MoneyMap.search.AssetSearchIndex;
+import com.demo.MoneyMap.search.ClientSearchIndex;
+import com.demo.MoneyMap.search.NGramIndex;
+import com.demo.MoneyMap.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of SearchService.
+ * Matches are ranked from the in-memory trigram indexes and only the requested page is
+ * loaded, by ID, in one query. Until an index has finished its initial build the search
+ * falls back to the LIKE query, ordered by the pageable rather than by relevance.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SearchServiceImpl implements SearchService {
+
+    private final AssetSearchIndex assetSearchIndex;
+    private final ClientSearchIndex clientSearchIndex;
+    private final AssetRepository assetRepository;
+    private final ClientRepository clientRepository;
+    private final AssetMapper assetMapper;
+    private final ClientMapper clientMapper;
+
+    @Override
+    public PagedResponseDTO<AssetResponseDTO> searchAssets(String searchTerm, Pageable pageable) {
+        if (!assetSearchIndex.isReady()) {
+            return PagedResponseDTO.from(assetRepository.searchAssets(searchTerm, pageable)
+                    .map(assetMapper::toResponseDTO));
+        }
+        NGramIndex.SearchResult result = assetSearchIndex.search(searchTerm,
+                (int) pageable.getOffset(), pageable.getPageSize());
+        List<Asset> rows = result.ids().length == 0
+                ? List.of()
+                : assetRepository.findAllWithPortfolioByIdIn(boxed(result.ids()));
+        return page(result, rows, Asset::getId, assetMapper::toResponseDTO, pageable);
+    }
+
+    @Override
+    public PagedResponseDTO<ClientResponseDTO> searchClients(String searchTerm, Pageable pageable) {
+        if (!clientSearchIndex.isReady()) {
+            return PagedResponseDTO.from(clientRepository.searchListPage(searchTerm, pageable)
+                    .map(clientMapper::toResponseDTO));
+        }
+        NGramIndex.SearchResult result = clientSearchIndex.search(searchTerm,
+                (int) pageable.getOffset(), pageable.getPageSize());
+        List<ClientListProjection> rows = result.ids().length == 0
+                ? List.of()
+                : clientRepository.findListRowsByIdIn(boxed(result.ids()));
+        return page(result, rows, ClientListProjection::getId, clientMapper::toResponseDTO, pageable);
+    }
+
+    /**
+     * Map the loaded rows in rank order; rows deleted since the search are skipped.
+     */
+    private <R, T> PagedResponseDTO<T> page(NGramIndex.SearchResult result, List<R> rows, Function<R, Long> idOf,
+                                            Function<R, T> mapper, Pageable pageable) {
+        Map<Long, R> rowsById = rows.stream().collect(Collectors.toMap(idOf, Function.identity()));
+        List<T> content = new ArrayList<>(result.ids().length);
+        for (long id : result.ids()) {
+            R row = rowsById.get(id);
+            if (row != null) {
+                content.add(mapper.apply(row));
+            }
+        }
+        return PagedResponseDTO.from(new PageImpl<>(content, pageable, result.total()));
+    }
+
+    private static List<Long> boxed(long[] ids) {
+        return Arrays.stream(ids).boxed().toList();
+    }
+}
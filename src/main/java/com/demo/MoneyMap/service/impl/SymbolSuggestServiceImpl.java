@@ -0,0 +1,42 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.dto.response.SymbolSuggestionDTO;
+import com.demo.MoneyMap.search.SymbolSuggestIndex;
+import com.demo.MoneyMap.service.SymbolSuggestService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Implementation of SymbolSuggestService.
+ * Suggestions come from the in-memory SymbolSuggestIndex; the database is never consulted.
+ */
+@Service
+@RequiredArgsConstructor
+public class SymbolSuggestServiceImpl implements SymbolSuggestService {
+
+    private final SymbolSuggestIndex symbolSuggestIndex;
+
+    @Value("${moneymap.suggest.max-limit:50}")
+    private int maxLimit;
+
+    @Override
+    public List<SymbolSuggestionDTO> suggest(String prefix, int limit) {
+        if (limit < 1 || limit > maxLimit) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + maxLimit);
+        }
+        if (!symbolSuggestIndex.isReady()) {
+            throw new IllegalStateException("Symbol suggestions are still loading");
+        }
+        return symbolSuggestIndex.suggest(prefix, limit).stream()
+                .map(suggestion -> SymbolSuggestionDTO.builder()
+                        .symbol(suggestion.symbol())
+                        .name(suggestion.name())
+                        .assetType(suggestion.assetType())
+                        .holderCount(suggestion.holderCount())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,293 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.beans.BatchJobCheckpoint;
+import com.demo.MoneyMap.beans.enums.AssetType;
+import com.demo.MoneyMap.beans.enums.JobStatus;
+import com.demo.MoneyMap.dto.response.SnapshotRunResultDTO;
+import com.demo.MoneyMap.dto.response.ValuationHistoryDTO;
+import com.demo.MoneyMap.dto.response.ValuationPointDTO;
+import com.demo.MoneyMap.repository.BatchJobCheckpointRepository;
+import com.demo.MoneyMap.repository.PortfolioSnapshotRepository;
+import com.demo.MoneyMap.repository.projection.ValuationPointProjection;
+import com.demo.MoneyMap.service.ValuationSnapshotService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementation of ValuationSnapshotService.
+ * The job walks portfolios by ID in chunks (keyset, so memory stays bounded),
+ * aggregates each chunk with one grouped query, writes it with a batched upsert
+ * and advances the checkpoint in the same transaction. Re-running a date therefore
+ * resumes after the last committed chunk, and re-writing a chunk is idempotent.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ValuationSnapshotServiceImpl implements ValuationSnapshotService {
+
+    static final String JOB_NAME = "portfolio-eod-snapshot";
+
+    private static final String AGGREGATE_CHUNK_SQL =
+            "SELECT p.id AS portfolio_id, p.client_id, " +
+            "COALESCE(SUM(a.current_value), 0) AS total_value, " +
+            "COALESCE(ROUND(SUM(a.purchase_price * a.quantity), 4), 0) AS cost_basis, " +
+            "COALESCE(SUM(CASE WHEN a.asset_type = 'GOLD' THEN a.current_value END), 0) AS gold_value, " +
+            "COALESCE(SUM(CASE WHEN a.asset_type = 'STOCK' THEN a.current_value END), 0) AS stock_value, " +
+            "COALESCE(SUM(CASE WHEN a.asset_type = 'MUTUAL_FUND' THEN a.current_value END), 0) AS mutual_fund_value, " +
+            "COALESCE(SUM(CASE WHEN a.asset_type = 'CRYPTO' THEN a.current_value END), 0) AS crypto_value, " +
+            "COUNT(a.id) AS asset_count " +
+            "FROM portfolios p LEFT JOIN assets a ON a.portfolio_id = p.id " +
+            "WHERE p.id > ? GROUP BY p.id, p.client_id ORDER BY p.id LIMIT ?";
+
+    private static final String UPSERT_SNAPSHOT_SQL =
+            "INSERT INTO portfolio_snapshots (portfolio_id, snapshot_date, client_id, total_value, cost_basis, " +
+            "gold_value, stock_value, mutual_fund_value, crypto_value, asset_count) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE client_id = VALUES(client_id), total_value = VALUES(total_value), " +
+            "cost_basis = VALUES(cost_basis), gold_value = VALUES(gold_value), stock_value = VALUES(stock_value), " +
+            "mutual_fund_value = VALUES(mutual_fund_value), crypto_value = VALUES(crypto_value), " +
+            "asset_count = VALUES(asset_count)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PortfolioSnapshotRepository portfolioSnapshotRepository;
+    private final BatchJobCheckpointRepository checkpointRepository;
+
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    private ExecutorService resumeExecutor;
+
+    @Value("${moneymap.snapshots.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * Starts a failed run gets before startup stops resuming it; it can still be run on demand.
+     */
+    @Value("${moneymap.snapshots.max-resume-attempts:3}")
+    private int maxResumeAttempts;
+
+    @PostConstruct
+    public void init() {
+        resumeExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "snapshot-resume");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        resumeExecutor.shutdownNow();
+    }
+
+    @Override
+    public SnapshotRunResultDTO runSnapshot(LocalDate snapshotDate) {
+        if (!runLock.tryLock()) {
+            throw new IllegalStateException("A valuation snapshot run is already in progress");
+        }
+        try {
+            return doRun(snapshotDate);
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    private SnapshotRunResultDTO doRun(LocalDate snapshotDate) {
+        long startNanos = System.nanoTime();
+        BatchJobCheckpoint checkpoint = checkpointRepository
+                .findByJobNameAndRunKey(JOB_NAME, snapshotDate.toString())
+                .orElseGet(() -> checkpointRepository.save(BatchJobCheckpoint.builder()
+                        .jobName(JOB_NAME)
+                        .runKey(snapshotDate.toString())
+                        .build()));
+        long resumedAfter = checkpoint.getLastProcessedId();
+        long processed = 0;
+        int chunks = 0;
+
+        if (checkpoint.getStatus() != JobStatus.COMPLETED) {
+            checkpoint.setStatus(JobStatus.RUNNING);
+            checkpoint.setAttempts(checkpoint.getAttempts() + 1);
+            checkpoint = checkpointRepository.save(checkpoint);
+            try {
+                int written;
+                do {
+                    written = processChunk(snapshotDate, checkpoint);
+                    processed += written;
+                    if (written > 0) {
+                        chunks++;
+                    }
+                } while (written == chunkSize);
+                checkpoint.setStatus(JobStatus.COMPLETED);
+                checkpoint.setCompletedAt(LocalDateTime.now());
+                checkpoint = checkpointRepository.save(checkpoint);
+            } catch (RuntimeException e) {
+                log.error("Valuation snapshot for {} failed after portfolio {}", snapshotDate,
+                        checkpoint.getLastProcessedId(), e);
+                checkpoint.setStatus(JobStatus.FAILED);
+                checkpointRepository.save(checkpoint);
+                throw e;
+            }
+        }
+
+        return SnapshotRunResultDTO.builder()
+                .snapshotDate(snapshotDate)
+                .status(checkpoint.getStatus())
+                .resumedAfterPortfolioId(resumedAfter)
+                .portfoliosProcessed(processed)
+                .totalPortfoliosProcessed(checkpoint.getItemsProcessed())
+                .chunksCommitted(chunks)
+                .elapsedMillis((System.nanoTime() - startNanos) / 1_000_000)
+                .build();
+    }
+
+    /**
+     * Aggregate, write and checkpoint one chunk in a single transaction. If the transaction
+     * fails, the checkpoint entity is put back where the chunk started, as its row was.
+     *
+     * @return the number of portfolios written
+     */
+    private int processChunk(LocalDate snapshotDate, BatchJobCheckpoint checkpoint) {
+        long from = checkpoint.getLastProcessedId();
+        long itemsBefore = checkpoint.getItemsProcessed();
+        Integer written;
+        try {
+            written = aggregateChunk(snapshotDate, checkpoint);
+        } catch (RuntimeException e) {
+            checkpoint.setLastProcessedId(from);
+            checkpoint.setItemsProcessed(itemsBefore);
+            throw e;
+        }
+        return written != null ? written : 0;
+    }
+
+    private Integer aggregateChunk(LocalDate snapshotDate, BatchJobCheckpoint checkpoint) {
+        return transactionTemplate.execute(status -> {
+            Date date = Date.valueOf(snapshotDate);
+            List<Object[]> rows = new ArrayList<>(chunkSize);
+            long[] lastId = {checkpoint.getLastProcessedId()};
+            jdbcTemplate.query(AGGREGATE_CHUNK_SQL, rs -> {
+                long portfolioId = rs.getLong("portfolio_id");
+                rows.add(new Object[]{
+                        portfolioId, date, rs.getLong("client_id"),
+                        rs.getBigDecimal("total_value"), rs.getBigDecimal("cost_basis"),
+                        rs.getBigDecimal("gold_value"), rs.getBigDecimal("stock_value"),
+                        rs.getBigDecimal("mutual_fund_value"), rs.getBigDecimal("crypto_value"),
+                        rs.getInt("asset_count")
+                });
+                lastId[0] = portfolioId;
+            }, checkpoint.getLastProcessedId(), chunkSize);
+            if (rows.isEmpty()) {
+                return 0;
+            }
+            jdbcTemplate.batchUpdate(UPSERT_SNAPSHOT_SQL, rows);
+            checkpoint.setLastProcessedId(lastId[0]);
+            checkpoint.setItemsProcessed(checkpoint.getItemsProcessed() + rows.size());
+            checkpointRepository.save(checkpoint);
+            return rows.size();
+        });
+    }
+
+    /**
+     * Nightly snapshot of the day that just ended.
+     */
+    @Scheduled(cron = "${moneymap.snapshots.cron:0 5 0 * * *}")
+    public void scheduledSnapshot() {
+        runSnapshot(LocalDate.now().minusDays(1));
+    }
+
+    /**
+     * Resume runs that were interrupted by a shutdown or failed part-way, one after another
+     * on a background thread so startup is not held up. A run that fails again is logged and
+     * left for the next start; one that has failed maxResumeAttempts times is skipped.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedRuns() {
+        List<BatchJobCheckpoint> interrupted = checkpointRepository.findByJobNameAndStatusIn(JOB_NAME,
+                List.of(JobStatus.RUNNING, JobStatus.FAILED));
+        if (!interrupted.isEmpty()) {
+            resumeExecutor.execute(() -> interrupted.forEach(this::resume));
+        }
+    }
+
+    private void resume(BatchJobCheckpoint checkpoint) {
+        if (checkpoint.getStatus() == JobStatus.FAILED && checkpoint.getAttempts() >= maxResumeAttempts) {
+            log.warn("Not resuming valuation snapshot {}: it has failed after {} attempts",
+                    checkpoint.getRunKey(), checkpoint.getAttempts());
+            return;
+        }
+        log.info("Resuming valuation snapshot {} after portfolio {}",
+                checkpoint.getRunKey(), checkpoint.getLastProcessedId());
+        try {
+            runSnapshot(LocalDate.parse(checkpoint.getRunKey()));
+        } catch (RuntimeException e) {
+            log.warn("Resuming valuation snapshot {} failed: {}", checkpoint.getRunKey(), e.getMessage());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ValuationHistoryDTO getPortfolioHistory(Long portfolioId, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1);
+        return ValuationHistoryDTO.builder()
+                .portfolioId(portfolioId)
+                .from(start)
+                .to(end)
+                .points(toPoints(portfolioSnapshotRepository.findHistoryByPortfolioId(portfolioId, start, end)))
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ValuationHistoryDTO getClientHistory(Long clientId, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1);
+        return ValuationHistoryDTO.builder()
+                .clientId(clientId)
+                .from(start)
+                .to(end)
+                .points(toPoints(portfolioSnapshotRepository.findHistoryByClientId(clientId, start, end)))
+                .build();
+    }
+
+    private List<ValuationPointDTO> toPoints(List<ValuationPointProjection> rows) {
+        List<ValuationPointDTO> points = new ArrayList<>(rows.size());
+        for (ValuationPointProjection row : rows) {
+            Map<AssetType, BigDecimal> byType = new EnumMap<>(AssetType.class);
+            byType.put(AssetType.GOLD, row.getGoldValue());
+            byType.put(AssetType.STOCK, row.getStockValue());
+            byType.put(AssetType.MUTUAL_FUND, row.getMutualFundValue());
+            byType.put(AssetType.CRYPTO, row.getCryptoValue());
+            points.add(ValuationPointDTO.builder()
+                    .date(row.getSnapshotDate())
+                    .totalValue(row.getTotalValue())
+                    .costBasis(row.getCostBasis())
+                    .profitLoss(row.getTotalValue().subtract(row.getCostBasis()))
+                    .valueByAssetType(byType)
+                    .build());
+        }
+        return points;
+    }
+}
@@ -0,0 +1,315 @@
+package com.demo.MoneyMap.timeseries;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Append-only price series for one symbol, stored in a memory-mapped file.
+ *
+ * Layout: a 64-byte file header followed by fixed-width blocks. Each block holds
+ * up to RECORDS_PER_BLOCK (timestamp, price) records: the first record in full
+ * (two longs) and the rest as int deltas from the previous record. A record that
+ * does not fit the block or whose deltas overflow an int starts a new block.
+ * Fixed-width blocks keep range queries a binary search over block base timestamps.
+ *
+ * A single mapping is limited to 2 GB, so the blocks are mapped in segments of
+ * whole blocks; a block never straddles two segments and file offsets are longs.
+ * The file grows by doubling until it fills a segment, then a segment at a time.
+ *
+ * Prices are stored as longs scaled to 4 decimal places, matching current_price.
+ */
+final class MappedPriceSeries implements Closeable {
+
+    private static final int MAGIC = 0x4D4D5048;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int BLOCK_COUNT_OFFSET = 8;
+
+    static final int RECORDS_PER_BLOCK = 64;
+    private static final int BLOCK_HEADER_SIZE = 24;   // long baseTimestamp, long basePrice, int count, int unused
+    private static final int COUNT_OFFSET = 16;
+    private static final int DELTA_SIZE = 8;           // int timestampDelta, int priceDelta
+    static final int BLOCK_SIZE = BLOCK_HEADER_SIZE + (RECORDS_PER_BLOCK - 1) * DELTA_SIZE;
+    private static final int INITIAL_BLOCKS = 64;
+
+    /**
+     * Blocks per mapped segment: a power of two, so doubling from INITIAL_BLOCKS
+     * lands on a segment boundary, and about 1.1 GB, under the 2 GB mapping limit.
+     */
+    static final int SEGMENT_BLOCKS = 1 << 21;
+
+    /**
+     * Receives decoded records without boxing; returns false to stop the scan.
+     */
+    @FunctionalInterface
+    interface PricePointConsumer {
+        boolean accept(long timestamp, long scaledPrice);
+    }
+
+    private final FileChannel channel;
+    private final int segmentBlocks;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final MappedByteBuffer header;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private int capacityBlocks;
+    private int blockCount;
+    private long lastTimestamp = Long.MIN_VALUE;
+    private long lastPrice;
+    private boolean closed;
+    private volatile long lastUsedNanos = System.nanoTime();
+
+    MappedPriceSeries(Path file) throws IOException {
+        this(file, SEGMENT_BLOCKS);
+    }
+
+    /**
+     * @param segmentBlocks blocks per mapped segment; a power of two of at least INITIAL_BLOCKS,
+     *                      or a divisor of it
+     */
+    MappedPriceSeries(Path file, int segmentBlocks) throws IOException {
+        this.segmentBlocks = segmentBlocks;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long size = channel.size();
+            header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            if (size < HEADER_SIZE) {
+                capacityBlocks = INITIAL_BLOCKS;
+                map();
+                header.putInt(0, MAGIC);
+                header.putInt(4, VERSION);
+                header.putInt(BLOCK_COUNT_OFFSET, 0);
+            } else {
+                if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                    throw new IOException("Not a price series file: " + file);
+                }
+                capacityBlocks = Math.toIntExact((size - HEADER_SIZE) / BLOCK_SIZE);
+                map();
+                blockCount = header.getInt(BLOCK_COUNT_OFFSET);
+                recoverLastRecord();
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Append a record. Records must arrive in non-decreasing timestamp order.
+     *
+     * @return false if the record was older than the last one and was dropped
+     * @throws ClosedChannelException if the series has been closed
+     */
+    boolean append(long timestamp, long scaledPrice) throws IOException {
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            if (timestamp < lastTimestamp) {
+                return false;
+            }
+            if (blockCount > 0) {
+                int block = blockCount - 1;
+                MappedByteBuffer segment = segment(block);
+                int offset = offsetInSegment(block);
+                int count = segment.getInt(offset + COUNT_OFFSET);
+                long timestampDelta = timestamp - lastTimestamp;
+                long priceDelta = scaledPrice - lastPrice;
+                if (count < RECORDS_PER_BLOCK && timestampDelta <= Integer.MAX_VALUE
+                        && priceDelta >= Integer.MIN_VALUE && priceDelta <= Integer.MAX_VALUE) {
+                    int deltaOffset = offset + BLOCK_HEADER_SIZE + (count - 1) * DELTA_SIZE;
+                    segment.putInt(deltaOffset, (int) timestampDelta);
+                    segment.putInt(deltaOffset + 4, (int) priceDelta);
+                    // Publish the record by bumping the count only after its deltas are written
+                    segment.putInt(offset + COUNT_OFFSET, count + 1);
+                    lastTimestamp = timestamp;
+                    lastPrice = scaledPrice;
+                    return true;
+                }
+            }
+            startBlock(timestamp, scaledPrice);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Decode the records with from <= timestamp <= to, in timestamp order, until the
+     * consumer returns false.
+     *
+     * @throws ClosedChannelException if the series has been closed
+     */
+    void scan(long from, long to, PricePointConsumer consumer) throws ClosedChannelException {
+        lock.readLock().lock();
+        try {
+            ensureOpen();
+            for (int block = findStartBlock(from); block < blockCount; block++) {
+                MappedByteBuffer segment = segment(block);
+                int offset = offsetInSegment(block);
+                long timestamp = segment.getLong(offset);
+                long price = segment.getLong(offset + 8);
+                int count = segment.getInt(offset + COUNT_OFFSET);
+                for (int i = 0; i < count; i++) {
+                    if (i > 0) {
+                        int deltaOffset = offset + BLOCK_HEADER_SIZE + (i - 1) * DELTA_SIZE;
+                        timestamp += segment.getInt(deltaOffset);
+                        price += segment.getInt(deltaOffset + 4);
+                    }
+                    if (timestamp > to) {
+                        return;
+                    }
+                    if (timestamp >= from && !consumer.accept(timestamp, price)) {
+                        return;
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Flush dirty pages to disk.
+     */
+    void force() {
+        lock.readLock().lock();
+        try {
+            if (!closed) {
+                forceAll();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * System.nanoTime() of the last append or scan, for closing idle series.
+     */
+    long getLastUsedNanos() {
+        return lastUsedNanos;
+    }
+
+    /**
+     * Flush and close the file. Waits for appends and scans in progress; later
+     * ones fail with ClosedChannelException.
+     */
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            forceAll();
+            segments.clear();
+            channel.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureOpen() throws ClosedChannelException {
+        if (closed) {
+            throw new ClosedChannelException();
+        }
+        lastUsedNanos = System.nanoTime();
+    }
+
+    private void forceAll() {
+        header.force();
+        segments.forEach(MappedByteBuffer::force);
+    }
+
+    /**
+     * Index of the block before the first one whose base timestamp is >= from (or 0).
+     * Records equal to the base of a block can fill the tail of the block before it,
+     * so the last block whose base is <= from could start too late.
+     */
+    private int findStartBlock(long from) {
+        int low = 0;
+        int high = blockCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (segment(mid).getLong(offsetInSegment(mid)) < from) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return Math.max(low - 1, 0);
+    }
+
+    private void startBlock(long timestamp, long scaledPrice) throws IOException {
+        if (blockCount == capacityBlocks) {
+            capacityBlocks = capacityBlocks < segmentBlocks
+                    ? Math.min(capacityBlocks * 2, segmentBlocks)
+                    : Math.addExact(capacityBlocks, segmentBlocks);
+            map();
+        }
+        MappedByteBuffer segment = segment(blockCount);
+        int offset = offsetInSegment(blockCount);
+        segment.putLong(offset, timestamp);
+        segment.putLong(offset + 8, scaledPrice);
+        segment.putInt(offset + COUNT_OFFSET, 1);
+        blockCount++;
+        header.putInt(BLOCK_COUNT_OFFSET, blockCount);
+        lastTimestamp = timestamp;
+        lastPrice = scaledPrice;
+    }
+
+    private void recoverLastRecord() {
+        if (blockCount == 0) {
+            return;
+        }
+        int block = blockCount - 1;
+        MappedByteBuffer segment = segment(block);
+        int offset = offsetInSegment(block);
+        long timestamp = segment.getLong(offset);
+        long price = segment.getLong(offset + 8);
+        int count = segment.getInt(offset + COUNT_OFFSET);
+        for (int i = 1; i < count; i++) {
+            int deltaOffset = offset + BLOCK_HEADER_SIZE + (i - 1) * DELTA_SIZE;
+            timestamp += segment.getInt(deltaOffset);
+            price += segment.getInt(deltaOffset + 4);
+        }
+        lastTimestamp = timestamp;
+        lastPrice = price;
+    }
+
+    /**
+     * Map the segments covering capacityBlocks. Segments already mapped at full
+     * size are kept; only the last, still growing segment is remapped.
+     */
+    private void map() throws IOException {
+        int segmentCount = (int) (((long) capacityBlocks + segmentBlocks - 1) / segmentBlocks);
+        while (!segments.isEmpty() && segments.get(segments.size() - 1).capacity() < segmentBytes()) {
+            segments.remove(segments.size() - 1);
+        }
+        for (int i = segments.size(); i < segmentCount; i++) {
+            int blocks = Math.min(segmentBlocks, capacityBlocks - i * segmentBlocks);
+            segments.add(channel.map(FileChannel.MapMode.READ_WRITE,
+                    HEADER_SIZE + (long) i * segmentBytes(), (long) blocks * BLOCK_SIZE));
+        }
+    }
+
+    private MappedByteBuffer segment(int block) {
+        return segments.get(block / segmentBlocks);
+    }
+
+    private int offsetInSegment(int block) {
+        return (block % segmentBlocks) * BLOCK_SIZE;
+    }
+
+    private long segmentBytes() {
+        return (long) segmentBlocks * BLOCK_SIZE;
+    }
+}
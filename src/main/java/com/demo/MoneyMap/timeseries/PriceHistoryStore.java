@@ -0,0 +1,243 @@
+package com.demo.MoneyMap.timeseries;
+
+import com.demo.MoneyMap.event.SymbolPriceChangedEvent;
+import com.demo.MoneyMap.index.SymbolHoldingIndex;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded time-series store of prices per symbol, one memory-mapped file per symbol.
+ * Deliberately kept outside JPA/MySQL so tick volume does not grow the assets table.
+ * Every applied price (SymbolPriceChangedEvent) is appended once its transaction commits.
+ *
+ * At most max-open-series files are mapped at a time: opening one more closes the least
+ * recently used, and series idle for idle-close-ms are closed by the periodic force.
+ * A series is closed inside the map's compute for its symbol, so it can only be reopened
+ * once the close has finished; callers still holding the closed instance retry.
+ */
+@Slf4j
+@Component
+public class PriceHistoryStore {
+
+    public static final int PRICE_SCALE = 4;
+
+    private static final Pattern SAFE_FILE_NAME = Pattern.compile("[A-Z0-9._-]{1,50}");
+    private static final String FILE_SUFFIX = ".series";
+
+    private final Map<String, MappedPriceSeries> seriesBySymbol = new ConcurrentHashMap<>();
+
+    @Value("${moneymap.prices.history.dir:./data/price-history}")
+    private String directory;
+
+    @Value("${moneymap.prices.history.max-open-series:1000}")
+    private int maxOpenSeries;
+
+    @Value("${moneymap.prices.history.idle-close-ms:600000}")
+    private long idleCloseMillis;
+
+    private Path root;
+
+    @PostConstruct
+    public void init() throws IOException {
+        root = Paths.get(directory);
+        Files.createDirectories(root);
+    }
+
+    /**
+     * Record every applied price.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPriceChanged(SymbolPriceChangedEvent event) {
+        append(event.symbol(), event.timestamp().toEpochMilli(), event.price());
+    }
+
+    /**
+     * Append a price for a symbol. Out-of-order prices are dropped.
+     *
+     * @return true if the price was stored
+     */
+    public boolean append(String symbol, long epochMillis, BigDecimal price) {
+        String key = SymbolHoldingIndex.normalize(symbol);
+        if (key == null || price == null) {
+            return false;
+        }
+        long scaledPrice = toScaled(price);
+        while (true) {
+            try {
+                return series(key, true).append(epochMillis, scaledPrice);
+            } catch (ClosedChannelException e) {
+                // Closed as idle or least recently used after we looked it up
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to append price for " + key, e);
+            }
+        }
+    }
+
+    /**
+     * Stream the prices of a symbol within [from, to] (epoch millis, inclusive) until the
+     * consumer returns false. Prices are passed as longs scaled to PRICE_SCALE decimal places.
+     */
+    public void scan(String symbol, long from, long to, PricePointConsumer consumer) {
+        String key = SymbolHoldingIndex.normalize(symbol);
+        if (key == null) {
+            return;
+        }
+        while (true) {
+            MappedPriceSeries series = series(key, false);
+            if (series == null) {
+                return;
+            }
+            try {
+                series.scan(from, to, consumer::accept);
+                return;
+            } catch (ClosedChannelException e) {
+                // Closed as idle or least recently used after we looked it up
+            }
+        }
+    }
+
+    /**
+     * Whether any history exists for a symbol.
+     */
+    public boolean hasHistory(String symbol) {
+        String key = SymbolHoldingIndex.normalize(symbol);
+        return key != null && (seriesBySymbol.containsKey(key) || Files.exists(fileFor(key)));
+    }
+
+    /**
+     * Periodically push dirty pages to disk and close series that have gone idle.
+     */
+    @Scheduled(fixedDelayString = "${moneymap.prices.history.force-interval-ms:5000}")
+    public void force() {
+        long idleBefore = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(idleCloseMillis);
+        seriesBySymbol.forEach((symbol, series) -> {
+            if (series.getLastUsedNanos() < idleBefore) {
+                closeSeries(symbol, series);
+            } else {
+                series.force();
+            }
+        });
+    }
+
+    /**
+     * Number of series files currently mapped.
+     */
+    public int getOpenSeriesCount() {
+        return seriesBySymbol.size();
+    }
+
+    @PreDestroy
+    public void close() {
+        seriesBySymbol.forEach((symbol, series) -> {
+            try {
+                series.close();
+            } catch (IOException e) {
+                log.warn("Failed to close price series for {}", symbol, e);
+            }
+        });
+        seriesBySymbol.clear();
+    }
+
+    public static long toScaled(BigDecimal price) {
+        return price.setScale(PRICE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal fromScaled(long scaledPrice) {
+        return BigDecimal.valueOf(scaledPrice, PRICE_SCALE);
+    }
+
+    private MappedPriceSeries series(String key, boolean create) {
+        MappedPriceSeries existing = seriesBySymbol.get(key);
+        if (existing != null || (!create && !Files.exists(fileFor(key)))) {
+            return existing;
+        }
+        boolean[] opened = {false};
+        MappedPriceSeries series = seriesBySymbol.computeIfAbsent(key, k -> {
+            try {
+                opened[0] = true;
+                return new MappedPriceSeries(fileFor(k));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to open price series for " + k, e);
+            }
+        });
+        if (opened[0]) {
+            closeLeastRecentlyUsed(key);
+        }
+        return series;
+    }
+
+    /**
+     * Close least recently used series until at most maxOpenSeries are mapped,
+     * sparing the one just opened.
+     */
+    private void closeLeastRecentlyUsed(String justOpened) {
+        while (seriesBySymbol.size() > maxOpenSeries) {
+            String oldestSymbol = null;
+            MappedPriceSeries oldest = null;
+            for (Map.Entry<String, MappedPriceSeries> entry : seriesBySymbol.entrySet()) {
+                if (!entry.getKey().equals(justOpened) && (oldest == null
+                        || entry.getValue().getLastUsedNanos() < oldest.getLastUsedNanos())) {
+                    oldestSymbol = entry.getKey();
+                    oldest = entry.getValue();
+                }
+            }
+            if (oldest == null) {
+                return;
+            }
+            closeSeries(oldestSymbol, oldest);
+        }
+    }
+
+    /**
+     * Close a series and remove it atomically, so no new instance can open the
+     * same file while this one is still being written.
+     */
+    private void closeSeries(String symbol, MappedPriceSeries series) {
+        seriesBySymbol.computeIfPresent(symbol, (k, current) -> {
+            if (current != series) {
+                return current;
+            }
+            try {
+                series.close();
+            } catch (IOException e) {
+                log.warn("Failed to close price series for {}", symbol, e);
+            }
+            return null;
+        });
+    }
+
+    private Path fileFor(String key) {
+        String name = SAFE_FILE_NAME.matcher(key).matches()
+                ? key
+                : "b64_" + Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+        return root.resolve(name + FILE_SUFFIX);
+    }
+
+    /**
+     * Receives decoded prices without boxing; returns false to stop the scan.
+     */
+    @FunctionalInterface
+    public interface PricePointConsumer {
+        boolean accept(long epochMillis, long scaledPrice);
+    }
+}
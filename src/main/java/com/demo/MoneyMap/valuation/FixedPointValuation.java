@@ -0,0 +1,239 @@
+package com.demo.MoneyMap.valuation;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Valuation arithmetic on scaled longs.
+ * Quantities are held with 8 decimal places and prices/values with 4, matching the
+ * DECIMAL(19,8) and DECIMAL(19,4) columns. A quantity * price product has 12 decimal
+ * places; it is kept as a value with 4 decimal places plus a fraction in
+ * [0, 10^8) of the last place, so it stays exact without needing 128-bit longs and is
+ * rounded (HALF_UP) only once.
+ *
+ * Overflow is detected with the Math.*Exact methods and falls back to BigDecimal,
+ * so every result is identical to the BigDecimal expression documented on the method.
+ */
+public final class FixedPointValuation {
+
+    public static final int QUANTITY_SCALE = 8;
+    public static final int PRICE_SCALE = 4;
+    public static final int VALUE_SCALE = 4;
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L
+    };
+
+    /** One unit of the last value digit expressed in product fraction units (10^8). */
+    private static final long FRACTION_ONE = POWERS_OF_TEN[QUANTITY_SCALE];
+    private static final long FRACTION_HALF = FRACTION_ONE / 2;
+
+    /** 10^4: ratio scale used by profitLossPercentage. */
+    private static final long RATIO_ONE = POWERS_OF_TEN[4];
+
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
+    /** Returned by toScaled for a decimal that cannot be represented as a scaled long. */
+    public static final long NOT_REPRESENTABLE = Long.MIN_VALUE;
+
+    private FixedPointValuation() {
+    }
+
+    /**
+     * {@code quantity.multiply(price).setScale(4, RoundingMode.HALF_UP)}.
+     */
+    public static BigDecimal value(BigDecimal quantity, BigDecimal price) {
+        long q = toScaled(quantity, QUANTITY_SCALE);
+        long p = toScaled(price, PRICE_SCALE);
+        if (q != NOT_REPRESENTABLE && p != NOT_REPRESENTABLE) {
+            try {
+                return BigDecimal.valueOf(multiplyScaled(q, p), VALUE_SCALE);
+            } catch (ArithmeticException overflow) {
+                // fall back to BigDecimal
+            }
+        }
+        return quantity.multiply(price).setScale(VALUE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * {@code currentValue.subtract(purchasePrice.multiply(quantity)).setScale(4, RoundingMode.HALF_UP)}.
+     */
+    public static BigDecimal profitLoss(BigDecimal currentValue, BigDecimal quantity, BigDecimal purchasePrice) {
+        long v = toScaled(currentValue, VALUE_SCALE);
+        long q = toScaled(quantity, QUANTITY_SCALE);
+        long p = toScaled(purchasePrice, PRICE_SCALE);
+        if (v != NOT_REPRESENTABLE && q != NOT_REPRESENTABLE && p != NOT_REPRESENTABLE) {
+            try {
+                long costFraction = productFraction(q, p);
+                long units = differenceUnits(v, productUnits(q, p), costFraction);
+                return BigDecimal.valueOf(roundHalfUp(units, differenceFraction(costFraction)), VALUE_SCALE);
+            } catch (ArithmeticException overflow) {
+                // fall back to BigDecimal
+            }
+        }
+        return currentValue.subtract(purchasePrice.multiply(quantity)).setScale(VALUE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Profit/loss as a percentage of cost basis:
+     * {@code profitLoss.divide(costBasis, 4, RoundingMode.HALF_UP).multiply(100)} with the
+     * unrounded profit/loss, or zero when the cost basis is zero.
+     */
+    public static BigDecimal profitLossPercentage(BigDecimal currentValue, BigDecimal quantity,
+                                                  BigDecimal purchasePrice) {
+        long v = toScaled(currentValue, VALUE_SCALE);
+        long q = toScaled(quantity, QUANTITY_SCALE);
+        long p = toScaled(purchasePrice, PRICE_SCALE);
+        if (v != NOT_REPRESENTABLE && q != NOT_REPRESENTABLE && p != NOT_REPRESENTABLE) {
+            try {
+                long costUnits = productUnits(q, p);
+                long costFraction = productFraction(q, p);
+                if (costUnits == 0 && costFraction == 0) {
+                    return BigDecimal.ZERO;
+                }
+                long gainUnits = differenceUnits(v, costUnits, costFraction);
+                long gainFraction = differenceFraction(costFraction);
+                long ratio;
+                if (gainFraction == 0 && costFraction == 0) {
+                    ratio = divideHalfUp(Math.multiplyExact(gainUnits, RATIO_ONE), costUnits);
+                } else {
+                    long gain = Math.addExact(Math.multiplyExact(gainUnits, FRACTION_ONE), gainFraction);
+                    long cost = Math.addExact(Math.multiplyExact(costUnits, FRACTION_ONE), costFraction);
+                    // Drop common trailing zeros to leave headroom for the ratio scale
+                    while (gain % 10 == 0 && cost % 10 == 0) {
+                        gain /= 10;
+                        cost /= 10;
+                    }
+                    ratio = divideHalfUp(Math.multiplyExact(gain, RATIO_ONE), cost);
+                }
+                return BigDecimal.valueOf(Math.multiplyExact(ratio, 100L), 4);
+            } catch (ArithmeticException overflow) {
+                // fall back to BigDecimal
+            }
+        }
+        BigDecimal costBasis = purchasePrice.multiply(quantity);
+        if (costBasis.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        return currentValue.subtract(costBasis).divide(costBasis, 4, RoundingMode.HALF_UP).multiply(ONE_HUNDRED);
+    }
+
+    /**
+     * Multiply a long with 8 decimal places by a long with 4 decimal places and round
+     * the product HALF_UP to 4 decimal places.
+     *
+     * @throws ArithmeticException if the result overflows
+     */
+    public static long multiplyScaled(long scale8, long scale4) {
+        return roundHalfUp(productUnits(scale8, scale4), productFraction(scale8, scale4));
+    }
+
+    /**
+     * Scale a decimal to a long with the given number of decimal places, or return
+     * NOT_REPRESENTABLE if that would lose digits or overflow.
+     */
+    public static long toScaled(BigDecimal value, int scale) {
+        int valueScale = value.scale();
+        if (valueScale > scale || valueScale < 0 || value.precision() > 18) {
+            return NOT_REPRESENTABLE;
+        }
+        try {
+            return Math.multiplyExact(value.unscaledValue().longValue(), POWERS_OF_TEN[scale - valueScale]);
+        } catch (ArithmeticException overflow) {
+            return NOT_REPRESENTABLE;
+        }
+    }
+
+    /**
+     * floor(q * p / 10^8): the product at 4 decimal places, rounded towards negative infinity.
+     * Splits q into whole and fractional units so that no intermediate needs 128 bits.
+     */
+    private static long productUnits(long q, long p) {
+        long whole = Math.multiplyExact(q / FRACTION_ONE, p);
+        return Math.addExact(whole, Math.floorDiv(Math.multiplyExact(q % FRACTION_ONE, p), FRACTION_ONE));
+    }
+
+    /**
+     * (q * p) mod 10^8: the remaining fraction of the last value digit, in [0, 10^8).
+     */
+    private static long productFraction(long q, long p) {
+        return Math.floorMod(Math.multiplyExact(q % FRACTION_ONE, p), FRACTION_ONE);
+    }
+
+    /**
+     * Whole units of value - (units + fraction / 10^8), rounded towards negative infinity.
+     */
+    private static long differenceUnits(long value, long units, long fraction) {
+        long difference = Math.subtractExact(value, units);
+        return fraction > 0 ? Math.subtractExact(difference, 1) : difference;
+    }
+
+    private static long differenceFraction(long fraction) {
+        return fraction > 0 ? FRACTION_ONE - fraction : 0;
+    }
+
+    /**
+     * Round units + fraction / 10^8 half away from zero.
+     */
+    private static long roundHalfUp(long units, long fraction) {
+        if (fraction == 0) {
+            return units;
+        }
+        if (units >= 0) {
+            return fraction >= FRACTION_HALF ? Math.addExact(units, 1) : units;
+        }
+        // Negative: the magnitude is (-units - 1) + (FRACTION_ONE - fraction) / 10^8
+        long magnitude = -(units + 1);
+        return FRACTION_ONE - fraction >= FRACTION_HALF ? -(magnitude + 1) : -magnitude;
+    }
+
+    /**
+     * Integer division rounding half away from zero, like RoundingMode.HALF_UP.
+     */
+    static long divideHalfUp(long dividend, long divisor) {
+        if (divisor == Long.MIN_VALUE || dividend == Long.MIN_VALUE) {
+            throw new ArithmeticException("long overflow");
+        }
+        long quotient = dividend / divisor;
+        long absRemainder = Math.abs(dividend % divisor);
+        if (absRemainder != 0 && absRemainder >= Math.abs(divisor) - absRemainder) {
+            quotient += (dividend < 0) == (divisor < 0) ? 1 : -1;
+        }
+        return quotient;
+    }
+
+    /**
+     * Sums values with 4 decimal places as a scaled long, switching to BigDecimal
+     * only if a value does not fit or the running total overflows.
+     * Not thread-safe.
+     */
+    public static final class Accumulator {
+
+        private long scaledSum;
+        private BigDecimal overflow;
+
+        public Accumulator add(BigDecimal value) {
+            if (value == null) {
+                return this;
+            }
+            if (overflow == null) {
+                long scaled = toScaled(value, VALUE_SCALE);
+                if (scaled != NOT_REPRESENTABLE) {
+                    try {
+                        scaledSum = Math.addExact(scaledSum, scaled);
+                        return this;
+                    } catch (ArithmeticException e) {
+                        // switch to BigDecimal below
+                    }
+                }
+                overflow = BigDecimal.valueOf(scaledSum, VALUE_SCALE);
+            }
+            overflow = overflow.add(value);
+            return this;
+        }
+
+        public BigDecimal toBigDecimal() {
+            return overflow != null ? overflow : BigDecimal.valueOf(scaledSum, VALUE_SCALE);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+-- Baseline: the schema Hibernate generated (ddl-auto=update) for clients, portfolios, assets
+-- and transactions before migrations took over. Databases created that way are baselined at
+-- this version (spring.flyway.baseline-on-migrate) and run V2 onwards, so everything added
+-- since then belongs in a later version, never here.
+
+create table clients (
+    id bigint not null auto_increment,
+    first_name varchar(100) not null,
+    last_name varchar(100) not null,
+    email varchar(150) not null,
+    phone varchar(20),
+    address varchar(500),
+    active bit not null,
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id),
+    constraint uk_clients_email unique (email)
+) engine=InnoDB;
+
+create table portfolios (
+    id bigint not null auto_increment,
+    name varchar(100) not null,
+    description varchar(500),
+    client_id bigint not null,
+    total_value decimal(19,4),
+    active bit not null,
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id),
+    constraint uk_portfolios_client unique (client_id),
+    constraint fk_portfolios_client foreign key (client_id) references clients (id)
+) engine=InnoDB;
+
+-- Single-table inheritance: subtype columns are nullable and asset_type is the discriminator
+create table assets (
+    id bigint not null auto_increment,
+    asset_type varchar(31) not null,
+    name varchar(100) not null,
+    symbol varchar(50),
+    quantity decimal(19,8) not null,
+    purchase_price decimal(19,4) not null,
+    current_price decimal(19,4),
+    current_value decimal(19,4),
+    purchase_date date,
+    portfolio_id bigint not null,
+    notes varchar(500),
+    created_at datetime(6),
+    updated_at datetime(6),
+    exchange varchar(20),
+    sector varchar(50),
+    dividend_yield decimal(10,4),
+    fractional_allowed bit,
+    fund_category varchar(50),
+    amc_name varchar(100),
+    plan_type varchar(20),
+    expense_ratio decimal(6,4),
+    nav_date date,
+    risk_level varchar(20),
+    min_investment decimal(19,4),
+    blockchain_network varchar(50),
+    wallet_address varchar(200),
+    staking_enabled bit,
+    staking_apy decimal(10,4),
+    gold_form varchar(50),
+    purity varchar(20),
+    weight_unit varchar(20),
+    storage_location varchar(100),
+    is_physical bit,
+    primary key (id),
+    constraint fk_assets_portfolio foreign key (portfolio_id) references portfolios (id)
+) engine=InnoDB;
+
+create table transactions (
+    id bigint not null auto_increment,
+    asset_id bigint not null,
+    transaction_type enum ('BUY','SELL','DIVIDEND','TRANSFER_IN','TRANSFER_OUT') not null,
+    quantity decimal(19,8),
+    price_per_unit decimal(19,4),
+    amount decimal(19,4),
+    fees decimal(19,4),
+    transaction_date date not null,
+    notes varchar(500),
+    created_at datetime(6),
+    primary key (id),
+    constraint fk_transactions_asset foreign key (asset_id) references assets (id)
+) engine=InnoDB;
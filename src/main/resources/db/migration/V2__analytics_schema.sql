@@ -0,0 +1,115 @@
+-- The currency columns, listing and analytics indexes, and tables added on top of the V1
+-- baseline: multi-currency valuation, materialized AUM, snapshots, risk metrics, positions,
+-- batch job checkpoints and the replication heartbeat. Existing rows are valued in USD.
+
+alter table clients
+    add index idx_clients_last_name_id (last_name, id);
+
+alter table portfolios
+    add column currency enum ('USD','EUR','GBP','INR','JPY','CHF','CAD','AUD','SGD','AED') default 'USD' not null
+        after total_value,
+    add index idx_portfolios_name_id (name, id);
+
+alter table assets
+    add column currency enum ('USD','EUR','GBP','INR','JPY','CHF','CAD','AUD','SGD','AED') default 'USD' not null
+        after current_value,
+    add index idx_assets_type_sector_exchange (asset_type, sector, exchange, current_value),
+    add index idx_assets_portfolio_sector_exchange (portfolio_id, asset_type, sector, exchange, current_value),
+    add index idx_assets_type_category_risk (asset_type, fund_category, risk_level, current_value),
+    add index idx_assets_portfolio_category_risk (portfolio_id, asset_type, fund_category, risk_level, current_value),
+    add index idx_assets_name_id (name, id);
+
+alter table transactions
+    add index idx_transactions_asset_date (asset_id, transaction_date, id);
+
+create table asset_positions (
+    asset_id bigint not null,
+    quantity decimal(19,8) not null,
+    average_cost_basis decimal(19,4) not null,
+    average_realized_pnl decimal(19,4) not null,
+    fifo_cost_basis decimal(19,4) not null,
+    fifo_realized_pnl decimal(19,4) not null,
+    dividend_income decimal(19,4) not null,
+    fees_paid decimal(19,4) not null,
+    transaction_count bigint not null,
+    last_transaction_id bigint,
+    last_transaction_date date,
+    updated_at datetime(6),
+    primary key (asset_id)
+) engine=InnoDB;
+
+create table position_lots (
+    id bigint not null auto_increment,
+    asset_id bigint not null,
+    transaction_id bigint not null,
+    quantity decimal(19,8) not null,
+    cost_basis decimal(19,4) not null,
+    primary key (id),
+    index idx_position_lots_asset (asset_id, id)
+) engine=InnoDB;
+
+create table aum_aggregates (
+    scope enum ('FIRM','ASSET_TYPE','CLIENT') not null,
+    scope_key varchar(50) not null,
+    total_value decimal(19,4) not null,
+    asset_count bigint not null,
+    updated_at datetime(6),
+    primary key (scope, scope_key)
+) engine=InnoDB;
+
+create table portfolio_snapshots (
+    portfolio_id bigint not null,
+    snapshot_date date not null,
+    client_id bigint not null,
+    total_value decimal(19,4) not null,
+    cost_basis decimal(19,4) not null,
+    gold_value decimal(19,4) not null,
+    stock_value decimal(19,4) not null,
+    mutual_fund_value decimal(19,4) not null,
+    crypto_value decimal(19,4) not null,
+    asset_count integer not null,
+    primary key (portfolio_id, snapshot_date),
+    index idx_snapshots_client_date (client_id, snapshot_date, total_value, cost_basis, gold_value, stock_value,
+        mutual_fund_value, crypto_value)
+) engine=InnoDB;
+
+create table portfolio_risk_metrics (
+    portfolio_id bigint not null,
+    as_of_date date not null,
+    window_days integer not null,
+    portfolio_value decimal(19,4) not null,
+    covered_value decimal(19,4) not null,
+    daily_volatility decimal(19,4) not null,
+    var_95 decimal(19,4) not null,
+    var_99 decimal(19,4) not null,
+    computed_at datetime(6) not null,
+    primary key (portfolio_id)
+) engine=InnoDB;
+
+create table fx_rates (
+    currency enum ('USD','EUR','GBP','INR','JPY','CHF','CAD','AUD','SGD','AED') not null,
+    usd_rate decimal(19,10) not null,
+    updated_at datetime(6),
+    primary key (currency)
+) engine=InnoDB;
+
+create table batch_job_checkpoints (
+    id bigint not null auto_increment,
+    job_name varchar(50) not null,
+    run_key varchar(100) not null,
+    last_processed_id bigint not null,
+    range_end bigint,
+    items_processed bigint not null,
+    status enum ('RUNNING','COMPLETED','FAILED') not null,
+    started_at datetime(6),
+    updated_at datetime(6),
+    completed_at datetime(6),
+    primary key (id),
+    constraint uk_checkpoint_job_run unique (job_name, run_key)
+) engine=InnoDB;
+
+create table replication_heartbeat (
+    id integer not null,
+    beat_at_ms bigint not null,
+    primary key (id)
+) engine=InnoDB;
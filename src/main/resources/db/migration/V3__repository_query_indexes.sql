@@ -0,0 +1,28 @@
+-- Indexes for the repository queries that V1 and V2 left to full scans. RepositoryQueryPlanTest
+-- runs EXPLAIN on the AssetRepository, ClientRepository and PortfolioRepository queries
+-- against these migrations and fails if one scans a table with no usable index.
+--
+-- InnoDB appends the primary key to every secondary index; (x, id) is spelled out where
+-- the query depends on that id order.
+
+alter table assets
+    -- findByPortfolioId (paged by id), scrollByPortfolioId, countByPortfolioId and the
+    -- asset-count subquery of portfolio list rows
+    add index idx_assets_portfolio_id (portfolio_id, id),
+    -- findByAssetType (paged by id), countByAssetType
+    add index idx_assets_type_id (asset_type, id),
+    -- getTotalValueByPortfolioId and the per-currency totals of a portfolio or client,
+    -- summed from the index without reading rows
+    add index idx_assets_portfolio_currency_value (portfolio_id, currency, current_value),
+    -- symbol lookups and the price writers, which collect the portfolios holding a symbol
+    add index idx_assets_symbol_portfolio (symbol, portfolio_id),
+    -- findBySymbolIgnoreCase compares UPPER(symbol)
+    add index idx_assets_symbol_upper ((upper(symbol)));
+
+alter table clients
+    -- findByActiveTrue, countByActiveTrue, findActiveList
+    add index idx_clients_active_id (active, id);
+
+alter table portfolios
+    -- findByActiveTrue, countByActiveTrue
+    add index idx_portfolios_active_id (active, id);
@@ -0,0 +1,26 @@
+-- Assets, clients, portfolios and transactions take their ids from id_generators (see
+-- IdGenerators) instead of auto_increment, so Hibernate can batch their inserts.
+--
+-- Hibernate's pooled optimizer treats a stored value V as the top of the next block and
+-- hands out V - 49 .. V (allocation size 50). Seeding each row with MAX(id) + 50 makes the
+-- first block start right after the highest existing id; rows keep the ids they have.
+--
+-- The id columns keep auto_increment so that existing rows and foreign keys are left
+-- alone, but the application always supplies the id. Anything inserting into these
+-- tables outside Hibernate must reserve ids from id_generators as well, or it may take
+-- an id Hibernate has already handed out.
+
+create table id_generators (
+    sequence_name varchar(255) not null,
+    next_val bigint,
+    primary key (sequence_name)
+) engine=InnoDB;
+
+insert into id_generators (sequence_name, next_val)
+select 'assets', coalesce(max(id), 0) + 50 from assets
+union all
+select 'clients', coalesce(max(id), 0) + 50 from clients
+union all
+select 'portfolios', coalesce(max(id), 0) + 50 from portfolios
+union all
+select 'transactions', coalesce(max(id), 0) + 50 from transactions;
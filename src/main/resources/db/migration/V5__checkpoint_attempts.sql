@@ -0,0 +1,5 @@
+-- Counts the starts of each batch job run, so ValuationSnapshotServiceImpl can stop
+-- resuming a failed run at startup after moneymap.snapshots.max-resume-attempts.
+
+alter table batch_job_checkpoints
+    add column attempts int not null default 0;
@@ -0,0 +1,95 @@
+package com.demo.MoneyMap;
+
+import com.demo.MoneyMap.beans.Asset;
+import com.demo.MoneyMap.beans.enums.CurrencyCode;
+import com.demo.MoneyMap.repository.AssetRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * A database created by ddl-auto=update before migrations existed must be baselined at
+ * V1, get every later version, and then pass Hibernate's validation with its rows intact.
+ * The container is given the V1 schema and a few rows outside Flyway before the
+ * application starts against it; skipped when Docker is not available.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class BaselineMigrationTest {
+
+    @Container
+    @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.4");
+
+    private static final long ASSET_ID = 40;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @BeforeAll
+    static void createPreMigrationDatabase() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(MYSQL.getJdbcUrl(), MYSQL.getUsername(),
+                MYSQL.getPassword());
+             Statement statement = connection.createStatement()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/V1__baseline.sql"));
+            statement.execute("INSERT INTO clients (id, first_name, last_name, email, active) "
+                    + "VALUES (10, 'Ada', 'Lovelace', 'ada@example.com', 1)");
+            statement.execute("INSERT INTO portfolios (id, name, client_id, total_value, active) "
+                    + "VALUES (20, 'Growth', 10, 1500.0000, 1)");
+            statement.execute("INSERT INTO assets (id, asset_type, name, symbol, quantity, purchase_price, "
+                    + "current_price, current_value, portfolio_id, exchange) "
+                    + "VALUES (" + ASSET_ID + ", 'STOCK', 'Apple', 'AAPL', 10, 140, 150, 1500, 20, 'NASDAQ')");
+            statement.execute("INSERT INTO transactions (id, asset_id, transaction_type, quantity, price_per_unit, "
+                    + "amount, transaction_date) VALUES (80, " + ASSET_ID + ", 'BUY', 10, 140, 1400, '2024-01-02')");
+        }
+    }
+
+    @Test
+    void baselinesAtV1AndAppliesEveryLaterVersion() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        List<String> history = jdbcTemplate.queryForList(
+                "SELECT CONCAT(version, ' ', type) FROM flyway_schema_history WHERE success ORDER BY installed_rank",
+                String.class);
+
+        assertEquals(List.of("1 BASELINE", "2 SQL", "3 SQL", "4 SQL", "5 SQL"), history);
+    }
+
+    @Test
+    @Transactional
+    void existingRowsSurviveWithTheNewColumnDefaults() {
+        Asset asset = assetRepository.findById(ASSET_ID).orElseThrow();
+
+        assertEquals("AAPL", asset.getSymbol());
+        assertEquals(CurrencyCode.USD, asset.getCurrency());
+        assertEquals(CurrencyCode.USD, asset.getPortfolio().getCurrency());
+    }
+
+    @Test
+    void idGeneratorsStartAfterTheExistingIds() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        assertEquals(ASSET_ID + 50, jdbcTemplate.queryForObject(
+                "SELECT next_val FROM id_generators WHERE sequence_name = 'assets'", Long.class));
+    }
+}
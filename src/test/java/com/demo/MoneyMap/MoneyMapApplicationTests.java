@@ -2,10 +2,23 @@ package com.demo.MoneyMap;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
 
+/**
+ * Starts the whole application against MySQL with the schema built by the Flyway
+ * migrations and validated by Hibernate; skipped when Docker is not available.
+ */
 @SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
 class MoneyMapApplicationTests {
 
+	@Container
+	@ServiceConnection
+	static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.4");
+
 	@Test
 	void contextLoads() {
 	}
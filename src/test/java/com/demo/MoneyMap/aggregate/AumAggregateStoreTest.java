@@ -0,0 +1,152 @@
+package com.demo.MoneyMap.aggregate;
+
+import com.demo.MoneyMap.beans.enums.AssetType;
+import com.demo.MoneyMap.event.AssetChangedEvent;
+import com.demo.MoneyMap.event.AssetChangedEvent.ChangeType;
+import com.demo.MoneyMap.event.ClientChangedEvent;
+import com.demo.MoneyMap.repository.AumAggregateRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Persistence of only the aggregates that changed, the portfolio-to-client cache and
+ * reconciliation against concurrent commits, on an embedded H2 database in MySQL mode
+ * holding just the columns the store reads.
+ */
+class AumAggregateStoreTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private AumAggregateStore store;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(UUID.randomUUID() + ";MODE=MySQL")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE portfolios (id BIGINT PRIMARY KEY, client_id BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE assets (id BIGINT PRIMARY KEY, portfolio_id BIGINT, " +
+                "asset_type VARCHAR(20), symbol VARCHAR(20), quantity DECIMAL(19,8), current_value DECIMAL(19,4))");
+        jdbcTemplate.execute("CREATE TABLE aum_aggregates (scope VARCHAR(20), scope_key VARCHAR(50), " +
+                "total_value DECIMAL(19,4), asset_count BIGINT, updated_at TIMESTAMP, PRIMARY KEY (scope, scope_key))");
+        jdbcTemplate.update("INSERT INTO portfolios VALUES (1, 10), (2, 20)");
+        store = new AumAggregateStore(jdbcTemplate, mock(AumAggregateRepository.class));
+        store.warmUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void persistWritesOnlyChangedAggregates() {
+        store.onAssetChanged(created(1L, "100.0000"));
+        store.persist();
+        assertEquals(List.of("ASSET_TYPE:STOCK", "CLIENT:10", "FIRM:ALL"), persistedKeys());
+
+        jdbcTemplate.update("DELETE FROM aum_aggregates");
+        store.persist();
+        assertEquals(List.of(), persistedKeys());
+
+        store.onAssetChanged(created(2L, "5.0000"));
+        store.persist();
+        assertEquals(List.of("ASSET_TYPE:STOCK", "CLIENT:20", "FIRM:ALL"), persistedKeys());
+        assertEquals(0, new BigDecimal("105.0000").compareTo(jdbcTemplate.queryForObject(
+                "SELECT total_value FROM aum_aggregates WHERE scope = 'FIRM'", BigDecimal.class)));
+    }
+
+    @Test
+    void clientChangesDropCachedPortfolioOwners() {
+        store.onAssetChanged(created(1L, "100.0000"));
+        assertEquals(0, new BigDecimal("100.0000").compareTo(store.getClientTotalValue(10L)));
+
+        // Portfolio 1 moves to client 30; the cached owner goes with client 10's change
+        jdbcTemplate.update("UPDATE portfolios SET client_id = 30 WHERE id = 1");
+        store.onClientChanged(new ClientChangedEvent(ClientChangedEvent.ChangeType.UPDATED, 10L));
+        store.onAssetChanged(created(1L, "7.0000"));
+
+        assertEquals(0, new BigDecimal("7.0000").compareTo(store.getClientTotalValue(30L)));
+        assertEquals(0, new BigDecimal("100.0000").compareTo(store.getClientTotalValue(10L)));
+    }
+
+    @Test
+    void commitLandingDuringReconciliationIsCountedOnce() throws Exception {
+        jdbcTemplate.update("INSERT INTO assets VALUES (1, 1, 'STOCK', 'STK', 10, 100.0000)");
+        store.reconcile();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(database));
+        CountDownLatch committed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // Reprice asset 1 from 10 to 20: the row commits, then the delta is held back
+            Future<?> writer = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        committed.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                });
+                store.recordAssetRepricing(Map.of(1L, new BigDecimal("20")));
+                jdbcTemplate.update("UPDATE assets SET current_value = 200.0000 WHERE id = 1");
+            }));
+            assertTrue(committed.await(5, TimeUnit.SECONDS));
+
+            // The recompute would see the committed row, and the delta would be added on top
+            Future<Integer> reconciliation = executor.submit(store::reconcile);
+            Thread.sleep(200);
+            assertFalse(reconciliation.isDone(), "reconciliation should wait for the delta to be applied");
+            release.countDown();
+            writer.get(5, TimeUnit.SECONDS);
+            assertEquals(0, reconciliation.get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+
+        assertEquals(0, new BigDecimal("200.0000").compareTo(store.getFirmTotalValue()));
+        assertEquals(0, new BigDecimal("200.0000").compareTo(store.getClientTotalValue(10L)));
+        assertEquals(0, store.reconcile());
+    }
+
+    private static AssetChangedEvent created(Long portfolioId, String value) {
+        return new AssetChangedEvent(ChangeType.CREATED, 1L, AssetType.STOCK, portfolioId, null,
+                "STK", null, new BigDecimal(value), null);
+    }
+
+    private List<String> persistedKeys() {
+        return jdbcTemplate.queryForList(
+                "SELECT scope || ':' || scope_key FROM aum_aggregates ORDER BY scope, scope_key", String.class);
+    }
+}
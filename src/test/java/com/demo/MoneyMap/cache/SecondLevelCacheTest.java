@@ -0,0 +1,153 @@
+package com.demo.MoneyMap.cache;
+
+import com.demo.MoneyMap.beans.Client;
+import com.demo.MoneyMap.beans.Portfolio;
+import com.demo.MoneyMap.config.SecondLevelCacheConfig;
+import com.demo.MoneyMap.repository.ClientRepository;
+import com.demo.MoneyMap.repository.PortfolioRepository;
+import com.demo.MoneyMap.support.H2DataJpaTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.demo.MoneyMap.support.Fixtures.client;
+import static com.demo.MoneyMap.support.Fixtures.portfolio;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Cached clients, portfolios and counts must be served without SQL, and every
+ * kind of write must make the next read see the new rows. Each step commits,
+ * since the cache is only filled and invalidated by committed transactions.
+ * Runs against an embedded H2 database.
+ */
+@H2DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "moneymap.cache.client-counts.enabled=false"
+})
+@Import({SecondLevelCacheConfig.class, SecondLevelCacheSettings.class, PortfolioCacheInvalidator.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+
+    @Autowired
+    private PortfolioCacheInvalidator portfolioCacheInvalidator;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private Long clientId;
+    private Long portfolioId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        Client client = transactionTemplate.execute(status -> {
+            Client saved = clientRepository.save(client(0));
+            portfolioRepository.save(portfolio(saved, "Growth"));
+            return saved;
+        });
+        clientId = client.getId();
+        portfolioId = portfolioRepository.findByClientId(clientId).get(0).getId();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Portfolios go with their client
+        transactionTemplate.executeWithoutResult(status -> clientRepository.deleteAll());
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void repeatedLoadsComeFromTheCache() {
+        clientRepository.findById(clientId).orElseThrow();
+        long statements = statistics.getPrepareStatementCount();
+
+        Client client = clientRepository.findById(clientId).orElseThrow();
+
+        assertEquals("First0", client.getFirstName());
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+        assertTrue(entityManagerFactory.getCache().contains(Client.class, clientId));
+        assertTrue(statistics.getPrepareStatementCount() - statements <= 1,
+                "only the inverse portfolio association may still be queried");
+    }
+
+    @Test
+    void repositoryWritesReplaceCachedEntities() {
+        clientRepository.findById(clientId).orElseThrow();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Client client = clientRepository.findById(clientId).orElseThrow();
+            client.setLastName("King");
+        });
+
+        assertEquals("King", clientRepository.findById(clientId).orElseThrow().getLastName());
+    }
+
+    @Test
+    void countsComeFromTheQueryCacheUntilTheTableIsWritten() {
+        assertEquals(1, portfolioRepository.countByActiveTrue());
+        assertEquals(1, portfolioRepository.countByActiveTrue());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+
+        transactionTemplate.executeWithoutResult(status ->
+                portfolioRepository.findById(portfolioId).orElseThrow().setActive(false));
+
+        assertEquals(0, portfolioRepository.countByActiveTrue());
+    }
+
+    @Test
+    void disabledRegionServesNothing() {
+        assertEquals(1, clientRepository.countByActiveTrue());
+        assertEquals(1, clientRepository.countByActiveTrue());
+
+        assertEquals(0, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void sqlWritesAreVisibleAfterInvalidation() {
+        portfolioRepository.findById(portfolioId).orElseThrow();
+        assertTrue(entityManagerFactory.getCache().contains(Portfolio.class, portfolioId));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            new JdbcTemplate(dataSource).update("UPDATE portfolios SET total_value = ? WHERE id = ?",
+                    new BigDecimal("1234.5000"), portfolioId);
+            portfolioCacheInvalidator.portfoliosUpdated(List.of(portfolioId));
+        });
+
+        assertFalse(entityManagerFactory.getCache().contains(Portfolio.class, portfolioId));
+        assertEquals(0, new BigDecimal("1234.5")
+                .compareTo(portfolioRepository.findById(portfolioId).orElseThrow().getTotalValue()));
+    }
+}
@@ -0,0 +1,153 @@
+package com.demo.MoneyMap.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Routing against two embedded H2 databases standing in for the primary and a replica.
+ * Each holds a marker row naming it, so a query shows where it was routed.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String REPLICA = "replica-1";
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private ReplicaRoutingDataSource routingDataSource;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        routingDataSource = new ReplicaRoutingDataSource(primary, Map.of(REPLICA, replica));
+        lagMonitor = new ReplicaLagMonitor(routingDataSource, 5000);
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingContext.clear();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void replicaGetsNoReadsUntilProbedInSync() {
+        assertEquals("primary", readOnly.execute(status -> marker()));
+
+        // The replica has no heartbeat yet
+        lagMonitor.probe();
+        assertEquals("primary", readOnly.execute(status -> marker()));
+
+        replicate();
+        lagMonitor.probe();
+        assertEquals("replica", readOnly.execute(status -> marker()));
+    }
+
+    @Test
+    void writesAndNonTransactionalWorkUseThePrimary() {
+        syncReplica();
+
+        assertEquals("primary", readWrite.execute(status -> marker()));
+        assertEquals("primary", marker());
+    }
+
+    @Test
+    void pinnedThreadReadsFromThePrimary() {
+        syncReplica();
+
+        ReplicaRoutingContext.pinToPrimary();
+        assertEquals("primary", readOnly.execute(status -> marker()));
+
+        ReplicaRoutingContext.clear();
+        assertEquals("replica", readOnly.execute(status -> marker()));
+    }
+
+    @Test
+    void laggingReplicaFallsBackToThePrimary() {
+        syncReplica();
+
+        // Heartbeats stop reaching the replica; its copy ages past the threshold
+        new JdbcTemplate(replica).update("UPDATE replication_heartbeat SET beat_at_ms = ?",
+                System.currentTimeMillis() - 60_000);
+        lagMonitor.probe();
+
+        assertEquals("primary", readOnly.execute(status -> marker()));
+        assertEquals(List.of(), routingDataSource.getRoutableReplicas());
+
+        replicate();
+        lagMonitor.probe();
+        assertEquals("replica", readOnly.execute(status -> marker()));
+    }
+
+    @Test
+    void replicaDropsOutWhenProbesStop() throws InterruptedException {
+        // Wide enough that the two probes below land within it on a loaded machine
+        ReplicaLagMonitor shortLagMonitor = new ReplicaLagMonitor(routingDataSource, 1000);
+        shortLagMonitor.probe();
+        replicate();
+        shortLagMonitor.probe();
+        assertEquals("replica", readOnly.execute(status -> marker()));
+
+        // No probe confirms the replica within max-lag
+        Thread.sleep(1500);
+
+        assertEquals("primary", readOnly.execute(status -> marker()));
+        assertEquals(List.of(), routingDataSource.getRoutableReplicas());
+    }
+
+    private String marker() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    /** Probe once so a beat exists, copy it over as replication would, and probe again. */
+    private void syncReplica() {
+        lagMonitor.probe();
+        replicate();
+        lagMonitor.probe();
+    }
+
+    private void replicate() {
+        Long beat = new JdbcTemplate(primary).queryForObject(
+                "SELECT beat_at_ms FROM replication_heartbeat WHERE id = 1", Long.class);
+        JdbcTemplate replicaTemplate = new JdbcTemplate(replica);
+        replicaTemplate.update("DELETE FROM replication_heartbeat");
+        replicaTemplate.update("INSERT INTO replication_heartbeat (id, beat_at_ms) VALUES (1, ?)", beat);
+    }
+
+    private static EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(name + "-" + UUID.randomUUID())
+                .build();
+        JdbcTemplate template = new JdbcTemplate(database);
+        template.execute("CREATE TABLE marker (name VARCHAR(20))");
+        template.update("INSERT INTO marker (name) VALUES (?)", name);
+        template.execute("CREATE TABLE replication_heartbeat (id INT PRIMARY KEY, beat_at_ms BIGINT NOT NULL)");
+        return database;
+    }
+}
@@ -0,0 +1,151 @@
+package com.demo.MoneyMap.listener;
+
+import com.demo.MoneyMap.beans.Client;
+import com.demo.MoneyMap.beans.Portfolio;
+import com.demo.MoneyMap.repository.AssetRepository;
+import com.demo.MoneyMap.repository.ClientRepository;
+import com.demo.MoneyMap.repository.PortfolioRepository;
+import com.demo.MoneyMap.support.H2DataJpaTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+
+import static com.demo.MoneyMap.support.Fixtures.client;
+import static com.demo.MoneyMap.support.Fixtures.portfolio;
+import static com.demo.MoneyMap.support.Fixtures.stock;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Portfolio totals must follow every flushed asset change, however the asset was
+ * built, and a flushed Portfolio must never write back a total that SQL increments
+ * have moved on from. Each step commits, since the deltas are applied at commit.
+ * Runs against an embedded H2 database.
+ */
+@H2DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PortfolioTotalListenerTest {
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private TransactionTemplate transactionTemplate;
+    private Long growthId;
+    private Long incomeId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        growthId = createPortfolio(0, "Growth");
+        incomeId = createPortfolio(1, "Income");
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Portfolios and their assets go with their client
+        transactionTemplate.executeWithoutResult(status -> clientRepository.deleteAll());
+    }
+
+    @Test
+    void builderConstructedAssetsAreCounted() {
+        // All fields set through the builder: no setter ever runs
+        createAsset(growthId, "10", "25.5000");
+
+        assertTotal(growthId, "255.0000");
+    }
+
+    @Test
+    void priceChangesMovesAndDeletesAdjustTheTotal() {
+        Long assetId = createAsset(growthId, "10", "25.0000");
+        createAsset(growthId, "1", "100.0000");
+
+        transactionTemplate.executeWithoutResult(status ->
+                assetRepository.findById(assetId).orElseThrow().setCurrentPrice(new BigDecimal("30.0000")));
+        assertTotal(growthId, "400.0000");
+
+        transactionTemplate.executeWithoutResult(status ->
+                assetRepository.findById(assetId).orElseThrow()
+                        .setPortfolio(portfolioRepository.getReferenceById(incomeId)));
+        assertTotal(growthId, "100.0000");
+        assertTotal(incomeId, "300.0000");
+
+        transactionTemplate.executeWithoutResult(status -> assetRepository.deleteById(assetId));
+        assertTotal(incomeId, "0.0000");
+    }
+
+    @Test
+    void orphanedAssetsLeaveTheTotal() {
+        Long assetId = createAsset(growthId, "2", "50.0000");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Portfolio portfolio = portfolioRepository.findByIdWithAssets(growthId).orElseThrow();
+            portfolio.removeAsset(assetRepository.findById(assetId).orElseThrow());
+        });
+
+        assertTotal(growthId, "0.0000");
+    }
+
+    @Test
+    void flushedPortfolioKeepsConcurrentSqlIncrements() {
+        createAsset(growthId, "1", "100.0000");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Portfolio portfolio = portfolioRepository.findById(growthId).orElseThrow();
+            // Another writer (e.g. the price fan-out) commits an increment meanwhile
+            new JdbcTemplate(dataSource).update(
+                    "UPDATE portfolios SET total_value = total_value + ? WHERE id = ?",
+                    new BigDecimal("42.0000"), growthId);
+            portfolio.setName("Renamed");
+        });
+
+        assertTotal(growthId, "142.0000");
+    }
+
+    @Test
+    void recalculationRepairsDriftedTotals() {
+        createAsset(growthId, "3", "10.0000");
+        new JdbcTemplate(dataSource).update("UPDATE portfolios SET total_value = 0 WHERE id = ?", growthId);
+
+        transactionTemplate.executeWithoutResult(status -> portfolioRepository.recalculateTotalValue(growthId));
+
+        assertTotal(growthId, "30.0000");
+    }
+
+    private Long createPortfolio(int clientNumber, String name) {
+        return transactionTemplate.execute(status -> {
+            Client client = clientRepository.save(client(clientNumber));
+            return portfolioRepository.save(portfolio(client, name)).getId();
+        });
+    }
+
+    private Long createAsset(Long portfolioId, String quantity, String price) {
+        return transactionTemplate.execute(status -> assetRepository.save(
+                stock(portfolioRepository.getReferenceById(portfolioId), "STK", quantity, price)).getId());
+    }
+
+    private void assertTotal(Long portfolioId, String expected) {
+        BigDecimal total = new JdbcTemplate(dataSource).queryForObject(
+                "SELECT total_value FROM portfolios WHERE id = ?", BigDecimal.class, portfolioId);
+        assertEquals(0, new BigDecimal(expected).compareTo(total), "total of portfolio " + portfolioId + " was " + total);
+    }
+}
@@ -0,0 +1,134 @@
+package com.demo.MoneyMap.mapper;
+
+import com.demo.MoneyMap.beans.Asset;
+import com.demo.MoneyMap.beans.MutualFundAsset;
+import com.demo.MoneyMap.beans.Portfolio;
+import com.demo.MoneyMap.beans.StockAsset;
+import com.demo.MoneyMap.beans.enums.TransactionType;
+import com.demo.MoneyMap.dto.response.AssetResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of mapping a 10k-asset page to DTOs.
+ * {@code previousMapping} reproduces what the mapper used to do per asset (a fresh
+ * EnumSet and BigDecimal for the type constants plus an instanceof chain);
+ * {@code descriptorMapping} is the current AssetMapper. Run main() to get
+ * throughput and, through the GC profiler, bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssetMapperBenchmark {
+
+    private static final int PAGE_SIZE = 10_000;
+
+    private final AssetMapper assetMapper = new AssetMapper();
+    private final List<Asset> page = new ArrayList<>(PAGE_SIZE);
+
+    @Setup
+    public void setUp() {
+        Portfolio portfolio = Portfolio.builder().id(1L).name("Benchmark").build();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Asset asset = i % 2 == 0
+                    ? StockAsset.builder().exchange("NYSE").sector("Technology").build()
+                    : MutualFundAsset.builder().amcName("Vanguard").planType(i % 4 == 1 ? "GROWTH" : "DIVIDEND").build();
+            asset.setId((long) i);
+            asset.setName("Asset " + i);
+            asset.setSymbol("SYM" + i);
+            asset.setPortfolio(portfolio);
+            asset.setQuantity(new BigDecimal("12.50000000"));
+            asset.setPurchasePrice(new BigDecimal("100.0000"));
+            asset.setCurrentPrice(new BigDecimal("112.3400"));
+            page.add(asset);
+        }
+    }
+
+    @Benchmark
+    public void descriptorMapping(Blackhole blackhole) {
+        for (Asset asset : page) {
+            blackhole.consume(assetMapper.toResponseDTO(asset));
+        }
+    }
+
+    @Benchmark
+    public void previousMapping(Blackhole blackhole) {
+        for (Asset asset : page) {
+            AssetResponseDTO.AssetResponseDTOBuilder builder = AssetResponseDTO.builder()
+                    .id(asset.getId())
+                    .name(asset.getName())
+                    .symbol(asset.getSymbol())
+                    .assetType(asset.getType())
+                    .assetTypeDisplayName(asset.getType() != null ? asset.getType().getDisplayName() : null)
+                    .typeDescription(asset.getTypeDescription())
+                    .quantity(asset.getQuantity())
+                    .purchasePrice(asset.getPurchasePrice())
+                    .currentPrice(asset.getCurrentPrice())
+                    .currentValue(asset.getCurrentValue())
+                    .portfolioId(asset.getPortfolio() != null ? asset.getPortfolio().getId() : null)
+                    .portfolioName(asset.getPortfolio() != null ? asset.getPortfolio().getName() : null)
+                    .profitLoss(asset.getProfitLoss())
+                    .profitLossPercentage(asset.getProfitLossPercentage())
+                    .allowedTransactionTypes(previousAllowedTransactionTypes(asset))
+                    .minimumQuantityIncrement(previousMinimumQuantityIncrement(asset));
+            if (asset instanceof StockAsset stock) {
+                builder.exchange(stock.getExchange())
+                        .sector(stock.getSector())
+                        .dividendYield(stock.getDividendYield())
+                        .fractionalAllowed(stock.getFractionalAllowed());
+            } else if (asset instanceof MutualFundAsset fund) {
+                builder.fundCategory(fund.getFundCategory())
+                        .amcName(fund.getAmcName())
+                        .planType(fund.getPlanType())
+                        .expenseRatio(fund.getExpenseRatio())
+                        .navDate(fund.getNavDate())
+                        .riskLevel(fund.getRiskLevel())
+                        .minInvestment(fund.getMinInvestment());
+            }
+            blackhole.consume(builder.build());
+        }
+    }
+
+    private static Set<TransactionType> previousAllowedTransactionTypes(Asset asset) {
+        if (asset instanceof MutualFundAsset fund && !fund.isDividendPlan()) {
+            return EnumSet.of(TransactionType.BUY, TransactionType.SELL,
+                    TransactionType.TRANSFER_IN, TransactionType.TRANSFER_OUT);
+        }
+        return EnumSet.of(TransactionType.BUY, TransactionType.SELL, TransactionType.DIVIDEND,
+                TransactionType.TRANSFER_IN, TransactionType.TRANSFER_OUT);
+    }
+
+    private static BigDecimal previousMinimumQuantityIncrement(Asset asset) {
+        return asset instanceof StockAsset ? new BigDecimal("0.01") : new BigDecimal("0.0001");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AssetMapperBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
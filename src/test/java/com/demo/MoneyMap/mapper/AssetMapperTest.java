@@ -0,0 +1,79 @@
+package com.demo.MoneyMap.mapper;
+
+import com.demo.MoneyMap.beans.Asset;
+import com.demo.MoneyMap.beans.Client;
+import com.demo.MoneyMap.beans.Portfolio;
+import com.demo.MoneyMap.beans.StockAsset;
+import com.demo.MoneyMap.dto.request.AssetRequestDTO;
+import com.demo.MoneyMap.dto.response.AssetResponseDTO;
+import com.demo.MoneyMap.support.H2DataJpaTest;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+
+import static com.demo.MoneyMap.support.Fixtures.client;
+import static com.demo.MoneyMap.support.Fixtures.portfolio;
+import static com.demo.MoneyMap.support.Fixtures.stock;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * A lazily loaded asset is a proxy of the abstract Asset, not of its concrete
+ * type; its subtype fields must still be mapped in both directions.
+ * Runs against an embedded H2 database.
+ */
+@H2DataJpaTest
+@Import(AssetMapper.class)
+class AssetMapperTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AssetMapper assetMapper;
+
+    private Long stockId;
+
+    @BeforeEach
+    void setUp() {
+        Client client = entityManager.persist(client(0));
+        Portfolio portfolio = entityManager.persist(portfolio(client, "Growth"));
+        StockAsset apple = stock(portfolio, "AAPL", "10", "150");
+        apple.setExchange("NASDAQ");
+        stockId = entityManager.persistAndGetId(apple, Long.class);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void lazyProxyMapsItsSubtypeFields() {
+        Asset proxy = entityManager.getEntityManager().getReference(Asset.class, stockId);
+        assertFalse(Hibernate.isInitialized(proxy));
+
+        AssetResponseDTO dto = assetMapper.toResponseDTO(proxy);
+
+        assertEquals("NASDAQ", dto.getExchange());
+    }
+
+    @Test
+    void lazyProxyTakesSubtypeUpdates() {
+        Asset proxy = entityManager.getEntityManager().getReference(Asset.class, stockId);
+
+        assetMapper.updateEntityFromDTO(AssetRequestDTO.builder()
+                .name("AAPL")
+                .symbol("AAPL")
+                .quantity(BigDecimal.TEN)
+                .purchasePrice(new BigDecimal("150"))
+                .exchange("NYSE")
+                .build(), proxy);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals("NYSE", entityManager.find(StockAsset.class, stockId).getExchange());
+    }
+}
@@ -0,0 +1,240 @@
+package com.demo.MoneyMap.ranking;
+
+import com.demo.MoneyMap.beans.enums.AssetType;
+import com.demo.MoneyMap.beans.enums.RankingDirection;
+import com.demo.MoneyMap.beans.enums.RankingMetric;
+import com.demo.MoneyMap.event.AssetChangedEvent;
+import com.demo.MoneyMap.event.SymbolPriceChangedEvent;
+import com.demo.MoneyMap.support.H2DataJpaTest;
+import com.demo.MoneyMap.timeseries.PriceHistoryStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Top-k rankings over holdings loaded from the database, quotes rolling over at
+ * midnight, and assets changed while a rebuild is reading the table. Each asset
+ * belongs to its own client, except where a test says otherwise.
+ * Runs against an embedded H2 database.
+ */
+@H2DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HoldingRankingIndexTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private ScanHookJdbcTemplate indexJdbcTemplate;
+    private HoldingRankingIndex index;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        indexJdbcTemplate = new ScanHookJdbcTemplate(dataSource);
+        // No price history: every quote's previous close starts at its current price
+        index = new HoldingRankingIndex(indexJdbcTemplate, mock(PriceHistoryStore.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM assets");
+        jdbcTemplate.update("DELETE FROM portfolios");
+        jdbcTemplate.update("DELETE FROM clients");
+    }
+
+    @Test
+    void gainersAreTheTopKWithTiesBrokenByLowestId() {
+        // P&L: 1 -> +100, 2 -> +300, 3 -> +100, 4 -> -100, 5 -> +100
+        holding(1, 1, "AAA", "10", "100", "110");
+        holding(2, 2, "BBB", "10", "100", "130");
+        holding(3, 3, "CCC", "10", "100", "110");
+        holding(4, 4, "DDD", "10", "100", "90");
+        holding(5, 5, "EEE", "10", "100", "110");
+        index.rebuild();
+
+        HoldingRankingIndex.Ranking top = index.topFirm(RankingMetric.PROFIT_LOSS, RankingDirection.GAINERS, 3);
+
+        assertEquals(List.of(2L, 1L, 3L), assetIds(top));
+        assertEquals(5, top.considered());
+    }
+
+    @Test
+    void losersAreOrderedByLargestLossFirst() {
+        holding(1, 1, "AAA", "10", "100", "110");
+        holding(2, 2, "BBB", "10", "100", "130");
+        holding(3, 3, "CCC", "10", "100", "70");
+        holding(4, 4, "DDD", "10", "100", "90");
+        index.rebuild();
+
+        HoldingRankingIndex.Ranking losers = index.topFirm(RankingMetric.PROFIT_LOSS, RankingDirection.LOSERS, 4);
+
+        assertEquals(List.of(3L, 4L, 1L, 2L), assetIds(losers));
+    }
+
+    @Test
+    void clientRankingOnlyCoversThatClientsHoldings() {
+        holding(1, 1, "AAA", "10", "100", "110");
+        holding(2, 1, "BBB", "10", "100", "130");
+        holding(3, 2, "CCC", "10", "100", "200");
+        index.rebuild();
+
+        HoldingRankingIndex.Ranking top = index.topClient(1L, RankingMetric.PROFIT_LOSS, RankingDirection.GAINERS, 5);
+
+        assertEquals(List.of(2L, 1L), assetIds(top));
+        assertEquals(2, top.considered());
+    }
+
+    @Test
+    void holdingsWithoutAPercentageAreSkipped() {
+        holding(1, 1, "AAA", "10", "100", "110");
+        // Zero cost basis: no P&L percentage
+        holding(2, 2, "GIFT", "10", "0", "50");
+        holding(3, 3, "CCC", "10", "100", "120");
+        index.rebuild();
+
+        HoldingRankingIndex.Ranking top =
+                index.topFirm(RankingMetric.PROFIT_LOSS_PERCENTAGE, RankingDirection.GAINERS, 5);
+
+        assertEquals(List.of(3L, 1L), assetIds(top));
+        assertEquals(2, top.considered());
+    }
+
+    @Test
+    void firstPriceAfterMidnightTurnsTheLastPriceIntoThePreviousClose() {
+        holding(1, 1, "AAA", "10", "100", "110");
+        holding(2, 2, "BBB", "10", "100", "100");
+        index.rebuild();
+        ZoneId zone = ZoneId.systemDefault();
+        Instant tomorrow = LocalDate.now(zone).plusDays(1).atStartOfDay(zone).plusMinutes(1).toInstant();
+
+        // Same day: the close stays at the starting price, 110
+        index.onPriceChanged(new SymbolPriceChangedEvent("AAA", new BigDecimal("120"), Instant.now()));
+        assertEquals(100.0, dayChange(1), 1e-9);
+
+        index.onPriceChanged(new SymbolPriceChangedEvent("AAA", new BigDecimal("125"), tomorrow));
+        assertEquals(50.0, dayChange(1), 1e-9);
+
+        // A late price from the day before does not move the close back
+        index.onPriceChanged(new SymbolPriceChangedEvent("AAA", new BigDecimal("126"), tomorrow.minusSeconds(3600)));
+        assertEquals(60.0, dayChange(1), 1e-9);
+
+        HoldingRankingIndex.Ranking top = index.topFirm(RankingMetric.DAY_CHANGE, RankingDirection.GAINERS, 2);
+        assertEquals(List.of(1L, 2L), assetIds(top));
+    }
+
+    @Test
+    void assetUpdatedWhileRebuildReadsTheTableKeepsItsNewRow() {
+        holding(1, 1, "AAA", "10", "100", "110");
+        holding(2, 2, "BBB", "10", "100", "110");
+        index.rebuild();
+
+        // After the first row, asset 2 changes and its event is handled; the scan then
+        // returns asset 2 as it was when the query started
+        indexJdbcTemplate.duringScan = () -> {
+            jdbcTemplate.update("UPDATE assets SET quantity = 50 WHERE id = 2");
+            index.onAssetChanged(changed(AssetChangedEvent.ChangeType.UPDATED, 2));
+        };
+        index.rebuild();
+
+        HoldingRankingIndex.Ranking top = index.topFirm(RankingMetric.PROFIT_LOSS, RankingDirection.GAINERS, 2);
+        assertEquals(List.of(2L, 1L), assetIds(top));
+        assertEquals(50.0, top.holdings().get(0).quantity(), 1e-9);
+    }
+
+    @Test
+    void assetDeletedWhileRebuildReadsTheTableStaysDeleted() {
+        holding(1, 1, "AAA", "10", "100", "110");
+        holding(2, 2, "BBB", "10", "100", "110");
+        index.rebuild();
+
+        indexJdbcTemplate.duringScan = () -> {
+            jdbcTemplate.update("DELETE FROM assets WHERE id = 2");
+            index.onAssetChanged(changed(AssetChangedEvent.ChangeType.DELETED, 2));
+        };
+        index.rebuild();
+
+        HoldingRankingIndex.Ranking top = index.topFirm(RankingMetric.PROFIT_LOSS, RankingDirection.GAINERS, 5);
+        assertEquals(List.of(1L), assetIds(top));
+        assertTrue(index.topClient(2L, RankingMetric.PROFIT_LOSS, RankingDirection.GAINERS, 5).holdings().isEmpty());
+    }
+
+    /**
+     * A stock in the portfolio of the given client, creating both on first use. IDs are
+     * shared: portfolio and client N belong together.
+     */
+    private void holding(long assetId, long clientId, String symbol, String quantity, String purchasePrice,
+                         String currentPrice) {
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM clients WHERE id = ?", Integer.class, clientId) == 0) {
+            jdbcTemplate.update("INSERT INTO clients (id, first_name, last_name, email, active) VALUES (?, ?, ?, ?, ?)",
+                    clientId, "First" + clientId, "Last" + clientId, "client" + clientId + "@example.com", true);
+            jdbcTemplate.update("INSERT INTO portfolios (id, name, client_id, total_value, active) VALUES (?, ?, ?, 0, ?)",
+                    clientId, "Portfolio " + clientId, clientId, true);
+        }
+        jdbcTemplate.update("INSERT INTO assets (id, asset_type, name, symbol, quantity, purchase_price, current_price, "
+                        + "current_value, portfolio_id) VALUES (?, 'STOCK', ?, ?, ?, ?, ?, 0, ?)",
+                assetId, symbol, symbol, new BigDecimal(quantity), new BigDecimal(purchasePrice),
+                new BigDecimal(currentPrice), clientId);
+    }
+
+    private double dayChange(long assetId) {
+        return index.topFirm(RankingMetric.DAY_CHANGE, RankingDirection.GAINERS, 10).holdings().stream()
+                .filter(holding -> holding.assetId() == assetId)
+                .findFirst().orElseThrow()
+                .dayChange();
+    }
+
+    private static AssetChangedEvent changed(AssetChangedEvent.ChangeType changeType, long assetId) {
+        return new AssetChangedEvent(changeType, assetId, AssetType.STOCK, assetId, assetId, null, null, null, null);
+    }
+
+    private static List<Long> assetIds(HoldingRankingIndex.Ranking ranking) {
+        return ranking.holdings().stream().map(HoldingRankingIndex.Holding::assetId).toList();
+    }
+
+    /**
+     * Runs a hook once, after the first row of the next full-table scan has been handled.
+     */
+    private static final class ScanHookJdbcTemplate extends JdbcTemplate {
+
+        private Runnable duringScan;
+
+        ScanHookJdbcTemplate(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler handler) {
+            Runnable hook = duringScan;
+            duringScan = null;
+            if (hook == null) {
+                super.query(sql, handler);
+                return;
+            }
+            boolean[] ran = {false};
+            super.query(sql, (RowCallbackHandler) rs -> {
+                handler.processRow(rs);
+                if (!ran[0]) {
+                    ran[0] = true;
+                    hook.run();
+                }
+            });
+        }
+    }
+}
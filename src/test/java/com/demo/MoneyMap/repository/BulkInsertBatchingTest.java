@@ -0,0 +1,91 @@
+package com.demo.MoneyMap.repository;
+
+import com.demo.MoneyMap.beans.Client;
+import com.demo.MoneyMap.beans.IdGenerators;
+import com.demo.MoneyMap.beans.Portfolio;
+import com.demo.MoneyMap.support.H2DataJpaTest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.demo.MoneyMap.support.Fixtures.client;
+import static com.demo.MoneyMap.support.Fixtures.portfolio;
+import static com.demo.MoneyMap.support.Fixtures.stock;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Bulk inserts must be sent in JDBC batches: ids come from the pooled table generator
+ * when an entity is persisted, not from the INSERT, so a flush of many new rows costs
+ * one statement per batch. Runs against an embedded H2 database with the batch settings
+ * of application.properties.
+ */
+@H2DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BulkInsertBatchingTest {
+
+    private static final int ROWS = 4 * IdGenerators.ALLOCATION_SIZE;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void idsAreAssignedWithoutInserting() {
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < ROWS; i++) {
+            Client client = entityManager.persist(client(i));
+            assertNotNull(client.getId());
+            ids.add(client.getId());
+        }
+
+        assertEquals(ROWS, ids.size());
+        assertEquals(0, statistics.getEntityInsertCount());
+    }
+
+    @Test
+    void newRowsAreInsertedInBatches() {
+        for (int i = 0; i < ROWS; i++) {
+            entityManager.persist(client(i));
+        }
+        entityManager.flush();
+
+        assertEquals(ROWS, statistics.getEntityInsertCount());
+        // One statement per batch plus the id reservations, against one per row with IDENTITY
+        assertTrue(statistics.getPrepareStatementCount() <= ROWS / 10,
+                "prepared " + statistics.getPrepareStatementCount() + " statements for " + ROWS + " rows");
+    }
+
+    @Test
+    void mixedEntitiesAreGroupedIntoBatches() {
+        Client client = entityManager.persist(client(0));
+        Portfolio portfolio = entityManager.persist(portfolio(client, "Bulk"));
+        entityManager.flush();
+        statistics.clear();
+
+        // Alternating parent and child rows would break every batch without ordered inserts
+        for (int i = 0; i < ROWS; i++) {
+            entityManager.persist(client(i + 1));
+            entityManager.persist(stock(portfolio, "SYM" + i, "10", "100"));
+        }
+        entityManager.flush();
+
+        assertEquals(2L * ROWS, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= ROWS / 5,
+                "prepared " + statistics.getPrepareStatementCount() + " statements for " + 2 * ROWS + " rows");
+    }
+}
@@ -0,0 +1,231 @@
+package com.demo.MoneyMap.repository;
+
+import com.demo.MoneyMap.beans.IdGenerators;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * JMH benchmark of persisting a batch of new clients through an EntityManager and
+ * flushing them, under the two id mappings Client has had.
+ *
+ * {@code identityInserts} persists an entity with IDENTITY ids: Hibernate has to run
+ * each INSERT as soon as the entity is persisted to learn its id, so the rows go one
+ * statement at a time whatever hibernate.jdbc.batch_size says.
+ * {@code pooledInserts} persists an entity with Client's pooled table generator: ids
+ * come from id_generators ALLOCATION_SIZE at a time, and the INSERTs are sent at flush
+ * in JDBC batches of the application's batch size. Both commit once per operation.
+ *
+ * The entities are local copies of Client's columns, so the comparison is of the id
+ * mapping alone. MYSQL starts a container with rewriteBatchedStatements on, as in
+ * application.properties, so it needs Docker; H2 runs in-process in MySQL mode, with
+ * no network round trips for batching to save. Run from the IDE, or after
+ * {@code mvn test-compile}:
+ * {@code java -cp target/test-classes:target/classes:<test classpath> com.demo.MoneyMap.repository.BulkInsertBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkInsertBenchmark {
+
+    private static final int BATCH_SIZE = 50;
+
+    public enum Database { H2, MYSQL }
+
+    @Param({"MYSQL", "H2"})
+    private Database database;
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    private MySQLContainer<?> mysql;
+    private HikariDataSource dataSource;
+    private SessionFactory sessionFactory;
+    private long emailSequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        if (database == Database.MYSQL) {
+            mysql = new MySQLContainer<>("mysql:8.4");
+            mysql.start();
+            dataSource.setJdbcUrl(mysql.getJdbcUrl() + "&rewriteBatchedStatements=true");
+            dataSource.setUsername(mysql.getUsername());
+            dataSource.setPassword(mysql.getPassword());
+        } else {
+            dataSource.setJdbcUrl("jdbc:h2:mem:bulk_insert;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        }
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(IdentityClient.class)
+                .addAnnotatedClass(PooledClient.class)
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, BATCH_SIZE)
+                .setProperty(AvailableSettings.ORDER_INSERTS, true)
+                .setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, false)
+                .setProperty(AvailableSettings.SHOW_SQL, false);
+        configuration.getProperties().put(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, dataSource);
+        sessionFactory = configuration.buildSessionFactory();
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        sessionFactory.inTransaction(session -> {
+            session.createMutationQuery("delete from IdentityClient").executeUpdate();
+            session.createMutationQuery("delete from PooledClient").executeUpdate();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+        dataSource.close();
+        if (mysql != null) {
+            mysql.stop();
+        }
+    }
+
+    @Benchmark
+    public long identityInserts() {
+        return persistAll(IdentityClient::new);
+    }
+
+    @Benchmark
+    public long pooledInserts() {
+        return persistAll(PooledClient::new);
+    }
+
+    /**
+     * Persist {@code rows} new entities in one transaction, flush and commit them,
+     * and return the last id assigned.
+     */
+    private long persistAll(IntFunction<BenchClient> factory) {
+        EntityManager entityManager = sessionFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            BenchClient last = null;
+            for (int i = 0; i < rows; i++) {
+                last = factory.apply(i);
+                last.email = "bench" + emailSequence++ + "@example.com";
+                entityManager.persist(last);
+            }
+            entityManager.flush();
+            entityManager.getTransaction().commit();
+            return last.getId();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    /**
+     * Client's columns, without its id; each subclass maps the id one way.
+     */
+    @MappedSuperclass
+    public abstract static class BenchClient {
+
+        @Column(name = "first_name", nullable = false, length = 100)
+        String firstName;
+
+        @Column(name = "last_name", nullable = false, length = 100)
+        String lastName;
+
+        @Column(name = "email", nullable = false, unique = true, length = 150)
+        String email;
+
+        @Column(name = "active", nullable = false)
+        Boolean active = true;
+
+        BenchClient() {
+        }
+
+        BenchClient(int n) {
+            firstName = "First" + n;
+            lastName = "Last" + n;
+        }
+
+        abstract Long getId();
+    }
+
+    @Entity(name = "IdentityClient")
+    @Table(name = "bench_identity_clients")
+    public static class IdentityClient extends BenchClient {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+
+        IdentityClient() {
+        }
+
+        IdentityClient(int n) {
+            super(n);
+        }
+
+        @Override
+        Long getId() {
+            return id;
+        }
+    }
+
+    @Entity(name = "PooledClient")
+    @Table(name = "bench_pooled_clients")
+    public static class PooledClient extends BenchClient {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.TABLE, generator = "bench_client_ids")
+        @TableGenerator(name = "bench_client_ids", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+                valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = IdGenerators.CLIENT,
+                allocationSize = IdGenerators.ALLOCATION_SIZE)
+        Long id;
+
+        PooledClient() {
+        }
+
+        PooledClient(int n) {
+            super(n);
+        }
+
+        @Override
+        Long getId() {
+            return id;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BulkInsertBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,266 @@
+package com.demo.MoneyMap.repository;
+
+import com.demo.MoneyMap.beans.enums.AssetType;
+import com.demo.MoneyMap.listener.AssetEntityListener;
+import com.demo.MoneyMap.listener.ClientEntityListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Every AssetRepository, ClientRepository and PortfolioRepository query must be served
+ * by an index. Runs against MySQL with the schema built by the Flyway migrations and
+ * validated by Hibernate; skipped when Docker is not available.
+ *
+ * Each query is executed for real, with selective parameters, over a seeded data set;
+ * the statements it sends are captured with their parameters inlined and explained.
+ * A query fails when any table in a plan is read without an index (type ALL, or no key
+ * chosen), whether or not MySQL had a candidate it passed over.
+ *
+ * Exempt, by name in {@link #FULL_SCANS_BY_DESIGN}: the LIKE '%term%' searches, which no
+ * B-tree index can serve and which SearchService answers from its in-memory index, and
+ * the unfiltered list pages, which read the table in primary key order by design. They
+ * are still executed, so a broken query fails.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({AssetEntityListener.class, ClientEntityListener.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RepositoryQueryPlanTest {
+
+    @Container
+    @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.4")
+            .withUrlParam("queryInterceptors", StatementCapture.class.getName())
+            .withUrlParam("rewriteBatchedStatements", "true");
+
+    private static final int CLIENTS = 2_000;
+    private static final int ASSETS_PER_PORTFOLIO = 20;
+    private static final int SYMBOLS = 1_000;
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20, Sort.by("id"));
+
+    private static final Set<String> FULL_SCANS_BY_DESIGN = Set.of(
+            "searchAssets", "searchClients", "searchListPage (clients)", "findListPage (clients)",
+            "searchPortfolios", "searchListPage (portfolios)", "findListPage (portfolios)");
+
+    private static boolean seeded;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private long clientId;
+    private long portfolioId;
+    private long assetId;
+    private long lateAssetId;
+    private long lateClientId;
+    private long latePortfolioId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        if (!seeded) {
+            seed();
+            seeded = true;
+        }
+        clientId = jdbcTemplate.queryForObject("SELECT id FROM clients WHERE email = 'client100@example.com'",
+                Long.class);
+        portfolioId = jdbcTemplate.queryForObject("SELECT id FROM portfolios WHERE client_id = ?", Long.class,
+                clientId);
+        assetId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM assets WHERE portfolio_id = ?", Long.class,
+                portfolioId);
+        // Keyset pages start near the end of each table, so the range they read is selective
+        lateAssetId = jdbcTemplate.queryForObject("SELECT MAX(id) - 500 FROM assets", Long.class);
+        lateClientId = jdbcTemplate.queryForObject("SELECT MAX(id) - 50 FROM clients", Long.class);
+        latePortfolioId = jdbcTemplate.queryForObject("SELECT MAX(id) - 50 FROM portfolios", Long.class);
+    }
+
+    /**
+     * One portfolio per client, every tenth client and portfolio active, so the active
+     * filters are selective. Assets are mostly stocks; one in 80 is a mutual fund. Each
+     * symbol is held 40 times.
+     */
+    private void seed() {
+        List<Object[]> clients = new ArrayList<>(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            clients.add(new Object[]{"First" + i, String.format("Last%04d", i % 500), "client" + i + "@example.com",
+                    i % 10 == 0});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO clients (first_name, last_name, email, active) VALUES (?, ?, ?, ?)",
+                clients);
+        jdbcTemplate.update("INSERT INTO portfolios (name, client_id, total_value, currency, active) " +
+                "SELECT CONCAT('Portfolio ', LPAD(id, 5, '0')), id, 0, 'USD', active FROM clients");
+
+        List<Long> portfolioIds = jdbcTemplate.queryForList("SELECT id FROM portfolios ORDER BY id", Long.class);
+        List<Object[]> assets = new ArrayList<>(portfolioIds.size() * ASSETS_PER_PORTFOLIO);
+        int n = 0;
+        for (Long id : portfolioIds) {
+            for (int j = 0; j < ASSETS_PER_PORTFOLIO; j++, n++) {
+                boolean fund = j == 0 && n % 4 == 0;
+                assets.add(new Object[]{fund ? "MUTUAL_FUND" : "STOCK", String.format("Asset %06d", n),
+                        "SYM" + (n % SYMBOLS), j % 5 == 0 ? "EUR" : "USD", id});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO assets (asset_type, name, symbol, currency, portfolio_id, quantity, " +
+                "purchase_price, current_price, current_value) VALUES (?, ?, ?, ?, ?, 10, 100, 110, 1100)", assets);
+        jdbcTemplate.execute("ANALYZE TABLE clients, portfolios, assets");
+    }
+
+    // ============== QUERIES ==============
+
+    @TestFactory
+    Stream<DynamicTest> assetRepositoryQueriesUseIndexes() {
+        return Stream.of(
+                plan("findByPortfolioId", () -> assetRepository.findByPortfolioId(portfolioId)),
+                plan("findByPortfolioId (paged)", () -> assetRepository.findByPortfolioId(portfolioId, FIRST_PAGE)),
+                plan("findByAssetType", () -> assetRepository.findByAssetType(AssetType.MUTUAL_FUND)),
+                plan("findByAssetType (paged)",
+                        () -> assetRepository.findByAssetType(AssetType.MUTUAL_FUND, FIRST_PAGE)),
+                plan("findByPortfolioIdAndAssetType",
+                        () -> assetRepository.findByPortfolioIdAndAssetType(portfolioId, AssetType.STOCK)),
+                plan("findBySymbolIgnoreCase", () -> assetRepository.findBySymbolIgnoreCase("sym42")),
+                plan("findByIdWithPortfolio", () -> assetRepository.findByIdWithPortfolio(assetId)),
+                plan("findByIdWithTransactions", () -> assetRepository.findByIdWithTransactions(assetId)),
+                plan("findAllWithPortfolioByIdIn",
+                        () -> assetRepository.findAllWithPortfolioByIdIn(List.of(assetId, assetId + 1))),
+                plan("getTotalValueByPortfolioId", () -> assetRepository.getTotalValueByPortfolioId(portfolioId)),
+                plan("getTotalValueByCurrencyForPortfolio",
+                        () -> assetRepository.getTotalValueByCurrencyForPortfolio(portfolioId)),
+                plan("getTotalValueByCurrencyForClient",
+                        () -> assetRepository.getTotalValueByCurrencyForClient(clientId)),
+                plan("getTotalValueByAssetType",
+                        () -> assetRepository.getTotalValueByAssetType(AssetType.MUTUAL_FUND)),
+                plan("countByPortfolioId", () -> assetRepository.countByPortfolioId(portfolioId)),
+                plan("countByAssetType", () -> assetRepository.countByAssetType(AssetType.MUTUAL_FUND)),
+                plan("findByClientId", () -> assetRepository.findByClientId(clientId)),
+                plan("findByClientId (paged)", () -> assetRepository.findByClientId(clientId, FIRST_PAGE)),
+                plan("scrollById", () -> assetRepository.scrollById(lateAssetId, Limit.of(50))),
+                plan("scrollByName", () -> assetRepository.scrollByName("Asset 039500", 0, Limit.of(50))),
+                plan("scrollByPortfolioId", () -> assetRepository.scrollByPortfolioId(portfolioId, 0, Limit.of(50))),
+                plan("searchAssets", () -> assetRepository.searchAssets("sym42", FIRST_PAGE)));
+    }
+
+    @TestFactory
+    Stream<DynamicTest> clientRepositoryQueriesUseIndexes() {
+        return Stream.of(
+                plan("findByEmail", () -> clientRepository.findByEmail("client100@example.com")),
+                plan("existsByEmail", () -> clientRepository.existsByEmail("client100@example.com")),
+                plan("existsByEmailAndIdNot",
+                        () -> clientRepository.existsByEmailAndIdNot("client100@example.com", clientId)),
+                plan("findByActiveTrue", () -> clientRepository.findByActiveTrue()),
+                plan("findByActiveTrue (paged)", () -> clientRepository.findByActiveTrue(FIRST_PAGE)),
+                plan("countByActiveTrue", () -> clientRepository.countByActiveTrue()),
+                plan("getAllocationBreakdown", () -> clientRepository.getAllocationBreakdown(clientId)),
+                plan("findActiveList", () -> clientRepository.findActiveList()),
+                plan("findListRowById", () -> clientRepository.findListRowById(clientId)),
+                plan("findListRowsByIdIn", () -> clientRepository.findListRowsByIdIn(List.of(clientId, clientId + 1))),
+                plan("findPortfolioSummaries", () -> clientRepository.findPortfolioSummaries(clientId)),
+                plan("scrollListById", () -> clientRepository.scrollListById(lateClientId, Limit.of(50))),
+                plan("scrollListByLastName",
+                        () -> clientRepository.scrollListByLastName("Last0490", 0, Limit.of(50))),
+                plan("searchClients", () -> clientRepository.searchClients("last0100", FIRST_PAGE)),
+                plan("searchListPage (clients)", () -> clientRepository.searchListPage("last0100", FIRST_PAGE)),
+                plan("findListPage (clients)", () -> clientRepository.findListPage(FIRST_PAGE)));
+    }
+
+    @TestFactory
+    Stream<DynamicTest> portfolioRepositoryQueriesUseIndexes() {
+        return Stream.of(
+                plan("findByClientId", () -> portfolioRepository.findByClientId(clientId)),
+                plan("findByClientId (paged)", () -> portfolioRepository.findByClientId(clientId, FIRST_PAGE)),
+                plan("findByClientIdAndActiveTrue", () -> portfolioRepository.findByClientIdAndActiveTrue(clientId)),
+                plan("findByActiveTrue", () -> portfolioRepository.findByActiveTrue()),
+                plan("findByActiveTrue (paged)", () -> portfolioRepository.findByActiveTrue(FIRST_PAGE)),
+                plan("findByIdWithAssets", () -> portfolioRepository.findByIdWithAssets(portfolioId)),
+                plan("findByIdWithClient", () -> portfolioRepository.findByIdWithClient(portfolioId)),
+                plan("getTotalValueByClientId", () -> portfolioRepository.getTotalValueByClientId(clientId)),
+                plan("countByClientId", () -> portfolioRepository.countByClientId(clientId)),
+                plan("countByActiveTrue", () -> portfolioRepository.countByActiveTrue()),
+                plan("findListByClientId", () -> portfolioRepository.findListByClientId(clientId)),
+                plan("findActiveListByClientId", () -> portfolioRepository.findActiveListByClientId(clientId)),
+                plan("scrollListById", () -> portfolioRepository.scrollListById(latePortfolioId, Limit.of(50))),
+                plan("scrollListByName",
+                        () -> portfolioRepository.scrollListByName("Portfolio 01950", 0, Limit.of(50))),
+                plan("searchPortfolios", () -> portfolioRepository.searchPortfolios("00100", FIRST_PAGE)),
+                plan("searchListPage (portfolios)", () -> portfolioRepository.searchListPage("00100", FIRST_PAGE)),
+                plan("findListPage (portfolios)", () -> portfolioRepository.findListPage(FIRST_PAGE)));
+    }
+
+    // ============== HELPERS ==============
+
+    private DynamicTest plan(String name, Runnable query) {
+        return DynamicTest.dynamicTest(name, () -> assertUsesIndexes(name, query));
+    }
+
+    private void assertUsesIndexes(String name, Runnable query) {
+        // Lazy loads repeat one statement with different ids; explain each shape once
+        Map<String, String> statements = new LinkedHashMap<>();
+        for (String sql : StatementCapture.capture(query)) {
+            statements.putIfAbsent(sql.replaceAll("\\d+", "?"), sql);
+        }
+        assertFalse(statements.isEmpty(), name + " sent no SELECT");
+        if (FULL_SCANS_BY_DESIGN.contains(name)) {
+            return;
+        }
+
+        for (String sql : statements.values()) {
+            List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+            for (Map<String, Object> row : plan) {
+                Object table = row.get("table");
+                // Rows with no table (e.g. "Select tables optimized away"), derived tables and
+                // subquery results read nothing themselves; their sources have their own rows
+                if (table == null || table.toString().startsWith("<")) {
+                    continue;
+                }
+                if ("ALL".equals(row.get("type")) || row.get("key") == null) {
+                    fail(name + " reads " + table + " without an index:\n" + sql + "\n" + format(plan));
+                }
+            }
+        }
+    }
+
+    private static String format(List<Map<String, Object>> plan) {
+        return plan.stream()
+                .map(row -> row.get("table") + ": type=" + row.get("type") + ", possible_keys="
+                        + row.get("possible_keys") + ", key=" + row.get("key") + ", rows=" + row.get("rows")
+                        + ", extra=" + row.get("Extra"))
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,77 @@
+package com.demo.MoneyMap.repository;
+
+import com.mysql.cj.MysqlConnection;
+import com.mysql.cj.Query;
+import com.mysql.cj.interceptors.QueryInterceptor;
+import com.mysql.cj.log.Log;
+import com.mysql.cj.protocol.Resultset;
+import com.mysql.cj.protocol.ServerSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+/**
+ * Connector/J query interceptor recording the SELECT statements sent while capturing.
+ * Statements are recorded as sent, so client-side prepared statements carry their
+ * parameter values and can be explained as they are.
+ *
+ * Installed with the queryInterceptors connection property.
+ */
+public class StatementCapture implements QueryInterceptor {
+
+    private static final List<String> STATEMENTS = new ArrayList<>();
+    private static volatile boolean capturing;
+
+    /**
+     * Run the action and return the SELECT statements it sent, in order.
+     */
+    static synchronized List<String> capture(Runnable action) {
+        synchronized (STATEMENTS) {
+            STATEMENTS.clear();
+        }
+        capturing = true;
+        try {
+            action.run();
+        } finally {
+            capturing = false;
+        }
+        synchronized (STATEMENTS) {
+            return List.copyOf(STATEMENTS);
+        }
+    }
+
+    @Override
+    public QueryInterceptor init(MysqlConnection conn, Properties props, Log log) {
+        return this;
+    }
+
+    @Override
+    public <T extends Resultset> T preProcess(Supplier<String> sql, Query interceptedQuery) {
+        if (capturing) {
+            String statement = sql.get();
+            if (statement != null && statement.stripLeading().regionMatches(true, 0, "select", 0, 6)) {
+                synchronized (STATEMENTS) {
+                    STATEMENTS.add(statement);
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean executeTopLevelOnly() {
+        return true;
+    }
+
+    @Override
+    public void destroy() {
+    }
+
+    @Override
+    public <T extends Resultset> T postProcess(Supplier<String> sql, Query interceptedQuery, T originalResultSet,
+                                               ServerSession serverSession) {
+        return null;
+    }
+}
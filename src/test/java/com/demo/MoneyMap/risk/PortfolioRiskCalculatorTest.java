@@ -0,0 +1,141 @@
+package com.demo.MoneyMap.risk;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.demo.MoneyMap.risk.PortfolioRiskCalculator.METRIC_COUNT;
+import static com.demo.MoneyMap.risk.PortfolioRiskCalculator.VAR_95;
+import static com.demo.MoneyMap.risk.PortfolioRiskCalculator.VAR_99;
+import static com.demo.MoneyMap.risk.PortfolioRiskCalculator.VOLATILITY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Volatility and VaR against P&L vectors computed by hand. Each window holds
+ * returns directly; a holding's exposure times its returns is its P&L.
+ */
+class PortfolioRiskCalculatorTest {
+
+    private static final double DELTA = 1e-9;
+    private static final LocalDate END_DATE = LocalDate.of(2024, 6, 28);
+
+    @Test
+    void volatilityIsTheSampleStandardDeviation() {
+        // P&L 10, -20, 30, 0: mean 5, squared deviations 25 + 625 + 625 + 25 = 1300 over n - 1 = 3
+        double[] results = computeOne(window(new double[]{0.01, -0.02, 0.03, 0.00}), 1000);
+
+        assertEquals(Math.sqrt(1300.0 / 3), results[VOLATILITY], DELTA);
+    }
+
+    @Test
+    void pnlSumsEveryHoldingOfThePortfolio() {
+        // A: 1000 * (0.01, -0.02) = (10, -20); B: 500 * (0.04, 0.02) = (20, 10); sum (30, -10)
+        ReturnWindow window = window(new double[]{0.01, -0.02}, new double[]{0.04, 0.02});
+        RiskBook book = new RiskBook(1, 2);
+        book.addPortfolio(1);
+        book.addHolding(0, 1000);
+        book.addHolding(1, 500);
+
+        double[] results = PortfolioRiskCalculator.computeAll(ForkJoinPool.commonPool(), book, window);
+
+        assertEquals(Math.sqrt(800.0), results[VOLATILITY], DELTA);
+        assertEquals(10.0, results[VAR_95], DELTA);
+        assertEquals(1500.0, book.getCoveredValue(0), DELTA);
+    }
+
+    @Test
+    void varOf250ScenariosIsTheLossAtSortedIndex12And2() {
+        // P&L -200 to 49 in shuffled order; floor(0.05 * 250) = 12, floor(0.01 * 250) = 2
+        double[] results = computeOne(window(shuffledSteps(250, -200)), 1);
+
+        assertEquals(188.0, results[VAR_95], DELTA);
+        assertEquals(198.0, results[VAR_99], DELTA);
+    }
+
+    @Test
+    void varOf100ScenariosIsTheLossAtSortedIndex5And1() {
+        double[] results = computeOne(window(shuffledSteps(100, -60)), 1);
+
+        assertEquals(55.0, results[VAR_95], DELTA);
+        assertEquals(59.0, results[VAR_99], DELTA);
+    }
+
+    @Test
+    void varOf2ScenariosIsTheWorstLoss() {
+        double[] results = computeOne(window(new double[]{0.05, -0.03}), 100);
+
+        assertEquals(3.0, results[VAR_95], DELTA);
+        assertEquals(3.0, results[VAR_99], DELTA);
+        assertEquals(Math.sqrt(32.0), results[VOLATILITY], DELTA);
+    }
+
+    @Test
+    void varIsFlooredAtZeroWhenEveryScenarioGains() {
+        double[] results = computeOne(window(new double[]{0.01, 0.02, 0.03}), 100);
+
+        assertEquals(0.0, results[VAR_95], DELTA);
+        assertEquals(0.0, results[VAR_99], DELTA);
+        assertEquals(1.0, results[VOLATILITY], DELTA);
+    }
+
+    @Test
+    void portfolioOfUnpricedSymbolsHasValueButNoRisk() {
+        ReturnWindow window = window(new double[]{0.01, -0.02, 0.03});
+        RiskBook book = new RiskBook(2, 2);
+        book.addPortfolio(1);
+        book.addHolding(-1, 700);
+        book.addHolding(-1, 300);
+        book.addPortfolio(2);
+        book.addHolding(0, 1000);
+
+        double[] results = PortfolioRiskCalculator.computeAll(ForkJoinPool.commonPool(), book, window);
+
+        assertEquals(1000.0, book.getPortfolioValue(0), DELTA);
+        assertEquals(0.0, book.getCoveredValue(0), DELTA);
+        assertEquals(0.0, results[VOLATILITY], DELTA);
+        assertEquals(0.0, results[VAR_95], DELTA);
+        assertEquals(0.0, results[VAR_99], DELTA);
+        // The next portfolio's holdings are not attributed to the unpriced one
+        assertEquals(20.0, results[METRIC_COUNT + VAR_95], DELTA);
+    }
+
+    private static double[] computeOne(ReturnWindow window, double exposure) {
+        RiskBook book = new RiskBook(1, 1);
+        book.addPortfolio(1);
+        book.addHolding(0, exposure);
+        return PortfolioRiskCalculator.computeAll(ForkJoinPool.commonPool(), book, window);
+    }
+
+    /**
+     * A window over the given return vectors, one per symbol S0, S1, ..., all the same length.
+     */
+    private static ReturnWindow window(double[]... returnsBySymbol) {
+        int scenarios = returnsBySymbol[0].length;
+        double[] returns = new double[returnsBySymbol.length * scenarios];
+        Map<String, Integer> indexBySymbol = new HashMap<>();
+        for (int i = 0; i < returnsBySymbol.length; i++) {
+            System.arraycopy(returnsBySymbol[i], 0, returns, i * scenarios, scenarios);
+            indexBySymbol.put("S" + i, i);
+        }
+        return new ReturnWindow(indexBySymbol, returns, scenarios, END_DATE);
+    }
+
+    /**
+     * first, first + 1, ..., first + n - 1, shuffled so the calculator has to sort them.
+     */
+    private static double[] shuffledSteps(int n, int first) {
+        List<Double> steps = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            steps.add((double) (first + i));
+        }
+        Collections.shuffle(steps, new Random(42));
+        return steps.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+}
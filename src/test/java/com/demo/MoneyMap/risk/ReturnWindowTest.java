@@ -0,0 +1,126 @@
+package com.demo.MoneyMap.risk;
+
+import com.demo.MoneyMap.timeseries.PriceHistoryStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Daily closes and returns read back from a price history store in a temporary directory.
+ */
+class ReturnWindowTest {
+
+    private static final double DELTA = 1e-12;
+    private static final ZoneId UTC = ZoneId.of("UTC");
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+    private static final LocalDate END_DATE = LocalDate.of(2024, 3, 12);
+    private static final LocalTime NOON = LocalTime.NOON;
+
+    @TempDir
+    Path directory;
+
+    private PriceHistoryStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = new PriceHistoryStore();
+        ReflectionTestUtils.setField(store, "directory", directory.toString());
+        ReflectionTestUtils.setField(store, "maxOpenSeries", 100);
+        ReflectionTestUtils.setField(store, "idleCloseMillis", 600_000L);
+        store.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    void missingClosesCarryThePreviousCloseForward() {
+        // Closes on days 0, 2 and 4 of the window; days 1 and 3 have no price
+        price("AAPL", 0, NOON, "100");
+        price("AAPL", 2, NOON, "110");
+        price("AAPL", 4, NOON, "99");
+
+        ReturnWindow window = ReturnWindow.load(store, List.of("AAPL"), END_DATE, 4, UTC);
+
+        assertArrayEquals(new double[]{0.0, 0.10, 0.0, -0.10}, returnsOf(window, "AAPL"), DELTA);
+    }
+
+    @Test
+    void closeIsTheLastPriceOfTheDay() {
+        price("AAPL", 0, LocalTime.of(9, 30), "90");
+        price("AAPL", 0, LocalTime.of(16, 0), "100");
+        price("AAPL", 1, LocalTime.of(9, 30), "125");
+        price("AAPL", 1, LocalTime.of(16, 0), "120");
+
+        ReturnWindow window = ReturnWindow.load(store, List.of("AAPL"), END_DATE.minusDays(3), 1, UTC);
+
+        assertArrayEquals(new double[]{0.20}, returnsOf(window, "AAPL"), DELTA);
+    }
+
+    @Test
+    void symbolsWithFewerThanTwoClosesAreDropped() {
+        price("AAPL", 0, NOON, "100");
+        price("AAPL", 4, NOON, "120");
+        // Two prices, but both on the same day
+        price("MSFT", 3, LocalTime.of(9, 30), "300");
+        price("MSFT", 3, NOON, "310");
+
+        ReturnWindow window = ReturnWindow.load(store, List.of("AAPL", "MSFT", "NOHIST"), END_DATE, 4, UTC);
+
+        assertEquals(1, window.getSymbolCount());
+        assertEquals(0, window.indexOf("aapl"));
+        assertEquals(-1, window.indexOf("MSFT"));
+        assertEquals(-1, window.indexOf("NOHIST"));
+        assertEquals(4, window.returns().length);
+    }
+
+    @Test
+    void daysFollowTheZoneAcrossADaylightSavingChange() {
+        // New York springs forward on 2024-03-10, a 23 hour day. The 00:30 price on 03-11 is
+        // 71.5 hours after the window opens, so fixed 24 hour buckets would put it on 03-10.
+        price("SPY", 0, NOON, "100", NEW_YORK);
+        price("SPY", 1, NOON, "100", NEW_YORK);
+        price("SPY", 2, NOON, "100", NEW_YORK);
+        price("SPY", 3, LocalTime.of(0, 30), "120", NEW_YORK);
+        price("SPY", 4, NOON, "120", NEW_YORK);
+
+        ReturnWindow window = ReturnWindow.load(store, List.of("SPY"), END_DATE, 4, NEW_YORK);
+
+        assertArrayEquals(new double[]{0.0, 0.0, 0.20, 0.0}, returnsOf(window, "SPY"), DELTA);
+    }
+
+    private void price(String symbol, int day, LocalTime time, String price) {
+        price(symbol, day, time, price, UTC);
+    }
+
+    /**
+     * Record a price on the given day of a four-day window ending on END_DATE.
+     */
+    private void price(String symbol, int day, LocalTime time, String price, ZoneId zone) {
+        LocalDateTime at = END_DATE.minusDays(4 - day).atTime(time);
+        store.append(symbol, at.atZone(zone).toInstant().toEpochMilli(), new BigDecimal(price));
+    }
+
+    private static double[] returnsOf(ReturnWindow window, String symbol) {
+        int index = window.indexOf(symbol);
+        int scenarios = window.getScenarioCount();
+        return Arrays.copyOfRange(window.returns(), index * scenarios, (index + 1) * scenarios);
+    }
+}
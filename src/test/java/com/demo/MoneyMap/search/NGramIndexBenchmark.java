@@ -0,0 +1,145 @@
+package com.demo.MoneyMap.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH latency distribution of asset search over NGramIndex, weighted as AssetSearchIndex
+ * weights it. Names are three words drawn from a 40-word vocabulary, symbols four random
+ * letters. Three kinds of term:
+ * {@code selectiveTerm} searches an existing symbol (a handful of matches),
+ * {@code broadTerm} a 3-10 character piece of a vocabulary word (tens of thousands),
+ * {@code shortTerm} a 2-character piece, which has no trigram and scans the index.
+ * {@code rename} measures applying a change to one asset.
+ *
+ * Sample time mode reports p50/p99/p99.9 per operation. Run from the IDE, or after
+ * {@code mvn test-compile}:
+ * {@code java -cp target/test-classes:<test classpath> com.demo.MoneyMap.search.NGramIndexBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class NGramIndexBenchmark {
+
+    private static final String[] VOCABULARY = {
+            "apple", "global", "growth", "income", "value", "equity", "bond", "gold", "silver", "energy",
+            "health", "capital", "partners", "holdings", "industries", "technology", "financial", "resources",
+            "pacific", "atlantic", "northern", "southern", "american", "european", "emerging", "markets",
+            "dividend", "index", "select", "strategic", "balanced", "premier", "royal", "united", "national",
+            "digital", "mining", "realty", "trust", "fund"
+    };
+
+    private static final int TERMS = 1024;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000000"})
+    private int assetCount;
+
+    private NGramIndex index;
+    private String[] symbols;
+    private String[] selectiveTerms;
+    private String[] broadTerms;
+    private String[] shortTerms;
+    private String[] newNames;
+    private int next;
+    private int renamed;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new NGramIndex(1, 2);
+        symbols = new String[assetCount];
+        for (int i = 0; i < assetCount; i++) {
+            symbols[i] = randomSymbol(random);
+            index.put(i, randomName(random), symbols[i]);
+        }
+        selectiveTerms = new String[TERMS];
+        broadTerms = new String[TERMS];
+        shortTerms = new String[TERMS];
+        newNames = new String[TERMS];
+        for (int i = 0; i < TERMS; i++) {
+            selectiveTerms[i] = symbols[random.nextInt(assetCount)];
+            broadTerms[i] = pieceOfWord(random, 3, 10);
+            shortTerms[i] = pieceOfWord(random, 2, 2);
+            newNames[i] = randomName(random);
+        }
+    }
+
+    @Benchmark
+    public NGramIndex.SearchResult selectiveTerm() {
+        return index.search(selectiveTerms[nextTerm()], 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public NGramIndex.SearchResult broadTerm() {
+        return index.search(broadTerms[nextTerm()], 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public NGramIndex.SearchResult shortTerm() {
+        return index.search(shortTerms[nextTerm()], 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public void rename() {
+        renamed = (renamed + 7919) % assetCount;
+        index.put(renamed, newNames[nextTerm()], symbols[renamed]);
+    }
+
+    private int nextTerm() {
+        return next++ & (TERMS - 1);
+    }
+
+    private static String randomName(Random random) {
+        return capitalize(VOCABULARY[random.nextInt(VOCABULARY.length)]) + " "
+                + capitalize(VOCABULARY[random.nextInt(VOCABULARY.length)]) + " "
+                + capitalize(VOCABULARY[random.nextInt(VOCABULARY.length)]);
+    }
+
+    private static String randomSymbol(Random random) {
+        char[] symbol = new char[4];
+        for (int i = 0; i < symbol.length; i++) {
+            symbol[i] = (char) ('A' + random.nextInt(26));
+        }
+        return new String(symbol);
+    }
+
+    private static String pieceOfWord(Random random, int minLength, int maxLength) {
+        String word;
+        do {
+            word = VOCABULARY[random.nextInt(VOCABULARY.length)];
+        } while (word.length() < minLength);
+        int length = minLength + random.nextInt(Math.min(maxLength, word.length()) - minLength + 1);
+        int start = random.nextInt(word.length() - length + 1);
+        return word.substring(start, start + length);
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(NGramIndexBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,97 @@
+package com.demo.MoneyMap.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The index must return exactly what {@code LOWER(x) LIKE '%term%'} would, ranked,
+ * and stay correct across updates, deletes and compaction.
+ */
+class NGramIndexTest {
+
+    private static final int NAME = 1;
+    private static final int SYMBOL = 2;
+
+    @Test
+    void matchesSubstringsCaseInsensitively() {
+        NGramIndex index = new NGramIndex(NAME, SYMBOL);
+        index.put(1, "Apple Inc", "AAPL");
+        index.put(2, "Pineapple Growth Fund", "PGF");
+        index.put(3, "Microsoft", "MSFT");
+
+        NGramIndex.SearchResult result = index.search("APPLE", 0, 10);
+
+        assertEquals(2, result.total());
+        assertArrayEquals(new long[]{1, 2}, result.ids());
+        assertEquals(0, index.search("pplf", 0, 10).total());
+    }
+
+    @Test
+    void trigramsMustBeContiguous() {
+        NGramIndex index = new NGramIndex(NAME, SYMBOL);
+        // Holds every trigram of "abcd" ("abc", "bcd") but not the substring itself
+        index.put(1, "abc xbcd", null);
+
+        assertEquals(0, index.search("abcd", 0, 10).total());
+    }
+
+    @Test
+    void ranksExactThenPrefixThenWordThenSubstring() {
+        NGramIndex index = new NGramIndex(NAME, SYMBOL);
+        index.put(1, "Bigold Mining", null);
+        index.put(2, "Royal Gold Trust", null);
+        index.put(3, "Gold Bullion", null);
+        index.put(4, "Gold", null);
+        index.put(5, "Bullion", "GOLD");
+
+        assertArrayEquals(new long[]{5, 4, 3, 2, 1}, index.search("gold", 0, 10).ids());
+    }
+
+    @Test
+    void shortTermsAreScanned() {
+        NGramIndex index = new NGramIndex(NAME, SYMBOL);
+        index.put(1, "Gold", "GLD");
+        index.put(2, "Silver", "SLV");
+
+        assertArrayEquals(new long[]{1}, index.search("ld", 0, 10).ids());
+        assertEquals(2, index.search("", 0, 10).total());
+    }
+
+    @Test
+    void pagesThroughRankedMatches() {
+        NGramIndex index = new NGramIndex(NAME, SYMBOL);
+        for (int i = 1; i <= 25; i++) {
+            index.put(i, "Fund " + i, null);
+        }
+
+        NGramIndex.SearchResult page = index.search("fund", 10, 10);
+
+        assertEquals(25, page.total());
+        assertArrayEquals(new long[]{11, 12, 13, 14, 15, 16, 17, 18, 19, 20}, page.ids());
+    }
+
+    @Test
+    void updatesAndDeletesSurviveCompaction() {
+        NGramIndex index = new NGramIndex(NAME, SYMBOL);
+        for (int i = 0; i < 5000; i++) {
+            index.put(i, "Asset " + i, null);
+        }
+        // Rename every asset twice and delete every other one: enough dead slots to compact
+        for (int i = 0; i < 5000; i++) {
+            index.put(i, "Holding " + i, null);
+            index.put(i, "Position " + i, null);
+            if (i % 2 == 0) {
+                index.remove(i);
+            }
+        }
+
+        assertEquals(2500, index.size());
+        assertEquals(0, index.search("asset", 0, 10).total());
+        assertEquals(0, index.search("holding", 0, 10).total());
+        assertEquals(2500, index.search("position", 0, 10).total());
+        assertArrayEquals(new long[]{4999}, index.search("position 4999", 0, 10).ids());
+        assertEquals(0, index.search("position 4998", 0, 10).total());
+    }
+}
@@ -0,0 +1,103 @@
+package com.demo.MoneyMap.search;
+
+import com.demo.MoneyMap.search.SymbolSuggestIndex.Suggestion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH latency distribution of symbol autocomplete over PrefixSuggester, keyed as
+ * SymbolSuggestIndex keys it (symbol, full name, each later word of the name).
+ * Symbols are 2-6 random letters, names three words of a 40-word vocabulary, holder
+ * counts skewed so a few symbols are widely held. Prefixes are 1-6 characters of an
+ * existing symbol or name word, so one-letter prefixes cover a large share of the keys.
+ *
+ * Sample time mode reports p50/p99/p99.9 per lookup. Run from the IDE, or after
+ * {@code mvn test-compile}:
+ * {@code java -cp target/test-classes:<test classpath> com.demo.MoneyMap.search.PrefixSuggesterBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class PrefixSuggesterBenchmark {
+
+    private static final String[] VOCABULARY = {
+            "apple", "global", "growth", "income", "value", "equity", "bond", "gold", "silver", "energy",
+            "health", "capital", "partners", "holdings", "industries", "technology", "financial", "resources",
+            "pacific", "atlantic", "northern", "southern", "american", "european", "emerging", "markets",
+            "dividend", "index", "select", "strategic", "balanced", "premier", "royal", "united", "national",
+            "digital", "mining", "realty", "trust", "fund"
+    };
+
+    private static final int PREFIXES = 1024;
+    private static final int LIMIT = 10;
+
+    @Param({"500000"})
+    private int symbolCount;
+
+    private PrefixSuggester<Suggestion> suggester;
+    private String[] prefixes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<Suggestion> suggestions = new ArrayList<>(symbolCount);
+        for (int i = 0; i < symbolCount; i++) {
+            String name = VOCABULARY[random.nextInt(VOCABULARY.length)] + " "
+                    + VOCABULARY[random.nextInt(VOCABULARY.length)] + " "
+                    + VOCABULARY[random.nextInt(VOCABULARY.length)];
+            // Roughly Zipf-distributed holder counts
+            int holders = (int) (1_000_000 / (1 + random.nextInt(symbolCount)));
+            suggestions.add(new Suggestion(randomSymbol(random), name, null, holders));
+        }
+        suggester = PrefixSuggester.build(suggestions, Suggestion::holderCount, SymbolSuggestIndex::keysOf);
+
+        prefixes = new String[PREFIXES];
+        for (int i = 0; i < PREFIXES; i++) {
+            Suggestion suggestion = suggestions.get(random.nextInt(symbolCount));
+            String source = random.nextBoolean()
+                    ? suggestion.symbol()
+                    : suggestion.name().split(" ")[random.nextInt(3)];
+            prefixes[i] = source.substring(0, 1 + random.nextInt(Math.min(6, source.length())));
+        }
+    }
+
+    @Benchmark
+    public List<Suggestion> suggest() {
+        return suggester.suggest(prefixes[next++ & (PREFIXES - 1)], LIMIT);
+    }
+
+    private static String randomSymbol(Random random) {
+        char[] symbol = new char[2 + random.nextInt(5)];
+        for (int i = 0; i < symbol.length; i++) {
+            symbol[i] = (char) ('A' + random.nextInt(26));
+        }
+        return new String(symbol);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PrefixSuggesterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
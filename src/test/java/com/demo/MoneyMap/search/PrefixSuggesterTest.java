@@ -0,0 +1,67 @@
+package com.demo.MoneyMap.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Suggestions must be the most held entries with a key starting with the prefix,
+ * each entry once, however many entries share the prefix.
+ */
+class PrefixSuggesterTest {
+
+    private record Entry(String symbol, String name, int holders) {
+    }
+
+    private static PrefixSuggester<Entry> suggester(List<Entry> entries) {
+        return PrefixSuggester.build(entries, Entry::holders, entry -> List.of(entry.symbol(), entry.name()));
+    }
+
+    @Test
+    void ranksMatchesByWeight() {
+        PrefixSuggester<Entry> suggester = suggester(List.of(
+                new Entry("AAPL", "Apple Inc", 10),
+                new Entry("AMZN", "Amazon", 30),
+                new Entry("AMD", "Advanced Micro Devices", 20),
+                new Entry("MSFT", "Microsoft", 50)));
+
+        assertEquals(List.of("AMZN", "AMD", "AAPL"), symbols(suggester.suggest("a", 10)));
+        assertEquals(List.of("AMZN", "AMD"), symbols(suggester.suggest("Am", 10)));
+        assertEquals(List.of("MSFT"), symbols(suggester.suggest("micro", 10)));
+        assertEquals(List.of(), symbols(suggester.suggest("zz", 10)));
+    }
+
+    @Test
+    void returnsEachEntryOnce() {
+        // Both the symbol and the name of the entry start with "gold"
+        PrefixSuggester<Entry> suggester = suggester(List.of(
+                new Entry("GOLDBEES", "Gold ETF", 5),
+                new Entry("GLD", "Gold Trust", 3)));
+
+        assertEquals(List.of("GOLDBEES", "GLD"), symbols(suggester.suggest("gold", 10)));
+    }
+
+    @Test
+    void topKOfABroadPrefix() {
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            entries.add(new Entry("S" + i, "Stock " + i, i % 997));
+        }
+        PrefixSuggester<Entry> suggester = suggester(entries);
+
+        List<Entry> top = suggester.suggest("s", 5);
+
+        assertEquals(5, top.size());
+        for (Entry entry : top) {
+            assertEquals(996, entry.holders());
+        }
+        assertEquals(5, suggester.suggest("", 5).size());
+    }
+
+    private static List<String> symbols(List<Entry> entries) {
+        return entries.stream().map(Entry::symbol).toList();
+    }
+}
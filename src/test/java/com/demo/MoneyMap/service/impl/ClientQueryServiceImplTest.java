@@ -0,0 +1,126 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.beans.Client;
+import com.demo.MoneyMap.beans.Portfolio;
+import com.demo.MoneyMap.dto.response.ClientResponseDTO;
+import com.demo.MoneyMap.dto.response.PagedResponseDTO;
+import com.demo.MoneyMap.mapper.ClientMapper;
+import com.demo.MoneyMap.support.H2DataJpaTest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static com.demo.MoneyMap.support.Fixtures.client;
+import static com.demo.MoneyMap.support.Fixtures.portfolio;
+import static com.demo.MoneyMap.support.Fixtures.stock;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Client listings must cost a fixed number of statements whatever the page size,
+ * and a client with portfolios must not load the portfolio or asset collections.
+ * Runs against an embedded H2 database.
+ */
+@H2DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ClientQueryServiceImpl.class, ClientMapper.class})
+class ClientQueryServiceImplTest {
+
+    private static final int CLIENTS = 150;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ClientQueryServiceImpl clientQueryService;
+
+    private Statistics statistics;
+    private Long clientWithAssetsId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < CLIENTS; i++) {
+            Client client = client(i);
+            client.setActive(i % 3 != 0);
+            entityManager.persist(client);
+            if (i % 2 == 0) {
+                continue;
+            }
+            Portfolio portfolio = entityManager.persist(portfolio(client, "Portfolio " + i));
+            for (int a = 0; a < 3; a++) {
+                entityManager.persist(stock(portfolio, "S" + a, "1", "100"));
+            }
+            clientWithAssetsId = client.getId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void pageOfClientsTakesTwoStatements() {
+        PagedResponseDTO<ClientResponseDTO> page =
+                clientQueryService.getAllClients(PageRequest.of(0, 100, Sort.by("id")));
+
+        assertEquals(100, page.getContent().size());
+        assertEquals(CLIENTS, page.getTotalElements());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithPageSize() {
+        clientQueryService.getAllClients(PageRequest.of(0, 10, Sort.by("id")));
+        long smallPage = statistics.getPrepareStatementCount();
+        statistics.clear();
+
+        clientQueryService.getAllClients(PageRequest.of(0, 100, Sort.by("id")));
+        assertEquals(smallPage, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void searchPageTakesTwoStatements() {
+        PagedResponseDTO<ClientResponseDTO> page =
+                clientQueryService.searchClients("first", PageRequest.of(0, 100, Sort.by("id")));
+
+        assertEquals(100, page.getContent().size());
+        assertEquals(CLIENTS, page.getTotalElements());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void activeClientsTakeOneStatement() {
+        List<ClientResponseDTO> clients = clientQueryService.getActiveClients();
+
+        assertEquals(CLIENTS - CLIENTS / 3, clients.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void rowsCarryPortfolioAggregates() {
+        List<ClientResponseDTO> rows = clientQueryService.getAllClients(
+                PageRequest.of(0, CLIENTS, Sort.by("id"))).getContent();
+
+        for (int i = 0; i < rows.size(); i++) {
+            assertEquals(i % 2, rows.get(i).getPortfolioCount());
+        }
+    }
+
+    @Test
+    void clientWithPortfoliosTakesTwoStatements() {
+        ClientResponseDTO client = clientQueryService.getClientWithPortfolios(clientWithAssetsId);
+
+        assertEquals(1, client.getPortfolios().size());
+        assertEquals(3, client.getPortfolios().get(0).getAssetCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+}
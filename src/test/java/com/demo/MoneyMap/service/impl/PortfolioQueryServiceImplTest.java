@@ -0,0 +1,148 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.beans.Client;
+import com.demo.MoneyMap.beans.Portfolio;
+import com.demo.MoneyMap.beans.enums.ScrollSort;
+import com.demo.MoneyMap.dto.response.PagedResponseDTO;
+import com.demo.MoneyMap.dto.response.PortfolioResponseDTO;
+import com.demo.MoneyMap.dto.response.SliceResponseDTO;
+import com.demo.MoneyMap.mapper.PortfolioMapper;
+import com.demo.MoneyMap.support.H2DataJpaTest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.demo.MoneyMap.support.Fixtures.client;
+import static com.demo.MoneyMap.support.Fixtures.portfolio;
+import static com.demo.MoneyMap.support.Fixtures.stock;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Portfolio listings must cost the same number of statements whatever the page
+ * size: one SELECT for the rows (client name and asset count included) plus one
+ * COUNT for paged listings. Runs against an embedded H2 database.
+ */
+@H2DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({PortfolioQueryServiceImpl.class, PortfolioMapper.class})
+class PortfolioQueryServiceImplTest {
+
+    private static final int PORTFOLIOS = 150;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PortfolioQueryServiceImpl portfolioQueryService;
+
+    private Statistics statistics;
+    private Long firstClientId;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < PORTFOLIOS; i++) {
+            Client client = entityManager.persist(client(i));
+            if (firstClientId == null) {
+                firstClientId = client.getId();
+            }
+            Portfolio portfolio = entityManager.persist(portfolio(client, "Portfolio " + i));
+            for (int a = 0; a < i % 4; a++) {
+                entityManager.persist(stock(portfolio, "S" + a, "10", "100"));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void pageOfPortfoliosTakesTwoStatements() {
+        PagedResponseDTO<PortfolioResponseDTO> page =
+                portfolioQueryService.getAllPortfolios(PageRequest.of(0, 100, Sort.by("id")));
+
+        assertEquals(100, page.getContent().size());
+        assertEquals(PORTFOLIOS, page.getTotalElements());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithPageSize() {
+        portfolioQueryService.getAllPortfolios(PageRequest.of(0, 10, Sort.by("id")));
+        long smallPage = statistics.getPrepareStatementCount();
+        statistics.clear();
+
+        portfolioQueryService.getAllPortfolios(PageRequest.of(0, 100, Sort.by("id")));
+        assertEquals(smallPage, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void searchPageTakesTwoStatements() {
+        PagedResponseDTO<PortfolioResponseDTO> page =
+                portfolioQueryService.searchPortfolios("portfolio", PageRequest.of(0, 100, Sort.by("id")));
+
+        assertEquals(100, page.getContent().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void rowsCarryClientNameAndAssetCount() {
+        List<PortfolioResponseDTO> rows = portfolioQueryService.getAllPortfolios(
+                PageRequest.of(0, PORTFOLIOS, Sort.by("id"))).getContent();
+
+        for (int i = 0; i < rows.size(); i++) {
+            assertEquals("First" + i + " Last" + i, rows.get(i).getClientName());
+            assertEquals(i % 4, rows.get(i).getAssetCount());
+        }
+    }
+
+    @Test
+    void clientListingTakesOneStatement() {
+        List<PortfolioResponseDTO> rows = portfolioQueryService.getPortfoliosByClientId(firstClientId);
+
+        assertEquals(1, rows.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void scrollingByNameVisitsEveryPortfolioOnceWithoutCounting() {
+        List<String> names = new ArrayList<>();
+        String cursor = null;
+        int slices = 0;
+        SliceResponseDTO<PortfolioResponseDTO> slice;
+        do {
+            slice = portfolioQueryService.scrollPortfolios(cursor, 40, ScrollSort.NAME);
+            slice.getContent().forEach(p -> names.add(p.getName()));
+            cursor = slice.getNextCursor();
+            slices++;
+        } while (slice.isHasNext());
+
+        assertEquals(PORTFOLIOS, names.size());
+        assertEquals(PORTFOLIOS, names.stream().distinct().count());
+        assertEquals(names.stream().sorted().toList(), names);
+        assertNull(cursor);
+        assertEquals(slices, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void lastFullSliceHasNoNextCursor() {
+        SliceResponseDTO<PortfolioResponseDTO> slice =
+                portfolioQueryService.scrollPortfolios(null, PORTFOLIOS, ScrollSort.ID);
+
+        assertEquals(PORTFOLIOS, slice.getSize());
+        assertFalse(slice.isHasNext());
+        assertNull(slice.getNextCursor());
+    }
+}
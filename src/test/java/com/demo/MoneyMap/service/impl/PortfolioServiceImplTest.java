@@ -0,0 +1,125 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.aggregate.AumAggregateStore;
+import com.demo.MoneyMap.beans.Client;
+import com.demo.MoneyMap.beans.Portfolio;
+import com.demo.MoneyMap.mapper.PortfolioMapper;
+import com.demo.MoneyMap.repository.ClientRepository;
+import com.demo.MoneyMap.repository.PortfolioRepository;
+import com.demo.MoneyMap.service.PortfolioQueryService;
+import com.demo.MoneyMap.support.H2DataJpaTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+import static com.demo.MoneyMap.support.Fixtures.client;
+import static com.demo.MoneyMap.support.Fixtures.portfolio;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * A client's total value: from the portfolios table until the AUM aggregates are
+ * ready, then from the aggregates while the client's portfolio is active. The stored
+ * total and the aggregate differ on purpose, so each test shows which one answered.
+ * Runs against an embedded H2 database.
+ */
+@H2DataJpaTest
+@Import(PortfolioServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PortfolioServiceImplTest {
+
+    private static final BigDecimal STORED_TOTAL = new BigDecimal("1500.0000");
+    private static final BigDecimal AGGREGATE_TOTAL = new BigDecimal("1750.0000");
+
+    @MockitoBean
+    private AumAggregateStore aumAggregateStore;
+
+    @MockitoBean
+    private PortfolioQueryService portfolioQueryService;
+
+    @MockitoBean
+    private PortfolioMapper portfolioMapper;
+
+    @Autowired
+    private PortfolioServiceImpl portfolioService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long clientId;
+    private Long portfolioId;
+
+    @BeforeEach
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Client client = clientRepository.save(client(0));
+            Portfolio portfolio = portfolio(client, "Growth");
+            portfolio.setTotalValue(STORED_TOTAL);
+            portfolioId = portfolioRepository.save(portfolio).getId();
+            clientId = client.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Portfolios go with their client
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> clientRepository.deleteAll());
+    }
+
+    @Test
+    void queriesThePortfoliosUntilTheAggregatesAreReady() {
+        when(aumAggregateStore.isReady()).thenReturn(false);
+
+        assertEquals(0, STORED_TOTAL.compareTo(portfolioService.getTotalValueByClientId(clientId)));
+        verify(aumAggregateStore, never()).getClientTotalValue(any());
+    }
+
+    @Test
+    void answersFromTheAggregatesOnceReady() {
+        when(aumAggregateStore.isReady()).thenReturn(true);
+        when(aumAggregateStore.getClientTotalValue(clientId)).thenReturn(AGGREGATE_TOTAL);
+
+        assertEquals(AGGREGATE_TOTAL, portfolioService.getTotalValueByClientId(clientId));
+    }
+
+    @Test
+    void inactivePortfolioIsLeftOutEitherWay() {
+        portfolioService.deactivatePortfolio(portfolioId);
+        when(aumAggregateStore.getClientTotalValue(clientId)).thenReturn(AGGREGATE_TOTAL);
+
+        when(aumAggregateStore.isReady()).thenReturn(false);
+        assertEquals(0, BigDecimal.ZERO.compareTo(portfolioService.getTotalValueByClientId(clientId)));
+
+        when(aumAggregateStore.isReady()).thenReturn(true);
+        assertEquals(0, BigDecimal.ZERO.compareTo(portfolioService.getTotalValueByClientId(clientId)));
+
+        // Reactivating must not be answered from a stale cached count
+        portfolioService.activatePortfolio(portfolioId);
+        assertEquals(AGGREGATE_TOTAL, portfolioService.getTotalValueByClientId(clientId));
+    }
+
+    @Test
+    void clientWithoutAPortfolioHasNoValue() {
+        when(aumAggregateStore.isReady()).thenReturn(true);
+
+        assertEquals(0, BigDecimal.ZERO.compareTo(portfolioService.getTotalValueByClientId(clientId + 1)));
+    }
+}
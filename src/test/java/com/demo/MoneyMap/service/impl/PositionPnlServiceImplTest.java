@@ -0,0 +1,177 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.beans.Client;
+import com.demo.MoneyMap.beans.Portfolio;
+import com.demo.MoneyMap.beans.enums.TransactionType;
+import com.demo.MoneyMap.dto.request.TransactionRequestDTO;
+import com.demo.MoneyMap.dto.response.PnlRecomputeResultDTO;
+import com.demo.MoneyMap.repository.AssetRepository;
+import com.demo.MoneyMap.repository.ClientRepository;
+import com.demo.MoneyMap.repository.PortfolioRepository;
+import com.demo.MoneyMap.support.H2DataJpaTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static com.demo.MoneyMap.support.Fixtures.client;
+import static com.demo.MoneyMap.support.Fixtures.portfolio;
+import static com.demo.MoneyMap.support.Fixtures.stock;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The bulk recompute replaces positions a batch of assets at a time, so it restores
+ * damaged positions, drops positions whose ledger is gone and leaves committed
+ * batches in place when a later batch fails; recorded figures finer than their columns
+ * give the same position incrementally as on replay. Batches of one asset.
+ * Runs against an embedded H2 database.
+ */
+@H2DataJpaTest(properties = "moneymap.pnl.recompute.batch-size=1")
+@Import(PositionPnlServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PositionPnlServiceImplTest {
+
+    private static final String POSITION_SQL =
+            "SELECT quantity, average_cost_basis, fifo_cost_basis, fifo_realized_pnl, transaction_count " +
+            "FROM asset_positions WHERE asset_id = ?";
+
+    @Autowired
+    private PositionPnlServiceImpl positionPnlService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long appleId;
+    private Long msftId;
+
+    @BeforeEach
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Client client = clientRepository.save(client(0));
+            Portfolio portfolio = portfolioRepository.save(portfolio(client, "Growth"));
+            appleId = assetRepository.save(stock(portfolio, "AAPL", "1", "100.0000")).getId();
+            msftId = assetRepository.save(stock(portfolio, "MSFT", "1", "100.0000")).getId();
+        });
+        record(appleId, TransactionType.BUY, "10", "100", 1);
+        record(appleId, TransactionType.BUY, "10", "120", 2);
+        record(appleId, TransactionType.SELL, "5", "130", 3);
+        record(msftId, TransactionType.BUY, "4", "300", 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM position_lots");
+            jdbcTemplate.update("DELETE FROM asset_positions");
+            jdbcTemplate.update("DELETE FROM transactions");
+            // Portfolios and their assets go with their client
+            clientRepository.deleteAll();
+        });
+    }
+
+    @Test
+    void recomputeRestoresDamagedPositionsAndLots() {
+        Map<String, Object> apple = jdbcTemplate.queryForMap(POSITION_SQL, appleId);
+        Map<String, Object> msft = jdbcTemplate.queryForMap(POSITION_SQL, msftId);
+        jdbcTemplate.update("UPDATE asset_positions SET quantity = 0, fifo_cost_basis = 0");
+        jdbcTemplate.update("DELETE FROM position_lots");
+
+        PnlRecomputeResultDTO result = positionPnlService.recomputeAll();
+
+        assertEquals(4, result.getTransactionsProcessed());
+        assertEquals(2, result.getAssetsProcessed());
+        assertEquals(0, result.getAssetsFailed());
+        assertEquals(apple, jdbcTemplate.queryForMap(POSITION_SQL, appleId));
+        assertEquals(msft, jdbcTemplate.queryForMap(POSITION_SQL, msftId));
+        // AAPL: the first lot is down to 5 units, the second untouched; MSFT: one lot
+        assertEquals(List.of("5.00000000", "10.00000000"), lotQuantities(appleId));
+        assertEquals(List.of("4.00000000"), lotQuantities(msftId));
+    }
+
+    @Test
+    void recomputeDropsPositionsWithoutLedger() {
+        jdbcTemplate.update("DELETE FROM transactions WHERE asset_id = ?", msftId);
+
+        PnlRecomputeResultDTO result = positionPnlService.recomputeAll();
+
+        assertEquals(1, result.getAssetsProcessed());
+        assertEquals(0, count("SELECT COUNT(*) FROM asset_positions WHERE asset_id = ?", msftId));
+        assertEquals(0, count("SELECT COUNT(*) FROM position_lots WHERE asset_id = ?", msftId));
+        assertEquals(1, count("SELECT COUNT(*) FROM asset_positions WHERE asset_id = ?", appleId));
+    }
+
+    @Test
+    void failedBatchLeavesCommittedAndUnfinishedPositionsInPlace() {
+        jdbcTemplate.update("UPDATE asset_positions SET quantity = 0 WHERE asset_id = ?", appleId);
+        // The MSFT batch fails to write: its cost basis overflows DECIMAL(19,4)
+        jdbcTemplate.update("UPDATE transactions SET quantity = 99999999999, price_per_unit = 99999999999999 " +
+                "WHERE asset_id = ?", msftId);
+
+        assertThrows(RuntimeException.class, () -> positionPnlService.recomputeAll());
+
+        // The AAPL batch committed; MSFT keeps the position it had
+        assertEquals(0, new BigDecimal("15").compareTo(quantity(appleId)));
+        assertEquals(0, new BigDecimal("4").compareTo(quantity(msftId)));
+        assertEquals(List.of("4.00000000"), lotQuantities(msftId));
+    }
+
+    @Test
+    void figuresBeyondColumnScaleGiveTheSamePositionAsAReplay() {
+        // Stored as 1000 units at 10.0001: a cost of 10000.1000, not 10000.0500
+        record(msftId, TransactionType.BUY, "1000.000000004", "10.00005", 2);
+        Map<String, Object> incremental = jdbcTemplate.queryForMap(POSITION_SQL, msftId);
+
+        positionPnlService.recomputeAll();
+
+        assertEquals(incremental, jdbcTemplate.queryForMap(POSITION_SQL, msftId));
+        assertEquals(new BigDecimal("11200.1000"), incremental.get("FIFO_COST_BASIS"));
+        assertEquals(List.of("4.00000000", "1000.00000000"), lotQuantities(msftId));
+    }
+
+    private void record(Long assetId, TransactionType type, String quantity, String price, int day) {
+        positionPnlService.recordTransaction(assetId, TransactionRequestDTO.builder()
+                .transactionType(type)
+                .quantity(new BigDecimal(quantity))
+                .pricePerUnit(new BigDecimal(price))
+                .transactionDate(LocalDate.of(2024, 1, day))
+                .build());
+    }
+
+    private BigDecimal quantity(Long assetId) {
+        return jdbcTemplate.queryForObject("SELECT quantity FROM asset_positions WHERE asset_id = ?",
+                BigDecimal.class, assetId);
+    }
+
+    private List<String> lotQuantities(Long assetId) {
+        return jdbcTemplate.queryForList("SELECT quantity FROM position_lots WHERE asset_id = ? ORDER BY id",
+                BigDecimal.class, assetId).stream().map(BigDecimal::toPlainString).toList();
+    }
+
+    private long count(String sql, Long assetId) {
+        return jdbcTemplate.queryForObject(sql, Long.class, assetId);
+    }
+}
@@ -0,0 +1,199 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.aggregate.AumAggregateStore;
+import com.demo.MoneyMap.beans.Client;
+import com.demo.MoneyMap.beans.Portfolio;
+import com.demo.MoneyMap.cache.PortfolioCacheInvalidator;
+import com.demo.MoneyMap.dto.response.BulkPriceUpdateResponseDTO;
+import com.demo.MoneyMap.dto.response.PriceUpdateErrorDTO;
+import com.demo.MoneyMap.event.SymbolPriceChangedEvent;
+import com.demo.MoneyMap.repository.AssetRepository;
+import com.demo.MoneyMap.repository.ClientRepository;
+import com.demo.MoneyMap.repository.PortfolioRepository;
+import com.demo.MoneyMap.support.H2DataJpaTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.demo.MoneyMap.support.Fixtures.client;
+import static com.demo.MoneyMap.support.Fixtures.portfolio;
+import static com.demo.MoneyMap.support.Fixtures.stock;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Bulk price feeds: per-line failures are reported without stopping the run, a
+ * failing chunk rolls back alone, portfolio totals follow the new prices and
+ * every applied line publishes its symbol's new price. Chunks of two lines.
+ * Runs against an embedded H2 database.
+ */
+@H2DataJpaTest(properties = "moneymap.prices.bulk.chunk-size=2")
+@Import({PriceUpdateServiceImpl.class, PortfolioCacheInvalidator.class, ObjectMapper.class})
+@RecordApplicationEvents
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PriceUpdateServiceImplTest {
+
+    @MockitoBean
+    private AumAggregateStore aumAggregateStore;
+
+    @Autowired
+    private PriceUpdateServiceImpl priceUpdateService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private PortfolioRepository portfolioRepository;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private Long portfolioId;
+    private Long appleId;
+    private Long msftId;
+
+    @BeforeEach
+    void setUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Client client = clientRepository.save(client(0));
+            Portfolio portfolio = portfolioRepository.save(portfolio(client, "Growth"));
+            portfolioId = portfolio.getId();
+            appleId = assetRepository.save(stock(portfolio, "AAPL", "10", "100.0000")).getId();
+            msftId = assetRepository.save(stock(portfolio, "MSFT", "2", "100.0000")).getId();
+        });
+        events.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Portfolios and their assets go with their client
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> clientRepository.deleteAll());
+    }
+
+    @Test
+    void appliesPricesAndRecalculatesPortfolioTotals() {
+        BulkPriceUpdateResponseDTO result = run(
+                "{\"assetId\": " + appleId + ", \"price\": 150}",
+                "{\"symbol\": \"MSFT\", \"price\": 300.5}");
+
+        assertEquals(2, result.getLinesSucceeded());
+        assertEquals(0, result.getLinesFailed());
+        assertEquals(2, result.getAssetsUpdated());
+        assertEquals(1, result.getChunksCommitted());
+        assertDecimal("150.0000", currentPrice(appleId));
+        assertDecimal("2101.0000", totalValue());
+    }
+
+    @Test
+    void publishesPriceChangesForLinesByIdAndBySymbol() {
+        run("{\"assetId\": " + appleId + ", \"price\": 150}",
+                "{\"symbol\": \"MSFT\", \"price\": 300.5}");
+
+        Map<String, BigDecimal> published = events.stream(SymbolPriceChangedEvent.class)
+                .collect(Collectors.toMap(SymbolPriceChangedEvent::symbol, SymbolPriceChangedEvent::price));
+        assertEquals(2, published.size());
+        assertDecimal("150", published.get("AAPL"));
+        assertDecimal("300.5", published.get("MSFT"));
+    }
+
+    @Test
+    void reportsUnknownIdsAndSymbols() {
+        BulkPriceUpdateResponseDTO result = run(
+                "{\"assetId\": 999999, \"price\": 1}",
+                "{\"symbol\": \"NOPE\", \"price\": 1}",
+                "{\"assetId\": " + appleId + ", \"price\": 120}");
+
+        assertEquals(1, result.getLinesSucceeded());
+        assertEquals(2, result.getLinesFailed());
+        assertEquals(List.of(1L, 2L), lineNumbers(result));
+        assertTrue(result.getErrors().get(0).getMessage().contains("999999"));
+        assertTrue(result.getErrors().get(1).getMessage().contains("NOPE"));
+        assertEquals(0, events.stream(SymbolPriceChangedEvent.class)
+                .filter(event -> event.symbol().equals("NOPE")).count());
+        assertDecimal("120.0000", currentPrice(appleId));
+    }
+
+    @Test
+    void reportsMalformedAndInvalidLines() {
+        BulkPriceUpdateResponseDTO result = run(
+                "not json",
+                "{\"symbol\": \"AAPL\", \"price\": -5}",
+                "{\"price\": 10}",
+                "",
+                "{\"symbol\": \"AAPL\", \"price\": 110}");
+
+        assertEquals(4, result.getLinesRead());
+        assertEquals(1, result.getLinesSucceeded());
+        assertEquals(3, result.getLinesFailed());
+        assertEquals(List.of(1L, 2L, 3L), lineNumbers(result));
+        assertDecimal("110.0000", currentPrice(appleId));
+    }
+
+    @Test
+    void failingChunkRollsBackAloneAndLaterChunksCommit() {
+        BulkPriceUpdateResponseDTO result = run(
+                // Chunk 1: the second price overflows DECIMAL(19,4), taking the first line with it
+                "{\"assetId\": " + appleId + ", \"price\": 175}",
+                "{\"assetId\": " + msftId + ", \"price\": 10000000000000000}",
+                // Chunk 2
+                "{\"symbol\": \"MSFT\", \"price\": 400}");
+
+        assertEquals(1, result.getChunksCommitted());
+        assertEquals(1, result.getLinesSucceeded());
+        assertEquals(2, result.getLinesFailed());
+        assertEquals(List.of(1L, 2L), lineNumbers(result));
+        assertTrue(result.getErrors().get(0).getMessage().startsWith("Chunk rolled back"));
+        assertDecimal("100.0000", currentPrice(appleId));
+        assertDecimal("400.0000", currentPrice(msftId));
+        assertDecimal("1800.0000", totalValue());
+    }
+
+    private BulkPriceUpdateResponseDTO run(String... lines) {
+        byte[] feed = String.join("\n", lines).getBytes(StandardCharsets.UTF_8);
+        return priceUpdateService.bulkUpdatePrices(new ByteArrayInputStream(feed));
+    }
+
+    private BigDecimal currentPrice(Long assetId) {
+        return jdbcTemplate.queryForObject("SELECT current_price FROM assets WHERE id = ?", BigDecimal.class, assetId);
+    }
+
+    private BigDecimal totalValue() {
+        return jdbcTemplate.queryForObject("SELECT total_value FROM portfolios WHERE id = ?", BigDecimal.class,
+                portfolioId);
+    }
+
+    private static List<Long> lineNumbers(BulkPriceUpdateResponseDTO result) {
+        return result.getErrors().stream().map(PriceUpdateErrorDTO::getLineNumber).toList();
+    }
+
+    private static void assertDecimal(String expected, BigDecimal actual) {
+        assertEquals(0, new BigDecimal(expected).compareTo(actual), "expected " + expected + " but was " + actual);
+    }
+}
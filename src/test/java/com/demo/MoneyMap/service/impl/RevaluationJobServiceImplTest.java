@@ -0,0 +1,207 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.aggregate.AumAggregateStore;
+import com.demo.MoneyMap.beans.enums.JobStatus;
+import com.demo.MoneyMap.cache.PortfolioCacheInvalidator;
+import com.demo.MoneyMap.dto.response.RevaluationPartitionDTO;
+import com.demo.MoneyMap.dto.response.RevaluationProgressDTO;
+import com.demo.MoneyMap.ranking.HoldingRankingIndex;
+import com.demo.MoneyMap.support.H2DataJpaTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Partitioned revaluation: ID ranges split over the portfolio ID space, chunks
+ * committed with their checkpoint, the run's status rolled up from its partitions,
+ * and a failed run resumed from its last committed chunk. Two partitions, chunks
+ * of two portfolios, one worker so partitions run in order.
+ * Runs against an embedded H2 database.
+ */
+@H2DataJpaTest(properties = {
+        "moneymap.revaluation.partitions=2",
+        "moneymap.revaluation.chunk-size=2",
+        "moneymap.revaluation.concurrency=1"
+})
+@Import(RevaluationJobServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RevaluationJobServiceImplTest {
+
+    /** Each seeded portfolio holds one asset of 2 units at 10, worth 20 but recorded as 0. */
+    private static final BigDecimal ASSET_VALUE = new BigDecimal("20.0000");
+
+    @MockitoBean
+    private AumAggregateStore aumAggregateStore;
+
+    @MockitoBean
+    private HoldingRankingIndex holdingRankingIndex;
+
+    @MockitoBean
+    private PortfolioCacheInvalidator portfolioCacheInvalidator;
+
+    @Autowired
+    private RevaluationJobServiceImpl revaluationJobService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM batch_job_checkpoints");
+        jdbcTemplate.update("DELETE FROM assets");
+        jdbcTemplate.update("DELETE FROM portfolios");
+        jdbcTemplate.update("DELETE FROM clients");
+    }
+
+    @Test
+    void sparseIdsArePartitionedByRangeAndChunkedByKeyset() throws InterruptedException {
+        seed(1, 2, 3, 1000, 1001, 1002);
+
+        RevaluationProgressDTO result = awaitFinished(revaluationJobService.startRun().getRunId());
+
+        // (1002 - 1 + 2) / 2 = 501 IDs per partition; each holds three portfolios, taken 2 + 1
+        assertEquals(JobStatus.COMPLETED, result.getStatus());
+        assertEquals(6, result.getPortfoliosTotal());
+        assertEquals(6, result.getPortfoliosProcessed());
+        assertEquals(6, result.getAssetsRevalued());
+        assertEquals(6, result.getPortfoliosUpdated());
+        assertPartition(result.getPartitions().get(0), JobStatus.COMPLETED, 3, 501, 3);
+        assertPartition(result.getPartitions().get(1), JobStatus.COMPLETED, 1002, 1002, 3);
+        for (long id : new long[]{1, 2, 3, 1000, 1001, 1002}) {
+            assertEquals(ASSET_VALUE, totalValue(id));
+        }
+        verify(portfolioCacheInvalidator, times(4)).portfoliosUpdated(any());
+        verify(aumAggregateStore).reconcile();
+    }
+
+    @Test
+    void unchangedRowsAreNotRewritten() throws InterruptedException {
+        seed(1, 2);
+        awaitFinished(revaluationJobService.startRun().getRunId());
+        clearInvocations(portfolioCacheInvalidator, aumAggregateStore);
+
+        RevaluationProgressDTO result = awaitFinished(revaluationJobService.startRun().getRunId());
+
+        assertEquals(JobStatus.COMPLETED, result.getStatus());
+        assertEquals(2, result.getPortfoliosProcessed());
+        assertEquals(0, result.getAssetsRevalued());
+        assertEquals(0, result.getPortfoliosUpdated());
+        verify(portfolioCacheInvalidator, times(0)).portfoliosUpdated(any());
+        verify(aumAggregateStore, times(0)).reconcile();
+    }
+
+    @Test
+    void emptyPortfoliosTableCompletesWithNoPartitions() throws InterruptedException {
+        RevaluationProgressDTO result = awaitFinished(revaluationJobService.startRun().getRunId());
+
+        assertEquals(JobStatus.COMPLETED, result.getStatus());
+        assertEquals(0, result.getPartitionCount());
+        assertEquals(0, result.getPortfoliosTotal());
+        assertEquals(100.0, result.getPercentComplete());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM batch_job_checkpoints", Integer.class));
+    }
+
+    @Test
+    void failedChunkRollsBackAndResumeSkipsCommittedChunks() throws InterruptedException {
+        seed(1, 2, 3, 4, 5, 6, 7, 8);
+        // The second chunk, portfolios 3 and 4, fails after its UPDATEs ran
+        doNothing().doThrow(new IllegalStateException("Cache unavailable")).doNothing()
+                .when(portfolioCacheInvalidator).portfoliosUpdated(any());
+
+        String runId = revaluationJobService.startRun().getRunId();
+        RevaluationProgressDTO failed = awaitFinished(runId);
+
+        assertEquals(JobStatus.FAILED, failed.getStatus());
+        assertEquals(1, failed.getPartitionsCompleted());
+        assertEquals(1, failed.getPartitionsFailed());
+        assertPartition(failed.getPartitions().get(0), JobStatus.FAILED, 2, 4, 2);
+        assertPartition(failed.getPartitions().get(1), JobStatus.COMPLETED, 8, 8, 4);
+        assertEquals(ASSET_VALUE, totalValue(2));
+        assertEquals(new BigDecimal("0.0000"), totalValue(3));
+        assertEquals(new BigDecimal("0.0000"), assetValue(4));
+        // The checkpoint row is left at the last committed chunk, not at the failed one
+        assertEquals(2L, jdbcTemplate.queryForObject(
+                "SELECT last_processed_id FROM batch_job_checkpoints WHERE run_key = ?", Long.class, runId + "/000"));
+
+        // Damage a committed portfolio: a resume must not revisit its chunk
+        jdbcTemplate.update("UPDATE portfolios SET total_value = 99 WHERE id = 1");
+        clearInvocations(portfolioCacheInvalidator);
+
+        revaluationJobService.resumeInterruptedRun();
+        RevaluationProgressDTO resumed = awaitFinished(runId);
+
+        assertEquals(JobStatus.COMPLETED, resumed.getStatus());
+        assertEquals(2, resumed.getPartitionsCompleted());
+        assertEquals(8, resumed.getPortfoliosProcessed());
+        assertPartition(resumed.getPartitions().get(0), JobStatus.COMPLETED, 4, 4, 4);
+        assertEquals(ASSET_VALUE, totalValue(3));
+        assertEquals(ASSET_VALUE, totalValue(4));
+        assertEquals(new BigDecimal("99.0000"), totalValue(1));
+        verify(portfolioCacheInvalidator, times(1)).portfoliosUpdated(any());
+    }
+
+    /**
+     * One client, portfolio and stock per ID, all sharing that ID, with stale zero values.
+     */
+    private void seed(long... ids) {
+        for (long id : ids) {
+            jdbcTemplate.update("INSERT INTO clients (id, first_name, last_name, email, active) VALUES (?, ?, ?, ?, ?)",
+                    id, "First" + id, "Last" + id, "client" + id + "@example.com", true);
+            jdbcTemplate.update("INSERT INTO portfolios (id, name, client_id, total_value, active) VALUES (?, ?, ?, 0, ?)",
+                    id, "Portfolio " + id, id, true);
+            jdbcTemplate.update("INSERT INTO assets (id, asset_type, name, symbol, quantity, purchase_price, "
+                    + "current_price, current_value, portfolio_id) VALUES (?, 'STOCK', ?, ?, 2, 8, 10, 0, ?)",
+                    id, "Stock " + id, "S" + id, id);
+        }
+    }
+
+    private RevaluationProgressDTO awaitFinished(String runId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (true) {
+            RevaluationProgressDTO progress = revaluationJobService.getProgress(runId);
+            if (progress.getCompletedAt() != null) {
+                return progress;
+            }
+            if (System.nanoTime() > deadline) {
+                fail("Revaluation " + runId + " did not finish: " + progress.getStatus());
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private static void assertPartition(RevaluationPartitionDTO partition, JobStatus status,
+                                        long lastProcessedId, long rangeEnd, long portfoliosProcessed) {
+        assertEquals(status, partition.getStatus());
+        assertEquals(lastProcessedId, partition.getLastProcessedId());
+        assertEquals(rangeEnd, partition.getRangeEnd());
+        assertEquals(portfoliosProcessed, partition.getPortfoliosProcessed());
+    }
+
+    private BigDecimal totalValue(long portfolioId) {
+        BigDecimal total = jdbcTemplate.queryForObject("SELECT total_value FROM portfolios WHERE id = ?",
+                BigDecimal.class, portfolioId);
+        assertNotNull(total);
+        return total;
+    }
+
+    private BigDecimal assetValue(long assetId) {
+        return jdbcTemplate.queryForObject("SELECT current_value FROM assets WHERE id = ?", BigDecimal.class, assetId);
+    }
+}
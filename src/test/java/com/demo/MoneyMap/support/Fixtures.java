@@ -0,0 +1,48 @@
+package com.demo.MoneyMap.support;
+
+import com.demo.MoneyMap.beans.Client;
+import com.demo.MoneyMap.beans.Portfolio;
+import com.demo.MoneyMap.beans.StockAsset;
+import com.demo.MoneyMap.beans.enums.CurrencyCode;
+
+import java.math.BigDecimal;
+
+/**
+ * Unsaved entities for the JPA tests to persist, through a repository or a
+ * TestEntityManager. Client n is "First{n} Last{n}", client{n}@example.com.
+ */
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    public static Client client(int n) {
+        return Client.builder()
+                .firstName("First" + n)
+                .lastName("Last" + n)
+                .email("client" + n + "@example.com")
+                .build();
+    }
+
+    public static Portfolio portfolio(Client client, String name) {
+        return Portfolio.builder()
+                .name(name)
+                .client(client)
+                .currency(CurrencyCode.USD)
+                .build();
+    }
+
+    /**
+     * A stock named after its symbol, bought at its current price.
+     */
+    public static StockAsset stock(Portfolio portfolio, String symbol, String quantity, String price) {
+        return StockAsset.builder()
+                .name(symbol)
+                .symbol(symbol)
+                .quantity(new BigDecimal(quantity))
+                .purchasePrice(new BigDecimal(price))
+                .currentPrice(new BigDecimal(price))
+                .portfolio(portfolio)
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.demo.MoneyMap.support;
+
+import com.demo.MoneyMap.listener.AssetEntityListener;
+import com.demo.MoneyMap.listener.ClientEntityListener;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.test.context.TestPropertySource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * A @DataJpaTest slice against the embedded H2 database, with the entity listeners the
+ * entities reference. Test-specific settings go in {@link #properties()}; test-specific
+ * beans in an @Import on the test class, which adds to the listeners imported here.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@DataJpaTest
+// The migrations are MySQL-only; H2 gets the schema generated from the entities
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import({AssetEntityListener.class, ClientEntityListener.class})
+public @interface H2DataJpaTest {
+
+    @AliasFor(annotation = DataJpaTest.class, attribute = "properties")
+    String[] properties() default {};
+}
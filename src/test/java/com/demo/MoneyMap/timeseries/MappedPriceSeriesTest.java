@@ -0,0 +1,115 @@
+package com.demo.MoneyMap.timeseries;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Segmented mapping exercised with tiny segments, so records cross many segment
+ * boundaries without needing multi-gigabyte files.
+ */
+class MappedPriceSeriesTest {
+
+    private static final int SEGMENT_BLOCKS = 4;
+    private static final int RECORDS = MappedPriceSeries.RECORDS_PER_BLOCK * 200 + 17;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recordsSurviveGrowthAcrossSegmentsAndReopen() throws IOException {
+        Path file = directory.resolve("SEG.series");
+        try (MappedPriceSeries series = new MappedPriceSeries(file, SEGMENT_BLOCKS)) {
+            for (int i = 0; i < RECORDS; i++) {
+                assertTrue(series.append(1_000L * i, 10_000L + i));
+            }
+        }
+
+        long blocks = (RECORDS + MappedPriceSeries.RECORDS_PER_BLOCK - 1) / MappedPriceSeries.RECORDS_PER_BLOCK;
+        assertTrue(Files.size(file) >= blocks * MappedPriceSeries.BLOCK_SIZE);
+
+        try (MappedPriceSeries series = new MappedPriceSeries(file, SEGMENT_BLOCKS)) {
+            List<long[]> points = new ArrayList<>();
+            series.scan(Long.MIN_VALUE, Long.MAX_VALUE, (timestamp, price) -> points.add(new long[]{timestamp, price}));
+            assertEquals(RECORDS, points.size());
+            for (int i = 0; i < RECORDS; i++) {
+                assertEquals(1_000L * i, points.get(i)[0]);
+                assertEquals(10_000L + i, points.get(i)[1]);
+            }
+
+            // The recovered last record keeps appends in order after reopening
+            assertFalse(series.append(0, 1));
+            assertTrue(series.append(1_000L * RECORDS, 1));
+        }
+    }
+
+    @Test
+    void rangeScanStartsInTheRightSegment() throws IOException {
+        try (MappedPriceSeries series = new MappedPriceSeries(directory.resolve("RANGE.series"), SEGMENT_BLOCKS)) {
+            for (int i = 0; i < RECORDS; i++) {
+                series.append(i, i);
+            }
+            List<Long> timestamps = new ArrayList<>();
+            series.scan(5_000, 5_009, (timestamp, price) -> timestamps.add(timestamp));
+
+            assertEquals(List.of(5_000L, 5_001L, 5_002L, 5_003L, 5_004L, 5_005L, 5_006L, 5_007L, 5_008L, 5_009L),
+                    timestamps);
+        }
+    }
+
+    @Test
+    void rangeScanIncludesEqualTimestampsThatStartInAnEarlierBlock() throws IOException {
+        int equal = MappedPriceSeries.RECORDS_PER_BLOCK * 3 + 5;
+        try (MappedPriceSeries series = new MappedPriceSeries(directory.resolve("EQUAL.series"), SEGMENT_BLOCKS)) {
+            // The first block starts at 1 and ends with 63 records at 5; the next blocks all start at 5
+            series.append(1, 1);
+            for (int i = 0; i < equal; i++) {
+                series.append(5, 100 + i);
+            }
+            series.append(6, 1);
+            List<Long> prices = new ArrayList<>();
+            series.scan(5, 5, (timestamp, price) -> prices.add(price));
+
+            assertEquals(equal, prices.size());
+            assertEquals(100L, prices.get(0));
+            assertEquals(100L + equal - 1, prices.get(equal - 1));
+        }
+    }
+
+    @Test
+    void scanStopsWhenTheConsumerReturnsFalse() throws IOException {
+        try (MappedPriceSeries series = new MappedPriceSeries(directory.resolve("STOP.series"), SEGMENT_BLOCKS)) {
+            for (int i = 0; i < RECORDS; i++) {
+                series.append(i, i);
+            }
+            List<Long> timestamps = new ArrayList<>();
+            series.scan(0, Long.MAX_VALUE, (timestamp, price) -> {
+                timestamps.add(timestamp);
+                return timestamps.size() < 3;
+            });
+
+            assertEquals(List.of(0L, 1L, 2L), timestamps);
+        }
+    }
+
+    @Test
+    void closedSeriesRejectsReadsAndWrites() throws IOException {
+        MappedPriceSeries series = new MappedPriceSeries(directory.resolve("CLOSED.series"), SEGMENT_BLOCKS);
+        series.append(1, 1);
+        series.close();
+
+        assertThrows(ClosedChannelException.class, () -> series.append(2, 2));
+        assertThrows(ClosedChannelException.class, () -> series.scan(0, 10, (timestamp, price) -> true));
+    }
+}
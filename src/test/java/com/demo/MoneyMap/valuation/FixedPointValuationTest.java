@@ -0,0 +1,97 @@
+package com.demo.MoneyMap.valuation;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Property tests: for random quantities, prices and values (including ones that
+ * overflow the long fast path) the engine must return exactly what the
+ * BigDecimal expressions it replaces return, scale included.
+ */
+class FixedPointValuationTest {
+
+    private static final int ITERATIONS = 200_000;
+    private static final BigDecimal ONE_HUNDRED = new BigDecimal("100");
+
+    private final Random random = new Random(20240601L);
+
+    @Test
+    void valueMatchesBigDecimal() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            BigDecimal quantity = randomDecimal(FixedPointValuation.QUANTITY_SCALE);
+            BigDecimal price = randomDecimal(FixedPointValuation.PRICE_SCALE);
+            assertEquals(quantity.multiply(price).setScale(4, RoundingMode.HALF_UP),
+                    FixedPointValuation.value(quantity, price), () -> quantity + " * " + price);
+        }
+    }
+
+    @Test
+    void profitLossMatchesBigDecimal() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            BigDecimal currentValue = randomDecimal(FixedPointValuation.VALUE_SCALE);
+            BigDecimal quantity = randomDecimal(FixedPointValuation.QUANTITY_SCALE);
+            BigDecimal purchasePrice = randomDecimal(FixedPointValuation.PRICE_SCALE);
+            assertEquals(currentValue.subtract(purchasePrice.multiply(quantity)).setScale(4, RoundingMode.HALF_UP),
+                    FixedPointValuation.profitLoss(currentValue, quantity, purchasePrice),
+                    () -> currentValue + " - " + quantity + " * " + purchasePrice);
+        }
+    }
+
+    @Test
+    void profitLossPercentageMatchesBigDecimal() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            BigDecimal currentValue = randomDecimal(FixedPointValuation.VALUE_SCALE);
+            BigDecimal quantity = randomDecimal(FixedPointValuation.QUANTITY_SCALE);
+            BigDecimal purchasePrice = randomDecimal(FixedPointValuation.PRICE_SCALE);
+            BigDecimal costBasis = purchasePrice.multiply(quantity);
+            BigDecimal expected = costBasis.signum() == 0
+                    ? BigDecimal.ZERO
+                    : currentValue.subtract(costBasis).divide(costBasis, 4, RoundingMode.HALF_UP).multiply(ONE_HUNDRED);
+            assertEquals(expected, FixedPointValuation.profitLossPercentage(currentValue, quantity, purchasePrice),
+                    () -> currentValue + ", " + quantity + " @ " + purchasePrice);
+        }
+    }
+
+    @Test
+    void accumulatorMatchesBigDecimalSum() {
+        FixedPointValuation.Accumulator accumulator = new FixedPointValuation.Accumulator();
+        BigDecimal expected = BigDecimal.ZERO;
+        for (int i = 0; i < ITERATIONS; i++) {
+            BigDecimal value = randomDecimal(FixedPointValuation.VALUE_SCALE);
+            accumulator.add(value);
+            expected = expected.add(value);
+        }
+        assertEquals(0, expected.compareTo(accumulator.toBigDecimal()));
+    }
+
+    @Test
+    void roundsHalfAwayFromZero() {
+        assertEquals(new BigDecimal("0.0001"), FixedPointValuation.value(new BigDecimal("0.00000001"),
+                new BigDecimal("5000.0000")));
+        assertEquals(new BigDecimal("-0.0001"), FixedPointValuation.value(new BigDecimal("-0.00000001"),
+                new BigDecimal("5000.0000")));
+        assertEquals(new BigDecimal("0.0000"), FixedPointValuation.value(new BigDecimal("0.00000001"),
+                new BigDecimal("4999.9999")));
+    }
+
+    /**
+     * A decimal with up to 18 digits and a random scale up to maxScale, so that
+     * both the long fast path and the BigDecimal fallback are exercised.
+     */
+    private BigDecimal randomDecimal(int maxScale) {
+        int digits = 1 + random.nextInt(18);
+        long unscaled = 0;
+        for (int i = 0; i < digits; i++) {
+            unscaled = unscaled * 10 + random.nextInt(10);
+        }
+        if (random.nextInt(10) == 0) {
+            unscaled = -unscaled;
+        }
+        return BigDecimal.valueOf(unscaled, random.nextInt(maxScale + 1));
+    }
+}
@@ -0,0 +1,106 @@
+package com.demo.MoneyMap.valuation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH comparison of FixedPointValuation with the BigDecimal code it replaced in
+ * Asset and Portfolio, over a listing of assets with column-scaled values.
+ *
+ * Run from the IDE, or after {@code mvn test-compile}:
+ * {@code java -cp target/test-classes:<test classpath> com.demo.MoneyMap.valuation.ValuationBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValuationBenchmark {
+
+    private static final BigDecimal ONE_HUNDRED = new BigDecimal("100");
+
+    @Param({"1000", "100000"})
+    private int assetCount;
+
+    private BigDecimal[] quantities;
+    private BigDecimal[] purchasePrices;
+    private BigDecimal[] currentPrices;
+    private BigDecimal[] currentValues;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        quantities = new BigDecimal[assetCount];
+        purchasePrices = new BigDecimal[assetCount];
+        currentPrices = new BigDecimal[assetCount];
+        currentValues = new BigDecimal[assetCount];
+        for (int i = 0; i < assetCount; i++) {
+            quantities[i] = BigDecimal.valueOf(random.nextLong(1, 10_000_000_000_000L), 8);
+            purchasePrices[i] = BigDecimal.valueOf(random.nextLong(1, 100_000_000_000L), 4);
+            currentPrices[i] = BigDecimal.valueOf(random.nextLong(1, 100_000_000_000L), 4);
+            currentValues[i] = quantities[i].multiply(currentPrices[i]).setScale(4, RoundingMode.HALF_UP);
+        }
+    }
+
+    @Benchmark
+    public void bigDecimalMapping(Blackhole blackhole) {
+        for (int i = 0; i < assetCount; i++) {
+            BigDecimal costBasis = purchasePrices[i].multiply(quantities[i]);
+            BigDecimal profitLoss = currentValues[i].subtract(costBasis);
+            blackhole.consume(profitLoss);
+            blackhole.consume(profitLoss.divide(costBasis, 4, RoundingMode.HALF_UP).multiply(ONE_HUNDRED));
+        }
+    }
+
+    @Benchmark
+    public void fixedPointMapping(Blackhole blackhole) {
+        for (int i = 0; i < assetCount; i++) {
+            blackhole.consume(FixedPointValuation.profitLoss(currentValues[i], quantities[i], purchasePrices[i]));
+            blackhole.consume(FixedPointValuation.profitLossPercentage(currentValues[i], quantities[i],
+                    purchasePrices[i]));
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalAggregation() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < assetCount; i++) {
+            total = total.add(quantities[i].multiply(currentPrices[i]).setScale(4, RoundingMode.HALF_UP));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public BigDecimal fixedPointAggregation() {
+        FixedPointValuation.Accumulator total = new FixedPointValuation.Accumulator();
+        for (int i = 0; i < assetCount; i++) {
+            total.add(FixedPointValuation.value(quantities[i], currentPrices[i]));
+        }
+        return total.toBigDecimal();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ValuationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}